@@ -28,7 +28,7 @@ public class GlobalExceptionHandler {
 	}
 
 	@ResponseBody
-	@ExceptionHandler(value = {Exception.class})
+	@ExceptionHandler(value = {ValidationException.class})
 	@ResponseStatus(HttpStatus.BAD_REQUEST)
 	public ErrorDTO handleException(ValidationException validationException) {
 		ErrorDTO errorDTO;
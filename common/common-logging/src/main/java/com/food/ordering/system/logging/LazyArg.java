@@ -0,0 +1,25 @@
+package com.food.ordering.system.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * A log argument computed only when the line is written, for arguments costing more to build than the
+ * {@code toString} the logger calls anyway, such as joined lists.
+ */
+public final class LazyArg {
+
+	private final Supplier<?> supplier;
+
+	private LazyArg(Supplier<?> supplier) {
+		this.supplier = supplier;
+	}
+
+	public static LazyArg lazy(Supplier<?> supplier) {
+		return new LazyArg(supplier);
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(supplier.get());
+	}
+}
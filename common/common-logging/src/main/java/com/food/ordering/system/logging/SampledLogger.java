@@ -0,0 +1,161 @@
+package com.food.ordering.system.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logs one call site of a hot path at a fixed level, keeping only a sample of its calls and at most a
+ * number of them per second. A call that is not logged costs a level check, a random draw and a counter,
+ * its arguments are neither formatted nor turned into strings. The next line logged tells how many calls
+ * were left out before it. Meant to be held in a static field, one instance per call site.
+ */
+public final class SampledLogger {
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000L;
+	private static final String SKIPPED_SUFFIX = " ({} similar skipped)";
+
+	private final Logger logger;
+	private final Level level;
+	private final int sampleOneIn;
+	private final int maxPerSecond;
+	private final AtomicLong windowSecond = new AtomicLong(Long.MIN_VALUE);
+	private final AtomicInteger loggedInWindow = new AtomicInteger();
+	private final LongAdder skipped = new LongAdder();
+
+	private SampledLogger(Builder builder) {
+		logger = builder.logger;
+		level = builder.level;
+		sampleOneIn = builder.sampleOneIn;
+		maxPerSecond = builder.maxPerSecond;
+	}
+
+	public boolean isEnabled() {
+		return logger.isEnabledForLevel(level);
+	}
+
+	public void log(String format, Object arg) {
+		if (isEnabled() && admit()) {
+			long skippedBefore = skipped.sumThenReset();
+			log(event(format, skippedBefore).addArgument(arg), skippedBefore);
+		}
+	}
+
+	public void log(String format, Object arg1, Object arg2) {
+		if (isEnabled() && admit()) {
+			long skippedBefore = skipped.sumThenReset();
+			log(event(format, skippedBefore).addArgument(arg1).addArgument(arg2), skippedBefore);
+		}
+	}
+
+	public void log(String format, Object arg1, Object arg2, Object arg3) {
+		if (isEnabled() && admit()) {
+			long skippedBefore = skipped.sumThenReset();
+			log(event(format, skippedBefore).addArgument(arg1).addArgument(arg2).addArgument(arg3), skippedBefore);
+		}
+	}
+
+	public void log(String format, Object arg1, Object arg2, Object arg3, Object arg4) {
+		if (isEnabled() && admit()) {
+			long skippedBefore = skipped.sumThenReset();
+			log(event(format, skippedBefore).addArgument(arg1).addArgument(arg2).addArgument(arg3).addArgument(arg4),
+				skippedBefore);
+		}
+	}
+
+	public void log(String format, Object arg1, Object arg2, Object arg3, Object arg4, Object arg5) {
+		if (isEnabled() && admit()) {
+			long skippedBefore = skipped.sumThenReset();
+			log(event(format, skippedBefore).addArgument(arg1).addArgument(arg2).addArgument(arg3).addArgument(arg4)
+				.addArgument(arg5), skippedBefore);
+		}
+	}
+
+	private boolean admit() {
+		if (sampleOneIn > 1 && ThreadLocalRandom.current().nextInt(sampleOneIn) != 0) {
+			skipped.increment();
+			return false;
+		}
+		if (maxPerSecond > 0) {
+			long second = System.nanoTime() / NANOS_PER_SECOND;
+			long current = windowSecond.get();
+			if (second != current && windowSecond.compareAndSet(current, second)) {
+				loggedInWindow.set(0);
+			}
+			// read first, so the calls over the limit do not all contend on the counter
+			if (loggedInWindow.get() >= maxPerSecond || loggedInWindow.incrementAndGet() > maxPerSecond) {
+				skipped.increment();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private LoggingEventBuilder event(String format, long skippedBefore) {
+		return logger.atLevel(level).setMessage(skippedBefore == 0 ? format : format + SKIPPED_SUFFIX);
+	}
+
+	// the skipped count goes last, after the arguments of the call
+	private static void log(LoggingEventBuilder event, long skippedBefore) {
+		if (skippedBefore > 0) {
+			event.addArgument(skippedBefore);
+		}
+		event.log();
+	}
+
+	public static final class Builder {
+		private Logger logger;
+		private Level level = Level.INFO;
+		private int sampleOneIn = 1;
+		private int maxPerSecond;
+
+		private Builder() {
+		}
+
+		public static Builder builder() {
+			return new Builder();
+		}
+
+		public Builder logger(Logger val) {
+			logger = val;
+			return this;
+		}
+
+		public Builder level(Level val) {
+			level = val;
+			return this;
+		}
+
+		/**
+		 * Keeps one call in this many, picked at random. 1, the default, keeps them all.
+		 */
+		public Builder sampleOneIn(int val) {
+			sampleOneIn = val;
+			return this;
+		}
+
+		/**
+		 * Logs at most this many of the sampled calls per second. 0, the default, does not limit them.
+		 */
+		public Builder maxPerSecond(int val) {
+			maxPerSecond = val;
+			return this;
+		}
+
+		public SampledLogger build() {
+			if (logger == null || level == null) {
+				throw new IllegalStateException("A sampled logger needs a logger and a level!");
+			}
+			if (sampleOneIn < 1 || maxPerSecond < 0) {
+				throw new IllegalStateException("Cannot keep one call in " + sampleOneIn + " and at most " +
+					maxPerSecond + " per second!");
+			}
+			return new SampledLogger(this);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.food.ordering.system.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.food.ordering.system.logging.LazyArg.lazy;
+
+class SampledLoggerShould {
+
+	private ch.qos.logback.classic.Logger logger;
+	private ListAppender<ILoggingEvent> appender;
+
+	@BeforeEach
+	void setUp() {
+		logger = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(SampledLoggerShould.class);
+		logger.setLevel(ch.qos.logback.classic.Level.INFO);
+		appender = new ListAppender<>();
+		appender.start();
+		logger.addAppender(appender);
+	}
+
+	@AfterEach
+	void tearDown() {
+		logger.detachAppender(appender);
+	}
+
+	@Test
+	void logUpToLimit_andCountSkippedOnNextLine() throws InterruptedException {
+		SampledLogger sampledLogger = SampledLogger.Builder.builder()
+			.logger(logger)
+			.maxPerSecond(2)
+			.build();
+
+		for (int call = 0; call < 5; call++) {
+			sampledLogger.log("Sent order {}", call);
+		}
+		// the window is a second of the monotonic clock
+		Thread.sleep(1_100);
+		sampledLogger.log("Sent order {}", 5);
+
+		Assertions.assertEquals(List.of("Sent order 0", "Sent order 1", "Sent order 5 (3 similar skipped)"),
+			appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList());
+	}
+
+	@Test
+	void notEvaluateArguments_whenLevelIsDisabled() {
+		AtomicInteger evaluated = new AtomicInteger();
+		SampledLogger sampledLogger = SampledLogger.Builder.builder()
+			.logger(logger)
+			.level(Level.DEBUG)
+			.build();
+
+		sampledLogger.log("Failure messages: {}", lazy(evaluated::incrementAndGet));
+
+		Assertions.assertTrue(appender.list.isEmpty());
+		Assertions.assertEquals(0, evaluated.get());
+	}
+
+	@Test
+	void keepAboutOneCallInSample() {
+		SampledLogger sampledLogger = SampledLogger.Builder.builder()
+			.logger(logger)
+			.sampleOneIn(10)
+			.build();
+
+		for (int call = 0; call < 10_000; call++) {
+			sampledLogger.log("Sent order {}", call);
+		}
+
+		Assertions.assertTrue(appender.list.size() > 800 && appender.list.size() < 1_200,
+			"logged " + appender.list.size());
+	}
+}
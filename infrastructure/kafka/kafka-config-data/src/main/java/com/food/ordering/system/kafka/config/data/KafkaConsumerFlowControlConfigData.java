@@ -0,0 +1,21 @@
+package com.food.ordering.system.kafka.config.data;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "kafka-consumer-flow-control")
+public class KafkaConsumerFlowControlConfigData {
+    private Boolean enabled;
+    private List<String> groupIds;
+    private Long checkIntervalMs;
+    private Double pauseThreshold;
+    private Double resumeThreshold;
+    private Long minPauseMs;
+    private Long batchLatencyThresholdMs;
+    private Double batchLatencySmoothingFactor;
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-producer-config")
@@ -17,4 +19,6 @@ public class KafkaProducerConfigData {
     private Integer lingerMs;
     private Integer requestTimeoutMs;
     private Integer retryCount;
+    private Integer maxInFlightRequestsPerConnection;
+    private Map<String, KafkaProducerProfileConfigData> profiles;
 }
\ No newline at end of file
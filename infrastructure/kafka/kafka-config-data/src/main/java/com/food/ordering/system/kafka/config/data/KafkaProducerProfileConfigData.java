@@ -0,0 +1,19 @@
+package com.food.ordering.system.kafka.config.data;
+
+import lombok.Data;
+
+/**
+ * Producer settings for one named profile, any value left out falls back to the one in
+ * {@link KafkaProducerConfigData}.
+ */
+@Data
+public class KafkaProducerProfileConfigData {
+    private String compressionType;
+    private String acks;
+    private Integer batchSize;
+    private Integer batchSizeBoostFactor;
+    private Integer lingerMs;
+    private Integer requestTimeoutMs;
+    private Integer retryCount;
+    private Integer maxInFlightRequestsPerConnection;
+}
@@ -0,0 +1,46 @@
+package com.food.ordering.system.kafka.config.tracing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Record headers that carry a saga across services. Services answering a saga request are
+ * expected to copy both headers onto their response, so the requester can measure the time
+ * from the origin of the saga step until the response arrives.
+ */
+public final class SagaTracingHeaders {
+
+	public static final String SAGA_ID = "saga-id";
+	public static final String ORIGIN_TIMESTAMP = "saga-origin-timestamp";
+
+	private SagaTracingHeaders() {
+	}
+
+	public static byte[] encodeSagaId(String sagaId) {
+		return sagaId.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public static String decodeSagaId(byte[] value) {
+		return new String(value, StandardCharsets.UTF_8);
+	}
+
+	public static byte[] encodeTimestamp(long epochMillis) {
+		byte[] value = new byte[Long.BYTES];
+		for (int i = Long.BYTES - 1; i >= 0; i--) {
+			value[i] = (byte) epochMillis;
+			epochMillis >>>= Byte.SIZE;
+		}
+		return value;
+	}
+
+	public static long decodeTimestamp(byte[] value) {
+		if (value.length != Long.BYTES) {
+			throw new IllegalArgumentException("Saga origin timestamp header must have " + Long.BYTES +
+				" bytes, but had: " + value.length);
+		}
+		long epochMillis = 0;
+		for (byte b : value) {
+			epochMillis = (epochMillis << Byte.SIZE) | (b & 0xFF);
+		}
+		return epochMillis;
+	}
+}
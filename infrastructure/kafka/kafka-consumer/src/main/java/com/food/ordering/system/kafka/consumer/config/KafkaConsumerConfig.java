@@ -4,8 +4,15 @@ import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.consumer.flowcontrol.BatchLatencyInterceptor;
+import com.food.ordering.system.kafka.consumer.flowcontrol.ListenerBatchLatency;
+import com.food.ordering.system.kafka.consumer.interceptor.SagaStageLatencyRecorder;
+import com.food.ordering.system.kafka.consumer.interceptor.SagaTracingConsumerInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
@@ -15,16 +22,24 @@ import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
 import java.io.Serializable;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
+@EnableKafka
 @Configuration
 public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
 	private final KafkaConfigData kafkaConfigData;
 	private final KafkaConsumerConfigData kafkaConsumerConfigData;
+	private final ObjectProvider<SagaStageLatencyRecorder> sagaStageLatencyRecorder;
+	private final ListenerBatchLatency listenerBatchLatency;
 
-	public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+	public KafkaConsumerConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData,
+							   ObjectProvider<SagaStageLatencyRecorder> sagaStageLatencyRecorder,
+							   ListenerBatchLatency listenerBatchLatency) {
 		this.kafkaConfigData = kafkaConfigData;
 		this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+		this.sagaStageLatencyRecorder = sagaStageLatencyRecorder;
+		this.listenerBatchLatency = listenerBatchLatency;
 	}
 
 	@Bean
@@ -43,6 +58,10 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 			kafkaConsumerConfigData.getMaxPartitionFetchBytesDefault() *
 				kafkaConsumerConfigData.getMaxPartitionFetchBytesBoostFactor());
 		props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, kafkaConsumerConfigData.getMaxPollRecords());
+		sagaStageLatencyRecorder.ifAvailable(recorder -> {
+			props.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, SagaTracingConsumerInterceptor.class.getName());
+			props.put(SagaTracingConsumerInterceptor.SAGA_STAGE_LATENCY_RECORDER_CONFIG, recorder);
+		});
 		return props;
 	}
 
@@ -59,6 +78,11 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
 		factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
 		factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
 		factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+		factory.setBatchInterceptor(new BatchLatencyInterceptor<>(listenerBatchLatency));
+		if (Boolean.TRUE.equals(kafkaConsumerConfigData.getVirtualThreadConsumers())) {
+			factory.getContainerProperties().setConsumerTaskExecutor(new TaskExecutorAdapter(
+				Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-consumer-", 0).factory())));
+		}
 		return factory;
 	}
 }
@@ -0,0 +1,48 @@
+package com.food.ordering.system.kafka.consumer.flowcontrol;
+
+import com.food.ordering.system.kafka.consumer.jfr.KafkaListenerBatchEvent;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+
+/**
+ * Times each batch from the moment it is handed to the listener until the listener returns, keeping it in
+ * flight in {@link ListenerBatchLatency} meanwhile, and records it as a {@link KafkaListenerBatchEvent} for
+ * the flight recorder.
+ */
+public class BatchLatencyInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+	private final ListenerBatchLatency listenerBatchLatency;
+	private final ThreadLocal<KafkaListenerBatchEvent> batchEvent = new ThreadLocal<>();
+
+	public BatchLatencyInterceptor(ListenerBatchLatency listenerBatchLatency) {
+		this.listenerBatchLatency = listenerBatchLatency;
+	}
+
+	@Override
+	public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+		listenerBatchLatency.batchStarted(consumer.groupMetadata().groupId(), System.nanoTime());
+		batchEvent.set(KafkaListenerBatchEvent.start());
+		return records;
+	}
+
+	@Override
+	public void success(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+		recordBatch(records, consumer, true);
+	}
+
+	@Override
+	public void failure(ConsumerRecords<K, V> records, Exception exception, Consumer<K, V> consumer) {
+		recordBatch(records, consumer, false);
+	}
+
+	private void recordBatch(ConsumerRecords<K, V> records, Consumer<K, V> consumer, boolean succeeded) {
+		String groupId = consumer.groupMetadata().groupId();
+		listenerBatchLatency.batchFinished(groupId, System.nanoTime());
+		KafkaListenerBatchEvent event = batchEvent.get();
+		if (event != null) {
+			batchEvent.set(null);
+			event.finish(groupId, records, succeeded);
+		}
+	}
+}
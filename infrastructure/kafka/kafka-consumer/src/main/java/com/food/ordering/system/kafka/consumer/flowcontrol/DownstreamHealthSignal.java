@@ -0,0 +1,12 @@
+package com.food.ordering.system.kafka.consumer.flowcontrol;
+
+/**
+ * A downstream resource the listeners depend on. Saturation is 0 when idle and reaches 1 when
+ * the resource cannot take more work without queueing, so the flow controller can compare
+ * unrelated signals on one scale.
+ */
+public interface DownstreamHealthSignal {
+	String name();
+
+	double saturation();
+}
@@ -0,0 +1,180 @@
+package com.food.ordering.system.kafka.consumer.flowcontrol;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerFlowControlConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pauses listener containers while their downstream is saturated and resumes them once it has
+ * recovered. The pressure of a container is the highest saturation among the downstream health
+ * signals and its own batch latency, to which a batch stuck in the listener adds its age. A
+ * container pauses at the pause threshold and only resumes below the lower resume threshold after
+ * the minimum pause, so it does not flap around a single value.
+ * <p>
+ * A paused container keeps polling without fetching records, so the consumer stays in its group
+ * and no rebalance is triggered while the database catches up.
+ */
+@Slf4j
+@Component
+public class KafkaConsumerFlowController implements SmartLifecycle {
+
+	private final KafkaConsumerFlowControlConfigData kafkaConsumerFlowControlConfigData;
+	private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+	private final ListenerBatchLatency listenerBatchLatency;
+	private final ObjectProvider<DownstreamHealthSignal> downstreamHealthSignals;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, ContainerFlowState> flowStateByListenerId = new ConcurrentHashMap<>();
+	private final Map<String, Double> saturationBySignal = new ConcurrentHashMap<>();
+	private ScheduledExecutorService flowControlScheduler;
+	private volatile boolean running;
+
+	public KafkaConsumerFlowController(KafkaConsumerFlowControlConfigData kafkaConsumerFlowControlConfigData,
+									   KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+									   ListenerBatchLatency listenerBatchLatency,
+									   ObjectProvider<DownstreamHealthSignal> downstreamHealthSignals,
+									   MeterRegistry meterRegistry) {
+		this.kafkaConsumerFlowControlConfigData = kafkaConsumerFlowControlConfigData;
+		this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+		this.listenerBatchLatency = listenerBatchLatency;
+		this.downstreamHealthSignals = downstreamHealthSignals;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public void start() {
+		if (!Boolean.TRUE.equals(kafkaConsumerFlowControlConfigData.getEnabled())) {
+			log.info("Kafka consumer flow control is disabled");
+			return;
+		}
+		if (kafkaConsumerFlowControlConfigData.getResumeThreshold() >= kafkaConsumerFlowControlConfigData.getPauseThreshold()) {
+			throw new IllegalStateException("Kafka consumer flow control resume threshold must be below the pause threshold");
+		}
+		flowControlScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "kafka-consumer-flow-control");
+			thread.setDaemon(true);
+			return thread;
+		});
+		long checkIntervalMs = kafkaConsumerFlowControlConfigData.getCheckIntervalMs();
+		flowControlScheduler.scheduleWithFixedDelay(this::checkSafely, checkIntervalMs, checkIntervalMs,
+			TimeUnit.MILLISECONDS);
+		running = true;
+		log.info("Kafka consumer flow control started, checking every {} ms", checkIntervalMs);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if (flowControlScheduler != null) {
+			flowControlScheduler.shutdownNow();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	void check(long now) {
+		double downstreamSaturation = downstreamSaturation();
+		listenerBatchLatency.sampleSinceLastCheck(now);
+		for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+			if (!isControlled(container)) {
+				continue;
+			}
+			ContainerFlowState flowState = flowStateByListenerId.computeIfAbsent(container.getListenerId(),
+				this::newFlowState);
+			flowState.pressure = Math.max(downstreamSaturation, listenerBatchLatency.saturation(container.getGroupId()));
+			if (!flowState.paused && flowState.pressure >= kafkaConsumerFlowControlConfigData.getPauseThreshold()) {
+				container.pause();
+				flowState.paused = true;
+				flowState.pausedAtNanos = now;
+				flowState.pauses.increment();
+				log.warn("Pausing kafka listener: {} with pressure: {}", container.getListenerId(),
+					String.format("%.2f", flowState.pressure));
+			} else if (flowState.paused && flowState.pressure <= kafkaConsumerFlowControlConfigData.getResumeThreshold() &&
+				now - flowState.pausedAtNanos >= TimeUnit.MILLISECONDS.toNanos(kafkaConsumerFlowControlConfigData.getMinPauseMs())) {
+				container.resume();
+				flowState.paused = false;
+				log.info("Resuming kafka listener: {} with pressure: {} after {} ms", container.getListenerId(),
+					String.format("%.2f", flowState.pressure), TimeUnit.NANOSECONDS.toMillis(now - flowState.pausedAtNanos));
+			}
+		}
+	}
+
+	private void checkSafely() {
+		try {
+			check(System.nanoTime());
+		} catch (RuntimeException e) {
+			log.error("Error while checking kafka consumer flow control", e);
+		}
+	}
+
+	private double downstreamSaturation() {
+		double maxSaturation = 0;
+		for (DownstreamHealthSignal downstreamHealthSignal : downstreamHealthSignals) {
+			double saturation;
+			try {
+				saturation = downstreamHealthSignal.saturation();
+			} catch (RuntimeException e) {
+				log.warn("Could not read downstream health signal: {}", downstreamHealthSignal.name(), e);
+				continue;
+			}
+			if (saturationBySignal.put(downstreamHealthSignal.name(), saturation) == null) {
+				Gauge.builder("kafka.consumer.flow.downstream.saturation", saturationBySignal,
+						saturations -> saturations.getOrDefault(downstreamHealthSignal.name(), 0.0))
+					.description("Saturation of a downstream resource the kafka listeners depend on")
+					.tag("signal", downstreamHealthSignal.name())
+					.register(meterRegistry);
+			}
+			maxSaturation = Math.max(maxSaturation, saturation);
+		}
+		return maxSaturation;
+	}
+
+	private boolean isControlled(MessageListenerContainer container) {
+		List<String> groupIds = kafkaConsumerFlowControlConfigData.getGroupIds();
+		return groupIds == null || groupIds.isEmpty() || groupIds.contains(container.getGroupId());
+	}
+
+	private ContainerFlowState newFlowState(String listenerId) {
+		ContainerFlowState flowState = new ContainerFlowState(Counter.builder("kafka.consumer.flow.pauses")
+			.description("Number of times the flow controller paused a kafka listener")
+			.tag("listener", listenerId)
+			.register(meterRegistry));
+		Gauge.builder("kafka.consumer.flow.paused", flowState, state -> state.paused ? 1 : 0)
+			.description("Whether the flow controller currently holds a kafka listener paused")
+			.tag("listener", listenerId)
+			.register(meterRegistry);
+		Gauge.builder("kafka.consumer.flow.pressure", flowState, state -> state.pressure)
+			.description("Pressure the flow controller last computed for a kafka listener")
+			.tag("listener", listenerId)
+			.register(meterRegistry);
+		return flowState;
+	}
+
+	private static final class ContainerFlowState {
+
+		private final Counter pauses;
+		private volatile boolean paused;
+		private volatile double pressure;
+		private long pausedAtNanos;
+
+		private ContainerFlowState(Counter pauses) {
+			this.pauses = pauses;
+		}
+	}
+}
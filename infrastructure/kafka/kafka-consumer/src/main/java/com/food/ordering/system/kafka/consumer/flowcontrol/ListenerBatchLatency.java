@@ -0,0 +1,105 @@
+package com.food.ordering.system.kafka.consumer.flowcontrol;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerFlowControlConfigData;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exponentially weighted moving average of the batch handling time per consumer group. A batch
+ * still in flight counts as a sample of its age once it has taken longer than the average, so a
+ * stuck batch raises the latency instead of hiding behind it. A group that handled no batch since
+ * the last check and has none in flight decays toward zero, so a paused listener is not held back
+ * by the latency it had before it was paused.
+ */
+@Component
+public class ListenerBatchLatency {
+
+	private final KafkaConsumerFlowControlConfigData kafkaConsumerFlowControlConfigData;
+	private final Map<String, Ewma> latencyByGroupId = new ConcurrentHashMap<>();
+	// a listener thread handles one batch at a time
+	private final Map<Long, InFlightBatch> inFlightBatchByThreadId = new ConcurrentHashMap<>();
+
+	public ListenerBatchLatency(KafkaConsumerFlowControlConfigData kafkaConsumerFlowControlConfigData) {
+		this.kafkaConsumerFlowControlConfigData = kafkaConsumerFlowControlConfigData;
+	}
+
+	public void batchStarted(String groupId, long nowNanos) {
+		inFlightBatchByThreadId.put(Thread.currentThread().threadId(), new InFlightBatch(groupId, nowNanos));
+	}
+
+	public void batchFinished(String groupId, long nowNanos) {
+		InFlightBatch inFlightBatch = inFlightBatchByThreadId.remove(Thread.currentThread().threadId());
+		if (inFlightBatch != null) {
+			ewma(groupId).update(nowNanos - inFlightBatch.startNanos,
+				kafkaConsumerFlowControlConfigData.getBatchLatencySmoothingFactor());
+		}
+	}
+
+	public double saturation(String groupId) {
+		Ewma ewma = latencyByGroupId.get(groupId);
+		if (ewma == null) {
+			return 0;
+		}
+		return ewma.value / TimeUnit.MILLISECONDS.toNanos(kafkaConsumerFlowControlConfigData.getBatchLatencyThresholdMs());
+	}
+
+	public void sampleSinceLastCheck(long nowNanos) {
+		double smoothingFactor = kafkaConsumerFlowControlConfigData.getBatchLatencySmoothingFactor();
+		Map<String, Long> oldestStartNanosByGroupId = new HashMap<>();
+		inFlightBatchByThreadId.values().forEach(inFlightBatch ->
+			oldestStartNanosByGroupId.merge(inFlightBatch.groupId, inFlightBatch.startNanos, Math::min));
+		oldestStartNanosByGroupId.forEach((groupId, startNanos) ->
+			ewma(groupId).updateIfLonger(nowNanos - startNanos, smoothingFactor));
+		latencyByGroupId.values().forEach(ewma -> ewma.decayIfIdle(smoothingFactor));
+	}
+
+	private Ewma ewma(String groupId) {
+		Ewma ewma = latencyByGroupId.get(groupId);
+		if (ewma == null) {
+			ewma = latencyByGroupId.computeIfAbsent(groupId, id -> new Ewma());
+		}
+		return ewma;
+	}
+
+	private static final class InFlightBatch {
+
+		private final String groupId;
+		private final long startNanos;
+
+		private InFlightBatch(String groupId, long startNanos) {
+			this.groupId = groupId;
+			this.startNanos = startNanos;
+		}
+	}
+
+	private static final class Ewma {
+
+		private volatile double value;
+		private boolean initialized;
+		private boolean sampled;
+
+		synchronized void update(long sample, double smoothingFactor) {
+			value = initialized ? value + smoothingFactor * (sample - value) : sample;
+			initialized = true;
+			sampled = true;
+		}
+
+		// the age of a batch in flight is only a lower bound of its latency, a shorter one says nothing
+		synchronized void updateIfLonger(long sample, double smoothingFactor) {
+			if (!initialized || sample > value) {
+				update(sample, smoothingFactor);
+			}
+		}
+
+		synchronized void decayIfIdle(double smoothingFactor) {
+			if (!sampled) {
+				value -= smoothingFactor * value;
+			}
+			sampled = false;
+		}
+	}
+}
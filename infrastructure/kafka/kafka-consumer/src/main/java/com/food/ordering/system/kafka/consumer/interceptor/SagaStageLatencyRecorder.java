@@ -0,0 +1,7 @@
+package com.food.ordering.system.kafka.consumer.interceptor;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+public interface SagaStageLatencyRecorder {
+	void record(ConsumerRecord<?, ?> record, String sagaId, long latencyMillis);
+}
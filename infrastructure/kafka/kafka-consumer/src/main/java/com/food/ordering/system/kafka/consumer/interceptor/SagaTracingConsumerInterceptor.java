@@ -0,0 +1,63 @@
+package com.food.ordering.system.kafka.consumer.interceptor;
+
+import com.food.ordering.system.kafka.config.tracing.SagaTracingHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+
+import java.util.Map;
+
+/**
+ * Hands the time since the saga origin of every polled record that carries the tracing headers
+ * to the {@link SagaStageLatencyRecorder} passed in the consumer configs.
+ */
+@Slf4j
+public class SagaTracingConsumerInterceptor implements ConsumerInterceptor<Object, Object> {
+
+	public static final String SAGA_STAGE_LATENCY_RECORDER_CONFIG = "saga.stage.latency.recorder";
+
+	private SagaStageLatencyRecorder sagaStageLatencyRecorder;
+
+	@Override
+	public void configure(Map<String, ?> configs) {
+		Object recorder = configs.get(SAGA_STAGE_LATENCY_RECORDER_CONFIG);
+		if (!(recorder instanceof SagaStageLatencyRecorder)) {
+			throw new IllegalArgumentException(SAGA_STAGE_LATENCY_RECORDER_CONFIG + " must be a " +
+				SagaStageLatencyRecorder.class.getSimpleName() + ", but was: " + recorder);
+		}
+		this.sagaStageLatencyRecorder = (SagaStageLatencyRecorder) recorder;
+	}
+
+	@Override
+	public ConsumerRecords<Object, Object> onConsume(ConsumerRecords<Object, Object> records) {
+		long now = System.currentTimeMillis();
+		for (ConsumerRecord<Object, Object> record : records) {
+			Header origin = record.headers().lastHeader(SagaTracingHeaders.ORIGIN_TIMESTAMP);
+			if (origin == null) {
+				continue;
+			}
+			Header sagaId = record.headers().lastHeader(SagaTracingHeaders.SAGA_ID);
+			try {
+				sagaStageLatencyRecorder.record(record,
+					sagaId != null ? SagaTracingHeaders.decodeSagaId(sagaId.value()) : null,
+					now - SagaTracingHeaders.decodeTimestamp(origin.value()));
+			} catch (RuntimeException e) {
+				log.warn("Could not record saga latency for record of topic: {} with key: {}", record.topic(),
+					record.key(), e);
+			}
+		}
+		return records;
+	}
+
+	@Override
+	public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,67 @@
+package com.food.ordering.system.kafka.consumer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * Flight recorder event of a batch of records handed to a listener, until the listener returned. The keys of
+ * the records are joined only for a batch that is committed, which a threshold keeps to the slow ones.
+ */
+@Name(KafkaListenerBatchEvent.NAME)
+@Label("Kafka Listener Batch")
+@Category({"Food Ordering", "Kafka"})
+@Description("A batch of records handled by a listener")
+@StackTrace(false)
+public class KafkaListenerBatchEvent extends Event {
+
+	public static final String NAME = "com.food.ordering.system.KafkaListenerBatch";
+
+	@Label("Group Id")
+	String groupId;
+
+	@Label("Topics")
+	String topics;
+
+	@Label("Record Count")
+	int recordCount;
+
+	@Label("Keys")
+	@Description("The keys of the records, the order ids on the topics of the order service")
+	String keys;
+
+	@Label("Succeeded")
+	boolean succeeded;
+
+	public static KafkaListenerBatchEvent start() {
+		KafkaListenerBatchEvent event = new KafkaListenerBatchEvent();
+		event.begin();
+		return event;
+	}
+
+	public void finish(String groupId, ConsumerRecords<?, ?> records, boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.groupId = groupId;
+			TreeSet<String> recordTopics = new TreeSet<>();
+			records.partitions().forEach(topicPartition -> recordTopics.add(topicPartition.topic()));
+			this.topics = String.join(",", recordTopics);
+			this.recordCount = records.count();
+			StringJoiner recordKeys = new StringJoiner(",");
+			for (ConsumerRecord<?, ?> record : records) {
+				recordKeys.add(String.valueOf(record.key()));
+			}
+			this.keys = recordKeys.toString();
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.food.ordering.system.kafka.consumer.flowcontrol;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerFlowControlConfigData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class KafkaConsumerFlowControllerShould {
+
+	private static final String LISTENER_ID = "payment-response-listener";
+	private static final String GROUP_ID = "payment-topic-consumer";
+	private static final long CHECK_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+	private final FakeHealthSignal downstream = new FakeHealthSignal();
+	private MessageListenerContainer container;
+	private ListenerBatchLatency listenerBatchLatency;
+	private SimpleMeterRegistry meterRegistry;
+	private KafkaConsumerFlowController flowController;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		KafkaConsumerFlowControlConfigData config = new KafkaConsumerFlowControlConfigData();
+		config.setEnabled(true);
+		config.setCheckIntervalMs(500L);
+		config.setPauseThreshold(1.0);
+		config.setResumeThreshold(0.5);
+		config.setMinPauseMs(2000L);
+		config.setBatchLatencyThresholdMs(10000L);
+		config.setBatchLatencySmoothingFactor(0.3);
+
+		container = Mockito.mock(MessageListenerContainer.class);
+		Mockito.when(container.getListenerId()).thenReturn(LISTENER_ID);
+		Mockito.when(container.getGroupId()).thenReturn(GROUP_ID);
+		KafkaListenerEndpointRegistry registry = Mockito.mock(KafkaListenerEndpointRegistry.class);
+		Mockito.when(registry.getListenerContainers()).thenReturn(List.of(container));
+		ObjectProvider<DownstreamHealthSignal> downstreamHealthSignals = Mockito.mock(ObjectProvider.class);
+		Mockito.when(downstreamHealthSignals.iterator()).thenAnswer(invocation ->
+			List.<DownstreamHealthSignal>of(downstream).iterator());
+
+		listenerBatchLatency = new ListenerBatchLatency(config);
+		meterRegistry = new SimpleMeterRegistry();
+		flowController = new KafkaConsumerFlowController(config, registry, listenerBatchLatency,
+			downstreamHealthSignals, meterRegistry);
+	}
+
+	@Test
+	void pauseListener_whenPressureReachesPauseThreshold() {
+		downstream.saturation = 0.99;
+		flowController.check(0);
+		Mockito.verify(container, Mockito.never()).pause();
+
+		downstream.saturation = 1.0;
+		flowController.check(CHECK_INTERVAL_NANOS);
+		flowController.check(2 * CHECK_INTERVAL_NANOS);
+
+		Mockito.verify(container).pause();
+		Assertions.assertEquals(1, meterRegistry.get("kafka.consumer.flow.pauses").counter().count());
+		Assertions.assertEquals(1, meterRegistry.get("kafka.consumer.flow.paused").gauge().value());
+	}
+
+	@Test
+	void resumeListener_whenPressureFallsToResumeThreshold() {
+		downstream.saturation = 1.0;
+		flowController.check(0);
+
+		// between the thresholds the listener stays paused, however long it has been
+		downstream.saturation = 0.7;
+		flowController.check(TimeUnit.SECONDS.toNanos(5));
+		Mockito.verify(container, Mockito.never()).resume();
+
+		downstream.saturation = 0.5;
+		flowController.check(TimeUnit.SECONDS.toNanos(5) + CHECK_INTERVAL_NANOS);
+
+		Mockito.verify(container).resume();
+		Assertions.assertEquals(0, meterRegistry.get("kafka.consumer.flow.paused").gauge().value());
+	}
+
+	@Test
+	void keepListenerPaused_untilMinimumPauseHasPassed() {
+		downstream.saturation = 1.0;
+		flowController.check(0);
+
+		downstream.saturation = 0;
+		for (long now = CHECK_INTERVAL_NANOS; now < TimeUnit.SECONDS.toNanos(2); now += CHECK_INTERVAL_NANOS) {
+			flowController.check(now);
+		}
+		Mockito.verify(container, Mockito.never()).resume();
+
+		flowController.check(TimeUnit.SECONDS.toNanos(2));
+
+		Mockito.verify(container).resume();
+	}
+
+	@Test
+	void pauseListener_whenBatchIsStuck() {
+		for (int batch = 0; batch < 10; batch++) {
+			listenerBatchLatency.batchStarted(GROUP_ID, 0);
+			listenerBatchLatency.batchFinished(GROUP_ID, TimeUnit.MILLISECONDS.toNanos(20));
+		}
+		listenerBatchLatency.batchStarted(GROUP_ID, 0);
+
+		// no batch finishes, a latency made of finished batches alone would only decay
+		long now = 0;
+		for (; now < TimeUnit.SECONDS.toNanos(10); now += CHECK_INTERVAL_NANOS) {
+			flowController.check(now);
+		}
+		Mockito.verify(container, Mockito.never()).pause();
+		for (; now < TimeUnit.SECONDS.toNanos(15); now += CHECK_INTERVAL_NANOS) {
+			flowController.check(now);
+		}
+
+		Mockito.verify(container).pause();
+	}
+
+	private static final class FakeHealthSignal implements DownstreamHealthSignal {
+
+		private double saturation;
+
+		@Override
+		public String name() {
+			return "fake";
+		}
+
+		@Override
+		public double saturation() {
+			return saturation;
+		}
+	}
+}
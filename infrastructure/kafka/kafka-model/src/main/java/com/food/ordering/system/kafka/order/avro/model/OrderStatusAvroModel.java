@@ -0,0 +1,661 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class OrderStatusAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = 3040472266796740038L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"OrderStatusAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"trackingId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"TrackingOrderStatus\",\"symbols\":[\"PENDING\",\"PAID\",\"APPROVED\",\"CANCELLING\",\"CANCELLED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"version\",\"type\":\"long\",\"default\":0}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+  static {
+    MODEL$.addLogicalTypeConversion(new org.apache.avro.data.TimeConversions.TimestampMillisConversion());
+  }
+
+  private static final BinaryMessageEncoder<OrderStatusAvroModel> ENCODER =
+      new BinaryMessageEncoder<OrderStatusAvroModel>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<OrderStatusAvroModel> DECODER =
+      new BinaryMessageDecoder<OrderStatusAvroModel>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<OrderStatusAvroModel> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<OrderStatusAvroModel> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<OrderStatusAvroModel> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<OrderStatusAvroModel>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this OrderStatusAvroModel to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a OrderStatusAvroModel from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a OrderStatusAvroModel instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static OrderStatusAvroModel fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private java.lang.String trackingId;
+  private java.lang.String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus orderStatus;
+  private java.util.List<java.lang.String> failureMessages;
+  private java.time.Instant createdAt;
+  private long version;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public OrderStatusAvroModel() {}
+
+  /**
+   * All-args constructor.
+   * @param trackingId The new value for trackingId
+   * @param orderId The new value for orderId
+   * @param orderStatus The new value for orderStatus
+   * @param failureMessages The new value for failureMessages
+   * @param createdAt The new value for createdAt
+   * @param version The new value for version
+   */
+  public OrderStatusAvroModel(java.lang.String trackingId, java.lang.String orderId, com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus orderStatus, java.util.List<java.lang.String> failureMessages, java.time.Instant createdAt, java.lang.Long version) {
+    this.trackingId = trackingId;
+    this.orderId = orderId;
+    this.orderStatus = orderStatus;
+    this.failureMessages = failureMessages;
+    this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+    this.version = version;
+  }
+
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+  // Used by DatumWriter.  Applications should not call.
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return trackingId;
+    case 1: return orderId;
+    case 2: return orderStatus;
+    case 3: return failureMessages;
+    case 4: return createdAt;
+    case 5: return version;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
+      null,
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: trackingId = value$ != null ? value$.toString() : null; break;
+    case 1: orderId = value$ != null ? value$.toString() : null; break;
+    case 2: orderStatus = (com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus)value$; break;
+    case 3: failureMessages = (java.util.List<java.lang.String>)value$; break;
+    case 4: createdAt = (java.time.Instant)value$; break;
+    case 5: version = (java.lang.Long)value$; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'trackingId' field.
+   * @return The value of the 'trackingId' field.
+   */
+  public java.lang.String getTrackingId() {
+    return trackingId;
+  }
+
+
+  /**
+   * Sets the value of the 'trackingId' field.
+   * @param value the value to set.
+   */
+  public void setTrackingId(java.lang.String value) {
+    this.trackingId = value;
+  }
+
+  /**
+   * Gets the value of the 'orderId' field.
+   * @return The value of the 'orderId' field.
+   */
+  public java.lang.String getOrderId() {
+    return orderId;
+  }
+
+
+  /**
+   * Sets the value of the 'orderId' field.
+   * @param value the value to set.
+   */
+  public void setOrderId(java.lang.String value) {
+    this.orderId = value;
+  }
+
+  /**
+   * Gets the value of the 'orderStatus' field.
+   * @return The value of the 'orderStatus' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus getOrderStatus() {
+    return orderStatus;
+  }
+
+
+  /**
+   * Sets the value of the 'orderStatus' field.
+   * @param value the value to set.
+   */
+  public void setOrderStatus(com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus value) {
+    this.orderStatus = value;
+  }
+
+  /**
+   * Gets the value of the 'failureMessages' field.
+   * @return The value of the 'failureMessages' field.
+   */
+  public java.util.List<java.lang.String> getFailureMessages() {
+    return failureMessages;
+  }
+
+
+  /**
+   * Sets the value of the 'failureMessages' field.
+   * @param value the value to set.
+   */
+  public void setFailureMessages(java.util.List<java.lang.String> value) {
+    this.failureMessages = value;
+  }
+
+  /**
+   * Gets the value of the 'createdAt' field.
+   * @return The value of the 'createdAt' field.
+   */
+  public java.time.Instant getCreatedAt() {
+    return createdAt;
+  }
+
+
+  /**
+   * Sets the value of the 'createdAt' field.
+   * @param value the value to set.
+   */
+  public void setCreatedAt(java.time.Instant value) {
+    this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+  }
+
+  /**
+   * Gets the value of the 'version' field.
+   * @return The value of the 'version' field.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+
+  /**
+   * Sets the value of the 'version' field.
+   * @param value the value to set.
+   */
+  public void setVersion(long value) {
+    this.version = value;
+  }
+
+  /**
+   * Creates a new OrderStatusAvroModel RecordBuilder.
+   * @return A new OrderStatusAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder();
+  }
+
+  /**
+   * Creates a new OrderStatusAvroModel RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new OrderStatusAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new OrderStatusAvroModel RecordBuilder by copying an existing OrderStatusAvroModel instance.
+   * @param other The existing instance to copy.
+   * @return A new OrderStatusAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for OrderStatusAvroModel instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<OrderStatusAvroModel>
+    implements org.apache.avro.data.RecordBuilder<OrderStatusAvroModel> {
+
+    private java.lang.String trackingId;
+    private java.lang.String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus orderStatus;
+    private java.util.List<java.lang.String> failureMessages;
+    private java.time.Instant createdAt;
+    private long version;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.trackingId)) {
+        this.trackingId = data().deepCopy(fields()[0].schema(), other.trackingId);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[1].schema(), other.orderId);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.orderStatus)) {
+        this.orderStatus = data().deepCopy(fields()[2].schema(), other.orderStatus);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.failureMessages)) {
+        this.failureMessages = data().deepCopy(fields()[3].schema(), other.failureMessages);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+      if (isValidValue(fields()[4], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[4].schema(), other.createdAt);
+        fieldSetFlags()[4] = other.fieldSetFlags()[4];
+      }
+      if (isValidValue(fields()[5], other.version)) {
+        this.version = data().deepCopy(fields()[5].schema(), other.version);
+        fieldSetFlags()[5] = other.fieldSetFlags()[5];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing OrderStatusAvroModel instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.trackingId)) {
+        this.trackingId = data().deepCopy(fields()[0].schema(), other.trackingId);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[1].schema(), other.orderId);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.orderStatus)) {
+        this.orderStatus = data().deepCopy(fields()[2].schema(), other.orderStatus);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.failureMessages)) {
+        this.failureMessages = data().deepCopy(fields()[3].schema(), other.failureMessages);
+        fieldSetFlags()[3] = true;
+      }
+      if (isValidValue(fields()[4], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[4].schema(), other.createdAt);
+        fieldSetFlags()[4] = true;
+      }
+      if (isValidValue(fields()[5], other.version)) {
+        this.version = data().deepCopy(fields()[5].schema(), other.version);
+        fieldSetFlags()[5] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'trackingId' field.
+      * @return The value.
+      */
+    public java.lang.String getTrackingId() {
+      return trackingId;
+    }
+
+
+    /**
+      * Sets the value of the 'trackingId' field.
+      * @param value The value of 'trackingId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder setTrackingId(java.lang.String value) {
+      validate(fields()[0], value);
+      this.trackingId = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'trackingId' field has been set.
+      * @return True if the 'trackingId' field has been set, false otherwise.
+      */
+    public boolean hasTrackingId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'trackingId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder clearTrackingId() {
+      trackingId = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderId' field.
+      * @return The value.
+      */
+    public java.lang.String getOrderId() {
+      return orderId;
+    }
+
+
+    /**
+      * Sets the value of the 'orderId' field.
+      * @param value The value of 'orderId'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder setOrderId(java.lang.String value) {
+      validate(fields()[1], value);
+      this.orderId = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderId' field has been set.
+      * @return True if the 'orderId' field has been set, false otherwise.
+      */
+    public boolean hasOrderId() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'orderId' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder clearOrderId() {
+      orderId = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderStatus' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus getOrderStatus() {
+      return orderStatus;
+    }
+
+
+    /**
+      * Sets the value of the 'orderStatus' field.
+      * @param value The value of 'orderStatus'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder setOrderStatus(com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus value) {
+      validate(fields()[2], value);
+      this.orderStatus = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderStatus' field has been set.
+      * @return True if the 'orderStatus' field has been set, false otherwise.
+      */
+    public boolean hasOrderStatus() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'orderStatus' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder clearOrderStatus() {
+      orderStatus = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'failureMessages' field.
+      * @return The value.
+      */
+    public java.util.List<java.lang.String> getFailureMessages() {
+      return failureMessages;
+    }
+
+
+    /**
+      * Sets the value of the 'failureMessages' field.
+      * @param value The value of 'failureMessages'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder setFailureMessages(java.util.List<java.lang.String> value) {
+      validate(fields()[3], value);
+      this.failureMessages = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'failureMessages' field has been set.
+      * @return True if the 'failureMessages' field has been set, false otherwise.
+      */
+    public boolean hasFailureMessages() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'failureMessages' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder clearFailureMessages() {
+      failureMessages = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'createdAt' field.
+      * @return The value.
+      */
+    public java.time.Instant getCreatedAt() {
+      return createdAt;
+    }
+
+
+    /**
+      * Sets the value of the 'createdAt' field.
+      * @param value The value of 'createdAt'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder setCreatedAt(java.time.Instant value) {
+      validate(fields()[4], value);
+      this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
+      fieldSetFlags()[4] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'createdAt' field has been set.
+      * @return True if the 'createdAt' field has been set, false otherwise.
+      */
+    public boolean hasCreatedAt() {
+      return fieldSetFlags()[4];
+    }
+
+
+    /**
+      * Clears the value of the 'createdAt' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder clearCreatedAt() {
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'version' field.
+      * @return The value.
+      */
+    public long getVersion() {
+      return version;
+    }
+
+
+    /**
+      * Sets the value of the 'version' field.
+      * @param value The value of 'version'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder setVersion(long value) {
+      validate(fields()[5], value);
+      this.version = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'version' field has been set.
+      * @return True if the 'version' field has been set, false otherwise.
+      */
+    public boolean hasVersion() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'version' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel.Builder clearVersion() {
+      fieldSetFlags()[5] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public OrderStatusAvroModel build() {
+      try {
+        OrderStatusAvroModel record = new OrderStatusAvroModel();
+        record.trackingId = fieldSetFlags()[0] ? this.trackingId : (java.lang.String) defaultValue(fields()[0]);
+        record.orderId = fieldSetFlags()[1] ? this.orderId : (java.lang.String) defaultValue(fields()[1]);
+        record.orderStatus = fieldSetFlags()[2] ? this.orderStatus : (com.food.ordering.system.kafka.order.avro.model.TrackingOrderStatus) defaultValue(fields()[2]);
+        record.failureMessages = fieldSetFlags()[3] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[3]);
+        record.createdAt = fieldSetFlags()[4] ? this.createdAt : (java.time.Instant) defaultValue(fields()[4]);
+        record.version = fieldSetFlags()[5] ? this.version : (java.lang.Long) defaultValue(fields()[5]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<OrderStatusAvroModel>
+    WRITER$ = (org.apache.avro.io.DatumWriter<OrderStatusAvroModel>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<OrderStatusAvroModel>
+    READER$ = (org.apache.avro.io.DatumReader<OrderStatusAvroModel>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,54 +1,113 @@
 package com.food.ordering.system.kafka.producer;
 
+import com.food.ordering.system.kafka.producer.service.KafkaProducerProfiles;
+import com.food.ordering.system.kafka.producer.service.impl.KafkaProducerImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerProfileConfigData;
+import com.food.ordering.system.kafka.producer.interceptor.SagaTracingProducerInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
 public class KafkaProducerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
+	private static final String DEFAULT_PROFILE = "default";
+	private static final String PRODUCER_PROFILE_TAG = "producer.profile";
+
 	private final KafkaConfigData kafkaConfigData;
 	private final KafkaProducerConfigData kafkaProducerConfigData;
+	private final MeterRegistry meterRegistry;
 
-	public KafkaProducerConfig(KafkaConfigData kafkaConfigData, KafkaProducerConfigData kafkaProducerConfigData) {
+	public KafkaProducerConfig(KafkaConfigData kafkaConfigData, KafkaProducerConfigData kafkaProducerConfigData,
+							   MeterRegistry meterRegistry) {
 		this.kafkaConfigData = kafkaConfigData;
 		this.kafkaProducerConfigData = kafkaProducerConfigData;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Bean
 	public Map<String, Object> producerConfig() {
+		return producerConfig(DEFAULT_PROFILE, new KafkaProducerProfileConfigData());
+	}
+
+	@Bean
+	public ProducerFactory<K, V> producerFactory() {
+		return producerFactory(DEFAULT_PROFILE, producerConfig());
+	}
+
+	@Bean
+	public KafkaTemplate<K, V> kafkaTemplate() {
+		return new KafkaTemplate<>(producerFactory());
+	}
+
+	@Bean
+	public KafkaProducerProfiles kafkaProducerProfiles(KafkaProducerImpl<K, V> defaultKafkaProducer) {
+		Map<String, KafkaProducerImpl<K, V>> profileProducers = new HashMap<>();
+		List<DefaultKafkaProducerFactory<K, V>> profileProducerFactories = new ArrayList<>();
+		if (kafkaProducerConfigData.getProfiles() != null) {
+			kafkaProducerConfigData.getProfiles().forEach((profileName, profile) -> {
+				DefaultKafkaProducerFactory<K, V> profileProducerFactory =
+					producerFactory(profileName, producerConfig(profileName, profile));
+				profileProducerFactories.add(profileProducerFactory);
+				profileProducers.put(profileName,
+					new KafkaProducerImpl<>(new KafkaTemplate<>(profileProducerFactory), meterRegistry));
+			});
+		}
+		return new KafkaProducerProfiles(defaultKafkaProducer, profileProducers, profileProducerFactories);
+	}
+
+	// every value a profile leaves out is taken from the settings it overrides
+	Map<String, Object> producerConfig(String profileName, KafkaProducerProfileConfigData profile) {
 		Map<String, Object> props = new HashMap<>();
 		props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
 		props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+		props.put(ProducerConfig.CLIENT_ID_CONFIG, profileName + "-producer");
 		props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getKeySerializerClass());
 		props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getValueSerializerClass());
-		props.put(ProducerConfig.BATCH_SIZE_CONFIG, kafkaProducerConfigData.getBatchSize() *
-			kafkaProducerConfigData.getBatchSizeBoostFactor());
-		props.put(ProducerConfig.LINGER_MS_CONFIG, kafkaProducerConfigData.getLingerMs());
-		props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, kafkaProducerConfigData.getCompressionType());
-		props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
-		props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
-		props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+		props.put(ProducerConfig.BATCH_SIZE_CONFIG,
+			valueOrDefault(profile.getBatchSize(), kafkaProducerConfigData.getBatchSize()) *
+				valueOrDefault(profile.getBatchSizeBoostFactor(), kafkaProducerConfigData.getBatchSizeBoostFactor()));
+		props.put(ProducerConfig.LINGER_MS_CONFIG,
+			valueOrDefault(profile.getLingerMs(), kafkaProducerConfigData.getLingerMs()));
+		props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG,
+			valueOrDefault(profile.getCompressionType(), kafkaProducerConfigData.getCompressionType()));
+		props.put(ProducerConfig.ACKS_CONFIG, valueOrDefault(profile.getAcks(), kafkaProducerConfigData.getAcks()));
+		props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG,
+			valueOrDefault(profile.getRequestTimeoutMs(), kafkaProducerConfigData.getRequestTimeoutMs()));
+		props.put(ProducerConfig.RETRIES_CONFIG,
+			valueOrDefault(profile.getRetryCount(), kafkaProducerConfigData.getRetryCount()));
+		Integer maxInFlightRequestsPerConnection = valueOrDefault(profile.getMaxInFlightRequestsPerConnection(),
+			kafkaProducerConfigData.getMaxInFlightRequestsPerConnection());
+		if (maxInFlightRequestsPerConnection != null) {
+			props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequestsPerConnection);
+		}
+		props.put(ProducerConfig.INTERCEPTOR_CLASSES_CONFIG, SagaTracingProducerInterceptor.class.getName());
 		return props;
 	}
 
-	@Bean
-	public ProducerFactory<K, V> producerFactory() {
-		return new DefaultKafkaProducerFactory<>(producerConfig());
+	private DefaultKafkaProducerFactory<K, V> producerFactory(String profileName, Map<String, Object> config) {
+		DefaultKafkaProducerFactory<K, V> producerFactory = new DefaultKafkaProducerFactory<>(config);
+		producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry,
+			List.of(Tag.of(PRODUCER_PROFILE_TAG, profileName))));
+		return producerFactory;
 	}
 
-	@Bean
-	public KafkaTemplate<K, V> kafkaTemplate() {
-		return new KafkaTemplate<>(producerFactory());
+	private static <T> T valueOrDefault(T value, T defaultValue) {
+		return value != null ? value : defaultValue;
 	}
 }
@@ -0,0 +1,72 @@
+package com.food.ordering.system.kafka.producer.interceptor;
+
+import com.food.ordering.system.kafka.config.tracing.SagaTracingHeaders;
+import org.apache.avro.Schema;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.header.Headers;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Stamps the saga id and origin timestamp headers on records that do not carry them yet. The
+ * saga id comes from the Avro sagaId field, falling back to the record key, and the origin from
+ * the Avro createdAt field, falling back to the send time. Headers already present, e.g. copied
+ * from a request onto its response, are left untouched.
+ */
+public class SagaTracingProducerInterceptor implements ProducerInterceptor<Object, Object> {
+
+	private static final String SAGA_ID_FIELD = "sagaId";
+	private static final String CREATED_AT_FIELD = "createdAt";
+
+	@Override
+	public ProducerRecord<Object, Object> onSend(ProducerRecord<Object, Object> record) {
+		Headers headers = record.headers();
+		if (headers.lastHeader(SagaTracingHeaders.SAGA_ID) == null) {
+			String sagaId = sagaId(record);
+			if (sagaId != null) {
+				headers.add(SagaTracingHeaders.SAGA_ID, SagaTracingHeaders.encodeSagaId(sagaId));
+			}
+		}
+		if (headers.lastHeader(SagaTracingHeaders.ORIGIN_TIMESTAMP) == null) {
+			headers.add(SagaTracingHeaders.ORIGIN_TIMESTAMP, SagaTracingHeaders.encodeTimestamp(originTimestamp(record)));
+		}
+		return record;
+	}
+
+	@Override
+	public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void configure(Map<String, ?> configs) {
+	}
+
+	private static String sagaId(ProducerRecord<Object, Object> record) {
+		Object sagaId = field(record.value(), SAGA_ID_FIELD);
+		if (sagaId != null && !sagaId.toString().isEmpty()) {
+			return sagaId.toString();
+		}
+		return record.key() != null ? record.key().toString() : null;
+	}
+
+	private static long originTimestamp(ProducerRecord<Object, Object> record) {
+		return field(record.value(), CREATED_AT_FIELD) instanceof Instant createdAt ?
+			createdAt.toEpochMilli() : System.currentTimeMillis();
+	}
+
+	private static Object field(Object value, String name) {
+		if (value instanceof SpecificRecordBase specificRecord) {
+			Schema.Field field = specificRecord.getSchema().getField(name);
+			return field != null ? specificRecord.get(field.pos()) : null;
+		}
+		return null;
+	}
+}
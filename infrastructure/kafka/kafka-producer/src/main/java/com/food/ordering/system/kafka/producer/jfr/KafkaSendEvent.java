@@ -0,0 +1,71 @@
+package com.food.ordering.system.kafka.producer.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+/**
+ * Flight recorder event of a record from the send until the broker acknowledged it or the send failed. It is
+ * committed by the thread completing the send, the producer's network thread for an acknowledgement.
+ */
+@Name(KafkaSendEvent.NAME)
+@Label("Kafka Send")
+@Category({"Food Ordering", "Kafka"})
+@Description("A record sent to a topic, until its acknowledgement")
+@StackTrace(false)
+public class KafkaSendEvent extends Event {
+
+	public static final String NAME = "com.food.ordering.system.KafkaSend";
+
+	@Label("Topic")
+	String topic;
+
+	@Label("Key")
+	@Description("The order id on the topics of the order service")
+	String key;
+
+	@Label("Partition")
+	int partition = -1;
+
+	@Label("Offset")
+	long offset = -1;
+
+	@Label("Value Size")
+	@DataAmount
+	int valueSize;
+
+	@Label("Acknowledged")
+	boolean acknowledged;
+
+	private transient Object recordKey;
+
+	public static KafkaSendEvent start(String topic, Object key) {
+		KafkaSendEvent event = new KafkaSendEvent();
+		event.topic = topic;
+		event.recordKey = key;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * @param recordMetadata null when the send failed
+	 */
+	public void finish(RecordMetadata recordMetadata) {
+		end();
+		if (shouldCommit()) {
+			key = String.valueOf(recordKey);
+			if (recordMetadata != null) {
+				partition = recordMetadata.partition();
+				offset = recordMetadata.offset();
+				valueSize = recordMetadata.serializedValueSize();
+				acknowledged = true;
+			}
+			commit();
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.food.ordering.system.kafka.producer.service;
 
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
@@ -9,4 +10,7 @@ import java.io.Serializable;
 public interface KafkaProducer <K extends Serializable, V extends SpecificRecordBase> {
 	void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback);
 
+	void send(String topicName, K key, V message, Iterable<Header> headers,
+			  ListenableFutureCallback<SendResult<K, V>> callback);
+
 }
@@ -0,0 +1,49 @@
+package com.food.ordering.system.kafka.producer.service;
+
+import com.food.ordering.system.kafka.producer.service.impl.KafkaProducerImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecordBase;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The producers of the named profiles under kafka-producer-config.profiles, each with its own
+ * producer factory, so that batching, compression, acks and in-flight requests can be tuned per
+ * topic. A publisher asking for a profile that is not configured gets the default producer.
+ */
+@Slf4j
+public class KafkaProducerProfiles implements DisposableBean {
+
+	private final KafkaProducerImpl<?, ?> defaultKafkaProducer;
+	private final Map<String, ? extends KafkaProducerImpl<?, ?>> profileProducers;
+	private final List<? extends DisposableBean> profileProducerFactories;
+
+	public KafkaProducerProfiles(KafkaProducerImpl<?, ?> defaultKafkaProducer,
+								 Map<String, ? extends KafkaProducerImpl<?, ?>> profileProducers,
+								 List<? extends DisposableBean> profileProducerFactories) {
+		this.defaultKafkaProducer = defaultKafkaProducer;
+		this.profileProducers = profileProducers;
+		this.profileProducerFactories = profileProducerFactories;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <K extends Serializable, V extends SpecificRecordBase> KafkaProducer<K, V> forProfile(String profileName) {
+		KafkaProducerImpl<?, ?> kafkaProducer = profileProducers.get(profileName);
+		if (kafkaProducer == null) {
+			log.info("No kafka producer profile configured with name: {}, using the default producer", profileName);
+			return (KafkaProducer<K, V>) defaultKafkaProducer;
+		}
+		return (KafkaProducer<K, V>) kafkaProducer;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		profileProducers.values().forEach(KafkaProducerImpl::close);
+		for (DisposableBean profileProducerFactory : profileProducerFactories) {
+			profileProducerFactory.destroy();
+		}
+	}
+}
@@ -1,10 +1,16 @@
 package com.food.ordering.system.kafka.producer.service.impl;
 
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
+import com.food.ordering.system.kafka.producer.jfr.KafkaSendEvent;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.logging.SampledLogger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -13,24 +19,64 @@ import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordBase> implements KafkaProducer<K, V> {
 
+	private static final String KAFKA_PRODUCER_SEND = "kafka.producer.send";
+	// the whole message is written, a sample of the sends is enough to see what goes out
+	private static final SampledLogger SENDING_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.sampleOneIn(100)
+		.maxPerSecond(10)
+		.build();
+
 	private final KafkaTemplate<K, V> kafkaTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, SendTimers> sendTimersByTopic = new ConcurrentHashMap<>();
 
-	public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate) {
+	public KafkaProducerImpl(KafkaTemplate<K, V> kafkaTemplate, MeterRegistry meterRegistry) {
 		this.kafkaTemplate = kafkaTemplate;
+		this.meterRegistry = meterRegistry;
 	}
 
 	@Override
 	public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
-		log.info("Sending message={} to topic={}", message, topicName);
+		send(topicName, key, message, null, callback);
+	}
+
+	@Override
+	public void send(String topicName, K key, V message, Iterable<Header> headers,
+					 ListenableFutureCallback<SendResult<K, V>> callback) {
+		SENDING_LOG.log("Sending message={} to topic={}", message, topicName);
+		SendTimers sendTimers = sendTimers(topicName);
+		long start = System.nanoTime();
+		KafkaSendEvent sendEvent = KafkaSendEvent.start(topicName, key);
 		try {
-			ListenableFuture<SendResult<K, V>> kafkaResultFuture = kafkaTemplate.send(topicName, key, message);
-			kafkaResultFuture.addCallback(callback);
+			ListenableFuture<SendResult<K, V>> kafkaResultFuture =
+				kafkaTemplate.send(new ProducerRecord<>(topicName, null, key, message, headers));
+			kafkaResultFuture.addCallback(new ListenableFutureCallback<>() {
+				@Override
+				public void onSuccess(SendResult<K, V> result) {
+					sendTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					sendEvent.finish(result.getRecordMetadata());
+					callback.onSuccess(result);
+				}
+
+				@Override
+				public void onFailure(Throwable ex) {
+					sendTimers.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					sendEvent.finish(null);
+					callback.onFailure(ex);
+				}
+			});
 		} catch (KafkaException e) {
+			sendTimers.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			sendEvent.finish(null);
 			log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message,
 				e.getMessage());
 			throw new KafkaProducerException("Error on kafka producer with key: " + key + " and message: " + message);
@@ -44,4 +90,34 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
 			kafkaTemplate.destroy();
 		}
 	}
+
+	private SendTimers sendTimers(String topicName) {
+		SendTimers sendTimers = sendTimersByTopic.get(topicName);
+		if (sendTimers == null) {
+			sendTimers = sendTimersByTopic.computeIfAbsent(topicName, topic -> new SendTimers(meterRegistry, topic));
+		}
+		return sendTimers;
+	}
+
+	/**
+	 * Timers are created once per topic, the send path only looks them up.
+	 */
+	private static final class SendTimers {
+
+		private final Timer success;
+		private final Timer failure;
+
+		private SendTimers(MeterRegistry meterRegistry, String topicName) {
+			this.success = register(meterRegistry, topicName, "success");
+			this.failure = register(meterRegistry, topicName, "failure");
+		}
+
+		private static Timer register(MeterRegistry meterRegistry, String topicName, String outcome) {
+			return Timer.builder(KAFKA_PRODUCER_SEND)
+				.description("Time from handing a record to the producer until the broker acknowledged it")
+				.tag("topic", topicName)
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+		}
+	}
 }
@@ -0,0 +1,79 @@
+package com.food.ordering.system.kafka.producer;
+
+import com.food.ordering.system.kafka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerProfileConfigData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class KafkaProducerConfigShould {
+
+	private KafkaProducerConfig<String, ?> kafkaProducerConfig;
+
+	@BeforeEach
+	void setUp() {
+		KafkaConfigData kafkaConfigData = new KafkaConfigData();
+		kafkaConfigData.setBootstrapServers("localhost:19092");
+		kafkaConfigData.setSchemaRegistryUrlKey("schema.registry.url");
+		kafkaConfigData.setSchemaRegistryUrl("http://localhost:8081");
+
+		KafkaProducerConfigData kafkaProducerConfigData = new KafkaProducerConfigData();
+		kafkaProducerConfigData.setKeySerializerClass("org.apache.kafka.common.serialization.StringSerializer");
+		kafkaProducerConfigData.setValueSerializerClass("io.confluent.kafka.serializers.KafkaAvroSerializer");
+		kafkaProducerConfigData.setCompressionType("snappy");
+		kafkaProducerConfigData.setAcks("all");
+		kafkaProducerConfigData.setBatchSize(16384);
+		kafkaProducerConfigData.setBatchSizeBoostFactor(100);
+		kafkaProducerConfigData.setLingerMs(5);
+		kafkaProducerConfigData.setRequestTimeoutMs(60000);
+		kafkaProducerConfigData.setRetryCount(5);
+		kafkaProducerConfigData.setMaxInFlightRequestsPerConnection(5);
+
+		kafkaProducerConfig = new KafkaProducerConfig<>(kafkaConfigData, kafkaProducerConfigData, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void takeProfileValues_whenProfileOverridesThem() {
+		KafkaProducerProfileConfigData paymentRequest = new KafkaProducerProfileConfigData();
+		paymentRequest.setCompressionType("lz4");
+		paymentRequest.setBatchSizeBoostFactor(1);
+		paymentRequest.setLingerMs(0);
+		paymentRequest.setMaxInFlightRequestsPerConnection(1);
+
+		Map<String, Object> producerConfig = kafkaProducerConfig.producerConfig("payment-request", paymentRequest);
+
+		Assertions.assertEquals("lz4", producerConfig.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+		// the base batch size boosted by the factor of the profile
+		Assertions.assertEquals(16384, producerConfig.get(ProducerConfig.BATCH_SIZE_CONFIG));
+		Assertions.assertEquals(0, producerConfig.get(ProducerConfig.LINGER_MS_CONFIG));
+		Assertions.assertEquals(1, producerConfig.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+		Assertions.assertEquals("payment-request-producer", producerConfig.get(ProducerConfig.CLIENT_ID_CONFIG));
+	}
+
+	@Test
+	void keepBaseValues_whenProfileLeavesThemOut() {
+		KafkaProducerProfileConfigData restaurantApprovalRequest = new KafkaProducerProfileConfigData();
+		restaurantApprovalRequest.setCompressionType("zstd");
+		restaurantApprovalRequest.setLingerMs(20);
+
+		Map<String, Object> producerConfig =
+			kafkaProducerConfig.producerConfig("restaurant-approval-request", restaurantApprovalRequest);
+
+		Assertions.assertEquals("zstd", producerConfig.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+		Assertions.assertEquals(20, producerConfig.get(ProducerConfig.LINGER_MS_CONFIG));
+		Assertions.assertEquals("all", producerConfig.get(ProducerConfig.ACKS_CONFIG));
+		Assertions.assertEquals(16384 * 100, producerConfig.get(ProducerConfig.BATCH_SIZE_CONFIG));
+		Assertions.assertEquals(60000, producerConfig.get(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG));
+		Assertions.assertEquals(5, producerConfig.get(ProducerConfig.RETRIES_CONFIG));
+		Assertions.assertEquals(5, producerConfig.get(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION));
+		Assertions.assertEquals("localhost:19092", producerConfig.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+		Assertions.assertEquals("http://localhost:8081", producerConfig.get("schema.registry.url"));
+		Assertions.assertEquals("io.confluent.kafka.serializers.KafkaAvroSerializer",
+			producerConfig.get(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG));
+	}
+}
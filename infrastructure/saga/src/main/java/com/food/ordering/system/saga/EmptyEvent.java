@@ -0,0 +1,11 @@
+package com.food.ordering.system.saga;
+
+import com.food.ordering.system.domain.entity.event.DomainEvent;
+
+public final class EmptyEvent implements DomainEvent<Void> {
+
+	public static final EmptyEvent INSTANCE = new EmptyEvent();
+
+	private EmptyEvent() {
+	}
+}
@@ -0,0 +1,162 @@
+package com.food.ordering.system.saga.timeout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Deadlines of saga steps, one per key, hashed by tick into a fixed ring of buckets. Scheduling, rescheduling
+ * and cancelling unlink or link a single node, and every tick only walks the bucket it falls on, where the keys
+ * due in later turns of the wheel are passed over. Time is given by the caller, who drives the wheel by asking
+ * for the keys due so far. Deadlines are scheduled on request threads, which may be virtual, so the wheel is
+ * guarded by a lock rather than a monitor that would pin their carrier threads while they wait for it.
+ */
+public class HashedTimingWheel<K> {
+
+	private final long tickMillis;
+	private final int mask;
+	private final Timeout<K>[] buckets;
+	private final Map<K, Timeout<K>> timeouts = new HashMap<>();
+	private final ReentrantLock wheelLock = new ReentrantLock();
+
+	// every bucket has been walked up to this tick, keys due by then are gone from the wheel
+	private long processedTick;
+
+	@SuppressWarnings("unchecked")
+	public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+		if (tickMillis <= 0) {
+			throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+		}
+		if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+		}
+		this.tickMillis = tickMillis;
+		this.mask = wheelSize - 1;
+		this.buckets = new Timeout[wheelSize];
+		this.processedTick = Math.floorDiv(startMillis, tickMillis);
+	}
+
+	/**
+	 * Replaces the deadline of the key if it already has one. Deadlines already past are due on the next tick.
+	 */
+	public void schedule(K key, long deadlineMillis) {
+		wheelLock.lock();
+		try {
+			relink(key, deadlineMillis);
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	public boolean cancel(K key) {
+		wheelLock.lock();
+		try {
+			Timeout<K> timeout = timeouts.remove(key);
+			if (timeout == null) {
+				return false;
+			}
+			unlink(timeout);
+			return true;
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes and returns the keys whose deadline is at or before now, at most limit of them. The ones left
+	 * over are returned by the next calls, before any key falling due later.
+	 */
+	public List<K> expire(long nowMillis, int limit) {
+		wheelLock.lock();
+		try {
+			return unlinkExpired(nowMillis, limit);
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	public int size() {
+		wheelLock.lock();
+		try {
+			return timeouts.size();
+		} finally {
+			wheelLock.unlock();
+		}
+	}
+
+	private void relink(K key, long deadlineMillis) {
+		Timeout<K> timeout = timeouts.get(key);
+		if (timeout == null) {
+			timeout = new Timeout<>(key);
+			timeouts.put(key, timeout);
+		} else {
+			unlink(timeout);
+		}
+		// rounded up, so that no key is ever handed out before its deadline
+		timeout.deadlineTick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), processedTick + 1);
+		link(timeout);
+	}
+
+	private List<K> unlinkExpired(long nowMillis, int limit) {
+		List<K> expired = new ArrayList<>();
+		long nowTick = Math.floorDiv(nowMillis, tickMillis);
+		// after a long pause one turn visits every bucket at a tick no earlier than the deadlines in it
+		if (nowTick - processedTick > buckets.length) {
+			processedTick = nowTick - buckets.length;
+		}
+		while (processedTick < nowTick) {
+			long tick = processedTick + 1;
+			Timeout<K> timeout = buckets[(int) (tick & mask)];
+			while (timeout != null) {
+				Timeout<K> next = timeout.next;
+				if (timeout.deadlineTick <= tick) {
+					if (expired.size() == limit) {
+						return expired;
+					}
+					unlink(timeout);
+					timeouts.remove(timeout.key);
+					expired.add(timeout.key);
+				}
+				timeout = next;
+			}
+			processedTick = tick;
+		}
+		return expired;
+	}
+
+	private void link(Timeout<K> timeout) {
+		int bucket = (int) (timeout.deadlineTick & mask);
+		timeout.next = buckets[bucket];
+		if (timeout.next != null) {
+			timeout.next.previous = timeout;
+		}
+		buckets[bucket] = timeout;
+	}
+
+	private void unlink(Timeout<K> timeout) {
+		if (timeout.previous != null) {
+			timeout.previous.next = timeout.next;
+		} else {
+			buckets[(int) (timeout.deadlineTick & mask)] = timeout.next;
+		}
+		if (timeout.next != null) {
+			timeout.next.previous = timeout.previous;
+		}
+		timeout.previous = null;
+		timeout.next = null;
+	}
+
+	private static final class Timeout<K> {
+
+		private final K key;
+		private long deadlineTick;
+		private Timeout<K> previous;
+		private Timeout<K> next;
+
+		private Timeout(K key) {
+			this.key = key;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.food.ordering.system.saga.timeout;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+class HashedTimingWheelShould {
+
+	private static final long TICK_MILLIS = 100;
+	private static final int WHEEL_SIZE = 8;
+	private static final long START_MILLIS = 1_000_000;
+
+	private HashedTimingWheel<String> wheel;
+
+	@BeforeEach
+	void setUp() {
+		wheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, START_MILLIS);
+	}
+
+	@Test
+	void expireKey_whenDeadlineHasPassed() {
+		wheel.schedule("order", START_MILLIS + 250);
+
+		Assertions.assertEquals(List.of(), wheel.expire(START_MILLIS + 249, 10));
+		Assertions.assertEquals(List.of("order"), wheel.expire(START_MILLIS + 300, 10));
+		Assertions.assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void notExpireKey_whenCancelled() {
+		wheel.schedule("order", START_MILLIS + 200);
+		wheel.schedule("other order", START_MILLIS + 200);
+
+		Assertions.assertTrue(wheel.cancel("order"));
+		Assertions.assertFalse(wheel.cancel("order"));
+
+		Assertions.assertEquals(List.of("other order"), wheel.expire(START_MILLIS + 200, 10));
+	}
+
+	@Test
+	void expireKeyAtNewDeadline_whenRescheduled() {
+		wheel.schedule("order", START_MILLIS + 200);
+		wheel.schedule("order", START_MILLIS + 500);
+
+		Assertions.assertEquals(1, wheel.size());
+		Assertions.assertEquals(List.of(), wheel.expire(START_MILLIS + 400, 10));
+		Assertions.assertEquals(List.of("order"), wheel.expire(START_MILLIS + 500, 10));
+	}
+
+	@Test
+	void expireKeyOnlyInItsRound_whenDeadlineIsSeveralTurnsAway() {
+		// lands in the same bucket as a key due in the first turn
+		wheel.schedule("later order", START_MILLIS + (2 * WHEEL_SIZE + 1) * TICK_MILLIS);
+		wheel.schedule("order", START_MILLIS + TICK_MILLIS);
+
+		Assertions.assertEquals(List.of("order"), wheel.expire(START_MILLIS + WHEEL_SIZE * TICK_MILLIS, 10));
+		Assertions.assertEquals(List.of(), wheel.expire(START_MILLIS + 2 * WHEEL_SIZE * TICK_MILLIS, 10));
+		Assertions.assertEquals(List.of("later order"), wheel.expire(START_MILLIS + (2 * WHEEL_SIZE + 1) * TICK_MILLIS, 10));
+	}
+
+	@Test
+	void returnAtMostLimitKeys_whenMoreAreDue() {
+		for (int order = 0; order < 5; order++) {
+			wheel.schedule("order " + order, START_MILLIS + TICK_MILLIS);
+		}
+		wheel.schedule("later order", START_MILLIS + 2 * TICK_MILLIS);
+
+		Set<String> expired = new HashSet<>(wheel.expire(START_MILLIS + 2 * TICK_MILLIS, 3));
+		Assertions.assertEquals(3, expired.size());
+		expired.addAll(wheel.expire(START_MILLIS + 2 * TICK_MILLIS, 2));
+
+		Assertions.assertEquals(Set.of("order 0", "order 1", "order 2", "order 3", "order 4"), expired);
+		Assertions.assertEquals(List.of("later order"), wheel.expire(START_MILLIS + 2 * TICK_MILLIS, 2));
+	}
+
+	@Test
+	void expireAllOverdueKeys_whenTimeJumpsPastWholeWheel() {
+		for (int tick = 1; tick <= 3 * WHEEL_SIZE; tick++) {
+			wheel.schedule("order " + tick, START_MILLIS + tick * TICK_MILLIS);
+		}
+
+		Assertions.assertEquals(3 * WHEEL_SIZE, wheel.expire(START_MILLIS + 100 * WHEEL_SIZE * TICK_MILLIS, 100).size());
+		Assertions.assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void expireKeyOnNextTick_whenDeadlineIsAlreadyPast() {
+		wheel.expire(START_MILLIS + 500, 10);
+
+		wheel.schedule("order", START_MILLIS);
+
+		Assertions.assertEquals(List.of("order"), wheel.expire(START_MILLIS + 600, 10));
+	}
+}
@@ -0,0 +1,93 @@
+package com.food.ordering.system.order.service.aplication.admission;
+
+import com.food.ordering.system.domain.exception.DomainException;
+import com.food.ordering.system.order.service.aplication.config.ConcurrencyLimitConfigData;
+import com.food.ordering.system.order.service.aplication.config.OrderAdmissionControlConfigData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Sheds requests before they reach the application service once the downstream latency shows
+ * it is queueing. Creating and tracking orders have separate budgets, so a burst of creates
+ * cannot starve cheap tracking reads and the other way around.
+ */
+@Slf4j
+@Component
+public class OrderAdmissionControl {
+
+	private final OrderAdmissionControlConfigData orderAdmissionControlConfigData;
+	private final Budget createOrderBudget;
+	private final Budget trackOrderBudget;
+
+	public OrderAdmissionControl(OrderAdmissionControlConfigData orderAdmissionControlConfigData,
+								 MeterRegistry meterRegistry) {
+		this.orderAdmissionControlConfigData = orderAdmissionControlConfigData;
+		boolean enabled = Boolean.TRUE.equals(orderAdmissionControlConfigData.getEnabled());
+		this.createOrderBudget = enabled ?
+			new Budget("createOrder", orderAdmissionControlConfigData.getCreateOrder(), meterRegistry) : null;
+		this.trackOrderBudget = enabled ?
+			new Budget("trackOrder", orderAdmissionControlConfigData.getTrackOrder(), meterRegistry) : null;
+	}
+
+	public <T> T admitCreateOrder(Supplier<T> createOrder) {
+		return admit(createOrderBudget, createOrder);
+	}
+
+	public <T> T admitTrackOrder(Supplier<T> trackOrder) {
+		return admit(trackOrderBudget, trackOrder);
+	}
+
+	private <T> T admit(Budget budget, Supplier<T> request) {
+		if (budget == null) {
+			return request.get();
+		}
+		if (!budget.limiter.tryAcquire()) {
+			budget.rejected.increment();
+			log.warn("Rejecting {} request, concurrency limit of {} reached", budget.name, budget.limiter.getLimit());
+			throw new OrderAdmissionRejectedException("Too many concurrent " + budget.name + " requests, retry later",
+				orderAdmissionControlConfigData.getRetryAfterSeconds());
+		}
+		long start = System.nanoTime();
+		try {
+			T response = request.get();
+			budget.limiter.onSuccess(System.nanoTime() - start);
+			return response;
+		} catch (DomainException | ValidationException e) {
+			budget.limiter.onIgnored();
+			throw e;
+		} catch (RuntimeException e) {
+			budget.limiter.onDropped();
+			throw e;
+		}
+	}
+
+	private static final class Budget {
+
+		private final String name;
+		private final VegasConcurrencyLimiter limiter;
+		private final Counter rejected;
+
+		private Budget(String name, ConcurrencyLimitConfigData concurrencyLimitConfigData, MeterRegistry meterRegistry) {
+			this.name = name;
+			this.limiter = new VegasConcurrencyLimiter(concurrencyLimitConfigData);
+			this.rejected = Counter.builder("order.admission.rejected")
+				.description("Requests rejected because the concurrency limit was reached")
+				.tag("budget", name)
+				.register(meterRegistry);
+			Gauge.builder("order.admission.limit", limiter, VegasConcurrencyLimiter::getLimit)
+				.description("Current adaptive concurrency limit")
+				.tag("budget", name)
+				.register(meterRegistry);
+			Gauge.builder("order.admission.inflight", limiter, VegasConcurrencyLimiter::getInFlight)
+				.description("Requests currently admitted")
+				.tag("budget", name)
+				.register(meterRegistry);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.aplication.admission;
+
+public class OrderAdmissionRejectedException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public OrderAdmissionRejectedException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
@@ -0,0 +1,126 @@
+package com.food.ordering.system.order.service.aplication.admission;
+
+import com.food.ordering.system.order.service.aplication.config.ConcurrencyLimitConfigData;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit in the style of TCP Vegas. The no-load latency is the lowest latency seen
+ * since the last probe, and the number of requests queued somewhere downstream is estimated as
+ * {@code limit * (1 - noLoadLatency / latency)}. The limit grows while that queue is small,
+ * shrinks once it grows past a threshold or a request is dropped, and is left alone while the
+ * limiter is not the bottleneck, i.e. less than half of it is in use.
+ * <p>
+ * The no-load latency is re-baselined every probe interval samples, so the limiter follows a
+ * downstream that became permanently slower instead of shrinking against a stale minimum.
+ * <p>
+ * Every completed request updates the limit, so the update is guarded by a lock rather than a
+ * monitor: a virtual thread blocked on a contended monitor pins its carrier thread.
+ */
+public class VegasConcurrencyLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double smoothing;
+	private final int probeInterval;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final ReentrantLock limitLock = new ReentrantLock();
+	private volatile double limit;
+	private long noLoadLatencyNanos;
+	private int samplesSinceProbe;
+
+	public VegasConcurrencyLimiter(ConcurrencyLimitConfigData concurrencyLimitConfigData) {
+		this.minLimit = concurrencyLimitConfigData.getMinLimit();
+		this.maxLimit = concurrencyLimitConfigData.getMaxLimit();
+		this.smoothing = concurrencyLimitConfigData.getSmoothing();
+		this.probeInterval = concurrencyLimitConfigData.getProbeInterval();
+		this.limit = concurrencyLimitConfigData.getInitialLimit();
+		if (minLimit < 1 || minLimit > maxLimit || limit < minLimit || limit > maxLimit) {
+			throw new IllegalArgumentException("Concurrency limit must satisfy 1 <= min <= initial <= max, but was min: " +
+				minLimit + ", initial: " + (int) limit + ", max: " + maxLimit);
+		}
+	}
+
+	public boolean tryAcquire() {
+		int current;
+		do {
+			current = inFlight.get();
+			if (current >= (int) limit) {
+				return false;
+			}
+		} while (!inFlight.compareAndSet(current, current + 1));
+		return true;
+	}
+
+	/**
+	 * Releases a permit whose request completed and feeds its latency to the limit.
+	 */
+	public void onSuccess(long latencyNanos) {
+		int inFlightAtCompletion = inFlight.getAndDecrement();
+		updateLimit(latencyNanos, inFlightAtCompletion, false);
+	}
+
+	/**
+	 * Releases a permit whose request failed because the downstream could not keep up.
+	 */
+	public void onDropped() {
+		int inFlightAtCompletion = inFlight.getAndDecrement();
+		updateLimit(0, inFlightAtCompletion, true);
+	}
+
+	/**
+	 * Releases a permit without a sample, for requests whose latency says nothing about the
+	 * downstream, e.g. rejected by validation before doing any work.
+	 */
+	public void onIgnored() {
+		inFlight.decrementAndGet();
+	}
+
+	public int getLimit() {
+		return (int) limit;
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	private void updateLimit(long latencyNanos, int inFlightAtCompletion, boolean dropped) {
+		limitLock.lock();
+		try {
+			adjustLimit(latencyNanos, inFlightAtCompletion, dropped);
+		} finally {
+			limitLock.unlock();
+		}
+	}
+
+	private void adjustLimit(long latencyNanos, int inFlightAtCompletion, boolean dropped) {
+		double currentLimit = limit;
+		double threshold = Math.max(1, Math.log10(currentLimit));
+		double newLimit;
+		if (dropped) {
+			newLimit = currentLimit - threshold;
+		} else {
+			if (noLoadLatencyNanos == 0 || latencyNanos < noLoadLatencyNanos || ++samplesSinceProbe >= probeInterval) {
+				noLoadLatencyNanos = Math.max(1, latencyNanos);
+				samplesSinceProbe = 0;
+				return;
+			}
+			if (inFlightAtCompletion * 2 < currentLimit) {
+				return;
+			}
+			double queueSize = Math.ceil(currentLimit * (1 - (double) noLoadLatencyNanos / latencyNanos));
+			if (queueSize <= threshold) {
+				newLimit = currentLimit + 6 * threshold;
+			} else if (queueSize < 3 * threshold) {
+				newLimit = currentLimit + threshold;
+			} else if (queueSize > 6 * threshold) {
+				newLimit = currentLimit - threshold;
+			} else {
+				return;
+			}
+		}
+		newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+		limit = (1 - smoothing) * currentLimit + smoothing * newLimit;
+	}
+}
@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.aplication.config;
+
+import lombok.Data;
+
+@Data
+public class ConcurrencyLimitConfigData {
+	private Integer initialLimit;
+	private Integer minLimit;
+	private Integer maxLimit;
+	private Double smoothing;
+	private Integer probeInterval;
+}
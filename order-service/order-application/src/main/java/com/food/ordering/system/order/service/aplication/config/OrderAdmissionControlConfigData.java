@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.aplication.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-admission-control")
+public class OrderAdmissionControlConfigData {
+	private Boolean enabled;
+	private Long retryAfterSeconds;
+	private ConcurrencyLimitConfigData createOrder;
+	private ConcurrencyLimitConfigData trackOrder;
+}
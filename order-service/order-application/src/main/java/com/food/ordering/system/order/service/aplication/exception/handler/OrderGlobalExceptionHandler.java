@@ -2,10 +2,15 @@ package com.food.ordering.system.order.service.aplication.exception.handler;
 
 import com.food.ordering.system.application.handler.ErrorDTO;
 import com.food.ordering.system.application.handler.GlobalExceptionHandler;
+import com.food.ordering.system.order.service.aplication.admission.OrderAdmissionRejectedException;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIdempotencyKeyReusedException;
+import com.food.ordering.system.order.service.domain.exception.OrderIngestionRejectedException;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -36,4 +41,39 @@ public class OrderGlobalExceptionHandler extends GlobalExceptionHandler {
 			.message(orderNotFoundException.getMessage())
 			.build();
 	}
+
+	@ResponseBody
+	@ExceptionHandler(value = {OrderIdempotencyKeyReusedException.class})
+	@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+	public ErrorDTO handleException(OrderIdempotencyKeyReusedException orderIdempotencyKeyReusedException) {
+		log.warn(orderIdempotencyKeyReusedException.getMessage());
+		return ErrorDTO.builder()
+			.code(HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase())
+			.message(orderIdempotencyKeyReusedException.getMessage())
+			.build();
+	}
+
+	@ResponseBody
+	@ExceptionHandler(value = {OrderAdmissionRejectedException.class})
+	public ResponseEntity<ErrorDTO> handleException(OrderAdmissionRejectedException orderAdmissionRejectedException) {
+		log.warn(orderAdmissionRejectedException.getMessage());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(orderAdmissionRejectedException.getRetryAfterSeconds()))
+			.body(ErrorDTO.builder()
+				.code(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+				.message(orderAdmissionRejectedException.getMessage())
+				.build());
+	}
+
+	@ResponseBody
+	@ExceptionHandler(value = {OrderIngestionRejectedException.class})
+	public ResponseEntity<ErrorDTO> handleException(OrderIngestionRejectedException orderIngestionRejectedException) {
+		log.warn(orderIngestionRejectedException.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(orderIngestionRejectedException.getRetryAfterSeconds()))
+			.body(ErrorDTO.builder()
+				.code(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+				.message(orderIngestionRejectedException.getMessage())
+				.build());
+	}
 }
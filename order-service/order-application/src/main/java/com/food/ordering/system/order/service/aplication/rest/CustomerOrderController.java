@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.aplication.rest;
+
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryQuery;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping(value = "/customers", produces = "application/vnd.api.v1+json")
+public class CustomerOrderController {
+
+	private final OrderApplicationService orderApplicationService;
+
+	public CustomerOrderController(OrderApplicationService orderApplicationService) {
+		this.orderApplicationService = orderApplicationService;
+	}
+
+	// pass the continuation token of a page to get the next one, the last page has none
+	@GetMapping("/{customerId}/orders")
+	public ResponseEntity<CustomerOrderHistoryResponse> getCustomerOrders(@PathVariable UUID customerId,
+																		  @RequestParam(defaultValue = "20") Integer pageSize,
+																		  @RequestParam(required = false) String continuationToken) {
+		CustomerOrderHistoryResponse customerOrderHistoryResponse = orderApplicationService.findCustomerOrders(
+			CustomerOrderHistoryQuery.builder()
+				.customerId(customerId)
+				.pageSize(pageSize)
+				.continuationToken(continuationToken)
+				.build());
+		log.info("Returning {} orders of customer: {}", customerOrderHistoryResponse.getOrders().size(), customerId);
+		return ResponseEntity.ok(customerOrderHistoryResponse);
+	}
+}
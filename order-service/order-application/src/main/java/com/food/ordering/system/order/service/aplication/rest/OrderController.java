@@ -1,39 +1,107 @@
 package com.food.ordering.system.order.service.aplication.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.aplication.admission.OrderAdmissionControl;
+import com.food.ordering.system.order.service.aplication.rest.export.OrderExportFormat;
+import com.food.ordering.system.order.service.aplication.rest.export.OrderExportWriter;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.UUID;
 
 @Slf4j
 @RestController
 @RequestMapping(value = "/orders", produces = "application/vnd.api.v1+json")
 public class OrderController {
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	private static final String PREFER_HEADER = "Prefer";
+	private static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+	private static final String RESPOND_ASYNC = "respond-async";
+
 	private final OrderApplicationService orderApplicationService;
+	private final OrderAdmissionControl orderAdmissionControl;
+	private final ObjectMapper objectMapper;
 
-	public OrderController(OrderApplicationService orderApplicationService) {
+	public OrderController(OrderApplicationService orderApplicationService, OrderAdmissionControl orderAdmissionControl,
+						   ObjectMapper objectMapper) {
 		this.orderApplicationService = orderApplicationService;
+		this.orderAdmissionControl = orderAdmissionControl;
+		this.objectMapper = objectMapper;
 	}
 
 	@PostMapping
-	public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand) {
+	public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand,
+														   @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+														   @RequestHeader(value = PREFER_HEADER, required = false) String prefer) {
+		// a repeated idempotency key has to be answered with the first response, so those orders are created right away
+		if (idempotencyKey == null && prefer != null && prefer.contains(RESPOND_ASYNC)) {
+			return acceptOrder(createOrderCommand);
+		}
 		log.info("Creating order for customer: {} at restaurant: {}", createOrderCommand.getCustomerId(), createOrderCommand.getRestaurantId());
-		CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand);
+		CreateOrderResponse createOrderResponse = orderAdmissionControl.admitCreateOrder(() ->
+			orderApplicationService.createOrder(createOrderCommand, idempotencyKey));
 		log.info("Order created with tracking id: {}", createOrderResponse.getOrderTrackingId());
 		return ResponseEntity.ok(createOrderResponse);
 	}
 
+	// the order is created after the response, its tracking answers not found until it is saved or cancelled
+	private ResponseEntity<CreateOrderResponse> acceptOrder(CreateOrderCommand createOrderCommand) {
+		log.info("Accepting order for customer: {} at restaurant: {}", createOrderCommand.getCustomerId(), createOrderCommand.getRestaurantId());
+		CreateOrderResponse createOrderResponse = orderApplicationService.acceptOrder(createOrderCommand);
+		return ResponseEntity.accepted()
+			.location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{trackingId}")
+				.buildAndExpand(createOrderResponse.getOrderTrackingId()).toUri())
+			.header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+			.body(createOrderResponse);
+	}
+
 	@GetMapping("/{trackingId}")
 	public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
-		TrackOrderResponse trackOrderResponse =
-			orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build());
+		TrackOrderResponse trackOrderResponse = orderAdmissionControl.admitTrackOrder(() ->
+			orderApplicationService.trackOrder(TrackOrderQuery.builder().orderTrackingId(trackingId).build()));
 		log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
 		return ResponseEntity.ok(trackOrderResponse);
 	}
+
+	// writes to the response while the orders are read, any media type is accepted and the response is
+	// reset on errors raised before anything was flushed, so those are still rendered as json
+	@GetMapping(value = "/export", produces = MediaType.ALL_VALUE)
+	public void exportOrders(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime createdFrom,
+							 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime createdTo,
+							 @RequestParam(defaultValue = "ndjson") String format,
+							 HttpServletResponse response) throws IOException {
+		OrderExportFormat orderExportFormat = OrderExportFormat.fromName(format);
+		log.info("Exporting orders created from {} until {} as {}", createdFrom, createdTo, orderExportFormat);
+		response.setContentType(orderExportFormat.getMediaType());
+		response.setCharacterEncoding("UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+			"attachment; filename=\"orders." + orderExportFormat.getFileExtension() + "\"");
+		OrderExportWriter orderExportWriter = orderExportFormat.writer(response.getOutputStream(), objectMapper);
+		try {
+			orderApplicationService.exportOrders(OrderExportQuery.builder()
+				.createdFrom(createdFrom)
+				.createdTo(createdTo)
+				.build(), orderExportWriter::write);
+		} catch (RuntimeException e) {
+			if (!response.isCommitted()) {
+				response.reset();
+			}
+			throw e;
+		}
+		orderExportWriter.finish();
+	}
 }
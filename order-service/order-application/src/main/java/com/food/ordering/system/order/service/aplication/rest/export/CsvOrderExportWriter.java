@@ -0,0 +1,78 @@
+package com.food.ordering.system.order.service.aplication.rest.export;
+
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
+/**
+ * RFC 4180 CSV: comma separated, CRLF terminated, fields holding a comma, quote or line break are
+ * quoted with their quotes doubled.
+ */
+class CsvOrderExportWriter implements OrderExportWriter {
+
+	private static final String HEADER = "order_id,tracking_id,customer_id,restaurant_id,price,order_status," +
+		"failure_messages,street,postal_code,city,created_at";
+	private static final String LINE_SEPARATOR = "\r\n";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Writer writer;
+
+	CsvOrderExportWriter(OutputStream outputStream) throws IOException {
+		writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+		writer.write(HEADER);
+		writer.write(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void write(OrderExportRow orderExportRow) {
+		try {
+			writer.write(orderExportRow.getOrderId().toString());
+			writer.write(',');
+			writer.write(orderExportRow.getTrackingId().toString());
+			writer.write(',');
+			writer.write(orderExportRow.getCustomerId().toString());
+			writer.write(',');
+			writer.write(orderExportRow.getRestaurantId().toString());
+			writer.write(',');
+			writer.write(orderExportRow.getPrice().toPlainString());
+			writer.write(',');
+			writer.write(orderExportRow.getOrderStatus().name());
+			writer.write(',');
+			writeField(String.join(FAILURE_MESSAGE_DELIMITER, orderExportRow.getFailureMessages()));
+			writer.write(',');
+			writeField(orderExportRow.getStreet());
+			writer.write(',');
+			writeField(orderExportRow.getPostalCode());
+			writer.write(',');
+			writeField(orderExportRow.getCity());
+			writer.write(',');
+			writer.write(orderExportRow.getCreatedAt().toOffsetDateTime().toString());
+			writer.write(LINE_SEPARATOR);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void finish() throws IOException {
+		writer.flush();
+	}
+
+	private void writeField(String value) throws IOException {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.aplication.rest.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+class NdjsonOrderExportWriter implements OrderExportWriter {
+
+	private static final String LINE_SEPARATOR = "\n";
+
+	private final JsonGenerator jsonGenerator;
+	private boolean empty = true;
+
+	NdjsonOrderExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+		jsonGenerator = objectMapper.getFactory().createGenerator(outputStream);
+		jsonGenerator.setRootValueSeparator(new SerializedString(LINE_SEPARATOR));
+	}
+
+	@Override
+	public void write(OrderExportRow orderExportRow) {
+		try {
+			jsonGenerator.writeObject(orderExportRow);
+			empty = false;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (!empty) {
+			jsonGenerator.writeRaw(LINE_SEPARATOR);
+		}
+		jsonGenerator.flush();
+	}
+}
@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.aplication.rest.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ValidationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+
+public enum OrderExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String mediaType;
+	private final String fileExtension;
+
+	OrderExportFormat(String mediaType, String fileExtension) {
+		this.mediaType = mediaType;
+		this.fileExtension = fileExtension;
+	}
+
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	public OrderExportWriter writer(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+		return this == NDJSON ? new NdjsonOrderExportWriter(outputStream, objectMapper) : new CsvOrderExportWriter(outputStream);
+	}
+
+	public static OrderExportFormat fromName(String name) {
+		return Arrays.stream(values())
+			.filter(format -> format.fileExtension.equals(name.toLowerCase(Locale.ROOT)))
+			.findFirst()
+			.orElseThrow(() -> new ValidationException("Unsupported export format: " + name +
+				", supported formats are ndjson and csv"));
+	}
+}
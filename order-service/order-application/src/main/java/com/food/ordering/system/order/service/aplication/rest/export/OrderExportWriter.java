@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.aplication.rest.export;
+
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+
+import java.io.IOException;
+
+/**
+ * Writes exported orders to the response as they arrive. Output is buffered and goes out whenever
+ * the buffer fills, so an export never holds more than a buffer worth of rows.
+ */
+public interface OrderExportWriter {
+
+	/**
+	 * Throws {@link java.io.UncheckedIOException} when the client went away, which ends the export and
+	 * closes its cursor.
+	 */
+	void write(OrderExportRow orderExportRow);
+
+	void finish() throws IOException;
+}
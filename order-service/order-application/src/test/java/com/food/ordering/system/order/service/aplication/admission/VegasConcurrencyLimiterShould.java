@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.aplication.admission;
+
+import com.food.ordering.system.order.service.aplication.config.ConcurrencyLimitConfigData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class VegasConcurrencyLimiterShould {
+
+	private static final long BASELINE_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+	@Test
+	void rejectAcquire_whenLimitReached() {
+		VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(config(2));
+
+		Assertions.assertTrue(limiter.tryAcquire());
+		Assertions.assertTrue(limiter.tryAcquire());
+		Assertions.assertFalse(limiter.tryAcquire());
+
+		limiter.onIgnored();
+
+		Assertions.assertTrue(limiter.tryAcquire());
+		Assertions.assertEquals(2, limiter.getInFlight());
+	}
+
+	@Test
+	void increaseLimit_whenLatencyStaysAtBaseline() {
+		VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(config(10));
+
+		completeFullyLoaded(limiter, BASELINE_LATENCY_NANOS, 50);
+
+		Assertions.assertTrue(limiter.getLimit() > 10);
+	}
+
+	@Test
+	void decreaseLimit_whenLatencyClimbs() {
+		VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(config(50));
+		completeFullyLoaded(limiter, BASELINE_LATENCY_NANOS, 1);
+
+		completeFullyLoaded(limiter, BASELINE_LATENCY_NANOS * 5, 50);
+
+		Assertions.assertTrue(limiter.getLimit() < 50);
+	}
+
+	@Test
+	void keepLimit_whenMostPermitsAreUnused() {
+		VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(config(50));
+		completeFullyLoaded(limiter, BASELINE_LATENCY_NANOS, 1);
+
+		for (int i = 0; i < 50; i++) {
+			Assertions.assertTrue(limiter.tryAcquire());
+			limiter.onSuccess(BASELINE_LATENCY_NANOS * 5);
+		}
+
+		Assertions.assertEquals(50, limiter.getLimit());
+	}
+
+	@Test
+	void decreaseLimit_whenRequestsAreDropped() {
+		VegasConcurrencyLimiter limiter = new VegasConcurrencyLimiter(config(50));
+
+		for (int i = 0; i < 20; i++) {
+			Assertions.assertTrue(limiter.tryAcquire());
+			limiter.onDropped();
+		}
+
+		Assertions.assertTrue(limiter.getLimit() < 50);
+		Assertions.assertTrue(limiter.getLimit() >= 4);
+	}
+
+	private void completeFullyLoaded(VegasConcurrencyLimiter limiter, long latencyNanos, int samples) {
+		for (int i = 0; i < samples; i++) {
+			int acquired = 0;
+			while (limiter.tryAcquire()) {
+				acquired++;
+			}
+			limiter.onSuccess(latencyNanos);
+			for (int j = 1; j < acquired; j++) {
+				limiter.onIgnored();
+			}
+		}
+	}
+
+	private ConcurrencyLimitConfigData config(int initialLimit) {
+		ConcurrencyLimitConfigData concurrencyLimitConfigData = new ConcurrencyLimitConfigData();
+		concurrencyLimitConfigData.setInitialLimit(initialLimit);
+		concurrencyLimitConfigData.setMinLimit(Math.min(4, initialLimit));
+		concurrencyLimitConfigData.setMaxLimit(200);
+		concurrencyLimitConfigData.setSmoothing(0.5);
+		concurrencyLimitConfigData.setProbeInterval(1000);
+		return concurrencyLimitConfigData;
+	}
+}
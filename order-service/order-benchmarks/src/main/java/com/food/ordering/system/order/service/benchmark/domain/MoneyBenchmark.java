@@ -0,0 +1,74 @@
+package com.food.ordering.system.order.service.benchmark.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MoneyBenchmark {
+
+	private final Money price = new Money(new BigDecimal("12.50"));
+	private final Money otherPrice = new Money(new BigDecimal("7.25"));
+
+	// in a state of its own so that only the sum runs once per item count
+	@State(Scope.Benchmark)
+	public static class SubTotals {
+
+		@Param({"1", "10", "50"})
+		private int itemCount;
+
+		private Money[] subTotals;
+
+		@Setup
+		public void setUp() {
+			subTotals = new Money[itemCount];
+			for (int item = 0; item < itemCount; item++) {
+				subTotals[item] = new Money(BigDecimal.valueOf(500 + item * 25L, 2));
+			}
+		}
+	}
+
+	@Benchmark
+	public Money add() {
+		return price.add(otherPrice);
+	}
+
+	@Benchmark
+	public Money subtract() {
+		return price.subtract(otherPrice);
+	}
+
+	@Benchmark
+	public Money multiply() {
+		return price.multiply(3);
+	}
+
+	@Benchmark
+	public boolean isGreaterThan() {
+		return price.isGreaterThan(otherPrice);
+	}
+
+	// how the order adds up the subtotals of its items when it is validated
+	@Benchmark
+	public Money sumSubTotals(SubTotals subTotals) {
+		return Arrays.stream(subTotals.subTotals).reduce(Money.ZERO, Money::add);
+	}
+}
@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.benchmark.domain;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// validating leaves the order as it is, so one order serves every invocation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderBenchmark {
+
+	@Param({"1", "10", "50"})
+	private int itemCount;
+
+	@Param({"10", "100", "1000"})
+	private int menuSize;
+
+	private Order order;
+
+	@Setup
+	public void setUp() {
+		order = OrderFixture.newOrder(OrderFixture.menu(menuSize), itemCount, true);
+	}
+
+	@Benchmark
+	public Order validateOrder() {
+		order.validateOrder();
+		return order;
+	}
+}
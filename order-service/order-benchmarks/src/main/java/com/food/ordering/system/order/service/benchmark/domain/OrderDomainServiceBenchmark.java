@@ -0,0 +1,61 @@
+package com.food.ordering.system.order.service.benchmark.domain;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Initiating changes the order, so every invocation builds a new one from the command side, and
+ * buildOrder measures that part alone to be taken off validateAndInitiateOrder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderDomainServiceBenchmark {
+
+	@Param({"1", "10", "50"})
+	private int itemCount;
+
+	@Param({"10", "100", "1000"})
+	private int menuSize;
+
+	private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+	private List<Product> menu;
+	private Restaurant restaurant;
+
+	@Setup
+	public void setUp() {
+		menu = OrderFixture.menu(menuSize);
+		restaurant = OrderFixture.restaurant(menu);
+	}
+
+	@Benchmark
+	public Order buildOrder() {
+		return OrderFixture.newOrder(menu, itemCount, false);
+	}
+
+	@Benchmark
+	public OrderCreatedEvent validateAndInitiateOrder() {
+		return orderDomainService.validateAndInitiateOrder(OrderFixture.newOrder(menu, itemCount, false), restaurant);
+	}
+}
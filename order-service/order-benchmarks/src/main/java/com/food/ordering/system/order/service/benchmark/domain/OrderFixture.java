@@ -0,0 +1,102 @@
+package com.food.ordering.system.order.service.benchmark.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.Money;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.domain.entity.valueobject.ProductId;
+import com.food.ordering.system.domain.entity.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Orders shaped like the ones built from a create order command, with their items spread over
+ * the whole menu so matching them against the restaurant products walks all of it.
+ */
+public final class OrderFixture {
+
+	public static final CustomerId CUSTOMER_ID = new CustomerId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41"));
+	public static final RestaurantId RESTAURANT_ID = new RestaurantId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45"));
+	public static final StreetAddress DELIVERY_ADDRESS =
+		new StreetAddress(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb46"), "street", "1000AB", "Amsterdam");
+
+	private OrderFixture() {
+	}
+
+	public static List<Product> menu(int menuSize) {
+		List<Product> menu = new ArrayList<>(menuSize);
+		for (int product = 0; product < menuSize; product++) {
+			menu.add(new Product(new ProductId(new UUID(0, product)), "product-" + product,
+				new Money(BigDecimal.valueOf(500 + product % 1500, 2))));
+		}
+		return menu;
+	}
+
+	public static Restaurant restaurant(List<Product> menu) {
+		return Restaurant.Builder.builder()
+			.restaurantId(RESTAURANT_ID)
+			.products(menu)
+			.active(true)
+			.build();
+	}
+
+	/**
+	 * @param confirmed whether the products already carry name and price, like after the restaurant check,
+	 *                  or only their id, like when mapped from the command
+	 */
+	public static Order newOrder(List<Product> menu, int itemCount, boolean confirmed) {
+		List<OrderItem> items = new ArrayList<>(itemCount);
+		Money total = Money.ZERO;
+		for (int item = 0; item < itemCount; item++) {
+			Product menuProduct = menu.get((int) ((long) item * menu.size() / itemCount));
+			int quantity = 1 + item % 3;
+			Money subTotal = menuProduct.getPrice().multiply(quantity);
+			items.add(OrderItem.Builder.builder()
+				.product(confirmed ? new Product(menuProduct.getId(), menuProduct.getName(), menuProduct.getPrice()) :
+					new Product(menuProduct.getId()))
+				.price(menuProduct.getPrice())
+				.quantity(quantity)
+				.subTotal(subTotal)
+				.build());
+			total = total.add(subTotal);
+		}
+		return Order.Builder.builder()
+			.customerId(CUSTOMER_ID)
+			.restaurantId(RESTAURANT_ID)
+			.deliveryAddress(DELIVERY_ADDRESS)
+			.price(total)
+			.items(items)
+			.build();
+	}
+
+	// an order as it is stored once created, with ids on it and its items
+	public static Order initiatedOrder(int itemCount) {
+		List<Product> menu = menu(itemCount);
+		Order order = newOrder(menu, itemCount, false);
+		new OrderDomainServiceImpl().validateAndInitiateOrder(order, restaurant(menu));
+		return order;
+	}
+
+	// like an order read back from the repository, with a failure message list the transitions can add to
+	public static Order pendingOrder() {
+		return Order.Builder.builder()
+			.orderId(new OrderId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48")))
+			.customerId(CUSTOMER_ID)
+			.restaurantId(RESTAURANT_ID)
+			.deliveryAddress(DELIVERY_ADDRESS)
+			.price(new Money(new BigDecimal("50.00")))
+			.items(List.of())
+			.orderStatus(OrderStatus.PENDING)
+			.failureMessages(new ArrayList<>())
+			.build();
+	}
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.benchmark.domain;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The transitions the sagas drive through the domain service, each from a new pending order,
+ * whose creation pendingOrder measures alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderTransitionBenchmark {
+
+	private static final List<String> FAILURE_MESSAGES = List.of("Payment failed", "Restaurant is closed");
+
+	private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+	@Benchmark
+	public Order pendingOrder() {
+		return OrderFixture.pendingOrder();
+	}
+
+	@Benchmark
+	public Order payAndApprove(Blackhole blackhole) {
+		Order order = OrderFixture.pendingOrder();
+		blackhole.consume(orderDomainService.payOrder(order));
+		orderDomainService.approveOrder(order);
+		return order;
+	}
+
+	@Benchmark
+	public Order payAndCancel(Blackhole blackhole) {
+		Order order = OrderFixture.pendingOrder();
+		blackhole.consume(orderDomainService.payOrder(order));
+		blackhole.consume(orderDomainService.cancelOrderPayment(order, FAILURE_MESSAGES));
+		orderDomainService.cancelOrder(order, FAILURE_MESSAGES);
+		return order;
+	}
+
+	@Benchmark
+	public Order cancelPending() {
+		Order order = OrderFixture.pendingOrder();
+		orderDomainService.cancelOrder(order, FAILURE_MESSAGES);
+		return order;
+	}
+}
@@ -0,0 +1,166 @@
+package com.food.ordering.system.order.service.benchmark.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.producer.service.impl.KafkaProducerImpl;
+import com.food.ordering.system.order.service.benchmark.domain.OrderFixture;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.messaging.listener.kafka.PaymentResponseKafkaListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.order.service.messaging.publisher.kafka.OrderKafkaMessageHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends payment requests through the kafka producer and hands batches of payment responses to their
+ * listener with the info logs on, as in the service. The logs go through a synchronous appender to a
+ * stream discarding them, so formatting the messages is measured but not the console. The producer is
+ * kafka's mock, completing each send at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class HotPathLoggingBenchmark {
+
+	private static final String PAYMENT_REQUEST_TOPIC = "payment-request";
+	private static final int BATCH_SIZE = 100;
+	// the mock producer keeps every record it was given
+	private static final int CLEAR_SENT_EVERY = 10_000;
+
+	private MockProducer<String, PaymentRequestAvroModel> mockProducer;
+	private KafkaProducerImpl<String, PaymentRequestAvroModel> kafkaProducer;
+	private OrderKafkaMessageHelper orderKafkaMessageHelper;
+	private PaymentResponseKafkaListener paymentResponseKafkaListener;
+	private PaymentRequestAvroModel paymentRequestAvroModel;
+	private String orderId;
+	private List<PaymentResponseAvroModel> paymentResponses;
+	private List<String> keys;
+	private List<Integer> partitions;
+	private List<Long> offsets;
+	private int sent;
+
+	@Setup
+	public void setUp() {
+		logToNowhere(KafkaProducerImpl.class, OrderKafkaMessageHelper.class, PaymentResponseKafkaListener.class);
+
+		mockProducer = new MockProducer<>(true, new StringSerializer(), (topic, paymentRequest) -> new byte[0]) {
+			// the template closes the producers of factories it does not know after every send
+			@Override
+			public void close(Duration timeout) {
+			}
+		};
+		kafkaProducer = new KafkaProducerImpl<>(new KafkaTemplate<>(() -> mockProducer), new SimpleMeterRegistry());
+		orderKafkaMessageHelper = new OrderKafkaMessageHelper();
+		OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper(new SimpleMeterRegistry());
+		paymentResponseKafkaListener = new PaymentResponseKafkaListener(new NoOpPaymentResponseMessageListener(),
+			orderMessagingDataMapper);
+
+		Order order = OrderFixture.initiatedOrder(3);
+		orderId = order.getId().getValue().toString();
+		paymentRequestAvroModel = orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(
+			new OrderCreatedEvent(order, ZonedDateTime.parse("2023-01-01T10:00:00Z")));
+
+		paymentResponses = new ArrayList<>(BATCH_SIZE);
+		keys = new ArrayList<>(BATCH_SIZE);
+		partitions = new ArrayList<>(BATCH_SIZE);
+		offsets = new ArrayList<>(BATCH_SIZE);
+		for (int response = 0; response < BATCH_SIZE; response++) {
+			String responseOrderId = UUID.randomUUID().toString();
+			paymentResponses.add(PaymentResponseAvroModel.newBuilder()
+				.setId(UUID.randomUUID().toString())
+				.setSagaId(responseOrderId)
+				.setPaymentId(UUID.randomUUID().toString())
+				.setCustomerId(UUID.randomUUID().toString())
+				.setOrderId(responseOrderId)
+				.setPrice(new BigDecimal("50.00"))
+				.setCreatedAt(Instant.parse("2023-01-01T10:00:00Z"))
+				.setPaymentStatus(PaymentStatus.COMPLETED)
+				.setFailureMessages(List.of())
+				.build());
+			keys.add(responseOrderId);
+			partitions.add(response % 3);
+			offsets.add(1_000_000L + response);
+		}
+	}
+
+	@Benchmark
+	public void sendPaymentRequest() {
+		kafkaProducer.send(PAYMENT_REQUEST_TOPIC, orderId, paymentRequestAvroModel,
+			orderKafkaMessageHelper.getKafkaCallback(PAYMENT_REQUEST_TOPIC, paymentRequestAvroModel, orderId,
+				"PaymentRequestAvroModel"));
+		if (++sent % CLEAR_SENT_EVERY == 0) {
+			mockProducer.clear();
+		}
+	}
+
+	@Benchmark
+	public void receivePaymentResponses() {
+		paymentResponseKafkaListener.receive(paymentResponses, keys, partitions, offsets);
+	}
+
+	private static void logToNowhere(Class<?>... types) {
+		LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+		encoder.setContext(loggerContext);
+		encoder.setPattern("%d{HH:mm:ss.SSS} %-5level [%thread] %logger{36} - %msg%n");
+		encoder.start();
+		OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+		appender.setContext(loggerContext);
+		appender.setEncoder(encoder);
+		appender.setOutputStream(OutputStream.nullOutputStream());
+		appender.start();
+		for (Class<?> type : types) {
+			Logger logger = loggerContext.getLogger(type);
+			logger.setLevel(Level.INFO);
+			logger.setAdditive(false);
+			logger.addAppender(appender);
+		}
+	}
+
+	private static class NoOpPaymentResponseMessageListener implements PaymentResponseMessageListener {
+
+		@Override
+		public void paymentCompleted(PaymentResponse paymentResponse) {
+		}
+
+		@Override
+		public void paymentCancelled(PaymentResponse paymentResponse) {
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.food.ordering.system.order.service.benchmark.mapping;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.benchmark.domain.OrderFixture;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSummaryProjection;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummary;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderDataAccessMapperBenchmark {
+
+	private final OrderDataAccessMapper orderDataAccessMapper = new OrderDataAccessMapper();
+	private final OrderSummaryProjection orderSummaryProjection = new OrderSummaryProjection() {
+		private final UUID id = UUID.randomUUID();
+		private final UUID trackingId = UUID.randomUUID();
+		private final BigDecimal price = new BigDecimal("50.00");
+		private final ZonedDateTime createdAt = ZonedDateTime.parse("2023-01-01T10:00:00Z");
+
+		public UUID getId() {
+			return id;
+		}
+
+		public UUID getTrackingId() {
+			return trackingId;
+		}
+
+		public UUID getRestaurantId() {
+			return OrderFixture.RESTAURANT_ID.getValue();
+		}
+
+		public BigDecimal getPrice() {
+			return price;
+		}
+
+		public OrderStatus getOrderStatus() {
+			return OrderStatus.APPROVED;
+		}
+
+		public ZonedDateTime getCreatedAt() {
+			return createdAt;
+		}
+	};
+	private final OrderTrackingProjection orderTrackingProjection = new OrderTrackingProjection() {
+		private final UUID trackingId = UUID.randomUUID();
+
+		public UUID getTrackingId() {
+			return trackingId;
+		}
+
+		public OrderStatus getOrderStatus() {
+			return OrderStatus.CANCELLED;
+		}
+
+		public String getFailureMessages() {
+			return "Payment failed,Restaurant is closed";
+		}
+	};
+
+	// the entity mappings scale with the items of the order, the projections have none
+	@State(Scope.Benchmark)
+	public static class Orders {
+
+		@Param({"1", "10", "50"})
+		private int itemCount;
+
+		private Order order;
+		private OrderEntity orderEntity;
+
+		@Setup
+		public void setUp() {
+			order = OrderFixture.initiatedOrder(itemCount);
+			orderEntity = new OrderDataAccessMapper().orderToOrderEntity(order);
+		}
+	}
+
+	@Benchmark
+	public OrderEntity orderToOrderEntity(Orders orders) {
+		return orderDataAccessMapper.orderToOrderEntity(orders.order);
+	}
+
+	@Benchmark
+	public Order orderEntityToOrder(Orders orders) {
+		return orderDataAccessMapper.orderEntityToOrder(orders.orderEntity);
+	}
+
+	@Benchmark
+	public OrderExportRow orderEntityToOrderExportRow(Orders orders) {
+		return orderDataAccessMapper.orderEntityToOrderExportRow(orders.orderEntity);
+	}
+
+	@Benchmark
+	public OrderSummary orderSummaryProjectionToOrderSummary() {
+		return orderDataAccessMapper.orderSummaryProjectionToOrderSummary(orderSummaryProjection);
+	}
+
+	@Benchmark
+	public TrackOrderResponse orderTrackingProjectionToTrackOrderResponse() {
+		return orderDataAccessMapper.orderTrackingProjectionToTrackOrderResponse(orderTrackingProjection);
+	}
+}
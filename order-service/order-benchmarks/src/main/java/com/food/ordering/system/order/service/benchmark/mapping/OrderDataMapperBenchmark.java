@@ -0,0 +1,75 @@
+package com.food.ordering.system.order.service.benchmark.mapping;
+
+import com.food.ordering.system.order.service.benchmark.domain.OrderFixture;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.OderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderDataMapperBenchmark {
+
+	@Param({"1", "10", "50"})
+	private int itemCount;
+
+	private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+	private CreateOrderCommand createOrderCommand;
+	private Order order;
+
+	@Setup
+	public void setUp() {
+		order = OrderFixture.initiatedOrder(itemCount);
+		createOrderCommand = CreateOrderCommand.builder()
+			.customerId(order.getCustomerId().getValue())
+			.restaurantId(order.getRestaurantId().getValue())
+			.price(order.getPrice().getAmount())
+			.items(order.getItems().stream().map(orderItem -> OrderItem.builder()
+				.productId(orderItem.getProduct().getId().getValue())
+				.quantity(orderItem.getQuantity())
+				.price(orderItem.getPrice().getAmount())
+				.subTotal(orderItem.getSubTotal().getAmount())
+				.build()).toList())
+			.address(OderAddress.builder()
+				.street(order.getDeliveryAddress().getStreet())
+				.postalCode(order.getDeliveryAddress().getPostalCode())
+				.city(order.getDeliveryAddress().getCity())
+				.build())
+			.build();
+	}
+
+	@Benchmark
+	public Order createOrderCommandToOrder() {
+		return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+	}
+
+	@Benchmark
+	public Restaurant createOrderCommandToRestaurant() {
+		return orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
+	}
+
+	@Benchmark
+	public CreateOrderResponse orderToCreatedOrderResponse() {
+		return orderDataMapper.orderToCreatedOrderResponse(order, "Order created successfully");
+	}
+}
@@ -0,0 +1,129 @@
+package com.food.ordering.system.order.service.benchmark.mapping;
+
+import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.benchmark.domain.OrderFixture;
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Includes the mapping timers the mapper records on every call, here into a simple registry
+ * rather than the prometheus one of the service.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderMessagingDataMapperBenchmark {
+
+	private static final List<String> FAILURE_MESSAGES = List.of("Payment failed", "Restaurant is closed");
+
+	private final OrderMessagingDataMapper orderMessagingDataMapper = new OrderMessagingDataMapper(new SimpleMeterRegistry());
+	private OrderCreatedEvent orderCreatedEvent;
+	private OrderCancelledEvent orderCancelledEvent;
+	private PaymentResponseAvroModel paymentResponseAvroModel;
+	private RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel;
+
+	// only the approval request carries the items of the order
+	@State(Scope.Benchmark)
+	public static class PaidOrders {
+
+		@Param({"1", "10", "50"})
+		private int itemCount;
+
+		private OrderPaidEvent orderPaidEvent;
+
+		@Setup
+		public void setUp() {
+			orderPaidEvent = new OrderDomainServiceImpl().payOrder(OrderFixture.initiatedOrder(itemCount));
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+		Order order = OrderFixture.initiatedOrder(1);
+		orderCreatedEvent = new OrderCreatedEvent(order, ZonedDateTime.parse("2023-01-01T10:00:00Z"));
+		Order paidOrder = OrderFixture.initiatedOrder(1);
+		orderDomainService.payOrder(paidOrder);
+		orderCancelledEvent = orderDomainService.cancelOrderPayment(paidOrder, FAILURE_MESSAGES);
+
+		paymentResponseAvroModel = PaymentResponseAvroModel.newBuilder()
+			.setId(UUID.randomUUID().toString())
+			.setSagaId(order.getId().getValue().toString())
+			.setPaymentId(UUID.randomUUID().toString())
+			.setCustomerId(order.getCustomerId().getValue().toString())
+			.setOrderId(order.getId().getValue().toString())
+			.setPrice(new BigDecimal("50.00"))
+			.setCreatedAt(Instant.parse("2023-01-01T10:00:00Z"))
+			.setPaymentStatus(PaymentStatus.FAILED)
+			.setFailureMessages(FAILURE_MESSAGES)
+			.build();
+		restaurantApprovalResponseAvroModel = RestaurantApprovalResponseAvroModel.newBuilder()
+			.setId(UUID.randomUUID().toString())
+			.setSagaId(order.getId().getValue().toString())
+			.setRestaurantId(order.getRestaurantId().getValue().toString())
+			.setOrderId(order.getId().getValue().toString())
+			.setCreatedAt(Instant.parse("2023-01-01T10:00:00Z"))
+			.setOrderApprovalStatus(OrderApprovalStatus.APPROVED)
+			.setFailureMessages(List.of())
+			.build();
+	}
+
+	@Benchmark
+	public PaymentRequestAvroModel orderCreatedEventToPaymentRequest() {
+		return orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(orderCreatedEvent);
+	}
+
+	@Benchmark
+	public PaymentRequestAvroModel orderCancelledEventToPaymentRequest() {
+		return orderMessagingDataMapper.orderCreatedEventToPaymentRequestAvroModel(orderCancelledEvent);
+	}
+
+	@Benchmark
+	public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequest(PaidOrders paidOrders) {
+		return orderMessagingDataMapper.orderPaidEventToRestaurantApprovalRequestAvroModel(paidOrders.orderPaidEvent);
+	}
+
+	@Benchmark
+	public PaymentResponse paymentResponseAvroModelToPaymentResponse() {
+		return orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(paymentResponseAvroModel);
+	}
+
+	@Benchmark
+	public RestaurantApprovalResponse approvalResponseAvroModelToApprovalResponse() {
+		return orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(restaurantApprovalResponseAvroModel);
+	}
+}
@@ -0,0 +1,73 @@
+package com.food.ordering.system.order.service.benchmark.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Encodes and decodes records the way the avro serializer and deserializer of the producers and consumers do:
+ * a zero magic byte and the four byte schema id ahead of the binary encoded record, with a new stream per message,
+ * a direct binary encoder and the generated class read back through the schema it was written with.
+ */
+class AvroMessageCodec<T extends SpecificRecord> {
+
+	private static final byte MAGIC_BYTE = 0x0;
+	private static final int ID_SIZE = 4;
+
+	private final LocalSchemaRegistry schemaRegistry;
+	private final String subject;
+	private final Schema schema;
+	private final SpecificDatumWriter<T> datumWriter;
+	private final Map<Integer, DatumReader<T>> datumReaders = new ConcurrentHashMap<>();
+
+	AvroMessageCodec(LocalSchemaRegistry schemaRegistry, String topic, Schema schema) {
+		this.schemaRegistry = schemaRegistry;
+		this.subject = topic + "-value";
+		this.schema = schema;
+		this.datumWriter = new SpecificDatumWriter<>(schema);
+	}
+
+	byte[] encode(T record) {
+		int id = schemaRegistry.register(subject, schema);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(MAGIC_BYTE);
+		out.writeBytes(ByteBuffer.allocate(ID_SIZE).putInt(id).array());
+		BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+		try {
+			datumWriter.write(record, encoder);
+			encoder.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	T decode(byte[] payload) {
+		ByteBuffer buffer = ByteBuffer.wrap(payload);
+		if (buffer.get() != MAGIC_BYTE) {
+			throw new IllegalArgumentException("Unknown magic byte");
+		}
+		int id = buffer.getInt();
+		DatumReader<T> datumReader = datumReaders.computeIfAbsent(id,
+			writerId -> new SpecificDatumReader<>(schemaRegistry.getById(writerId), schema));
+		BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(payload, buffer.position(), buffer.remaining(), null);
+		try {
+			return datumReader.read(null, decoder);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
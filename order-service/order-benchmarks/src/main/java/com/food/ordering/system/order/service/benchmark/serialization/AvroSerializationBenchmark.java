@@ -0,0 +1,134 @@
+package com.food.ordering.system.order.service.benchmark.serialization;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The request messages the order service publishes, in the wire format of the avro serializer the producers
+ * are configured with, against a schema registry kept in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AvroSerializationBenchmark {
+
+	private static final String PAYMENT_REQUEST_TOPIC = "payment-request";
+	private static final String RESTAURANT_APPROVAL_REQUEST_TOPIC = "restaurant-approval-request";
+
+	@State(Scope.Benchmark)
+	public static class PaymentRequest {
+
+		private AvroMessageCodec<PaymentRequestAvroModel> codec;
+		private PaymentRequestAvroModel paymentRequestAvroModel;
+		private byte[] encoded;
+
+		@Setup
+		public void setUp() {
+			codec = new AvroMessageCodec<>(new LocalSchemaRegistry(), PAYMENT_REQUEST_TOPIC,
+				PaymentRequestAvroModel.getClassSchema());
+			paymentRequestAvroModel = PaymentRequestAvroModel.newBuilder()
+				.setId(UUID.randomUUID().toString())
+				.setSagaId(UUID.randomUUID().toString())
+				.setCustomerId(UUID.randomUUID().toString())
+				.setOrderId(UUID.randomUUID().toString())
+				.setPrice(new BigDecimal("50.00"))
+				.setCreatedAt(Instant.parse("2023-01-01T10:00:00Z"))
+				.setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+				.build();
+			encoded = codec.encode(paymentRequestAvroModel);
+			EncodedSizeProfiler.record(encoded);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class RestaurantApprovalRequest {
+
+		@Param({"1", "10", "50"})
+		private int itemCount;
+
+		private AvroMessageCodec<RestaurantApprovalRequestAvroModel> codec;
+		private RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel;
+		private byte[] encoded;
+
+		@Setup
+		public void setUp() {
+			codec = new AvroMessageCodec<>(new LocalSchemaRegistry(), RESTAURANT_APPROVAL_REQUEST_TOPIC,
+				RestaurantApprovalRequestAvroModel.getClassSchema());
+			List<Product> products = new ArrayList<>(itemCount);
+			for (int item = 0; item < itemCount; item++) {
+				products.add(Product.newBuilder()
+					.setId(UUID.randomUUID().toString())
+					.setQuantity(1 + item % 3)
+					.build());
+			}
+			restaurantApprovalRequestAvroModel = RestaurantApprovalRequestAvroModel.newBuilder()
+				.setId(UUID.randomUUID().toString())
+				.setSagaId(UUID.randomUUID().toString())
+				.setRestaurantId(UUID.randomUUID().toString())
+				.setOrderId(UUID.randomUUID().toString())
+				.setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+				.setProducts(products)
+				.setPrice(new BigDecimal("50.00"))
+				.setCreatedAt(Instant.parse("2023-01-01T10:00:00Z"))
+				.build();
+			encoded = codec.encode(restaurantApprovalRequestAvroModel);
+			EncodedSizeProfiler.record(encoded);
+		}
+	}
+
+	@Benchmark
+	public byte[] encodePaymentRequest(PaymentRequest paymentRequest) {
+		return paymentRequest.codec.encode(paymentRequest.paymentRequestAvroModel);
+	}
+
+	@Benchmark
+	public PaymentRequestAvroModel decodePaymentRequest(PaymentRequest paymentRequest) {
+		return paymentRequest.codec.decode(paymentRequest.encoded);
+	}
+
+	@Benchmark
+	public PaymentRequestAvroModel roundTripPaymentRequest(PaymentRequest paymentRequest) {
+		return paymentRequest.codec.decode(paymentRequest.codec.encode(paymentRequest.paymentRequestAvroModel));
+	}
+
+	@Benchmark
+	public byte[] encodeRestaurantApprovalRequest(RestaurantApprovalRequest restaurantApprovalRequest) {
+		return restaurantApprovalRequest.codec.encode(restaurantApprovalRequest.restaurantApprovalRequestAvroModel);
+	}
+
+	@Benchmark
+	public RestaurantApprovalRequestAvroModel decodeRestaurantApprovalRequest(
+		RestaurantApprovalRequest restaurantApprovalRequest) {
+		return restaurantApprovalRequest.codec.decode(restaurantApprovalRequest.encoded);
+	}
+
+	@Benchmark
+	public RestaurantApprovalRequestAvroModel roundTripRestaurantApprovalRequest(
+		RestaurantApprovalRequest restaurantApprovalRequest) {
+		return restaurantApprovalRequest.codec.decode(
+			restaurantApprovalRequest.codec.encode(restaurantApprovalRequest.restaurantApprovalRequestAvroModel));
+	}
+}
@@ -0,0 +1,44 @@
+package com.food.ordering.system.order.service.benchmark.serialization;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reports the size of the message a benchmark encodes or decodes next to its time and allocations,
+ * enabled with -prof com.food.ordering.system.order.service.benchmark.serialization.EncodedSizeProfiler.
+ * Each benchmark runs in a fork of its own, where its state records the size once when set up.
+ */
+public class EncodedSizeProfiler implements InternalProfiler {
+
+	private static volatile int encodedSize = -1;
+
+	static void record(byte[] encoded) {
+		encodedSize = encoded.length;
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+													   IterationResult result) {
+		if (encodedSize < 0) {
+			return List.of();
+		}
+		return List.of(new ScalarResult("encoded.size", encodedSize, "B", AggregationPolicy.AVG));
+	}
+
+	@Override
+	public String getDescription() {
+		return "Size of the encoded message, schema registry header included";
+	}
+}
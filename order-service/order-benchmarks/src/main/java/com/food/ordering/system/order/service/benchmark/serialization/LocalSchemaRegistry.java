@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.benchmark.serialization;
+
+import org.apache.avro.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stands in for the schema registry, handing out ids per subject and schema the way the registry client
+ * caches them after its first call, so no benchmark pays for a lookup.
+ */
+class LocalSchemaRegistry {
+
+	private final AtomicInteger nextId = new AtomicInteger(1);
+	private final Map<String, Map<Schema, Integer>> idsBySubject = new ConcurrentHashMap<>();
+	private final Map<Integer, Schema> schemasById = new ConcurrentHashMap<>();
+
+	int register(String subject, Schema schema) {
+		return idsBySubject.computeIfAbsent(subject, key -> new ConcurrentHashMap<>()).computeIfAbsent(schema, key -> {
+			int id = nextId.getAndIncrement();
+			schemasById.put(id, schema);
+			return id;
+		});
+	}
+
+	Schema getById(int id) {
+		Schema schema = schemasById.get(id);
+		if (schema == null) {
+			throw new IllegalArgumentException("Schema " + id + " is not registered");
+		}
+		return schema;
+	}
+}
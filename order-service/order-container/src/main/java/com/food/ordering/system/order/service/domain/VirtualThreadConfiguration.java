@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain;
+
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Runs every request on its own virtual thread instead of the fixed Tomcat worker pool, so a
+ * request blocked on the database or a Kafka send no longer holds a platform thread. The Kafka
+ * consumers follow through {@code kafka-consumer-config.virtual-thread-consumers} in
+ * application-virtual-threads.yml.
+ */
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfiguration {
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer() {
+		return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("order-http-"));
+	}
+}
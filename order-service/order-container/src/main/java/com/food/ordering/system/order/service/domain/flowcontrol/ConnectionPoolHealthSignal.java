@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.domain.flowcontrol;
+
+import com.food.ordering.system.kafka.consumer.flowcontrol.DownstreamHealthSignal;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Saturation of the Hikari pool as the number of threads waiting for a connection relative to
+ * the pool size, so it reaches 1 once every connection has another caller queued behind it.
+ * With sharding on, it is the saturation of the most saturated shard pool.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolHealthSignal implements DownstreamHealthSignal {
+
+	private final List<HikariDataSource> hikariDataSources;
+
+	public ConnectionPoolHealthSignal(DataSource dataSource,
+									  ObjectProvider<OrderShardRoutingDataSource> orderShardRoutingDataSource) {
+		// the primary data source of the shards is a proxy in front of their routing data source
+		Collection<DataSource> pools = orderShardRoutingDataSource.stream()
+			.flatMap(routingDataSource -> routingDataSource.getShardDataSources().values().stream())
+			.toList();
+		this.hikariDataSources = (pools.isEmpty() ? List.of(dataSource) : pools).stream()
+			.filter(HikariDataSource.class::isInstance)
+			.map(HikariDataSource.class::cast)
+			.toList();
+		if (hikariDataSources.isEmpty()) {
+			log.warn("Data source is not a Hikari pool, connection pool saturation will not be reported");
+		}
+	}
+
+	@Override
+	public String name() {
+		return "connection-pool";
+	}
+
+	@Override
+	public double saturation() {
+		double saturation = 0;
+		for (HikariDataSource hikariDataSource : hikariDataSources) {
+			HikariPoolMXBean hikariPool = hikariDataSource.getHikariPoolMXBean();
+			if (hikariPool != null) {
+				saturation = Math.max(saturation,
+					(double) hikariPool.getThreadsAwaitingConnection() / hikariDataSource.getMaximumPoolSize());
+			}
+		}
+		return saturation;
+	}
+}
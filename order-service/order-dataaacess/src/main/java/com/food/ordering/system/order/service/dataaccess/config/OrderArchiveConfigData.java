@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.dataaccess.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-archive")
+public class OrderArchiveConfigData {
+	private Boolean enabled;
+	private String directory;
+	private Integer retentionDays;
+	private Integer ordersPerFile;
+	private Integer maxFilesPerRun;
+	private Integer fetchSize;
+	private String codec;
+	private Long runIntervalMs;
+	private Boolean managePartitions;
+	private Integer partitionsAhead;
+}
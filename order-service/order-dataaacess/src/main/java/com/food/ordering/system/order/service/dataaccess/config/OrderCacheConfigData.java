@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.dataaccess.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-cache")
+public class OrderCacheConfigData {
+	private Integer maxSize;
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.dataaccess.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-import")
+public class OrderImportConfigData {
+	private String file;
+	private Integer chunkSize;
+	private Long resumeAfterLine;
+	private Boolean manageIndexes;
+	private String maintenanceWorkMem;
+}
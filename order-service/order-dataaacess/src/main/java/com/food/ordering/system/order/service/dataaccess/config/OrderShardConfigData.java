@@ -0,0 +1,12 @@
+package com.food.ordering.system.order.service.dataaccess.config;
+
+import lombok.Data;
+
+@Data
+public class OrderShardConfigData {
+	private String name;
+	private String url;
+	private String username;
+	private String password;
+	private Integer maximumPoolSize;
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.dataaccess.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-sharding")
+public class OrderShardingConfigData {
+	private Boolean enabled;
+	private Integer virtualNodesPerShard;
+	private Integer rebalanceBatchSize;
+	private List<OrderShardConfigData> shards;
+}
@@ -0,0 +1,13 @@
+package com.food.ordering.system.order.service.dataaccess.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-status-store")
+public class OrderStatusStoreConfigData {
+	private String directory;
+	private Integer cacheSizeMb;
+}
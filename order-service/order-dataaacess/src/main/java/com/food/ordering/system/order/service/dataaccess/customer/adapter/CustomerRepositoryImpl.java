@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.dataaccess.customer.adapter;
 
 import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
 import org.springframework.stereotype.Component;
@@ -14,14 +15,19 @@ public class CustomerRepositoryImpl implements CustomerRepository {
 
 	private final CustomerJpaRepository customerJpaRepository;
 	private final CustomerDataAccessMapper customerDataAccessMapper;
+	private final OrderShardRouter orderShardRouter;
 
-	public CustomerRepositoryImpl(CustomerJpaRepository customerJpaRepository, CustomerDataAccessMapper customerDataAccessMapper) {
+	public CustomerRepositoryImpl(CustomerJpaRepository customerJpaRepository, CustomerDataAccessMapper customerDataAccessMapper,
+								  OrderShardRouter orderShardRouter) {
 		this.customerJpaRepository = customerJpaRepository;
 		this.customerDataAccessMapper = customerDataAccessMapper;
+		this.orderShardRouter = orderShardRouter;
 	}
 
 	@Override
 	public Optional<Customer> findCustomer(UUID customerId) {
-		return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToEntity);
+		// looked up on the shard of the customer, which the order transaction then keeps using
+		return orderShardRouter.onShardOfCustomer(customerId, () ->
+			customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToEntity));
 	}
 }
@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.dataaccess.idempotency.mapper.OrderIdempotencyDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.idempotency.repository.OrderIdempotencyKeyJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.IdempotentCreateOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+@Component
+public class OrderIdempotencyRepositoryImpl implements OrderIdempotencyRepository {
+
+	private final OrderIdempotencyKeyJpaRepository orderIdempotencyKeyJpaRepository;
+	private final OrderIdempotencyDataAccessMapper orderIdempotencyDataAccessMapper;
+	private final OrderShardRouter orderShardRouter;
+
+	public OrderIdempotencyRepositoryImpl(OrderIdempotencyKeyJpaRepository orderIdempotencyKeyJpaRepository,
+										  OrderIdempotencyDataAccessMapper orderIdempotencyDataAccessMapper,
+										  OrderShardRouter orderShardRouter) {
+		this.orderIdempotencyKeyJpaRepository = orderIdempotencyKeyJpaRepository;
+		this.orderIdempotencyDataAccessMapper = orderIdempotencyDataAccessMapper;
+		this.orderShardRouter = orderShardRouter;
+	}
+
+	@Override
+	public Optional<IdempotentCreateOrderResponse> findCreateOrderResponse(CustomerId customerId, String idempotencyKey) {
+		return orderShardRouter.onShardOfCustomer(customerId.getValue(), () ->
+			orderIdempotencyKeyJpaRepository.findById(idempotencyKey)
+				.map(orderIdempotencyDataAccessMapper::orderIdempotencyKeyEntityToIdempotentCreateOrderResponse));
+	}
+
+	// the order transaction claiming the key already works on the shard of the customer
+	@Override
+	public void save(String idempotencyKey, String requestHash, CreateOrderResponse createOrderResponse) {
+		orderIdempotencyKeyJpaRepository.saveAndFlush(orderIdempotencyDataAccessMapper
+			.createOrderResponseToOrderIdempotencyKeyEntity(idempotencyKey, requestHash, createOrderResponse));
+	}
+
+	@Override
+	public int deleteCreatedBefore(ZonedDateTime createdBefore) {
+		return orderShardRouter.onEachShard(false, () -> orderIdempotencyKeyJpaRepository.deleteByCreatedAtBefore(createdBefore))
+			.stream()
+			.mapToInt(Integer::intValue)
+			.sum();
+	}
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.entity;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_idempotency_keys")
+@Entity
+public class OrderIdempotencyKeyEntity implements Persistable<String> {
+
+	@Id
+	private String idempotencyKey;
+	private UUID orderTrackingId;
+	private String requestHash;
+
+	@Enumerated(EnumType.STRING)
+	private OrderStatus orderStatus;
+	private String message;
+	private ZonedDateTime createdAt;
+
+	// keys are only ever inserted, so saving must persist and fail on a taken key instead of merging
+	@Transient
+	@Builder.Default
+	private boolean newEntity = true;
+
+	@Override
+	public String getId() {
+		return idempotencyKey;
+	}
+
+	@Override
+	public boolean isNew() {
+		return newEntity;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		newEntity = false;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		OrderIdempotencyKeyEntity that = (OrderIdempotencyKeyEntity) o;
+		return Objects.equals(idempotencyKey, that.idempotencyKey);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(idempotencyKey);
+	}
+}
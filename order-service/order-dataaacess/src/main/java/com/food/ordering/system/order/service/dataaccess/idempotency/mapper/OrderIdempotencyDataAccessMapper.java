@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.dataaccess.idempotency.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.idempotency.entity.OrderIdempotencyKeyEntity;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.IdempotentCreateOrderResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Component
+public class OrderIdempotencyDataAccessMapper {
+
+	public OrderIdempotencyKeyEntity createOrderResponseToOrderIdempotencyKeyEntity(String idempotencyKey,
+																				  String requestHash,
+																				  CreateOrderResponse createOrderResponse) {
+		return OrderIdempotencyKeyEntity.builder()
+			.idempotencyKey(idempotencyKey)
+			.requestHash(requestHash)
+			.orderTrackingId(createOrderResponse.getOrderTrackingId())
+			.orderStatus(createOrderResponse.getOrderStatus())
+			.message(createOrderResponse.getMessage())
+			.createdAt(ZonedDateTime.now(ZoneId.of(UTC)))
+			.build();
+	}
+
+	public IdempotentCreateOrderResponse orderIdempotencyKeyEntityToIdempotentCreateOrderResponse(
+		OrderIdempotencyKeyEntity entity) {
+		return IdempotentCreateOrderResponse.builder()
+			.requestHash(entity.getRequestHash())
+			.createOrderResponse(CreateOrderResponse.builder()
+				.orderTrackingId(entity.getOrderTrackingId())
+				.orderStatus(entity.getOrderStatus())
+				.message(entity.getMessage())
+				.build())
+			.build();
+	}
+}
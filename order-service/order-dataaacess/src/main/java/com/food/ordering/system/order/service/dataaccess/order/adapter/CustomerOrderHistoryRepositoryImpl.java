@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSummaryProjection;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.history.OrderHistoryPosition;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummary;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummaryPage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerOrderHistoryRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class CustomerOrderHistoryRepositoryImpl implements CustomerOrderHistoryRepository {
+
+	private final OrderJpaRepository orderJpaRepository;
+	private final OrderDataAccessMapper orderDataAccessMapper;
+	private final OrderShardRouter orderShardRouter;
+
+	public CustomerOrderHistoryRepositoryImpl(OrderJpaRepository orderJpaRepository,
+											  OrderDataAccessMapper orderDataAccessMapper,
+											  OrderShardRouter orderShardRouter) {
+		this.orderJpaRepository = orderJpaRepository;
+		this.orderDataAccessMapper = orderDataAccessMapper;
+		this.orderShardRouter = orderShardRouter;
+	}
+
+	@Override
+	public OrderSummaryPage findOrderSummaries(CustomerId customerId, OrderHistoryPosition after, int pageSize) {
+		// one order more than asked for tells whether another page follows without counting the rest
+		PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+		List<OrderSummaryProjection> orderSummaryProjections = orderShardRouter.onShardOfCustomer(customerId.getValue(),
+			() -> after == null ?
+				orderJpaRepository.findOrderSummariesByCustomerId(customerId.getValue(), pageRequest) :
+				orderJpaRepository.findOrderSummariesByCustomerIdAfter(customerId.getValue(), after.getCreatedAt(),
+					after.getOrderId(), pageRequest));
+
+		boolean hasNextPage = orderSummaryProjections.size() > pageSize;
+		List<OrderSummaryProjection> page = hasNextPage ?
+			orderSummaryProjections.subList(0, pageSize) : orderSummaryProjections;
+		List<OrderSummary> orderSummaries = page.stream()
+			.map(orderDataAccessMapper::orderSummaryProjectionToOrderSummary)
+			.toList();
+		OrderSummaryProjection last = page.isEmpty() ? null : page.get(page.size() - 1);
+		return OrderSummaryPage.builder()
+			.orderSummaries(orderSummaries)
+			.nextPosition(hasNextPage ? OrderHistoryPosition.builder()
+				.createdAt(last.getCreatedAt())
+				.orderId(last.getId())
+				.build() : null)
+			.build();
+	}
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderExportRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+public class OrderExportRepositoryImpl implements OrderExportRepository {
+
+	private final OrderJpaRepository orderJpaRepository;
+	private final OrderDataAccessMapper orderDataAccessMapper;
+	private final EntityManager entityManager;
+	private final OrderShardRouter orderShardRouter;
+
+	public OrderExportRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper,
+									 EntityManager entityManager, OrderShardRouter orderShardRouter) {
+		this.orderJpaRepository = orderJpaRepository;
+		this.orderDataAccessMapper = orderDataAccessMapper;
+		this.entityManager = entityManager;
+		this.orderShardRouter = orderShardRouter;
+	}
+
+	// with sharding the orders follow one shard after the other
+	@Override
+	public long exportOrders(OrderExportQuery orderExportQuery, Consumer<OrderExportRow> orderExportRowConsumer) {
+		return orderShardRouter.onEachShard(true, () -> exportShardOrders(orderExportQuery, orderExportRowConsumer))
+			.stream()
+			.mapToLong(Long::longValue)
+			.sum();
+	}
+
+	private long exportShardOrders(OrderExportQuery orderExportQuery, Consumer<OrderExportRow> orderExportRowConsumer) {
+		long exported = 0;
+		try (Stream<OrderEntity> orderEntities = orderJpaRepository.streamByCreatedAtBetween(
+			orderExportQuery.getCreatedFrom(), orderExportQuery.getCreatedTo())) {
+			Iterator<OrderEntity> iterator = orderEntities.iterator();
+			while (iterator.hasNext()) {
+				OrderEntity orderEntity = iterator.next();
+				OrderExportRow orderExportRow = orderDataAccessMapper.orderEntityToOrderExportRow(orderEntity);
+				// detaching cascades to the address, so the persistence context stays empty however many rows pass
+				entityManager.detach(orderEntity);
+				orderExportRowConsumer.accept(orderExportRow);
+				exported++;
+			}
+		}
+		return exported;
+	}
+}
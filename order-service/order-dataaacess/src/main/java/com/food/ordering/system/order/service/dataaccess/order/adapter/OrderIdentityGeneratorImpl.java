@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardSlots;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdentityGenerator;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+// the slot is part of the ids with sharding disabled too, so orders stored until it is enabled can be found by them
+@Component
+public class OrderIdentityGeneratorImpl implements OrderIdentityGenerator {
+
+	@Override
+	public OrderId nextOrderId(CustomerId customerId) {
+		return new OrderId(OrderShardSlots.newIdOnSlot(OrderShardSlots.slotOfCustomer(customerId.getValue())));
+	}
+
+	@Override
+	public TrackingId nextTrackingId(CustomerId customerId) {
+		return new TrackingId(OrderShardSlots.newIdOnSlot(OrderShardSlots.slotOfCustomer(customerId.getValue())));
+	}
+}
@@ -1,34 +1,129 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.dataaccess.order.cache.OrderCache;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.jfr.OrderRepositoryEvent;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
+/**
+ * Reads and writes the orders through the {@link OrderCache}, so that a saga step on an order in flight reads
+ * nothing and writes a single row.
+ */
+@Slf4j
 @Component
 public class OrderRepositoryImpl implements OrderRepository {
 
+	private static final long FIRST_VERSION = 0;
+	private static final String INSERT = "insert";
+	private static final String UPDATE = "update";
+	private static final String FIND_BY_ID = "findById";
+	private static final String FIND_BY_TRACKING_ID = "findByTrackingId";
+
 	private final OrderJpaRepository orderJpaRepository;
 	private final OrderDataAccessMapper orderDataAccessMapper;
+	private final OrderShardRouter orderShardRouter;
+	private final OrderCache orderCache;
 
-	public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper) {
+	public OrderRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper,
+							   OrderShardRouter orderShardRouter, OrderCache orderCache) {
 		this.orderJpaRepository = orderJpaRepository;
 		this.orderDataAccessMapper = orderDataAccessMapper;
+		this.orderShardRouter = orderShardRouter;
+		this.orderCache = orderCache;
 	}
 
+	/**
+	 * An order read in the same transaction is updated on the version it was read at, any other one is
+	 * inserted, as orders are only ever saved without being read when they are created.
+	 */
 	@Override
 	public Order save(Order order) {
-		return orderDataAccessMapper.orderEntityToOrder(
-			orderJpaRepository.save(orderDataAccessMapper.orderToOrderEntity(order)));
+		OrderRepositoryEvent repositoryEvent = OrderRepositoryEvent.start();
+		OrderEntity orderEntity = orderDataAccessMapper.orderToOrderEntity(order);
+		Long readVersion = orderCache.readVersion(orderEntity.getId());
+		try {
+			return save(order, orderEntity, readVersion);
+		} finally {
+			repositoryEvent.finish(readVersion == null ? INSERT : UPDATE, null, order, false);
+		}
+	}
+
+	private Order save(Order order, OrderEntity orderEntity, Long readVersion) {
+		return orderShardRouter.onShardOfCustomer(order.getCustomerId().getValue(), () -> {
+			if (readVersion == null) {
+				orderJpaRepository.save(orderEntity);
+				order.setVersion(FIRST_VERSION);
+				orderCache.saved(orderDataAccessMapper.orderToOrderEntity(order, FIRST_VERSION));
+				return order;
+			}
+			// the column keeps the created at of a new order rounded to microseconds
+			ZonedDateTime createdFrom = orderEntity.getCreatedAt().truncatedTo(ChronoUnit.MICROS);
+			int updated = orderJpaRepository.updateStatusByIdAndVersion(orderEntity.getId(), createdFrom,
+				createdFrom.plus(1, ChronoUnit.MICROS), readVersion, orderEntity.getOrderStatus(),
+				orderEntity.getFailureMessages());
+			if (updated == 0) {
+				orderCache.evict(orderEntity.getId());
+				log.warn("Order with id: {} changed since it was read at version: {}", orderEntity.getId(), readVersion);
+				throw new OptimisticLockingFailureException("Order with id: " + orderEntity.getId() +
+					" changed since it was read at version: " + readVersion);
+			}
+			order.setVersion(readVersion + 1);
+			orderCache.saved(orderDataAccessMapper.orderToOrderEntity(order, readVersion + 1));
+			return order;
+		});
+	}
+
+	@Override
+	public Optional<Order> findById(OrderId orderId) {
+		OrderRepositoryEvent repositoryEvent = OrderRepositoryEvent.start();
+		Optional<OrderEntity> cached = orderCache.get(orderId.getValue());
+		if (cached.isPresent()) {
+			Optional<Order> order = cached.map(orderDataAccessMapper::orderEntityToOrder);
+			repositoryEvent.finish(FIND_BY_ID, orderId.getValue(), order.get(), true);
+			return order;
+		}
+		// the cache keeps a copy, the entity read stays with the persistence context
+		Optional<OrderEntity> read = orderShardRouter.findOnShardOfOrder(orderId.getValue(), () ->
+			orderJpaRepository.findById(orderId.getValue()).map(orderEntity -> orderDataAccessMapper.orderToOrderEntity(
+				orderDataAccessMapper.orderEntityToOrder(orderEntity), orderEntity.getVersion())));
+		// recorded in the transaction of the caller, ids from before sharding are looked up in transactions of their own
+		read.ifPresent(orderCache::read);
+		Optional<Order> order = read.map(orderDataAccessMapper::orderEntityToOrder);
+		repositoryEvent.finish(FIND_BY_ID, orderId.getValue(), order.orElse(null), false);
+		return order;
+	}
+
+	@Override
+	public boolean evictCached(OrderId orderId) {
+		return orderCache.evict(orderId.getValue());
 	}
 
 	@Override
 	public Optional<Order> findByTrackingId(TrackingId trackingId) {
-		return orderJpaRepository.findByTrackingId(trackingId.getValue())
-			.map(orderDataAccessMapper::orderEntityToOrder);
+		OrderRepositoryEvent repositoryEvent = OrderRepositoryEvent.start();
+		Optional<Order> order = orderShardRouter.findOnShardOfOrder(trackingId.getValue(), () ->
+			orderJpaRepository.findByTrackingId(trackingId.getValue()).map(orderDataAccessMapper::orderEntityToOrder));
+		repositoryEvent.finish(FIND_BY_TRACKING_ID, null, order.orElse(null), false);
+		return order;
+	}
+
+	// a transaction works on a single shard, without sharding every order can go with any other
+	@Override
+	public String writeGroupOf(CustomerId customerId) {
+		return orderShardRouter.isEnabled() ? orderShardRouter.shardOfCustomer(customerId.getValue()) : "";
 	}
 }
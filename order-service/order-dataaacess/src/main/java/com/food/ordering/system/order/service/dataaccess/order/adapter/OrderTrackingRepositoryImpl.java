@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class OrderTrackingRepositoryImpl implements OrderTrackingRepository {
+
+	private final OrderJpaRepository orderJpaRepository;
+	private final OrderDataAccessMapper orderDataAccessMapper;
+	private final OrderShardRouter orderShardRouter;
+
+	public OrderTrackingRepositoryImpl(OrderJpaRepository orderJpaRepository, OrderDataAccessMapper orderDataAccessMapper,
+									   OrderShardRouter orderShardRouter) {
+		this.orderJpaRepository = orderJpaRepository;
+		this.orderDataAccessMapper = orderDataAccessMapper;
+		this.orderShardRouter = orderShardRouter;
+	}
+
+	@Override
+	public Optional<TrackOrderResponse> findTrackOrderResponse(TrackingId trackingId) {
+		return orderShardRouter.findOnShardOfOrder(trackingId.getValue(), () ->
+			orderJpaRepository.findTrackingByTrackingId(trackingId.getValue())
+				.map(orderDataAccessMapper::orderTrackingProjectionToTrackOrderResponse));
+	}
+}
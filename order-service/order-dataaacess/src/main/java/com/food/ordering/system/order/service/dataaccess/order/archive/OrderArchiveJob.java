@@ -0,0 +1,155 @@
+package com.food.ordering.system.order.service.dataaccess.order.archive;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.config.OrderArchiveConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+/**
+ * Moves completed orders older than the retention out of the database into compressed Avro files,
+ * so the partitions queried by the sagas and the tracking endpoint only hold recent orders. Each
+ * file takes the oldest orders first and is read in chunks of the fetch size, and its orders are
+ * deleted only once the file is complete on disk. A crash in between archives them again on the
+ * next run, and so does a second instance running the job at the same time, so readers of the
+ * archive should expect the same order in more than one file. With sharding every shard is archived
+ * in turn, into files named after it.
+ */
+@Slf4j
+@Component
+public class OrderArchiveJob {
+
+	private static final List<OrderStatus> COMPLETED_ORDER_STATUSES = List.of(OrderStatus.APPROVED, OrderStatus.CANCELLED);
+	private static final DateTimeFormatter FILE_TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+	private final OrderArchiveConfigData orderArchiveConfigData;
+	private final OrderJpaRepository orderJpaRepository;
+	private final OrderDataAccessMapper orderDataAccessMapper;
+	private final OrderShardRouter orderShardRouter;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	public OrderArchiveJob(OrderArchiveConfigData orderArchiveConfigData,
+						   OrderJpaRepository orderJpaRepository,
+						   OrderDataAccessMapper orderDataAccessMapper,
+						   OrderShardRouter orderShardRouter,
+						   PlatformTransactionManager transactionManager) {
+		this.orderArchiveConfigData = orderArchiveConfigData;
+		this.orderJpaRepository = orderJpaRepository;
+		this.orderDataAccessMapper = orderDataAccessMapper;
+		this.orderShardRouter = orderShardRouter;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	@Scheduled(fixedDelayString = "${order-archive.run-interval-ms}", initialDelayString = "${order-archive.run-interval-ms}")
+	public void archiveCompletedOrders() {
+		if (!Boolean.TRUE.equals(orderArchiveConfigData.getEnabled())) {
+			return;
+		}
+		ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+		ZonedDateTime createdBefore = now.minusDays(orderArchiveConfigData.getRetentionDays());
+		orderShardRouter.forEachShard(() -> archiveCompletedOrders(now, createdBefore));
+	}
+
+	private void archiveCompletedOrders(ZonedDateTime now, ZonedDateTime createdBefore) {
+		try {
+			int archived = 0;
+			for (int file = 0; file < orderArchiveConfigData.getMaxFilesPerRun(); file++) {
+				List<UUID> orderIds = readOnlyTransactionTemplate.execute(status ->
+					orderJpaRepository.findIdsByCreatedAtBeforeAndOrderStatusIn(createdBefore, COMPLETED_ORDER_STATUSES,
+						PageRequest.ofSize(orderArchiveConfigData.getOrdersPerFile())));
+				if (orderIds.isEmpty()) {
+					break;
+				}
+				Path archiveFile = writeArchiveFile(orderIds, createdBefore, now, file);
+				deleteArchivedOrders(orderIds, createdBefore);
+				archived += orderIds.size();
+				log.info("Archived {} orders created before {} to {}", orderIds.size(), createdBefore, archiveFile);
+				if (orderIds.size() < orderArchiveConfigData.getOrdersPerFile()) {
+					break;
+				}
+			}
+			if (archived > 0) {
+				log.info("Archived {} completed orders created before {}", archived, createdBefore);
+			}
+			if (Boolean.TRUE.equals(orderArchiveConfigData.getManagePartitions())) {
+				maintainPartitions(now, createdBefore);
+			}
+		} catch (IOException e) {
+			log.error("Could not archive orders created before {}", createdBefore, e);
+		}
+	}
+
+	private Path writeArchiveFile(List<UUID> orderIds, ZonedDateTime createdBefore, ZonedDateTime now, int file)
+		throws IOException {
+		Path directory = Paths.get(orderArchiveConfigData.getDirectory());
+		Files.createDirectories(directory);
+		String fileName = String.format("orders-%s%s-%03d.avro", orderShardRouter.currentShard().map(shard -> shard + "-")
+			.orElse(""), FILE_TIMESTAMP_FORMATTER.format(now), file);
+		Path archiveFile = directory.resolve(fileName);
+		Path partFile = directory.resolve(fileName + ".part");
+		try (OrderArchiveWriter orderArchiveWriter = new OrderArchiveWriter(partFile, orderArchiveConfigData.getCodec())) {
+			int fetchSize = orderArchiveConfigData.getFetchSize();
+			for (int from = 0; from < orderIds.size(); from += fetchSize) {
+				List<UUID> chunk = orderIds.subList(from, Math.min(from + fetchSize, orderIds.size()));
+				List<Order> orders = readOnlyTransactionTemplate.execute(status ->
+					orderJpaRepository.findAllByIdInAndCreatedAtBefore(chunk, createdBefore).stream()
+						.map(orderDataAccessMapper::orderEntityToOrder)
+						.toList());
+				for (Order order : orders) {
+					orderArchiveWriter.append(order);
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(partFile);
+			throw e;
+		}
+		return Files.move(partFile, archiveFile, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void deleteArchivedOrders(List<UUID> orderIds, ZonedDateTime createdBefore) {
+		int fetchSize = orderArchiveConfigData.getFetchSize();
+		for (int from = 0; from < orderIds.size(); from += fetchSize) {
+			List<UUID> chunk = orderIds.subList(from, Math.min(from + fetchSize, orderIds.size()));
+			transactionTemplate.executeWithoutResult(status -> {
+				orderJpaRepository.deleteItemsByOrderIdInAndCreatedAtBefore(chunk, createdBefore);
+				orderJpaRepository.deleteAddressesByOrderIdInAndCreatedAtBefore(chunk, createdBefore);
+				orderJpaRepository.deleteByIdInAndCreatedAtBefore(chunk, createdBefore);
+			});
+		}
+	}
+
+	private void maintainPartitions(ZonedDateTime now, ZonedDateTime createdBefore) {
+		Integer created = transactionTemplate.execute(status -> orderJpaRepository.createOrderPartitions(
+			now.toLocalDate().withDayOfMonth(1), orderArchiveConfigData.getPartitionsAhead() + 1));
+		// only whole months before the retention can be empty, the one it falls into still has newer orders
+		ZonedDateTime retentionMonth = createdBefore.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
+		Integer dropped = transactionTemplate.execute(status -> orderJpaRepository.dropEmptyOrderPartitions(retentionMonth));
+		if (created > 0 || dropped > 0) {
+			log.info("Created {} and dropped {} order partitions", created, dropped);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.food.ordering.system.order.service.dataaccess.order.archive;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.apache.avro.Conversions;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.file.CodecFactory;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends orders to a compressed Avro container file. Records are buffered into blocks and each
+ * block is compressed as a whole, so the file is written sequentially and never held in memory.
+ */
+class OrderArchiveWriter implements Closeable {
+
+	static final Schema ARCHIVED_ORDER_SCHEMA = loadSchema();
+	private static final GenericData ARCHIVE_DATA = archiveData();
+
+	private final Schema addressSchema = ARCHIVED_ORDER_SCHEMA.getField("deliveryAddress").schema();
+	private final Schema itemsSchema = ARCHIVED_ORDER_SCHEMA.getField("items").schema();
+	private final Schema orderStatusSchema = ARCHIVED_ORDER_SCHEMA.getField("orderStatus").schema();
+	private final DataFileWriter<GenericRecord> dataFileWriter;
+
+	OrderArchiveWriter(Path file, String codec) throws IOException {
+		dataFileWriter = new DataFileWriter<GenericRecord>(new GenericDatumWriter<>(ARCHIVED_ORDER_SCHEMA, ARCHIVE_DATA))
+			.setCodec(CodecFactory.fromString(codec))
+			.create(ARCHIVED_ORDER_SCHEMA, file.toFile());
+	}
+
+	void append(Order order) throws IOException {
+		GenericRecord archivedOrder = new GenericData.Record(ARCHIVED_ORDER_SCHEMA);
+		archivedOrder.put("id", order.getId().getValue());
+		archivedOrder.put("customerId", order.getCustomerId().getValue());
+		archivedOrder.put("restaurantId", order.getRestaurantId().getValue());
+		archivedOrder.put("trackingId", order.getTrackingId().getValue());
+		archivedOrder.put("price", decimal(order.getPrice().getAmount()));
+		archivedOrder.put("orderStatus", new GenericData.EnumSymbol(orderStatusSchema, order.getOrderStatus().name()));
+		archivedOrder.put("failureMessages", order.getFailureMessages());
+		archivedOrder.put("deliveryAddress", addressRecord(order.getDeliveryAddress()));
+		archivedOrder.put("items", itemRecords(order.getItems()));
+		archivedOrder.put("createdAt", order.getCreatedAt().toInstant());
+		dataFileWriter.append(archivedOrder);
+	}
+
+	@Override
+	public void close() throws IOException {
+		dataFileWriter.close();
+	}
+
+	private GenericRecord addressRecord(StreetAddress deliveryAddress) {
+		GenericRecord address = new GenericData.Record(addressSchema);
+		address.put("id", deliveryAddress.getId());
+		address.put("street", deliveryAddress.getStreet());
+		address.put("postalCode", deliveryAddress.getPostalCode());
+		address.put("city", deliveryAddress.getCity());
+		return address;
+	}
+
+	private List<GenericRecord> itemRecords(List<OrderItem> items) {
+		List<GenericRecord> itemRecords = new ArrayList<>(items.size());
+		for (OrderItem orderItem : items) {
+			GenericRecord item = new GenericData.Record(itemsSchema.getElementType());
+			item.put("id", orderItem.getId().getValue());
+			item.put("productId", orderItem.getProduct().getId().getValue());
+			item.put("quantity", orderItem.getQuantity());
+			item.put("price", decimal(orderItem.getPrice().getAmount()));
+			item.put("subTotal", decimal(orderItem.getSubTotal().getAmount()));
+			itemRecords.add(item);
+		}
+		return itemRecords;
+	}
+
+	private BigDecimal decimal(BigDecimal amount) {
+		return amount.setScale(2, RoundingMode.HALF_EVEN);
+	}
+
+	private static Schema loadSchema() {
+		try (InputStream schema = OrderArchiveWriter.class.getResourceAsStream("/avro/order_archive.avsc")) {
+			return new Schema.Parser().parse(schema);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static GenericData archiveData() {
+		GenericData genericData = new GenericData();
+		genericData.addLogicalTypeConversion(new Conversions.UUIDConversion());
+		genericData.addLogicalTypeConversion(new Conversions.DecimalConversion());
+		genericData.addLogicalTypeConversion(new TimeConversions.TimestampMillisConversion());
+		return genericData;
+	}
+}
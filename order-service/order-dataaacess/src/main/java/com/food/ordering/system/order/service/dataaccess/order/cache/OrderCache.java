@@ -0,0 +1,139 @@
+package com.food.ordering.system.order.service.dataaccess.order.cache;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.config.OrderCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of the orders still in flight, holding the committed state of each order with its version.
+ * The entries are detached copies that are never handed to the persistence context. A saved order replaces
+ * its entry once the transaction commits and leaves the cache once it is approved or cancelled. The version
+ * an order was read at is kept for the rest of the transaction, so that its save only updates the row as
+ * it was read.
+ */
+@Component
+public class OrderCache {
+
+	private final Map<UUID, OrderEntity> orders;
+	private final ReentrantLock ordersLock = new ReentrantLock();
+
+	public OrderCache(OrderCacheConfigData orderCacheConfigData) {
+		int maxSize = orderCacheConfigData.getMaxSize();
+		this.orders = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, OrderEntity> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public Optional<OrderEntity> get(UUID orderId) {
+		OrderEntity orderEntity;
+		ordersLock.lock();
+		try {
+			orderEntity = orders.get(orderId);
+		} finally {
+			ordersLock.unlock();
+		}
+		if (orderEntity != null) {
+			readVersions().put(orderId, orderEntity.getVersion());
+		}
+		return Optional.ofNullable(orderEntity);
+	}
+
+	/**
+	 * Takes an order just read from the table, unless the cache already holds a later version of it.
+	 */
+	public void read(OrderEntity orderEntity) {
+		readVersions().put(orderEntity.getId(), orderEntity.getVersion());
+		if (isInFlight(orderEntity.getOrderStatus())) {
+			put(orderEntity);
+		}
+	}
+
+	public Long readVersion(UUID orderId) {
+		return readVersions().get(orderId);
+	}
+
+	/**
+	 * Replaces the entry of a saved order once its transaction commits, a rolled back save leaves the cache
+	 * as it was.
+	 */
+	public void saved(OrderEntity orderEntity) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			committed(orderEntity);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				committed(orderEntity);
+			}
+		});
+	}
+
+	public boolean evict(UUID orderId) {
+		ordersLock.lock();
+		try {
+			return orders.remove(orderId) != null;
+		} finally {
+			ordersLock.unlock();
+		}
+	}
+
+	private void committed(OrderEntity orderEntity) {
+		if (isInFlight(orderEntity.getOrderStatus())) {
+			put(orderEntity);
+		} else {
+			evict(orderEntity.getId());
+		}
+	}
+
+	// commits and reads of one order racing on several threads never take the entry back to an older version
+	private void put(OrderEntity orderEntity) {
+		ordersLock.lock();
+		try {
+			OrderEntity cached = orders.get(orderEntity.getId());
+			if (cached == null || cached.getVersion() <= orderEntity.getVersion()) {
+				orders.put(orderEntity.getId(), orderEntity);
+			}
+		} finally {
+			ordersLock.unlock();
+		}
+	}
+
+	private boolean isInFlight(OrderStatus orderStatus) {
+		return orderStatus != OrderStatus.APPROVED && orderStatus != OrderStatus.CANCELLED;
+	}
+
+	// bound to the transaction, outside of one nothing is remembered and every save is taken for a new order
+	@SuppressWarnings("unchecked")
+	private Map<UUID, Long> readVersions() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return new HashMap<>();
+		}
+		Map<UUID, Long> readVersions = (Map<UUID, Long>) TransactionSynchronizationManager.getResource(this);
+		if (readVersions == null) {
+			Map<UUID, Long> transactionReadVersions = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(this, transactionReadVersions);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(OrderCache.this);
+				}
+			});
+			readVersions = transactionReadVersions;
+		}
+		return readVersions;
+	}
+}
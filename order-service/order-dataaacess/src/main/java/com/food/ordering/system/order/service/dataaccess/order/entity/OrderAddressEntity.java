@@ -3,6 +3,7 @@ package com.food.ordering.system.order.service.dataaccess.order.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.ZonedDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -26,6 +27,9 @@ public class OrderAddressEntity {
 	private String postalCode;
 	private String city;
 
+	@Column(updatable = false)
+	private ZonedDateTime createdAt;
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
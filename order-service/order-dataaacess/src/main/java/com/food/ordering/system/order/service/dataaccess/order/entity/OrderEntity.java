@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -29,6 +30,14 @@ public class OrderEntity {
 	private OrderStatus orderStatus;
 	private String failureMessages;
 
+	// partition key of the table, copied from the order on its items and address
+	@Column(updatable = false)
+	private ZonedDateTime createdAt;
+
+	// left null on orders not stored yet, which makes saving them an insert without reading the row first
+	@Version
+	private Long version;
+
 	@OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
 	private OrderAddressEntity address;
 
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -30,6 +31,9 @@ public class OrderItemEntity {
 	private Integer quantity;
 	private BigDecimal subtotal;
 
+	@Column(updatable = false)
+	private ZonedDateTime createdAt;
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) return true;
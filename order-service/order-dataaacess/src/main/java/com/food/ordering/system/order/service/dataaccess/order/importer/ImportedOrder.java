@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One line of an order import file, named like the archived orders.
+ */
+@Data
+class ImportedOrder {
+	private UUID id;
+	private UUID customerId;
+	private UUID restaurantId;
+	private UUID trackingId;
+	private BigDecimal price;
+	private OrderStatus orderStatus;
+	private List<String> failureMessages;
+	private Address deliveryAddress;
+	private List<Item> items;
+	// ISO-8601 with an offset, 2021-03-04T10:15:30Z
+	private String createdAt;
+
+	@Data
+	static class Address {
+		private UUID id;
+		private String street;
+		private String postalCode;
+		private String city;
+	}
+
+	@Data
+	static class Item {
+		private UUID productId;
+		private Integer quantity;
+		private BigDecimal price;
+		private BigDecimal subTotal;
+	}
+}
@@ -0,0 +1,125 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.Money;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.ProductId;
+import com.food.ordering.system.domain.entity.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+/**
+ * Turns an imported order into the aggregate the way a new order is created, validated first and then
+ * initialized with its ids and creation time, and takes it to its status through the same transitions
+ * the sagas make. Anything the aggregate refuses comes out as an {@link OrderDomainException}. The
+ * catalog prices of the time are gone, so each product is taken at the price of its item.
+ */
+class ImportedOrderMapper {
+
+	// numeric(10,2)
+	private static final BigDecimal MAX_AMOUNT = new BigDecimal("100000000");
+
+	Order importedOrderToOrder(ImportedOrder importedOrder) {
+		ImportedOrder.Address address = required(importedOrder.getDeliveryAddress(), "deliveryAddress");
+		Order order = Order.Builder.builder()
+			.customerId(new CustomerId(required(importedOrder.getCustomerId(), "customerId")))
+			.restaurantId(new RestaurantId(required(importedOrder.getRestaurantId(), "restaurantId")))
+			.deliveryAddress(new StreetAddress(address.getId() != null ? address.getId() : UUID.randomUUID(),
+				required(address.getStreet(), "street"), required(address.getPostalCode(), "postalCode"),
+				required(address.getCity(), "city")))
+			.price(money(importedOrder.getPrice(), "price"))
+			.items(importedItemsToOrderItems(required(importedOrder.getItems(), "items")))
+			.build();
+		order.validateOrder();
+		order.initializeOrder(new OrderId(required(importedOrder.getId(), "id")),
+			new TrackingId(required(importedOrder.getTrackingId(), "trackingId")),
+			createdAt(required(importedOrder.getCreatedAt(), "createdAt")));
+		moveToStatus(order, importedOrder);
+		return order;
+	}
+
+	private List<OrderItem> importedItemsToOrderItems(List<ImportedOrder.Item> importedItems) {
+		List<OrderItem> items = new ArrayList<>(importedItems.size());
+		for (ImportedOrder.Item importedItem : importedItems) {
+			Money price = money(importedItem.getPrice(), "items.price");
+			items.add(OrderItem.Builder.builder()
+				.product(new Product(new ProductId(required(importedItem.getProductId(), "items.productId")), null, price))
+				.quantity(required(importedItem.getQuantity(), "items.quantity"))
+				.price(price)
+				.subTotal(money(importedItem.getSubTotal(), "items.subTotal"))
+				.build());
+		}
+		return items;
+	}
+
+	private void moveToStatus(Order order, ImportedOrder importedOrder) {
+		List<String> failureMessages = importedOrder.getFailureMessages() != null ?
+			new ArrayList<>(importedOrder.getFailureMessages()) : new ArrayList<>();
+		switch (required(importedOrder.getOrderStatus(), "orderStatus")) {
+			case PENDING -> noFailureMessages(failureMessages);
+			case PAID -> {
+				noFailureMessages(failureMessages);
+				order.pay();
+			}
+			case APPROVED -> {
+				noFailureMessages(failureMessages);
+				order.pay();
+				order.approve();
+			}
+			case CANCELLING -> {
+				order.pay();
+				order.initCancel(failureMessages);
+			}
+			case CANCELLED -> order.cancel(failureMessages);
+		}
+	}
+
+	// only cancelling an order gives it failure messages, they would be lost on any other status
+	private void noFailureMessages(List<String> failureMessages) {
+		if (!failureMessages.isEmpty()) {
+			throw new OrderDomainException("Only cancelled orders have failure messages!");
+		}
+	}
+
+	private Money money(BigDecimal amount, String field) {
+		try {
+			BigDecimal scaled = required(amount, field).setScale(2, RoundingMode.UNNECESSARY);
+			if (scaled.abs().compareTo(MAX_AMOUNT) >= 0) {
+				throw new OrderDomainException("Amount of " + field + " is too large: " + amount + "!");
+			}
+			return new Money(scaled);
+		} catch (ArithmeticException e) {
+			throw new OrderDomainException("Amount of " + field + " has more than two decimals: " + amount + "!");
+		}
+	}
+
+	private ZonedDateTime createdAt(String createdAt) {
+		try {
+			return ZonedDateTime.parse(createdAt).withZoneSameInstant(ZoneId.of(UTC));
+		} catch (DateTimeParseException e) {
+			throw new OrderDomainException("Creation time is not an ISO-8601 date time: " + createdAt + "!");
+		}
+	}
+
+	private <T> T required(T value, String field) {
+		if (value == null) {
+			throw new OrderDomainException("Order has no " + field + "!");
+		}
+		return value;
+	}
+}
@@ -0,0 +1,227 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
+/**
+ * The rows of a chunk of orders for one database, encoded in the binary format of COPY as they are
+ * added, one buffer per table. The buffers are emptied but kept after each copy, so a chunk takes as
+ * much memory as its largest one did and the orders themselves are not held.
+ */
+class OrderCopyChunk {
+
+	private static final String COPY_ORDERS = "COPY orders (id, customer_id, restaurant_id, tracking_id, price, " +
+		"order_status, failure_messages, created_at) FROM STDIN (FORMAT binary)";
+	private static final String COPY_ORDER_ITEMS = "COPY order_items (id, order_id, product_id, price, quantity, " +
+		"subtotal, created_at) FROM STDIN (FORMAT binary)";
+	private static final String COPY_ORDER_ADDRESS = "COPY order_address (id, order_id, street, postal_code, city, " +
+		"created_at) FROM STDIN (FORMAT binary)";
+
+	private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+	// timestamps are sent as microseconds since 2000-01-01 UTC
+	private static final long POSTGRES_EPOCH_SECONDS = 946_684_800L;
+	private static final long NUMERIC_BASE = 10_000;
+	private static final short NUMERIC_POSITIVE = 0x0000;
+	private static final short NUMERIC_NEGATIVE = 0x4000;
+
+	private final CopyBuffer orders = new CopyBuffer();
+	private final CopyBuffer orderItems = new CopyBuffer();
+	private final CopyBuffer orderAddresses = new CopyBuffer();
+	private final Set<YearMonth> months = new TreeSet<>();
+	private int size;
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * The months the orders of the chunk were created in, which need their partitions before the copy.
+	 */
+	Set<YearMonth> months() {
+		return months;
+	}
+
+	void add(Order order) {
+		UUID orderId = order.getId().getValue();
+		Instant createdAt = order.getCreatedAt().toInstant();
+		orders.row(8)
+			.uuid(orderId)
+			.uuid(order.getCustomerId().getValue())
+			.uuid(order.getRestaurantId().getValue())
+			.uuid(order.getTrackingId().getValue())
+			.numeric(order.getPrice().getAmount())
+			.text(order.getOrderStatus().name())
+			.text(order.getFailureMessages() != null ? String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages()) : "")
+			.timestamp(createdAt);
+		for (OrderItem orderItem : order.getItems()) {
+			orderItems.row(7)
+				.int8(orderItem.getId().getValue())
+				.uuid(orderId)
+				.uuid(orderItem.getProduct().getId().getValue())
+				.numeric(orderItem.getPrice().getAmount())
+				.int4(orderItem.getQuantity())
+				.numeric(orderItem.getSubTotal().getAmount())
+				.timestamp(createdAt);
+		}
+		StreetAddress deliveryAddress = order.getDeliveryAddress();
+		orderAddresses.row(6)
+			.uuid(deliveryAddress.getId())
+			.uuid(orderId)
+			.text(deliveryAddress.getStreet())
+			.text(deliveryAddress.getPostalCode())
+			.text(deliveryAddress.getCity())
+			.timestamp(createdAt);
+		months.add(YearMonth.from(order.getCreatedAt().withZoneSameInstant(ZoneOffset.UTC)));
+		size++;
+	}
+
+	/**
+	 * Copies the orders before their items and addresses, in the transaction of the connection.
+	 */
+	void copy(Connection connection) throws SQLException {
+		CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+		orders.copy(copyManager, COPY_ORDERS);
+		orderItems.copy(copyManager, COPY_ORDER_ITEMS);
+		orderAddresses.copy(copyManager, COPY_ORDER_ADDRESS);
+	}
+
+	void clear() {
+		orders.clear();
+		orderItems.clear();
+		orderAddresses.clear();
+		months.clear();
+		size = 0;
+	}
+
+	private static final class CopyBuffer extends ByteArrayOutputStream {
+
+		private CopyBuffer() {
+			clear();
+		}
+
+		private void clear() {
+			reset();
+			write(SIGNATURE, 0, SIGNATURE.length);
+			// no flags, no header extension
+			writeInt(0);
+			writeInt(0);
+		}
+
+		private void copy(CopyManager copyManager, String sql) throws SQLException {
+			CopyIn copyIn = copyManager.copyIn(sql);
+			try {
+				copyIn.writeToCopy(buf, 0, count);
+				// trailer
+				copyIn.writeToCopy(new byte[]{(byte) 0xff, (byte) 0xff}, 0, 2);
+				copyIn.endCopy();
+			} finally {
+				if (copyIn.isActive()) {
+					copyIn.cancelCopy();
+				}
+			}
+		}
+
+		private CopyBuffer row(int fields) {
+			writeShort(fields);
+			return this;
+		}
+
+		private CopyBuffer uuid(UUID value) {
+			writeInt(16);
+			writeLong(value.getMostSignificantBits());
+			writeLong(value.getLeastSignificantBits());
+			return this;
+		}
+
+		private CopyBuffer int4(int value) {
+			writeInt(4);
+			writeInt(value);
+			return this;
+		}
+
+		private CopyBuffer int8(long value) {
+			writeInt(8);
+			writeLong(value);
+			return this;
+		}
+
+		// also takes the labels of enum columns, which are sent as their text
+		private CopyBuffer text(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeInt(bytes.length);
+			write(bytes, 0, bytes.length);
+			return this;
+		}
+
+		private CopyBuffer timestamp(Instant value) {
+			writeInt(8);
+			writeLong(ChronoUnit.MICROS.between(Instant.ofEpochSecond(POSTGRES_EPOCH_SECONDS), value));
+			return this;
+		}
+
+		// base 10000 digits, most significant first, the weight being the power of 10000 of the first of them
+		private CopyBuffer numeric(BigDecimal value) {
+			int scale = Math.max(value.scale(), 0);
+			// pads the fraction to whole digits, amounts of numeric(10,2) stay far below the range of a long
+			int fractionDigits = (scale + 3) / 4;
+			long unscaled = value.setScale(fractionDigits * 4).unscaledValue().abs().longValueExact();
+			short[] digits = new short[5];
+			int ndigits = 0;
+			int weight = -fractionDigits;
+			for (; unscaled > 0; unscaled /= NUMERIC_BASE, weight++) {
+				short digit = (short) (unscaled % NUMERIC_BASE);
+				// trailing zero digits are left out
+				if (ndigits > 0 || digit != 0) {
+					if (ndigits == digits.length) {
+						digits = Arrays.copyOf(digits, ndigits * 2);
+					}
+					digits[ndigits++] = digit;
+				}
+			}
+			writeInt(8 + 2 * ndigits);
+			writeShort(ndigits);
+			writeShort(ndigits == 0 ? 0 : weight - 1);
+			writeShort(value.signum() < 0 ? NUMERIC_NEGATIVE : NUMERIC_POSITIVE);
+			writeShort(scale);
+			for (int digit = ndigits - 1; digit >= 0; digit--) {
+				writeShort(digits[digit]);
+			}
+			return this;
+		}
+
+		private void writeShort(int value) {
+			write(value >>> 8);
+			write(value);
+		}
+
+		private void writeInt(int value) {
+			writeShort(value >>> 16);
+			writeShort(value);
+		}
+
+		private void writeLong(long value) {
+			writeInt((int) (value >>> 32));
+			writeInt((int) value);
+		}
+	}
+}
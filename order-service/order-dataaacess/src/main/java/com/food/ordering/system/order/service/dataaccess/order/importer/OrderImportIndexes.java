@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Takes the secondary indexes and the foreign keys off the order tables for the time of an import, and
+ * gives the statements putting them back. An index built once over the loaded rows costs far less than
+ * keeping it up to date row by row, and a foreign key added afterwards is checked by one join instead
+ * of a trigger per item and address. Primary keys and unique constraints stay, they are what refuses an
+ * order imported twice. Works on the partitioned tables, so the partitions follow.
+ */
+class OrderImportIndexes {
+
+	private static final String ORDER_TABLES = "('orders', 'order_items', 'order_address')";
+
+	/**
+	 * @return the statements restoring what was dropped, foreign keys after the indexes
+	 */
+	List<String> drop(JdbcTemplate jdbcTemplate) {
+		List<String> restoreStatements = new ArrayList<>();
+		List<Map<String, Object>> indexes = jdbcTemplate.queryForList("select i.relname as name, " +
+			"pg_get_indexdef(i.oid) as definition from pg_index x join pg_class i on i.oid = x.indexrelid " +
+			"join pg_class t on t.oid = x.indrelid join pg_namespace n on n.oid = t.relnamespace " +
+			"left join pg_constraint c on c.conindid = x.indexrelid where n.nspname = current_schema() " +
+			"and t.relname in " + ORDER_TABLES + " and not x.indisprimary and not x.indisunique and c.oid is null " +
+			"order by i.relname");
+		for (Map<String, Object> index : indexes) {
+			jdbcTemplate.execute("drop index " + quote((String) index.get("name")));
+			// the index of a partitioned table is defined on it only, created again it spans the partitions
+			restoreStatements.add(((String) index.get("definition")).replace(" ON ONLY ", " ON "));
+		}
+		List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList("select t.relname as table_name, " +
+			"c.conname as name, pg_get_constraintdef(c.oid) as definition from pg_constraint c " +
+			"join pg_class t on t.oid = c.conrelid join pg_namespace n on n.oid = t.relnamespace " +
+			"where n.nspname = current_schema() and t.relname in " + ORDER_TABLES + " and c.contype = 'f' " +
+			"and c.conparentid = 0 order by t.relname, c.conname");
+		for (Map<String, Object> foreignKey : foreignKeys) {
+			String table = quote((String) foreignKey.get("table_name"));
+			String constraint = quote((String) foreignKey.get("name"));
+			jdbcTemplate.execute("alter table " + table + " drop constraint " + constraint);
+			restoreStatements.add("alter table " + table + " add constraint " + constraint + " " +
+				foreignKey.get("definition"));
+		}
+		return restoreStatements;
+	}
+
+	void restore(JdbcTemplate jdbcTemplate, List<String> restoreStatements, String maintenanceWorkMem) {
+		if (maintenanceWorkMem != null) {
+			jdbcTemplate.queryForObject("select set_config('maintenance_work_mem', ?, true)", String.class,
+				maintenanceWorkMem);
+		}
+		restoreStatements.forEach(jdbcTemplate::execute);
+		// the planner has not seen any of the imported rows yet
+		jdbcTemplate.execute("analyze orders, order_items, order_address");
+	}
+
+	private String quote(String identifier) {
+		return "\"" + identifier.replace("\"", "\"\"") + "\"";
+	}
+}
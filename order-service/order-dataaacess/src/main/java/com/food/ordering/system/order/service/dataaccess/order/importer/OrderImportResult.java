@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+public class OrderImportResult {
+
+	private final long imported;
+	private final long rejected;
+
+	public OrderImportResult(long imported, long rejected) {
+		this.imported = imported;
+		this.rejected = rejected;
+	}
+
+	public long getImported() {
+		return imported;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+}
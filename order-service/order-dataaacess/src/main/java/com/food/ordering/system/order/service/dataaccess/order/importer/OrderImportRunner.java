@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import com.food.ordering.system.order.service.dataaccess.config.OrderImportConfigData;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Starting the service with the order-import profile imports the file of order-import.file and exits.
+ */
+@Component
+@Profile("order-import")
+public class OrderImportRunner implements ApplicationRunner {
+
+	private final OrderImporter orderImporter;
+	private final OrderImportConfigData orderImportConfigData;
+	private final ApplicationContext applicationContext;
+
+	public OrderImportRunner(OrderImporter orderImporter, OrderImportConfigData orderImportConfigData,
+							 ApplicationContext applicationContext) {
+		this.orderImporter = orderImporter;
+		this.orderImportConfigData = orderImportConfigData;
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) throws IOException {
+		orderImporter.importOrders(Paths.get(orderImportConfigData.getFile()));
+		System.exit(SpringApplication.exit(applicationContext, () -> 0));
+	}
+}
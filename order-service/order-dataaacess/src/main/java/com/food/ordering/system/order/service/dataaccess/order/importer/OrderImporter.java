@@ -0,0 +1,167 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.food.ordering.system.order.service.dataaccess.config.OrderImportConfigData;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRoutingDataSource;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads orders from a file into the order tables with COPY in its binary format, far faster than saving
+ * them one by one through the repository. The file holds one order in JSON per line and is read line by
+ * line, each order going through the aggregate before its rows are encoded into the chunk of its
+ * database, and every chunk is copied in a transaction of its own once the chunk size is reached. Memory
+ * stays bound by the chunk size whatever the size of the file. Invalid orders are logged with their line
+ * and left out. The secondary indexes and foreign keys can be dropped for the time of the import and are
+ * restored at its end, even when it fails, so the import is meant to run while the service is down. A
+ * failed chunk stops the import, and the line logged after the last chunk copied is where to resume,
+ * though with sharding the shards copied before the one that failed keep their part of that chunk.
+ */
+@Slf4j
+@Component
+public class OrderImporter {
+
+	private final OrderImportConfigData orderImportConfigData;
+	private final OrderShardRouter orderShardRouter;
+	private final Map<String, JdbcTemplate> jdbcTemplates = new LinkedHashMap<>();
+	private final Map<String, TransactionTemplate> transactionTemplates = new LinkedHashMap<>();
+	private final ObjectReader importedOrderReader = new ObjectMapper()
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+		.readerFor(ImportedOrder.class);
+	private final ImportedOrderMapper importedOrderMapper = new ImportedOrderMapper();
+	private final OrderImportIndexes orderImportIndexes = new OrderImportIndexes();
+
+	public OrderImporter(OrderImportConfigData orderImportConfigData, OrderShardRouter orderShardRouter,
+						 DataSource dataSource, ObjectProvider<OrderShardRoutingDataSource> orderShardRoutingDataSource) {
+		this.orderImportConfigData = orderImportConfigData;
+		this.orderShardRouter = orderShardRouter;
+		// the rows of a chunk go to each shard straight through its own pool
+		Map<String, DataSource> dataSources = orderShardRouter.isEnabled() ?
+			orderShardRoutingDataSource.getObject().getShardDataSources() : Map.of("", dataSource);
+		dataSources.forEach((database, databaseDataSource) -> {
+			jdbcTemplates.put(database, new JdbcTemplate(databaseDataSource));
+			transactionTemplates.put(database, new TransactionTemplate(new DataSourceTransactionManager(databaseDataSource)));
+		});
+	}
+
+	public OrderImportResult importOrders(Path file) throws IOException {
+		Map<String, List<String>> restoreStatements = new LinkedHashMap<>();
+		if (Boolean.TRUE.equals(orderImportConfigData.getManageIndexes())) {
+			transactionTemplates.forEach((database, transactionTemplate) -> {
+				List<String> statements = transactionTemplate.execute(status ->
+					orderImportIndexes.drop(jdbcTemplates.get(database)));
+				// in case the import dies before it can restore them
+				log.info("Dropped order indexes and foreign keys{} for the import, restored by: {}",
+					database.isEmpty() ? "" : " on shard " + database, String.join("; ", statements));
+				restoreStatements.put(database, statements);
+			});
+		}
+		try {
+			return copyOrders(file);
+		} finally {
+			restoreStatements.forEach((database, statements) -> {
+				long start = System.currentTimeMillis();
+				transactionTemplates.get(database).executeWithoutResult(status -> orderImportIndexes.restore(
+					jdbcTemplates.get(database), statements, orderImportConfigData.getMaintenanceWorkMem()));
+				log.info("Restored order indexes and foreign keys{} in {} ms",
+					database.isEmpty() ? "" : " on shard " + database, System.currentTimeMillis() - start);
+			});
+		}
+	}
+
+	private OrderImportResult copyOrders(Path file) throws IOException {
+		long resumeAfterLine = orderImportConfigData.getResumeAfterLine() != null ?
+			orderImportConfigData.getResumeAfterLine() : 0;
+		Map<String, OrderCopyChunk> chunks = new LinkedHashMap<>();
+		jdbcTemplates.keySet().forEach(database -> chunks.put(database, new OrderCopyChunk()));
+		Map<String, Set<YearMonth>> partitionedMonths = new LinkedHashMap<>();
+		long line = 0;
+		long imported = 0;
+		long rejected = 0;
+		int chunked = 0;
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			String json;
+			while ((json = reader.readLine()) != null) {
+				line++;
+				if (line <= resumeAfterLine || json.isBlank()) {
+					continue;
+				}
+				try {
+					Order order = importedOrderMapper.importedOrderToOrder(importedOrderReader.readValue(json));
+					chunks.get(databaseOf(order)).add(order);
+					chunked++;
+				} catch (JsonProcessingException | OrderDomainException e) {
+					log.warn("Order on line {} of {} is not imported: {}", line, file, e.getMessage());
+					rejected++;
+					continue;
+				}
+				if (chunked == orderImportConfigData.getChunkSize()) {
+					imported += copy(chunks, partitionedMonths);
+					chunked = 0;
+					log.info("Imported {} orders up to line {} of {}", imported, line, file);
+				}
+			}
+		}
+		if (chunked > 0) {
+			imported += copy(chunks, partitionedMonths);
+		}
+		log.info("Imported {} orders from {} lines of {}, {} orders were not valid", imported, line, file, rejected);
+		return new OrderImportResult(imported, rejected);
+	}
+
+	private String databaseOf(Order order) {
+		return orderShardRouter.isEnabled() ? orderShardRouter.shardOfCustomer(order.getCustomerId().getValue()) : "";
+	}
+
+	private int copy(Map<String, OrderCopyChunk> chunks, Map<String, Set<YearMonth>> partitionedMonths) {
+		int copied = 0;
+		for (Map.Entry<String, OrderCopyChunk> databaseChunk : chunks.entrySet()) {
+			OrderCopyChunk chunk = databaseChunk.getValue();
+			if (chunk.size() == 0) {
+				continue;
+			}
+			JdbcTemplate jdbcTemplate = jdbcTemplates.get(databaseChunk.getKey());
+			Set<YearMonth> months = partitionedMonths.computeIfAbsent(databaseChunk.getKey(), database -> new HashSet<>());
+			transactionTemplates.get(databaseChunk.getKey()).executeWithoutResult(status -> {
+				// historical orders would otherwise all land in the default partitions
+				for (YearMonth month : chunk.months()) {
+					if (!months.contains(month)) {
+						jdbcTemplate.queryForObject("select create_order_partitions(?, 1)", Integer.class, month.atDay(1));
+					}
+				}
+				jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+					chunk.copy(connection);
+					return null;
+				});
+			});
+			months.addAll(chunk.months());
+			copied += chunk.size();
+			chunk.clear();
+		}
+		return copied;
+	}
+}
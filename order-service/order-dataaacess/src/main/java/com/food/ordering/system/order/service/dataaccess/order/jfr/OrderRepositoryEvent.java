@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.dataaccess.order.jfr;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Flight recorder event of a call to the order repository. A save inside a transaction is timed up to the
+ * call returning, the rows themselves may only be written when the transaction flushes.
+ */
+@Name(OrderRepositoryEvent.NAME)
+@Label("Order Repository Call")
+@Category({"Food Ordering", "Order"})
+@Description("A read or a write of an order through the order repository")
+@StackTrace(false)
+public class OrderRepositoryEvent extends Event {
+
+	public static final String NAME = "com.food.ordering.system.OrderRepositoryCall";
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Order Id")
+	String orderId;
+
+	@Label("Item Count")
+	int itemCount;
+
+	@Label("Cached")
+	@Description("The order was read from the cache of the orders in flight")
+	boolean cached;
+
+	public static OrderRepositoryEvent start() {
+		OrderRepositoryEvent event = new OrderRepositoryEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * @param orderId the id looked up, or null to take the one of the order
+	 * @param order null when none was found
+	 */
+	public void finish(String operation, UUID orderId, Order order, boolean cached) {
+		end();
+		if (shouldCommit()) {
+			this.operation = operation;
+			if (orderId != null) {
+				this.orderId = orderId.toString();
+			} else if (order != null) {
+				this.orderId = order.getId().getValue().toString();
+			}
+			this.itemCount = order != null ? order.getItems().size() : 0;
+			this.cached = cached;
+			commit();
+		}
+	}
+}
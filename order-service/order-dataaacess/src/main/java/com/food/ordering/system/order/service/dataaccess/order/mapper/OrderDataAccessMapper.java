@@ -4,6 +4,11 @@ import com.food.ordering.system.domain.entity.valueobject.*;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSummaryProjection;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummary;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -34,14 +39,25 @@ public class OrderDataAccessMapper {
 			.orderStatus(order.getOrderStatus())
 			.failureMessages(order.getFailureMessages() != null ?
 				String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages()) : "")
+			.createdAt(order.getCreatedAt())
 			.build();
 
 		orderEntity.getAddress().setOrder(orderEntity);
-		orderEntity.getItems().forEach(it -> it.setOrder(orderEntity));
+		orderEntity.getAddress().setCreatedAt(order.getCreatedAt());
+		orderEntity.getItems().forEach(it -> {
+			it.setOrder(orderEntity);
+			it.setCreatedAt(order.getCreatedAt());
+		});
 
 		return orderEntity;
 	}
 
+	public OrderEntity orderToOrderEntity(Order order, Long version) {
+		OrderEntity orderEntity = orderToOrderEntity(order);
+		orderEntity.setVersion(version);
+		return orderEntity;
+	}
+
 	public Order orderEntityToOrder(OrderEntity orderEntity) {
 		return Order.Builder.builder()
 			.orderId(new OrderId(orderEntity.getId()))
@@ -54,6 +70,44 @@ public class OrderDataAccessMapper {
 			.orderStatus(orderEntity.getOrderStatus())
 			.failureMessages(orderEntity.getFailureMessages().isEmpty() ? new ArrayList<>() :
 				new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages().split(FAILURE_MESSAGE_DELIMITER))))
+			.createdAt(orderEntity.getCreatedAt())
+			.version(orderEntity.getVersion() != null ? orderEntity.getVersion() : 0)
+			.build();
+	}
+
+	public OrderExportRow orderEntityToOrderExportRow(OrderEntity orderEntity) {
+		return OrderExportRow.builder()
+			.orderId(orderEntity.getId())
+			.trackingId(orderEntity.getTrackingId())
+			.customerId(orderEntity.getCustomerId())
+			.restaurantId(orderEntity.getRestaurantId())
+			.price(orderEntity.getPrice())
+			.orderStatus(orderEntity.getOrderStatus())
+			.failureMessages(orderEntity.getFailureMessages().isEmpty() ? List.of() :
+				Arrays.asList(orderEntity.getFailureMessages().split(FAILURE_MESSAGE_DELIMITER)))
+			.street(orderEntity.getAddress().getStreet())
+			.postalCode(orderEntity.getAddress().getPostalCode())
+			.city(orderEntity.getAddress().getCity())
+			.createdAt(orderEntity.getCreatedAt())
+			.build();
+	}
+
+	public OrderSummary orderSummaryProjectionToOrderSummary(OrderSummaryProjection orderSummaryProjection) {
+		return OrderSummary.builder()
+			.orderTrackingId(orderSummaryProjection.getTrackingId())
+			.restaurantId(orderSummaryProjection.getRestaurantId())
+			.price(orderSummaryProjection.getPrice())
+			.orderStatus(orderSummaryProjection.getOrderStatus())
+			.createdAt(orderSummaryProjection.getCreatedAt())
+			.build();
+	}
+
+	public TrackOrderResponse orderTrackingProjectionToTrackOrderResponse(OrderTrackingProjection orderTrackingProjection) {
+		return TrackOrderResponse.builder()
+			.orderTrackingId(orderTrackingProjection.getTrackingId())
+			.orderStatus(orderTrackingProjection.getOrderStatus())
+			.failureMessages(orderTrackingProjection.getFailureMessages().isEmpty() ? List.of() :
+				Arrays.asList(orderTrackingProjection.getFailureMessages().split(FAILURE_MESSAGE_DELIMITER)))
 			.build();
 	}
 
@@ -0,0 +1,22 @@
+package com.food.ordering.system.order.service.dataaccess.order.projection;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+public interface OrderSummaryProjection {
+
+	UUID getId();
+
+	UUID getTrackingId();
+
+	UUID getRestaurantId();
+
+	BigDecimal getPrice();
+
+	OrderStatus getOrderStatus();
+
+	ZonedDateTime getCreatedAt();
+}
@@ -1,14 +1,106 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSummaryProjection;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
+	String EXPORT_FETCH_SIZE = "1000";
+
 	Optional<OrderEntity> findByTrackingId(UUID trackingId);
+
+	// found through orders_tracking_id_status_idx, the failure messages are read from the table
+	@Query("select o.trackingId as trackingId, o.orderStatus as orderStatus, o.failureMessages as failureMessages " +
+		"from OrderEntity o where o.trackingId = :trackingId")
+	Optional<OrderTrackingProjection> findTrackingByTrackingId(@Param("trackingId") UUID trackingId);
+
+	// forward only cursor, the address is fetched in the same row as its inverse side cannot be lazy
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("select o from OrderEntity o join fetch o.address where o.createdAt >= :createdFrom and o.createdAt < :createdTo")
+	Stream<OrderEntity> streamByCreatedAtBetween(@Param("createdFrom") ZonedDateTime createdFrom,
+												 @Param("createdTo") ZonedDateTime createdTo);
+
+	// the items and the address never change after the order is created, the created_at bounds pick the partition
+	@Modifying
+	@Query("update OrderEntity o set o.orderStatus = :orderStatus, o.failureMessages = :failureMessages, " +
+		"o.version = o.version + 1 where o.id = :id and o.createdAt between :createdFrom and :createdTo " +
+		"and o.version = :version")
+	int updateStatusByIdAndVersion(@Param("id") UUID id,
+								   @Param("createdFrom") ZonedDateTime createdFrom,
+								   @Param("createdTo") ZonedDateTime createdTo,
+								   @Param("version") long version,
+								   @Param("orderStatus") OrderStatus orderStatus,
+								   @Param("failureMessages") String failureMessages);
+
+	// both history queries read newest first along orders_customer_id_created_at_id_idx, the second one
+	// seeks straight to the position the previous page ended at instead of skipping the orders before it
+	@Query("select o.id as id, o.trackingId as trackingId, o.restaurantId as restaurantId, o.price as price, " +
+		"o.orderStatus as orderStatus, o.createdAt as createdAt from OrderEntity o where o.customerId = :customerId " +
+		"order by o.createdAt desc, o.id desc")
+	List<OrderSummaryProjection> findOrderSummariesByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+
+	@Query("select o.id as id, o.trackingId as trackingId, o.restaurantId as restaurantId, o.price as price, " +
+		"o.orderStatus as orderStatus, o.createdAt as createdAt from OrderEntity o where o.customerId = :customerId " +
+		"and (o.createdAt, o.id) < (:createdAt, :id) order by o.createdAt desc, o.id desc")
+	List<OrderSummaryProjection> findOrderSummariesByCustomerIdAfter(@Param("customerId") UUID customerId,
+																	 @Param("createdAt") ZonedDateTime createdAt,
+																	 @Param("id") UUID id,
+																	 Pageable pageable);
+
+	// the created_at bound on the archival queries lets the database skip the hot partitions
+	@Query("select o.id from OrderEntity o where o.createdAt < :createdBefore and o.orderStatus in :orderStatuses " +
+		"order by o.createdAt, o.id")
+	List<UUID> findIdsByCreatedAtBeforeAndOrderStatusIn(@Param("createdBefore") ZonedDateTime createdBefore,
+														@Param("orderStatuses") Collection<OrderStatus> orderStatuses,
+														Pageable pageable);
+
+	@EntityGraph(attributePaths = {"address", "items"})
+	@Query("select o from OrderEntity o where o.id in :ids and o.createdAt < :createdBefore")
+	List<OrderEntity> findAllByIdInAndCreatedAtBefore(@Param("ids") Collection<UUID> ids,
+													  @Param("createdBefore") ZonedDateTime createdBefore);
+
+	@Modifying
+	@Query("delete from OrderItemEntity i where i.order.id in :orderIds and i.createdAt < :createdBefore")
+	int deleteItemsByOrderIdInAndCreatedAtBefore(@Param("orderIds") Collection<UUID> orderIds,
+												 @Param("createdBefore") ZonedDateTime createdBefore);
+
+	@Modifying
+	@Query("delete from OrderAddressEntity a where a.order.id in :orderIds and a.createdAt < :createdBefore")
+	int deleteAddressesByOrderIdInAndCreatedAtBefore(@Param("orderIds") Collection<UUID> orderIds,
+													 @Param("createdBefore") ZonedDateTime createdBefore);
+
+	@Modifying
+	@Query("delete from OrderEntity o where o.id in :ids and o.createdAt < :createdBefore")
+	int deleteByIdInAndCreatedAtBefore(@Param("ids") Collection<UUID> ids,
+									   @Param("createdBefore") ZonedDateTime createdBefore);
+
+	@Query(value = "select create_order_partitions(:fromMonth, :months)", nativeQuery = true)
+	int createOrderPartitions(@Param("fromMonth") LocalDate fromMonth, @Param("months") int months);
+
+	@Query(value = "select drop_empty_order_partitions(:endingBefore)", nativeQuery = true)
+	int dropEmptyOrderPartitions(@Param("endingBefore") ZonedDateTime endingBefore);
 }
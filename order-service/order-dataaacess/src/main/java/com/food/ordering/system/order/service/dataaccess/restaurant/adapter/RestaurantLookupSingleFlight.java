@@ -0,0 +1,175 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lets concurrent lookups of the same restaurant share database queries. At most one query per
+ * restaurant runs at a time: a lookup whose products it already covers waits for its rows, and
+ * every other lookup arriving meanwhile joins the one next query, which fetches the union of
+ * their products as soon as the running one finished. Each caller gets only the rows of the
+ * products it asked for.
+ */
+@Slf4j
+@Component
+public class RestaurantLookupSingleFlight {
+
+	private final RestaurantJpaRepository restaurantJpaRepository;
+	private final ConcurrentHashMap<UUID, Lane> lanes = new ConcurrentHashMap<>();
+
+	public RestaurantLookupSingleFlight(RestaurantJpaRepository restaurantJpaRepository) {
+		this.restaurantJpaRepository = restaurantJpaRepository;
+	}
+
+	public List<RestaurantEntity> findByRestaurantIdAndProductIdIn(UUID restaurantId, Collection<UUID> productIds) {
+		Lane lane;
+		Flight flight;
+		boolean leader;
+		while (true) {
+			lane = lanes.computeIfAbsent(restaurantId, Lane::new);
+			lane.lock.lock();
+			try {
+				if (lane.retired) {
+					continue;
+				}
+				if (lane.running != null && lane.running.productIds.containsAll(productIds)) {
+					flight = lane.running;
+					leader = false;
+				} else if (lane.next != null) {
+					lane.next.productIds.addAll(productIds);
+					flight = lane.next;
+					leader = false;
+				} else {
+					flight = new Flight(productIds, lane.running != null ? lane.running.rows : null);
+					leader = true;
+					if (lane.running == null) {
+						lane.running = flight;
+					} else {
+						lane.next = flight;
+					}
+				}
+				break;
+			} finally {
+				lane.lock.unlock();
+			}
+		}
+
+		if (!leader || flight.ahead != null) {
+			waiting(restaurantId);
+		}
+		if (leader) {
+			fly(lane, flight);
+		} else {
+			log.debug("Joined in flight lookup of restaurant with id: {}", restaurantId);
+		}
+		return rowsOf(await(flight.rows), productIds);
+	}
+
+	/**
+	 * Called once a lookup is bound to wait for a query in flight, before it waits. Tests override it to
+	 * know when the lookups they started are parked.
+	 */
+	void waiting(UUID restaurantId) {
+	}
+
+	private void fly(Lane lane, Flight flight) {
+		if (flight.ahead != null) {
+			flight.ahead.exceptionally(e -> null).join();
+			// the flight ahead is done, keeping its rows would chain every flight of a busy lane to the next
+			flight.ahead = null;
+		}
+		List<UUID> productIds;
+		lane.lock.lock();
+		try {
+			if (lane.next == flight) {
+				lane.next = null;
+			}
+			lane.running = flight;
+			productIds = new ArrayList<>(flight.productIds);
+		} finally {
+			lane.lock.unlock();
+		}
+
+		try {
+			flight.rows.complete(restaurantJpaRepository.findByRestaurantIdAndProductIdIn(lane.restaurantId, productIds)
+				.orElse(List.of()));
+		} catch (RuntimeException e) {
+			flight.rows.completeExceptionally(e);
+		} finally {
+			land(lane, flight);
+		}
+	}
+
+	private void land(Lane lane, Flight flight) {
+		lane.lock.lock();
+		try {
+			if (lane.running == flight) {
+				lane.running = null;
+			}
+			if (lane.running == null && lane.next == null) {
+				lane.retired = true;
+				lanes.remove(lane.restaurantId, lane);
+			}
+		} finally {
+			lane.lock.unlock();
+		}
+	}
+
+	private List<RestaurantEntity> await(CompletableFuture<List<RestaurantEntity>> rows) {
+		try {
+			return rows.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private List<RestaurantEntity> rowsOf(List<RestaurantEntity> rows, Collection<UUID> productIds) {
+		Set<UUID> requestedProductIds = new HashSet<>(productIds);
+		List<RestaurantEntity> requestedRows = new ArrayList<>(requestedProductIds.size());
+		for (RestaurantEntity row : rows) {
+			if (requestedProductIds.contains(row.getProductId())) {
+				requestedRows.add(row);
+			}
+		}
+		return requestedRows;
+	}
+
+	private static class Lane {
+		private final UUID restaurantId;
+		private final ReentrantLock lock = new ReentrantLock();
+		private Flight running;
+		private Flight next;
+		private boolean retired;
+
+		Lane(UUID restaurantId) {
+			this.restaurantId = restaurantId;
+		}
+	}
+
+	private static class Flight {
+		private final Set<UUID> productIds;
+		private CompletableFuture<List<RestaurantEntity>> ahead;
+		private final CompletableFuture<List<RestaurantEntity>> rows = new CompletableFuture<>();
+
+		Flight(Collection<UUID> productIds, CompletableFuture<List<RestaurantEntity>> ahead) {
+			this.productIds = new HashSet<>(productIds);
+			this.ahead = ahead;
+		}
+	}
+}
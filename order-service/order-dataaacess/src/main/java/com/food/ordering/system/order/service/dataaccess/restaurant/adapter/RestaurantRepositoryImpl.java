@@ -2,7 +2,6 @@ package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
 import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
-import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import org.springframework.stereotype.Component;
@@ -14,19 +13,19 @@ import java.util.UUID;
 @Component
 public class RestaurantRepositoryImpl implements RestaurantRepository {
 
-	private final RestaurantJpaRepository restaurantJpaRepository;
+	private final RestaurantLookupSingleFlight restaurantLookupSingleFlight;
 	private final RestaurantDataAccessMapper restaurantDataAccessMapper;
 
-	public RestaurantRepositoryImpl(RestaurantJpaRepository restaurantJpaRepository, RestaurantDataAccessMapper restaurantDataAccessMapper) {
-		this.restaurantJpaRepository = restaurantJpaRepository;
+	public RestaurantRepositoryImpl(RestaurantLookupSingleFlight restaurantLookupSingleFlight, RestaurantDataAccessMapper restaurantDataAccessMapper) {
+		this.restaurantLookupSingleFlight = restaurantLookupSingleFlight;
 		this.restaurantDataAccessMapper = restaurantDataAccessMapper;
 	}
 
 	@Override
 	public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
 		List<UUID> restaurantProducts = restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant);
-		Optional<List<RestaurantEntity>> restaurantEntities =
-			restaurantJpaRepository.findByRestaurantIdAndProductIdIn(restaurant.getId().getValue(), restaurantProducts);
-		return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
+		List<RestaurantEntity> restaurantEntities =
+			restaurantLookupSingleFlight.findByRestaurantIdAndProductIdIn(restaurant.getId().getValue(), restaurantProducts);
+		return Optional.of(restaurantDataAccessMapper.restaurantEntityToRestaurant(restaurantEntities));
 	}
 }
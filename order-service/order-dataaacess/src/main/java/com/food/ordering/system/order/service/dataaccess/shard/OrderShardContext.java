@@ -0,0 +1,74 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread works on. Within a transaction the first shard used stays bound to
+ * it until it completes, since all its statements run on one connection, and using another one
+ * fails instead of reading or writing the wrong database.
+ */
+final class OrderShardContext {
+
+	private static final ThreadLocal<String> CURRENT_SHARD = new ThreadLocal<>();
+
+	private OrderShardContext() {
+	}
+
+	static String currentShard() {
+		return CURRENT_SHARD.get();
+	}
+
+	static <T> T onShard(String shard, Supplier<T> work) {
+		String currentShard = CURRENT_SHARD.get();
+		if (currentShard != null) {
+			if (!currentShard.equals(shard)) {
+				throw new IllegalStateException("Cannot use order shard " + shard + " while order shard " +
+					currentShard + " is in use");
+			}
+			return work.get();
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			bindToTransaction(shard);
+			return work.get();
+		}
+		CURRENT_SHARD.set(shard);
+		try {
+			return work.get();
+		} finally {
+			CURRENT_SHARD.remove();
+		}
+	}
+
+	// a transaction opening a connection before using a shard explicitly gets the default one
+	static String currentShardOrBind(String defaultShard) {
+		String currentShard = CURRENT_SHARD.get();
+		if (currentShard == null && TransactionSynchronizationManager.isSynchronizationActive()) {
+			bindToTransaction(defaultShard);
+			return defaultShard;
+		}
+		return currentShard != null ? currentShard : defaultShard;
+	}
+
+	private static void bindToTransaction(String shard) {
+		CURRENT_SHARD.set(shard);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void suspend() {
+				CURRENT_SHARD.remove();
+			}
+
+			@Override
+			public void resume() {
+				CURRENT_SHARD.set(shard);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				CURRENT_SHARD.remove();
+			}
+		});
+	}
+}
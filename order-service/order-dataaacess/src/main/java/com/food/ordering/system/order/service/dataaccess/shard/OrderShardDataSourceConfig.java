@@ -0,0 +1,72 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardConfigData;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replaces the single data source by one pool per order shard. Every shard holds the whole schema,
+ * and the restaurant and customer views are expected on each of them.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "order-sharding", name = "enabled", havingValue = "true")
+public class OrderShardDataSourceConfig {
+
+	@Bean
+	public OrderShardRoutingDataSource orderShardRoutingDataSource(OrderShardingConfigData orderShardingConfigData) {
+		Map<String, DataSource> shardDataSources = new LinkedHashMap<>();
+		for (OrderShardConfigData orderShardConfigData : orderShardingConfigData.getShards()) {
+			HikariDataSource hikariDataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(orderShardConfigData.getUrl())
+				.username(orderShardConfigData.getUsername())
+				.password(orderShardConfigData.getPassword())
+				.build();
+			hikariDataSource.setPoolName("order-shard-" + orderShardConfigData.getName());
+			if (orderShardConfigData.getMaximumPoolSize() != null) {
+				hikariDataSource.setMaximumPoolSize(orderShardConfigData.getMaximumPoolSize());
+			}
+			shardDataSources.put(orderShardConfigData.getName(), hikariDataSource);
+		}
+		return new OrderShardRoutingDataSource(shardDataSources);
+	}
+
+	// takes the connection only at the first statement, by then the transaction knows its shard
+	@Bean
+	@Primary
+	public DataSource dataSource(OrderShardRoutingDataSource orderShardRoutingDataSource) {
+		LazyConnectionDataSourceProxy lazyConnectionDataSourceProxy =
+			new LazyConnectionDataSourceProxy(orderShardRoutingDataSource);
+		lazyConnectionDataSourceProxy.setDefaultAutoCommit(true);
+		lazyConnectionDataSourceProxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+		return lazyConnectionDataSourceProxy;
+	}
+
+	@Bean
+	public FlywayMigrationStrategy orderShardFlywayMigrationStrategy(
+		OrderShardRoutingDataSource orderShardRoutingDataSource) {
+		return flyway -> orderShardRoutingDataSource.getShardDataSources().forEach((shard, dataSource) -> {
+			log.info("Migrating order shard {}", shard);
+			Flyway.configure()
+				.configuration(flyway.getConfiguration())
+				.dataSource(dataSource)
+				.load()
+				.migrate();
+		});
+	}
+}
@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Starting the service with the shard-rebalance profile moves the orders to their shards and exits.
+ */
+@Component
+@Profile("shard-rebalance")
+@ConditionalOnProperty(prefix = "order-sharding", name = "enabled", havingValue = "true")
+public class OrderShardRebalanceRunner implements ApplicationRunner {
+
+	private final OrderShardRebalancer orderShardRebalancer;
+	private final ApplicationContext applicationContext;
+
+	public OrderShardRebalanceRunner(OrderShardRebalancer orderShardRebalancer, ApplicationContext applicationContext) {
+		this.orderShardRebalancer = orderShardRebalancer;
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		orderShardRebalancer.rebalance();
+		System.exit(SpringApplication.exit(applicationContext, () -> 0));
+	}
+}
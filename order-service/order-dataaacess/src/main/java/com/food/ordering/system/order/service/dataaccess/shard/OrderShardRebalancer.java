@@ -0,0 +1,142 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Moves the orders of every customer to the shard owning the customer's slot, together with their
+ * items, addresses, idempotency keys and saga timeouts. Run it after changing the shards, while the
+ * order service is stopped, since orders found on the wrong shard are not served. The orders of a batch of
+ * customers are copied to their new shard before they are deleted from the old one, and copying
+ * skips rows already there, so an interrupted run is completed by running it again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "order-sharding", name = "enabled", havingValue = "true")
+public class OrderShardRebalancer {
+
+	private static final String ORDERS_OF_CUSTOMERS = "from orders o where o.customer_id = any(cast(? as uuid[]))";
+
+	private final OrderShardingConfigData orderShardingConfigData;
+	private final OrderShardRouter orderShardRouter;
+	private final Map<String, JdbcTemplate> shardJdbcTemplates = new LinkedHashMap<>();
+	private final Map<String, TransactionTemplate> shardTransactionTemplates = new LinkedHashMap<>();
+
+	public OrderShardRebalancer(OrderShardingConfigData orderShardingConfigData, OrderShardRouter orderShardRouter,
+								OrderShardRoutingDataSource orderShardRoutingDataSource) {
+		this.orderShardingConfigData = orderShardingConfigData;
+		this.orderShardRouter = orderShardRouter;
+		orderShardRoutingDataSource.getShardDataSources().forEach((shard, dataSource) -> {
+			shardJdbcTemplates.put(shard, new JdbcTemplate(dataSource));
+			shardTransactionTemplates.put(shard, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+		});
+	}
+
+	/**
+	 * @return the number of orders moved
+	 */
+	public long rebalance() {
+		long moved = 0;
+		for (String shard : orderShardRouter.getShardNames()) {
+			moved += rebalanceShard(shard);
+		}
+		log.info("Moved {} orders between {} order shards", moved, orderShardRouter.getShardNames().size());
+		return moved;
+	}
+
+	private long rebalanceShard(String shard) {
+		JdbcTemplate jdbcTemplate = shardJdbcTemplates.get(shard);
+		long moved = 0;
+		UUID lastCustomerId = null;
+		while (true) {
+			List<UUID> customerIds = lastCustomerId == null ?
+				jdbcTemplate.queryForList("select distinct customer_id from orders order by customer_id limit ?",
+					UUID.class, orderShardingConfigData.getRebalanceBatchSize()) :
+				jdbcTemplate.queryForList("select distinct customer_id from orders where customer_id > ? " +
+					"order by customer_id limit ?", UUID.class, lastCustomerId, orderShardingConfigData.getRebalanceBatchSize());
+			if (customerIds.isEmpty()) {
+				return moved;
+			}
+			lastCustomerId = customerIds.get(customerIds.size() - 1);
+			Map<String, List<UUID>> customerIdsByTarget = customerIds.stream()
+				.filter(customerId -> !orderShardRouter.shardOfCustomer(customerId).equals(shard))
+				.collect(Collectors.groupingBy(orderShardRouter::shardOfCustomer, LinkedHashMap::new, Collectors.toList()));
+			for (Map.Entry<String, List<UUID>> target : customerIdsByTarget.entrySet()) {
+				int orders = moveOrders(shard, target.getKey(), target.getValue());
+				log.info("Moved {} orders of {} customers from order shard {} to {}", orders, target.getValue().size(),
+					shard, target.getKey());
+				moved += orders;
+			}
+		}
+	}
+
+	private int moveOrders(String source, String target, List<UUID> customerIds) {
+		JdbcTemplate sourceJdbcTemplate = shardJdbcTemplates.get(source);
+		String customers = customerIds.stream().map(UUID::toString).collect(Collectors.joining(",", "{", "}"));
+		List<Map<String, Object>> orders = sourceJdbcTemplate.queryForList("select o.* " + ORDERS_OF_CUSTOMERS, customers);
+		List<LocalDate> months = sourceJdbcTemplate.queryForList("select distinct cast(date_trunc('month', " +
+			"o.created_at at time zone 'UTC') as date) " + ORDERS_OF_CUSTOMERS, LocalDate.class, customers);
+		List<Map<String, Object>> items = sourceJdbcTemplate.queryForList("select i.* from order_items i where " +
+			"(i.order_id, i.created_at) in (select o.id, o.created_at " + ORDERS_OF_CUSTOMERS + ")", customers);
+		List<Map<String, Object>> addresses = sourceJdbcTemplate.queryForList("select a.* from order_address a where " +
+			"(a.order_id, a.created_at) in (select o.id, o.created_at " + ORDERS_OF_CUSTOMERS + ")", customers);
+		List<Map<String, Object>> idempotencyKeys = sourceJdbcTemplate.queryForList("select k.* from " +
+			"order_idempotency_keys k where k.order_tracking_id in (select o.tracking_id " + ORDERS_OF_CUSTOMERS + ")",
+			customers);
+		List<Map<String, Object>> sagaTimeouts = sourceJdbcTemplate.queryForList("select t.* from saga_timeouts t " +
+			"where t.order_id in (select o.id " + ORDERS_OF_CUSTOMERS + ")", customers);
+
+		JdbcTemplate targetJdbcTemplate = shardJdbcTemplates.get(target);
+		shardTransactionTemplates.get(target).executeWithoutResult(status -> {
+			// rows of months without a partition would land in the default one and keep it from being created later
+			months.forEach(month ->
+				targetJdbcTemplate.queryForObject("select create_order_partitions(?, 1)", Integer.class, month));
+			insert(targetJdbcTemplate, "orders", orders);
+			insert(targetJdbcTemplate, "order_items", items);
+			insert(targetJdbcTemplate, "order_address", addresses);
+			insert(targetJdbcTemplate, "order_idempotency_keys", idempotencyKeys);
+			insert(targetJdbcTemplate, "saga_timeouts", sagaTimeouts);
+		});
+		// items and addresses go with their orders through the cascading foreign keys
+		shardTransactionTemplates.get(source).executeWithoutResult(status -> {
+			sourceJdbcTemplate.update("delete from order_idempotency_keys where order_tracking_id in " +
+				"(select o.tracking_id " + ORDERS_OF_CUSTOMERS + ")", customers);
+			sourceJdbcTemplate.update("delete from saga_timeouts where order_id in (select o.id " + ORDERS_OF_CUSTOMERS + ")",
+				customers);
+			sourceJdbcTemplate.update("delete " + ORDERS_OF_CUSTOMERS, customers);
+		});
+		return orders.size();
+	}
+
+	private void insert(JdbcTemplate jdbcTemplate, String table, List<Map<String, Object>> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		List<String> columns = new ArrayList<>(rows.get(0).keySet());
+		String sql = "insert into " + table + " (" + String.join(", ", columns) + ") values (" +
+			columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ") on conflict do nothing";
+		// strings are sent untyped so they also fit the order status enum
+		jdbcTemplate.batchUpdate(sql, rows.stream()
+			.map(row -> columns.stream()
+				.map(column -> row.get(column) instanceof String value ? new SqlParameterValue(Types.OTHER, value) :
+					row.get(column))
+				.toArray())
+			.toList());
+	}
+}
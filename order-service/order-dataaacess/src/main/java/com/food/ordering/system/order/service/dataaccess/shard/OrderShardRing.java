@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Consistent hash ring placing every shard at a number of points derived from its name alone, each
+ * slot belonging to the first shard point following it. Adding a shard only takes slots over from
+ * the others, so only the orders of those slots have to move.
+ */
+public class OrderShardRing {
+
+	private final String[] slotOwners = new String[OrderShardSlots.SLOT_COUNT];
+
+	public OrderShardRing(List<String> shardNames, int virtualNodesPerShard) {
+		if (shardNames.isEmpty()) {
+			throw new IllegalArgumentException("At least one order shard is required");
+		}
+		TreeMap<Long, String> ring = new TreeMap<>();
+		for (String shardName : shardNames) {
+			for (int virtualNode = 0; virtualNode < virtualNodesPerShard; virtualNode++) {
+				ring.put(UUID.nameUUIDFromBytes((shardName + "#" + virtualNode).getBytes(StandardCharsets.UTF_8))
+					.getMostSignificantBits(), shardName);
+			}
+		}
+		for (int slot = 0; slot < slotOwners.length; slot++) {
+			Map.Entry<Long, String> owner = ring.ceilingEntry(OrderShardSlots.mix(slot));
+			slotOwners[slot] = owner != null ? owner.getValue() : ring.firstEntry().getValue();
+		}
+	}
+
+	public String ownerOf(int slot) {
+		return slotOwners[slot];
+	}
+}
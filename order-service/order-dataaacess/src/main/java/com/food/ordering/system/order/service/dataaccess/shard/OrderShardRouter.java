@@ -0,0 +1,117 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardConfigData;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Runs the work of the adapters on the shard owning the orders of a customer. Without sharding
+ * enabled there is a single database and the work runs as it is.
+ */
+@Component
+public class OrderShardRouter {
+
+	private final List<String> shardNames;
+	private final OrderShardRing orderShardRing;
+	private final TransactionTemplate newTransactionTemplate;
+	private final TransactionTemplate newReadOnlyTransactionTemplate;
+
+	public OrderShardRouter(OrderShardingConfigData orderShardingConfigData,
+							PlatformTransactionManager transactionManager) {
+		if (Boolean.TRUE.equals(orderShardingConfigData.getEnabled())) {
+			this.shardNames = orderShardingConfigData.getShards().stream().map(OrderShardConfigData::getName).toList();
+			this.orderShardRing = new OrderShardRing(shardNames, orderShardingConfigData.getVirtualNodesPerShard());
+		} else {
+			this.shardNames = List.of();
+			this.orderShardRing = null;
+		}
+		this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.newReadOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newReadOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.newReadOnlyTransactionTemplate.setReadOnly(true);
+	}
+
+	public boolean isEnabled() {
+		return orderShardRing != null;
+	}
+
+	public List<String> getShardNames() {
+		return shardNames;
+	}
+
+	public String shardOfCustomer(UUID customerId) {
+		return orderShardRing.ownerOf(OrderShardSlots.slotOfCustomer(customerId));
+	}
+
+	public Optional<String> currentShard() {
+		return Optional.ofNullable(OrderShardContext.currentShard());
+	}
+
+	public <T> T onShardOfCustomer(UUID customerId, Supplier<T> work) {
+		return isEnabled() ? OrderShardContext.onShard(shardOfCustomer(customerId), work) : work.get();
+	}
+
+	/**
+	 * Order and tracking ids lead to the shard of the order through the slot they carry, the ones
+	 * generated before sharding carry none and are looked up on every shard in turn.
+	 */
+	public <T> Optional<T> findOnShardOfOrder(UUID orderOrTrackingId, Supplier<Optional<T>> lookup) {
+		if (!isEnabled()) {
+			return lookup.get();
+		}
+		OptionalInt slot = OrderShardSlots.slotOfId(orderOrTrackingId);
+		if (slot.isPresent()) {
+			return OrderShardContext.onShard(orderShardRing.ownerOf(slot.getAsInt()), lookup);
+		}
+		for (String shard : shardNames) {
+			Optional<T> found = newReadOnlyTransactionTemplate.execute(status -> OrderShardContext.onShard(shard, lookup));
+			if (found.isPresent()) {
+				return found;
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Runs the work on every shard in a transaction of its own, or once in the current one without sharding.
+	 */
+	public <T> List<T> onEachShard(boolean readOnly, Supplier<T> work) {
+		if (!isEnabled()) {
+			return Collections.singletonList(work.get());
+		}
+		TransactionTemplate transactionTemplate = readOnly ? newReadOnlyTransactionTemplate : newTransactionTemplate;
+		List<T> results = new ArrayList<>(shardNames.size());
+		for (String shard : shardNames) {
+			results.add(transactionTemplate.execute(status -> OrderShardContext.onShard(shard, work)));
+		}
+		return results;
+	}
+
+	/**
+	 * Runs work managing its own transactions once per shard, each of them on that shard.
+	 */
+	public void forEachShard(Runnable work) {
+		if (!isEnabled()) {
+			work.run();
+			return;
+		}
+		for (String shard : shardNames) {
+			OrderShardContext.onShard(shard, () -> {
+				work.run();
+				return null;
+			});
+		}
+	}
+}
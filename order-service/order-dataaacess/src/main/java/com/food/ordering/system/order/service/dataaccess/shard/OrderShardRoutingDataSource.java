@@ -0,0 +1,41 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OrderShardRoutingDataSource extends AbstractRoutingDataSource {
+
+	private final Map<String, DataSource> shardDataSources;
+	private final String defaultShard;
+
+	public OrderShardRoutingDataSource(Map<String, DataSource> shardDataSources) {
+		this.shardDataSources = Collections.unmodifiableMap(new LinkedHashMap<>(shardDataSources));
+		// connections taken before any shard is chosen, like the ones reading the schema at startup
+		this.defaultShard = shardDataSources.keySet().iterator().next();
+		setTargetDataSources(new LinkedHashMap<>(shardDataSources));
+		setDefaultTargetDataSource(shardDataSources.get(defaultShard));
+		setLenientFallback(false);
+	}
+
+	public Map<String, DataSource> getShardDataSources() {
+		return shardDataSources;
+	}
+
+	public void close() {
+		shardDataSources.values().forEach(dataSource -> {
+			if (dataSource instanceof HikariDataSource hikariDataSource) {
+				hikariDataSource.close();
+			}
+		});
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return OrderShardContext.currentShardOrBind(defaultShard);
+	}
+}
@@ -0,0 +1,47 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Customers are spread over a fixed number of slots by a hash of their id, and the ids of their
+ * orders carry that slot in their first 16 bits as version 8 UUIDs, so both lead to the same shard.
+ * Ids generated before, which are version 4, carry no slot.
+ */
+public final class OrderShardSlots {
+
+	public static final int SLOT_COUNT = 1 << 16;
+
+	private static final int SLOT_ID_VERSION = 8;
+	private static final long SLOT_AND_VERSION_MASK = 0xFFFF_0000_0000_F000L;
+
+	private OrderShardSlots() {
+	}
+
+	public static int slotOfCustomer(UUID customerId) {
+		return (int) (mix(customerId.getMostSignificantBits() ^ mix(customerId.getLeastSignificantBits())) >>> 48);
+	}
+
+	public static OptionalInt slotOfId(UUID id) {
+		return id.version() == SLOT_ID_VERSION ? OptionalInt.of((int) (id.getMostSignificantBits() >>> 48)) :
+			OptionalInt.empty();
+	}
+
+	// keeps the 106 remaining random bits of a version 4 UUID, still far too many to guess a tracking id
+	public static UUID newIdOnSlot(int slot) {
+		UUID random = UUID.randomUUID();
+		long mostSignificantBits = random.getMostSignificantBits() & ~SLOT_AND_VERSION_MASK |
+			(long) slot << 48 | (long) SLOT_ID_VERSION << 12;
+		return new UUID(mostSignificantBits, random.getLeastSignificantBits());
+	}
+
+	// the finalizer of murmur3, spreads ids that differ in a few bits only over all slots
+	static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
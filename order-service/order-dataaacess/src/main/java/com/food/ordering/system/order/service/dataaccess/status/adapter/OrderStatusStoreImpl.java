@@ -0,0 +1,103 @@
+package com.food.ordering.system.order.service.dataaccess.status.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.config.OrderStatusStoreConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusStore;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.type.StringDataType;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
+/**
+ * Order statuses in an embedded MVStore, the key-value store under the H2 database, so that the statuses of all
+ * orders do not need to fit in the heap. The store is rebuilt from the order status topic on every start and
+ * lives in a directory of its own that is deleted on shutdown.
+ */
+@Slf4j
+@Component
+public class OrderStatusStoreImpl implements OrderStatusStore, DisposableBean {
+
+	private static final String STORE_FILE_NAME = "order-status.mv.db";
+	private static final String MAP_NAME = "order-status";
+
+	private final Path storeDirectory;
+	private final MVStore mvStore;
+	// order version, status and failure messages joined like in the orders table, e.g. 3,CANCELLED,Payment failed
+	private final MVMap<String, String> statuses;
+
+	public OrderStatusStoreImpl(OrderStatusStoreConfigData orderStatusStoreConfigData) throws IOException {
+		this.storeDirectory = Files.createTempDirectory(
+			Files.createDirectories(Path.of(orderStatusStoreConfigData.getDirectory())), "order-status-");
+		this.mvStore = new MVStore.Builder()
+			.fileName(storeDirectory.resolve(STORE_FILE_NAME).toString())
+			.cacheSize(orderStatusStoreConfigData.getCacheSizeMb())
+			.open();
+		this.statuses = mvStore.openMap(MAP_NAME, new MVMap.Builder<String, String>()
+			.keyType(StringDataType.INSTANCE)
+			.valueType(StringDataType.INSTANCE));
+		log.info("Opened order status store in {}", storeDirectory);
+	}
+
+	@Override
+	public Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId) {
+		String status = statuses.get(trackingId.getValue().toString());
+		if (status == null) {
+			return Optional.empty();
+		}
+		List<String> values = Arrays.asList(status.split(FAILURE_MESSAGE_DELIMITER));
+		return Optional.of(TrackOrderResponse.builder()
+			.orderTrackingId(trackingId.getValue())
+			.orderStatus(OrderStatus.valueOf(values.get(1)))
+			.failureMessages(values.subList(2, values.size()))
+			.build());
+	}
+
+	// the statuses of one order are published after the commits of its transactions, which can overtake each other
+	@Override
+	public boolean save(TrackOrderResponse trackOrderResponse, long version) {
+		StringBuilder status = new StringBuilder()
+			.append(version)
+			.append(FAILURE_MESSAGE_DELIMITER)
+			.append(trackOrderResponse.getOrderStatus().name());
+		if (trackOrderResponse.getFailureMessages() != null) {
+			trackOrderResponse.getFailureMessages().forEach(failureMessage ->
+				status.append(FAILURE_MESSAGE_DELIMITER).append(failureMessage));
+		}
+		String key = trackOrderResponse.getOrderTrackingId().toString();
+		String stored = statuses.putIfAbsent(key, status.toString());
+		while (stored != null) {
+			if (version(stored) >= version) {
+				return false;
+			}
+			if (statuses.replace(key, stored, status.toString())) {
+				return true;
+			}
+			stored = statuses.putIfAbsent(key, status.toString());
+		}
+		return true;
+	}
+
+	private static long version(String status) {
+		return Long.parseLong(status.substring(0, status.indexOf(FAILURE_MESSAGE_DELIMITER)));
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		mvStore.closeImmediately();
+		Files.deleteIfExists(storeDirectory.resolve(STORE_FILE_NAME));
+		Files.deleteIfExists(storeDirectory);
+	}
+}
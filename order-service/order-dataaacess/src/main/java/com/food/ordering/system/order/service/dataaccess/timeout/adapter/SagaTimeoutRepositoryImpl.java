@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.dataaccess.timeout.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.dataaccess.timeout.entity.SagaTimeoutEntity;
+import com.food.ordering.system.order.service.dataaccess.timeout.mapper.SagaTimeoutDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.timeout.repository.SagaTimeoutJpaRepository;
+import com.food.ordering.system.order.service.domain.dto.timeout.SagaTimeout;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaTimeoutRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// the timeouts live next to their orders, saving and deleting happens in transactions already on the shard of the order
+@Component
+public class SagaTimeoutRepositoryImpl implements SagaTimeoutRepository {
+
+	private final SagaTimeoutJpaRepository sagaTimeoutJpaRepository;
+	private final SagaTimeoutDataAccessMapper sagaTimeoutDataAccessMapper;
+	private final EntityManager entityManager;
+	private final OrderShardRouter orderShardRouter;
+
+	public SagaTimeoutRepositoryImpl(SagaTimeoutJpaRepository sagaTimeoutJpaRepository,
+									 SagaTimeoutDataAccessMapper sagaTimeoutDataAccessMapper, EntityManager entityManager,
+									 OrderShardRouter orderShardRouter) {
+		this.sagaTimeoutJpaRepository = sagaTimeoutJpaRepository;
+		this.sagaTimeoutDataAccessMapper = sagaTimeoutDataAccessMapper;
+		this.entityManager = entityManager;
+		this.orderShardRouter = orderShardRouter;
+	}
+
+	@Override
+	public void save(SagaTimeout sagaTimeout) {
+		sagaTimeoutJpaRepository.save(sagaTimeoutDataAccessMapper.sagaTimeoutToSagaTimeoutEntity(sagaTimeout));
+	}
+
+	@Override
+	public Optional<SagaTimeout> findByOrderId(OrderId orderId) {
+		return orderShardRouter.findOnShardOfOrder(orderId.getValue(), () ->
+			sagaTimeoutJpaRepository.findById(orderId.getValue()).map(sagaTimeoutDataAccessMapper::sagaTimeoutEntityToSagaTimeout));
+	}
+
+	@Override
+	public void delete(OrderId orderId) {
+		sagaTimeoutJpaRepository.deleteByOrderId(orderId.getValue());
+	}
+
+	@Override
+	public void forEach(Consumer<SagaTimeout> sagaTimeoutConsumer) {
+		orderShardRouter.onEachShard(true, () -> {
+			long loaded = 0;
+			try (Stream<SagaTimeoutEntity> sagaTimeoutEntities = sagaTimeoutJpaRepository.streamAll()) {
+				Iterator<SagaTimeoutEntity> iterator = sagaTimeoutEntities.iterator();
+				while (iterator.hasNext()) {
+					SagaTimeoutEntity sagaTimeoutEntity = iterator.next();
+					entityManager.detach(sagaTimeoutEntity);
+					sagaTimeoutConsumer.accept(sagaTimeoutDataAccessMapper.sagaTimeoutEntityToSagaTimeout(sagaTimeoutEntity));
+					loaded++;
+				}
+			}
+			return loaded;
+		});
+	}
+
+	// the claimed rows are changed where they were read and written back when the transaction commits
+	@Override
+	public List<SagaTimeout> claimOverdue(ZonedDateTime overdueBefore, ZonedDateTime claimedAt, int limit) {
+		return orderShardRouter.onEachShard(false, () -> {
+			List<SagaTimeoutEntity> overdue =
+				sagaTimeoutJpaRepository.findOverdueForUpdate(overdueBefore, PageRequest.of(0, limit));
+			overdue.forEach(sagaTimeoutEntity -> sagaTimeoutEntity.setDeadline(claimedAt));
+			return overdue.stream().map(sagaTimeoutDataAccessMapper::sagaTimeoutEntityToSagaTimeout).toList();
+		}).stream().flatMap(List::stream).toList();
+	}
+}
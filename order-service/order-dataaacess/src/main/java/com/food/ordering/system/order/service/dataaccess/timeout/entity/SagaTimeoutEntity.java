@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.dataaccess.timeout.entity;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "saga_timeouts")
+@Entity
+public class SagaTimeoutEntity {
+
+	@Id
+	private UUID orderId;
+
+	@Enumerated(EnumType.STRING)
+	private OrderStatus orderStatus;
+	private ZonedDateTime deadline;
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		SagaTimeoutEntity that = (SagaTimeoutEntity) o;
+		return Objects.equals(orderId, that.orderId);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(orderId);
+	}
+}
@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.dataaccess.timeout.mapper;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.dataaccess.timeout.entity.SagaTimeoutEntity;
+import com.food.ordering.system.order.service.domain.dto.timeout.SagaTimeout;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SagaTimeoutDataAccessMapper {
+
+	public SagaTimeoutEntity sagaTimeoutToSagaTimeoutEntity(SagaTimeout sagaTimeout) {
+		return SagaTimeoutEntity.builder()
+			.orderId(sagaTimeout.getOrderId().getValue())
+			.orderStatus(sagaTimeout.getOrderStatus())
+			.deadline(sagaTimeout.getDeadline())
+			.build();
+	}
+
+	public SagaTimeout sagaTimeoutEntityToSagaTimeout(SagaTimeoutEntity sagaTimeoutEntity) {
+		return SagaTimeout.builder()
+			.orderId(new OrderId(sagaTimeoutEntity.getOrderId()))
+			.orderStatus(sagaTimeoutEntity.getOrderStatus())
+			.deadline(sagaTimeoutEntity.getDeadline())
+			.build();
+	}
+}
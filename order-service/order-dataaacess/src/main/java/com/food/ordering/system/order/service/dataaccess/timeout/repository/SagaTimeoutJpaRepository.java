@@ -0,0 +1,42 @@
+package com.food.ordering.system.order.service.dataaccess.timeout.repository;
+
+import com.food.ordering.system.order.service.dataaccess.timeout.entity.SagaTimeoutEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface SagaTimeoutJpaRepository extends JpaRepository<SagaTimeoutEntity, UUID> {
+
+	// without loading the row first, it is usually there and gone either way
+	@Modifying
+	@Query("delete from SagaTimeoutEntity t where t.orderId = :orderId")
+	int deleteByOrderId(@Param("orderId") UUID orderId);
+
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("select t from SagaTimeoutEntity t")
+	Stream<SagaTimeoutEntity> streamAll();
+
+	// a lock timeout of -2 skips the rows locked by others instead of waiting for them, see LockOptions.SKIP_LOCKED
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+	@Query("select t from SagaTimeoutEntity t where t.deadline < :overdueBefore order by t.deadline")
+	List<SagaTimeoutEntity> findOverdueForUpdate(@Param("overdueBefore") ZonedDateTime overdueBefore, Pageable pageable);
+}
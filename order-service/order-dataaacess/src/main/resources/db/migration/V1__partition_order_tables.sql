@@ -0,0 +1,170 @@
+-- orders, order_items and order_address are range partitioned by month on created_at, which the
+-- application copies from the order onto its items and address. PostgreSQL requires the partition
+-- key in every unique constraint, so it is part of the primary keys and of the foreign keys too.
+-- Needs PostgreSQL 12 or later for foreign keys between partitioned tables.
+
+DO $$
+BEGIN
+    CREATE TYPE order_status AS ENUM ('PENDING', 'PAID', 'APPROVED', 'CANCELLING', 'CANCELLED');
+EXCEPTION
+    WHEN duplicate_object THEN NULL;
+END $$;
+
+-- tables created before partitioning are moved aside and copied over below
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+               WHERE n.nspname = current_schema() AND c.relname = 'orders' AND c.relkind = 'r') THEN
+        ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+        ALTER TABLE order_address RENAME TO order_address_unpartitioned;
+        ALTER TABLE orders RENAME TO orders_unpartitioned;
+    END IF;
+END $$;
+
+CREATE TABLE orders
+(
+    id uuid NOT NULL,
+    customer_id uuid NOT NULL,
+    restaurant_id uuid NOT NULL,
+    tracking_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    order_status order_status NOT NULL,
+    failure_messages character varying,
+    created_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- tracking ids cannot be unique across partitions, they are random UUIDs generated by the domain
+CREATE INDEX orders_tracking_id_idx ON orders (tracking_id);
+CREATE INDEX orders_order_status_created_at_idx ON orders (order_status, created_at);
+
+CREATE TABLE order_items
+(
+    id bigint NOT NULL,
+    order_id uuid NOT NULL,
+    product_id uuid NOT NULL,
+    price numeric(10,2) NOT NULL,
+    quantity integer NOT NULL,
+    subtotal numeric(10,2) NOT NULL,
+    created_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (id, order_id, created_at),
+    FOREIGN KEY (order_id, created_at) REFERENCES orders (id, created_at) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX order_items_order_id_idx ON order_items (order_id);
+
+CREATE TABLE order_address
+(
+    id uuid NOT NULL,
+    order_id uuid NOT NULL,
+    street character varying NOT NULL,
+    postal_code character varying NOT NULL,
+    city character varying NOT NULL,
+    created_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (id, created_at),
+    UNIQUE (order_id, created_at),
+    FOREIGN KEY (order_id, created_at) REFERENCES orders (id, created_at) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+CREATE INDEX order_address_order_id_idx ON order_address (order_id);
+
+-- catches rows outside the monthly partitions, it stays empty as long as partitions are created ahead
+CREATE TABLE orders_default PARTITION OF orders DEFAULT;
+CREATE TABLE order_items_default PARTITION OF order_items DEFAULT;
+CREATE TABLE order_address_default PARTITION OF order_address DEFAULT;
+
+-- idempotency keys of order creation are not partitioned, databases set up before the migrations
+-- already have them from the script that was applied by hand, which this migration replaces
+CREATE TABLE IF NOT EXISTS order_idempotency_keys
+(
+    idempotency_key character varying(255) NOT NULL,
+    order_tracking_id uuid NOT NULL,
+    order_status order_status NOT NULL,
+    message character varying,
+    created_at timestamp with time zone NOT NULL,
+    PRIMARY KEY (idempotency_key)
+);
+
+-- expired keys are deleted by age
+CREATE INDEX IF NOT EXISTS order_idempotency_keys_created_at_idx ON order_idempotency_keys (created_at);
+
+-- creates the monthly partitions of the three tables for the given number of months from from_month on
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month date, months integer)
+    RETURNS integer
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start timestamp with time zone;
+    month_end timestamp with time zone;
+    suffix text;
+    order_table text;
+    created integer := 0;
+BEGIN
+    FOR i IN 0 .. months - 1 LOOP
+        month_start := (date_trunc('month', from_month::timestamp) + make_interval(months => i))::timestamp AT TIME ZONE 'UTC';
+        month_end := (date_trunc('month', from_month::timestamp) + make_interval(months => i + 1))::timestamp AT TIME ZONE 'UTC';
+        suffix := to_char(month_start AT TIME ZONE 'UTC', '"_p"YYYY_MM');
+        FOREACH order_table IN ARRAY ARRAY['orders', 'order_items', 'order_address'] LOOP
+            IF to_regclass(quote_ident(current_schema()) || '.' || quote_ident(order_table || suffix)) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                    order_table || suffix, order_table, month_start, month_end);
+                created := created + 1;
+            END IF;
+        END LOOP;
+    END LOOP;
+    RETURN created;
+END $$;
+
+-- drops the monthly partitions ending before the given time that the archival left empty, items and
+-- addresses first so the orders partition is no longer referenced when it is detached
+CREATE OR REPLACE FUNCTION drop_empty_order_partitions(ending_before timestamp with time zone)
+    RETURNS integer
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    partition_name text;
+    suffix text;
+    month_end timestamp with time zone;
+    has_rows boolean;
+    dropped integer := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            JOIN pg_namespace n ON n.oid = p.relnamespace
+        WHERE n.nspname = current_schema() AND p.relname = 'orders' AND c.relname ~ '^orders_p\d{4}_\d{2}$'
+        ORDER BY c.relname
+    LOOP
+        suffix := substring(partition_name FROM '_p\d{4}_\d{2}$');
+        month_end := (to_date(substring(suffix FROM 3), 'YYYY_MM') + interval '1 month')::timestamp AT TIME ZONE 'UTC';
+        CONTINUE WHEN month_end > ending_before;
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I)', partition_name) INTO has_rows;
+        CONTINUE WHEN has_rows;
+        EXECUTE format('DROP TABLE IF EXISTS %I', 'order_items' || suffix);
+        EXECUTE format('DROP TABLE IF EXISTS %I', 'order_address' || suffix);
+        EXECUTE format('ALTER TABLE orders DETACH PARTITION %I', partition_name);
+        EXECUTE format('DROP TABLE %I', partition_name);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END $$;
+
+SELECT create_order_partitions((now() AT TIME ZONE 'UTC')::date, 4);
+
+DO $$
+BEGIN
+    IF to_regclass(quote_ident(current_schema()) || '.orders_unpartitioned') IS NOT NULL THEN
+        -- rows without a creation time land in the current month, the archival picks them up from there
+        INSERT INTO orders (id, customer_id, restaurant_id, tracking_id, price, order_status, failure_messages, created_at)
+        SELECT id, customer_id, restaurant_id, tracking_id, price, order_status::text::order_status, failure_messages, now()
+        FROM orders_unpartitioned;
+        INSERT INTO order_items (id, order_id, product_id, price, quantity, subtotal, created_at)
+        SELECT i.id, i.order_id, i.product_id, i.price, i.quantity, i.subtotal, o.created_at
+        FROM order_items_unpartitioned i JOIN orders o ON o.id = i.order_id;
+        INSERT INTO order_address (id, order_id, street, postal_code, city, created_at)
+        SELECT a.id, a.order_id, a.street, a.postal_code, a.city, o.created_at
+        FROM order_address_unpartitioned a JOIN orders o ON o.id = a.order_id;
+        DROP TABLE order_items_unpartitioned, order_address_unpartitioned, orders_unpartitioned;
+    END IF;
+END $$;
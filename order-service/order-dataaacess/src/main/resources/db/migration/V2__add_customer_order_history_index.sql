@@ -0,0 +1,7 @@
+-- serves GET /customers/{id}/orders: the history is read newest first and every page after the first
+-- seeks to (created_at, id) < the last order of the previous page, which is a range scan on this index
+-- however deep the page. The included columns are all the summary needs, so the scan is index only once
+-- the partitions are vacuumed. Created on each partition, as orders is partitioned.
+CREATE INDEX orders_customer_id_created_at_id_idx
+    ON orders (customer_id, created_at DESC, id DESC)
+    INCLUDE (tracking_id, restaurant_id, price, order_status);
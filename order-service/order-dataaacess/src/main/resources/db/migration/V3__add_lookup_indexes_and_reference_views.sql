@@ -0,0 +1,72 @@
+-- Tracking reads the status and failure messages by tracking id, this index finds the order and carries its
+-- status, the failure messages are read from the table. It cannot be unique: unique indexes of a partitioned
+-- table have to contain created_at, so uniqueness of the tracking ids rests on them being random UUIDs
+-- generated by the domain. The failure messages are left out: a btree index row is limited to about 2.7 kB,
+-- and an order whose messages went past it could no longer be inserted or updated, which would stop the
+-- saga of exactly the orders that failed.
+CREATE INDEX orders_tracking_id_status_idx ON orders (tracking_id) INCLUDE (order_status);
+DROP INDEX orders_tracking_id_idx;
+
+-- The order service reads restaurants and customers from materialized views over tables owned by the
+-- restaurant and customer services, which refresh them. The unique indexes let them refresh concurrently,
+-- and the one of the restaurant view covers the product lookup of order creation. Databases set up
+-- before the migrations may already have created these tables by hand.
+
+CREATE SCHEMA IF NOT EXISTS restaurant;
+
+CREATE TABLE IF NOT EXISTS restaurant.restaurants
+(
+    id uuid NOT NULL,
+    name character varying NOT NULL,
+    active boolean NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS restaurant.products
+(
+    id uuid NOT NULL,
+    name character varying NOT NULL,
+    price numeric(10,2) NOT NULL,
+    available boolean NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS restaurant.restaurant_products
+(
+    id uuid NOT NULL,
+    restaurant_id uuid NOT NULL REFERENCES restaurant.restaurants (id),
+    product_id uuid NOT NULL REFERENCES restaurant.products (id),
+    PRIMARY KEY (id)
+);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS restaurant.order_restaurant_m_view AS
+SELECT r.id AS restaurant_id,
+       r.name AS restaurant_name,
+       r.active AS restaurant_active,
+       p.id AS product_id,
+       p.name AS product_name,
+       p.price AS product_price
+FROM restaurant.restaurants r
+    JOIN restaurant.restaurant_products rp ON rp.restaurant_id = r.id
+    JOIN restaurant.products p ON p.id = rp.product_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS order_restaurant_m_view_restaurant_id_product_id_idx
+    ON restaurant.order_restaurant_m_view (restaurant_id, product_id)
+    INCLUDE (restaurant_name, restaurant_active, product_name, product_price);
+
+CREATE SCHEMA IF NOT EXISTS customer;
+
+CREATE TABLE IF NOT EXISTS customer.customers
+(
+    id uuid NOT NULL,
+    username character varying NOT NULL,
+    first_name character varying NOT NULL,
+    last_name character varying NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS customer.order_customer_m_view AS
+SELECT id, username, first_name, last_name
+FROM customer.customers;
+
+CREATE UNIQUE INDEX IF NOT EXISTS order_customer_m_view_id_idx ON customer.order_customer_m_view (id);
@@ -0,0 +1,10 @@
+-- One row per order waiting for the payment or the restaurant, with the deadline of the response. The order
+-- service keeps the deadlines in memory and deletes the row once the saga moves on, the table is only read
+-- in full when the service starts. Not partitioned: it holds the orders in flight, not the history.
+CREATE TABLE IF NOT EXISTS saga_timeouts
+(
+    order_id uuid NOT NULL,
+    order_status order_status NOT NULL,
+    deadline timestamp with time zone NOT NULL,
+    PRIMARY KEY (order_id)
+);
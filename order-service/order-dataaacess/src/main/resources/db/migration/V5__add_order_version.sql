@@ -0,0 +1,3 @@
+-- Optimistic lock of the order row. The order service caches the orders in flight and updates the row of a
+-- cached order only on the version it was read at, a row changed meanwhile by another instance is read again.
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
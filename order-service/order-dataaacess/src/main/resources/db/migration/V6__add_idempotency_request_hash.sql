@@ -0,0 +1,3 @@
+-- SHA-256 of the request that claimed the key, a repeated key sent with another request is rejected. Keys stored
+-- before have none and are answered as before until they expire.
+ALTER TABLE order_idempotency_keys ADD COLUMN IF NOT EXISTS request_hash character varying(64);
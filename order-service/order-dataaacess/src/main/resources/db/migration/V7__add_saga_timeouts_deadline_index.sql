@@ -0,0 +1,3 @@
+-- Every instance scans the saga timeouts for deadlines long past, which an instance that went away left
+-- behind. The table holds the orders in flight, the overdue ones are found without reading all of them.
+CREATE INDEX IF NOT EXISTS saga_timeouts_deadline_idx ON saga_timeouts (deadline);
@@ -0,0 +1,232 @@
+package com.food.ordering.system.order.service.dataaccess;
+
+import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSummaryProjection;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// runs the hot queries the way hibernate renders them against the migrated schema on a real postgres
+// and fails once one of them is no longer answered by the index meant for it
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.flyway.schemas=order",
+	"spring.jpa.hibernate.ddl-auto=none",
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+		"com.food.ordering.system.order.service.dataaccess.HotQueriesShould$LastStatement"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HotQueriesShould {
+
+	private static final Pattern INDEX_SCAN =
+		Pattern.compile("(Index Only Scan|Index Scan|Bitmap Index Scan)(?: Backward)? (?:using|on) (\\S+)");
+	private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\S+)");
+	private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	private OrderJpaRepository orderJpaRepository;
+
+	@Autowired
+	private RestaurantJpaRepository restaurantJpaRepository;
+
+	@Autowired
+	private CustomerJpaRepository customerJpaRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+		postgres = EmbeddedPostgres.start();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres") +
+			"&currentSchema=order&stringtype=unspecified");
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+	}
+
+	@AfterAll
+	static void stopPostgres() throws IOException {
+		postgres.close();
+	}
+
+	@BeforeAll
+	void insertOrdersAndReferenceData() {
+		// 60000 orders over three months, a fifth of them placed by one customer and the rest by 20000 others
+		jdbcTemplate.queryForObject("select create_order_partitions(date '2023-01-01', 3)", Integer.class);
+		jdbcTemplate.update("insert into orders (id, customer_id, restaurant_id, tracking_id, price, order_status, " +
+			"failure_messages, created_at) select gen_random_uuid(), case when x % 5 = 0 then cast(? as uuid) else " +
+			"cast(lpad(to_hex(x % 20000), 32, '0') as uuid) end, gen_random_uuid(), gen_random_uuid(), 50.00, " +
+			"'APPROVED', '', timestamptz '2023-01-01 00:00:00Z' + x * interval '2 minutes' " +
+			"from generate_series(1, 60000) x", CUSTOMER_ID);
+		jdbcTemplate.update("insert into order_address (id, order_id, street, postal_code, city, created_at) " +
+			"select gen_random_uuid(), id, 'street', '1000AB', 'Amsterdam', created_at from orders");
+
+		// 200 restaurants with 50 products each and 20000 customers
+		jdbcTemplate.update("insert into restaurant.restaurants select cast(lpad(to_hex(x), 32, '0') as uuid), " +
+			"'restaurant ' || x, true from generate_series(1, 200) x");
+		jdbcTemplate.update("insert into restaurant.products select cast(lpad(to_hex(x), 32, '0') as uuid), " +
+			"'product ' || x, 10.00, true from generate_series(1, 10000) x");
+		jdbcTemplate.update("insert into restaurant.restaurant_products select gen_random_uuid(), " +
+			"cast(lpad(to_hex((x - 1) / 50 + 1), 32, '0') as uuid), cast(lpad(to_hex(x), 32, '0') as uuid) " +
+			"from generate_series(1, 10000) x");
+		jdbcTemplate.update("insert into customer.customers select cast(lpad(to_hex(x), 32, '0') as uuid), " +
+			"'user' || x, 'first', 'last' from generate_series(1, 20000) x");
+		jdbcTemplate.execute("refresh materialized view restaurant.order_restaurant_m_view");
+		jdbcTemplate.execute("refresh materialized view customer.order_customer_m_view");
+		jdbcTemplate.execute("vacuum analyze");
+	}
+
+	@Test
+	void useTrackingIdIndex_whenOrderIsTracked() {
+		UUID trackingId = jdbcTemplate.queryForObject("select tracking_id from orders limit 1", UUID.class);
+
+		Assertions.assertTrue(orderJpaRepository.findTrackingByTrackingId(trackingId).isPresent());
+
+		assertIndexScan(explainLastStatement(trackingId), "orders_tracking_id_status_idx");
+	}
+
+	@Test
+	void saveOrder_whenFailureMessagesOutgrowAnIndexRow() {
+		UUID orderId = jdbcTemplate.queryForObject("select id from orders limit 1", UUID.class);
+
+		Assertions.assertEquals(1, jdbcTemplate.update("update orders set order_status = 'CANCELLED', " +
+			"failure_messages = (select string_agg(md5(x::text), ',') from generate_series(1, 500) x) where id = ?",
+			orderId));
+	}
+
+	@Test
+	void seekAlongHistoryIndex_whenCustomerOrdersArePaged() {
+		List<OrderSummaryProjection> firstPage =
+			orderJpaRepository.findOrderSummariesByCustomerId(CUSTOMER_ID, PageRequest.of(0, 21));
+		assertIndexOnlyScan(explainLastStatement(CUSTOMER_ID, 0, 21), "orders_customer_id_created_at_id_idx");
+
+		// deep in the history, where an offset would have to skip thousands of orders
+		OrderSummaryProjection last = firstPage.get(firstPage.size() - 1);
+		ZonedDateTime createdAt = last.getCreatedAt().minusDays(30);
+		orderJpaRepository.findOrderSummariesByCustomerIdAfter(CUSTOMER_ID, createdAt, last.getId(), PageRequest.of(0, 21));
+		assertIndexOnlyScan(explainLastStatement(CUSTOMER_ID, createdAt, last.getId(), 0, 21),
+			"orders_customer_id_created_at_id_idx");
+	}
+
+	@Test
+	void usePrimaryKey_whenOrderIsLoadedById() {
+		UUID orderId = jdbcTemplate.queryForObject("select id from orders limit 1", UUID.class);
+
+		Assertions.assertTrue(orderJpaRepository.findById(orderId).isPresent());
+
+		assertIndexScan(explainLastStatement(orderId), "orders_pkey");
+	}
+
+	@Test
+	void answerFromCoveringIndex_whenRestaurantProductsAreLookedUp() {
+		UUID restaurantId = UUID.fromString("00000000-0000-0000-0000-000000000002");
+		UUID firstProductId = UUID.fromString("00000000-0000-0000-0000-000000000033");
+		UUID secondProductId = UUID.fromString("00000000-0000-0000-0000-000000000034");
+
+		Assertions.assertEquals(2, restaurantJpaRepository.findByRestaurantIdAndProductIdIn(restaurantId,
+			List.of(firstProductId, secondProductId)).orElseThrow().size());
+
+		assertIndexOnlyScan(explainLastStatement(restaurantId, firstProductId, secondProductId),
+			"order_restaurant_m_view_restaurant_id_product_id_idx");
+	}
+
+	@Test
+	void answerFromIndex_whenCustomerIsLookedUp() {
+		UUID customerId = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+		Assertions.assertTrue(customerJpaRepository.findById(customerId).isPresent());
+
+		assertIndexOnlyScan(explainLastStatement(customerId), "order_customer_m_view_id_idx");
+	}
+
+	private List<String> explainLastStatement(Object... parameters) {
+		String sql = LastStatement.sql;
+		for (Object parameter : parameters) {
+			String literal = parameter instanceof Number ? parameter.toString() :
+				"'" + (parameter instanceof ZonedDateTime createdAt ? createdAt.toOffsetDateTime() : parameter) + "'";
+			sql = sql.replaceFirst("\\?", Matcher.quoteReplacement(literal));
+		}
+		return jdbcTemplate.queryForList("explain " + sql, String.class);
+	}
+
+	private void assertIndexOnlyScan(List<String> plan, String index) {
+		assertIndexScan(plan, index);
+		for (String scan : scansOf(plan, index)) {
+			Assertions.assertEquals("Index Only Scan", scan, () -> String.join("\n", plan));
+		}
+	}
+
+	private void assertIndexScan(List<String> plan, String index) {
+		// the empty partitions of the coming months are read sequentially at no cost
+		for (String line : plan) {
+			Matcher matcher = SEQ_SCAN.matcher(line);
+			if (matcher.find()) {
+				Assertions.assertEquals(0, rowsOf(matcher.group(1)), () -> String.join("\n", plan));
+			}
+		}
+		Assertions.assertFalse(scansOf(plan, index).isEmpty(), () -> String.join("\n", plan));
+	}
+
+	// the scan types of the plan nodes reading the index, or one of its partitions when it is partitioned
+	private List<String> scansOf(List<String> plan, String index) {
+		List<String> scans = new ArrayList<>();
+		for (String line : plan) {
+			Matcher matcher = INDEX_SCAN.matcher(line);
+			if (matcher.find() && index.equals(parentIndexOf(matcher.group(2)))) {
+				scans.add(matcher.group(1));
+			}
+		}
+		return scans;
+	}
+
+	private long rowsOf(String relation) {
+		return jdbcTemplate.queryForObject("select cast(greatest(reltuples, 0) as bigint) from pg_class " +
+			"where relname = ? and relkind in ('r', 'm')", Long.class, relation);
+	}
+
+	private String parentIndexOf(String index) {
+		return jdbcTemplate.queryForObject("select coalesce(p.relname, c.relname) from pg_class c " +
+			"left join pg_inherits i on i.inhrelid = c.oid left join pg_class p on p.oid = i.inhparent " +
+			"where c.relname = ? and c.relkind in ('i', 'I')", String.class, index);
+	}
+
+	public static class LastStatement implements StatementInspector {
+
+		private static volatile String sql;
+
+		@Override
+		public String inspect(String sql) {
+			LastStatement.sql = sql;
+			return sql;
+		}
+	}
+}
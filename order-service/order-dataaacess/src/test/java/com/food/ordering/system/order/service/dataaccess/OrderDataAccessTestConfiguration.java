@@ -0,0 +1,7 @@
+package com.food.ordering.system.order.service.dataaccess;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system.order.service.dataaccess")
+public class OrderDataAccessTestConfiguration {
+}
@@ -0,0 +1,94 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.history.OrderHistoryPosition;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummary;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummaryPage;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:customer-order-history;MODE=PostgreSQL")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CustomerOrderHistoryRepositoryImpl.class, OrderDataAccessMapper.class, OrderShardRouter.class, OrderShardingConfigData.class})
+class CustomerOrderHistoryRepositoryImplShould {
+
+	private static final int ORDERS = 25;
+	private static final ZonedDateTime FIRST_ORDER_CREATED_AT = ZonedDateTime.parse("2023-01-01T00:00:00Z");
+	private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+	private static final UUID OTHER_CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb42");
+	private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+
+	@Autowired
+	private CustomerOrderHistoryRepositoryImpl customerOrderHistoryRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final List<UUID> trackingIdsNewestFirst = new ArrayList<>();
+
+	@BeforeEach
+	void insertOrders() {
+		// orders come in threes created at the same time, so pages also have to break ties on the order id
+		for (int i = 0; i < ORDERS; i++) {
+			insertOrder(CUSTOMER_ID, UUID.randomUUID(), FIRST_ORDER_CREATED_AT.plusMinutes(i / 3));
+			insertOrder(OTHER_CUSTOMER_ID, UUID.randomUUID(), FIRST_ORDER_CREATED_AT.plusMinutes(i / 3));
+		}
+		trackingIdsNewestFirst.addAll(jdbcTemplate.queryForList("select tracking_id from orders where customer_id = ? " +
+			"order by created_at desc, id desc", UUID.class, CUSTOMER_ID));
+	}
+
+	@Test
+	void returnEveryOrderOnceNewestFirst_whenFollowingNextPositions() {
+		List<UUID> trackingIds = new ArrayList<>();
+		List<Integer> pageSizes = new ArrayList<>();
+		OrderHistoryPosition position = null;
+		do {
+			OrderSummaryPage orderSummaryPage =
+				customerOrderHistoryRepository.findOrderSummaries(new CustomerId(CUSTOMER_ID), position, 10);
+			orderSummaryPage.getOrderSummaries().stream().map(OrderSummary::getOrderTrackingId).forEach(trackingIds::add);
+			pageSizes.add(orderSummaryPage.getOrderSummaries().size());
+			position = orderSummaryPage.getNextPosition();
+		} while (position != null);
+
+		Assertions.assertEquals(List.of(10, 10, 5), pageSizes);
+		Assertions.assertEquals(trackingIdsNewestFirst, trackingIds);
+	}
+
+	@Test
+	void returnLastPageWithoutNextPosition_whenOrdersFitExactly() {
+		OrderSummaryPage orderSummaryPage =
+			customerOrderHistoryRepository.findOrderSummaries(new CustomerId(CUSTOMER_ID), null, ORDERS);
+
+		Assertions.assertEquals(ORDERS, orderSummaryPage.getOrderSummaries().size());
+		Assertions.assertNull(orderSummaryPage.getNextPosition());
+	}
+
+	@Test
+	void returnEmptyPage_whenCustomerHasNoOrders() {
+		OrderSummaryPage orderSummaryPage =
+			customerOrderHistoryRepository.findOrderSummaries(new CustomerId(UUID.randomUUID()), null, 10);
+
+		Assertions.assertTrue(orderSummaryPage.getOrderSummaries().isEmpty());
+		Assertions.assertNull(orderSummaryPage.getNextPosition());
+	}
+
+	private void insertOrder(UUID customerId, UUID trackingId, ZonedDateTime createdAt) {
+		jdbcTemplate.update("insert into orders (id, customer_id, restaurant_id, tracking_id, price, order_status, " +
+				"failure_messages, created_at) values (?, ?, ?, ?, 50.00, 'APPROVED', '', ?)", UUID.randomUUID(), customerId,
+			RESTAURANT_ID, trackingId, createdAt.toOffsetDateTime());
+	}
+}
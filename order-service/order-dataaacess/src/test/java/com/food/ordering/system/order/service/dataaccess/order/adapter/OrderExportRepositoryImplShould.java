@@ -0,0 +1,109 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// the module's tests run with a heap far too small to hold a million orders, see the surefire argLine
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderExportRepositoryImpl.class, OrderDataAccessMapper.class, OrderShardRouter.class, OrderShardingConfigData.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderExportRepositoryImplShould {
+
+	private static final int ORDERS = 1_000_000;
+	private static final int INSERT_CHUNK = 100_000;
+	private static final ZonedDateTime FIRST_ORDER_CREATED_AT = ZonedDateTime.parse("2023-01-01T00:00:00Z");
+	private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+	private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+
+	@Autowired
+	private OrderExportRepositoryImpl orderExportRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeAll
+	void insertOrders() {
+		// one order per second with ids ascending in insert order, which keeps the h2 indexes cheap to build,
+		// every tenth order is cancelled with two failure messages
+		for (int from = 1; from <= ORDERS; from += INSERT_CHUNK) {
+			jdbcTemplate.update("insert into orders (id, customer_id, restaurant_id, tracking_id, price, order_status, " +
+				"failure_messages, created_at) select " + sequentialUuid("8000", "x") + ", ?, ?, " + sequentialUuid("9000", "x") +
+				", 50.00, case when mod(x, 10) = 0 then 'CANCELLED' else 'APPROVED' end, " +
+				"case when mod(x, 10) = 0 then 'Payment failed,Restaurant closed' else '' end, " +
+				"dateadd('SECOND', x - 1, cast(? as timestamp with time zone)) " +
+				"from system_range(cast(? as int), cast(? as int))", CUSTOMER_ID, RESTAURANT_ID,
+				FIRST_ORDER_CREATED_AT.toOffsetDateTime(), from, from + INSERT_CHUNK - 1);
+		}
+		jdbcTemplate.update("insert into order_address (id, order_id, street, postal_code, city, created_at) select " +
+			sequentialUuid("a000", "substring(cast(id as varchar), 25)") + ", id, 'street', '1000AB', 'Amsterdam', created_at " +
+			"from orders");
+	}
+
+	@Test
+	void streamAllOrders_whenTheyDoNotFitInTheHeap() {
+		AtomicLong consumed = new AtomicLong();
+		AtomicLong cancelled = new AtomicLong();
+		AtomicLong price = new AtomicLong();
+
+		Long exported = new TransactionTemplate(transactionManager).execute(status ->
+			orderExportRepository.exportOrders(OrderExportQuery.builder()
+				.createdFrom(FIRST_ORDER_CREATED_AT)
+				.createdTo(FIRST_ORDER_CREATED_AT.plusSeconds(ORDERS))
+				.build(), orderExportRow -> {
+				consumed.incrementAndGet();
+				price.addAndGet(orderExportRow.getPrice().longValueExact());
+				Assertions.assertEquals("Amsterdam", orderExportRow.getCity());
+				if (orderExportRow.getOrderStatus() == OrderStatus.CANCELLED) {
+					cancelled.incrementAndGet();
+					Assertions.assertEquals(2, orderExportRow.getFailureMessages().size());
+				}
+			}));
+
+		Assertions.assertEquals(ORDERS, exported);
+		Assertions.assertEquals(ORDERS, consumed.get());
+		Assertions.assertEquals(ORDERS / 10, cancelled.get());
+		Assertions.assertEquals(BigDecimal.valueOf(50L * ORDERS), BigDecimal.valueOf(price.get()));
+	}
+
+	@Test
+	void streamOnlyOrdersInRange_whenRangeCoversPartOfTheOrders() {
+		Long exported = new TransactionTemplate(transactionManager).execute(status ->
+			orderExportRepository.exportOrders(OrderExportQuery.builder()
+				.createdFrom(FIRST_ORDER_CREATED_AT.plusSeconds(10))
+				.createdTo(FIRST_ORDER_CREATED_AT.plusSeconds(20))
+				.build(), orderExportRow -> Assertions.assertFalse(
+				orderExportRow.getCreatedAt().isBefore(FIRST_ORDER_CREATED_AT.plusSeconds(10)))));
+
+		Assertions.assertEquals(10, exported);
+	}
+
+	private String sequentialUuid(String group, String number) {
+		return "cast(concat('00000000-0000-4000-" + group + "-', lpad(cast(" + number + " as varchar), 12, '0')) as uuid)";
+	}
+}
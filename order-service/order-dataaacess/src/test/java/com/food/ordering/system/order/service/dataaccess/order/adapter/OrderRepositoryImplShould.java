@@ -0,0 +1,177 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.Money;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.domain.entity.valueobject.ProductId;
+import com.food.ordering.system.domain.entity.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.config.OrderCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.cache.OrderCache;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// the rows are changed behind the repository to tell the orders read from the cache from the ones read from the table
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderRepositoryImpl.class, OrderDataAccessMapper.class, OrderShardRouter.class, OrderShardingConfigData.class,
+	OrderCache.class, OrderCacheConfigData.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderRepositoryImplShould {
+
+	private static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+	private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+	private static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47");
+
+	@Autowired
+	private OrderRepositoryImpl orderRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void readOrderFromCacheAndRejectItsSave_whenRowChangedBehindIt() {
+		Order order = saveNewOrder();
+		jdbcTemplate.update("update orders set order_status = 'CANCELLED', version = version + 1 where id = ?",
+			order.getId().getValue());
+
+		Exception exception = Assertions.assertThrows(OptimisticLockingFailureException.class, () ->
+			inTransaction(order.getId(), cached -> {
+				Assertions.assertEquals(OrderStatus.PENDING, cached.getOrderStatus());
+				cached.pay();
+				orderRepository.save(cached);
+			}));
+
+		Assertions.assertTrue(exception.getMessage().endsWith("changed since it was read at version: 0"));
+		inTransaction(order.getId(), reloaded -> Assertions.assertEquals(OrderStatus.CANCELLED, reloaded.getOrderStatus()));
+	}
+
+	@Test
+	void readOrderFromTable_whenCachedCopyBehindItIsEvicted() {
+		Order order = saveNewOrder();
+		jdbcTemplate.update("update orders set order_status = 'PAID', version = version + 1 where id = ?",
+			order.getId().getValue());
+		inTransaction(order.getId(), cached -> Assertions.assertEquals(OrderStatus.PENDING, cached.getOrderStatus()));
+
+		Assertions.assertTrue(orderRepository.evictCached(order.getId()));
+		inTransaction(order.getId(), reloaded -> {
+			Assertions.assertEquals(OrderStatus.PAID, reloaded.getOrderStatus());
+			reloaded.approve();
+			orderRepository.save(reloaded);
+		});
+
+		Assertions.assertFalse(orderRepository.evictCached(order.getId()));
+		Assertions.assertEquals(2, jdbcTemplate.queryForObject("select version from orders where id = ?", Long.class,
+			order.getId().getValue()));
+	}
+
+	@Test
+	void updateOrderOnVersionItWasRead_whenSavedAgain() {
+		Order order = saveNewOrder();
+
+		inTransaction(order.getId(), cached -> {
+			cached.pay();
+			orderRepository.save(cached);
+		});
+		inTransaction(order.getId(), cached -> {
+			Assertions.assertEquals(OrderStatus.PAID, cached.getOrderStatus());
+			cached.initCancel(List.of("Restaurant closed"));
+			orderRepository.save(cached);
+		});
+
+		Assertions.assertEquals(2, jdbcTemplate.queryForObject("select version from orders where id = ?", Long.class,
+			order.getId().getValue()));
+		Assertions.assertEquals("Restaurant closed", jdbcTemplate.queryForObject(
+			"select failure_messages from orders where id = ?", String.class, order.getId().getValue()));
+	}
+
+	@Test
+	void keepCachedOrder_whenSaveRollsBack() {
+		Order order = saveNewOrder();
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Order cached = orderRepository.findById(order.getId()).orElseThrow();
+			cached.pay();
+			orderRepository.save(cached);
+			status.setRollbackOnly();
+		});
+
+		inTransaction(order.getId(), cached -> {
+			Assertions.assertEquals(OrderStatus.PENDING, cached.getOrderStatus());
+			cached.pay();
+			orderRepository.save(cached);
+		});
+	}
+
+	@Test
+	void readOrderFromTable_whenItWasCancelled() {
+		Order order = saveNewOrder();
+		inTransaction(order.getId(), cached -> {
+			cached.cancel(List.of("Payment failed"));
+			orderRepository.save(cached);
+		});
+		jdbcTemplate.update("update orders set failure_messages = 'Refunded' where id = ?", order.getId().getValue());
+
+		inTransaction(order.getId(), reloaded -> Assertions.assertEquals(List.of("Refunded"),
+			reloaded.getFailureMessages()));
+	}
+
+	private void inTransaction(OrderId orderId, Consumer<Order> sagaStep) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+			sagaStep.accept(orderRepository.findById(orderId).orElseThrow()));
+	}
+
+	private Order saveNewOrder() {
+		Money price = new Money(new BigDecimal("50.00"));
+		Order order = Order.Builder.builder()
+			.orderId(new OrderId(UUID.randomUUID()))
+			.trackingId(new TrackingId(UUID.randomUUID()))
+			.customerId(new CustomerId(CUSTOMER_ID))
+			.restaurantId(new RestaurantId(RESTAURANT_ID))
+			.deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "Amsterdam"))
+			.price(price)
+			.items(List.of(OrderItem.Builder.builder()
+				.orderItemId(new OrderItemId(1L))
+				.product(new Product(new ProductId(PRODUCT_ID)))
+				.price(price)
+				.quantity(1)
+				.subTotal(price)
+				.build()))
+			.orderStatus(OrderStatus.PENDING)
+			.failureMessages(new ArrayList<>())
+			.createdAt(ZonedDateTime.now(ZoneId.of("UTC")))
+			.build();
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> orderRepository.save(order));
+		return order;
+	}
+}
@@ -0,0 +1,196 @@
+package com.food.ordering.system.order.service.dataaccess.order.archive;
+
+import com.food.ordering.system.order.service.dataaccess.config.OrderArchiveConfigData;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+
+// the partitions and the functions maintaining them only exist on postgres
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.flyway.schemas=order",
+	"spring.jpa.hibernate.ddl-auto=none",
+	"order-archive.enabled=true",
+	"order-archive.retention-days=30",
+	"order-archive.orders-per-file=2",
+	"order-archive.max-files-per-run=20",
+	"order-archive.fetch-size=1",
+	"order-archive.codec=deflate",
+	"order-archive.manage-partitions=true",
+	"order-archive.partitions-ahead=3"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderArchiveJob.class, OrderArchiveConfigData.class, OrderDataAccessMapper.class, OrderShardRouter.class,
+	OrderShardingConfigData.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderArchiveJobShould {
+
+	private static final DateTimeFormatter PARTITION_SUFFIX_FORMATTER = DateTimeFormatter.ofPattern("'_p'yyyy_MM");
+
+	private static EmbeddedPostgres postgres;
+	private static Path archiveDirectory;
+
+	@Autowired
+	private OrderArchiveJob orderArchiveJob;
+
+	@SpyBean
+	private OrderJpaRepository orderJpaRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+		postgres = EmbeddedPostgres.start();
+		archiveDirectory = Files.createTempDirectory("order-archive");
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres") +
+			"&currentSchema=order&stringtype=unspecified");
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+		registry.add("order-archive.directory", archiveDirectory::toString);
+	}
+
+	@AfterAll
+	static void stopPostgres() throws IOException {
+		postgres.close();
+		try (Stream<Path> files = Files.list(archiveDirectory)) {
+			for (Path file : files.toList()) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(archiveDirectory);
+	}
+
+	@BeforeEach
+	void clearOrders() {
+		jdbcTemplate.execute("truncate orders, order_items, order_address");
+	}
+
+	@Test
+	void archiveCompletedOrdersOfMonth_beforeDeletingThem() {
+		LocalDate archivedMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).minusMonths(4);
+		LocalDate keptMonth = archivedMonth.plusMonths(1);
+		jdbcTemplate.queryForObject("select create_order_partitions(?, 2)", Integer.class, archivedMonth);
+		List<UUID> archivedOrderIds = List.of(
+			insertOrder("APPROVED", archivedMonth.plusDays(1)),
+			insertOrder("CANCELLED", archivedMonth.plusDays(2)),
+			insertOrder("APPROVED", archivedMonth.plusDays(3)),
+			insertOrder("APPROVED", keptMonth.plusDays(1)));
+		UUID pendingOrderId = insertOrder("PENDING", keptMonth.plusDays(2));
+		List<Boolean> archivedBeforeDeleted = new ArrayList<>();
+		Mockito.doAnswer(invocation -> {
+			Collection<UUID> deletedOrderIds = invocation.getArgument(0);
+			archivedBeforeDeleted.add(readArchivedOrderIds().containsAll(deletedOrderIds));
+			// the spy of a repository forwards to it by default, it has no real method of its own to call
+			return Mockito.mockingDetails(orderJpaRepository).getMockCreationSettings().getDefaultAnswer()
+				.answer(invocation);
+		}).when(orderJpaRepository).deleteItemsByOrderIdInAndCreatedAtBefore(any(), any());
+
+		orderArchiveJob.archiveCompletedOrders();
+
+		Assertions.assertEquals(List.of(true, true, true, true), archivedBeforeDeleted);
+		Assertions.assertEquals(new HashSet<>(archivedOrderIds), readArchivedOrderIds());
+		Assertions.assertEquals(List.of(pendingOrderId), jdbcTemplate.queryForList("select id from orders", UUID.class));
+		Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from order_items", Integer.class));
+		Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from order_address", Integer.class));
+		Assertions.assertFalse(partitionExists("orders", archivedMonth));
+		Assertions.assertTrue(partitionExists("orders", keptMonth));
+	}
+
+	@Test
+	void dropOnlyEmptyPartitions_whenTheyEndBeforeTheGivenTime() {
+		jdbcTemplate.queryForObject("select create_order_partitions(date '2021-01-01', 3)", Integer.class);
+		insertOrder("PENDING", LocalDate.of(2021, 1, 15));
+
+		Integer dropped = new TransactionTemplate(transactionManager).execute(status ->
+			orderJpaRepository.dropEmptyOrderPartitions(ZonedDateTime.parse("2021-03-01T00:00:00Z")));
+
+		Assertions.assertEquals(1, dropped);
+		for (String table : List.of("orders", "order_items", "order_address")) {
+			Assertions.assertTrue(partitionExists(table, LocalDate.of(2021, 1, 1)));
+			Assertions.assertFalse(partitionExists(table, LocalDate.of(2021, 2, 1)));
+			// empty, but it ends after the given time
+			Assertions.assertTrue(partitionExists(table, LocalDate.of(2021, 3, 1)));
+		}
+		Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from orders", Integer.class));
+	}
+
+	private UUID insertOrder(String orderStatus, LocalDate createdOn) {
+		UUID orderId = UUID.randomUUID();
+		ZonedDateTime createdAt = createdOn.atStartOfDay(ZoneOffset.UTC);
+		jdbcTemplate.update("insert into orders (id, customer_id, restaurant_id, tracking_id, price, order_status, " +
+			"failure_messages, created_at) values (?, gen_random_uuid(), gen_random_uuid(), gen_random_uuid(), 50.00, " +
+			"?, '', ?)", orderId, orderStatus, createdAt.toOffsetDateTime());
+		jdbcTemplate.update("insert into order_items (id, order_id, product_id, price, quantity, subtotal, created_at) " +
+			"values (1, ?, gen_random_uuid(), 25.00, 2, 50.00, ?)", orderId, createdAt.toOffsetDateTime());
+		jdbcTemplate.update("insert into order_address (id, order_id, street, postal_code, city, created_at) " +
+			"values (gen_random_uuid(), ?, 'street', '1000AB', 'Amsterdam', ?)", orderId, createdAt.toOffsetDateTime());
+		return orderId;
+	}
+
+	private boolean partitionExists(String table, LocalDate month) {
+		return jdbcTemplate.queryForObject("select to_regclass(?) is not null", Boolean.class,
+			table + PARTITION_SUFFIX_FORMATTER.format(month));
+	}
+
+	// only complete files, a file still being written carries the .part suffix
+	private Set<UUID> readArchivedOrderIds() {
+		Set<UUID> orderIds = new HashSet<>();
+		try (Stream<Path> files = Files.list(archiveDirectory)) {
+			for (Path file : files.filter(file -> file.toString().endsWith(".avro")).toList()) {
+				try (DataFileReader<GenericRecord> reader = new DataFileReader<>(file.toFile(),
+					new GenericDatumReader<>(OrderArchiveWriter.ARCHIVED_ORDER_SCHEMA))) {
+					reader.forEach(archivedOrder -> orderIds.add(UUID.fromString(archivedOrder.get("id").toString())));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return orderIds;
+	}
+}
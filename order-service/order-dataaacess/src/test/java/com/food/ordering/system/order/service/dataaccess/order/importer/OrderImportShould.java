@@ -0,0 +1,159 @@
+package com.food.ordering.system.order.service.dataaccess.order.importer;
+
+import com.food.ordering.system.order.service.dataaccess.config.OrderImportConfigData;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+// imports orders of past months into the migrated schema on a real postgres, with the indexes managed
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.flyway.schemas=order",
+	"spring.jpa.hibernate.ddl-auto=none",
+	"order-import.manage-indexes=true",
+	"order-import.maintenance-work-mem=64MB"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderImporter.class, OrderImportConfigData.class, OrderShardRouter.class, OrderShardingConfigData.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderImportShould {
+
+	private static final String APPROVED_ORDER_ID = "d215b5f8-0249-4dc5-89a3-51fd148cfb41";
+	private static final String CANCELLED_ORDER_ID = "d215b5f8-0249-4dc5-89a3-51fd148cfb42";
+	private static final String PENDING_ORDER_ID = "d215b5f8-0249-4dc5-89a3-51fd148cfb43";
+	private static final String ORDER_INDEXES_AND_FOREIGN_KEYS = "select definition from (" +
+		"select pg_get_indexdef(x.indexrelid) as definition from pg_index x join pg_class t on t.oid = x.indrelid " +
+		"where t.relname in ('orders', 'order_items', 'order_address') union all " +
+		"select pg_get_constraintdef(c.oid) from pg_constraint c join pg_class t on t.oid = c.conrelid " +
+		"where t.relname in ('orders', 'order_items', 'order_address') and c.contype = 'f' and c.conparentid = 0) d " +
+		"order by definition";
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	private OrderImporter orderImporter;
+
+	@Autowired
+	private OrderImportConfigData orderImportConfigData;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@TempDir
+	private Path directory;
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+		postgres = EmbeddedPostgres.start();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres") +
+			"&currentSchema=order&stringtype=unspecified");
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+	}
+
+	@AfterAll
+	static void stopPostgres() throws IOException {
+		postgres.close();
+	}
+
+	@BeforeEach
+	void deleteOrders() {
+		jdbcTemplate.execute("truncate orders, order_items, order_address");
+		orderImportConfigData.setChunkSize(2);
+	}
+
+	@Test
+	void copyValidOrdersIntoTheirMonthPartitions_andLeaveInvalidOnesOut() throws IOException {
+		List<String> indexesAndForeignKeys = jdbcTemplate.queryForList(ORDER_INDEXES_AND_FOREIGN_KEYS, String.class);
+		Path file = Files.write(directory.resolve("orders.ndjson"), List.of(
+			order(APPROVED_ORDER_ID, "1234.50", "APPROVED", "[]", "2021-01-15T10:15:30.123456+02:00",
+				item("0.05", 10, "0.50") + "," + item("1234.00", 1, "1234.00")),
+			order(CANCELLED_ORDER_ID, "25.00", "CANCELLED", "[\"Payment failed\",\"No credit\"]",
+				"2021-01-31T23:30:00-01:00", item("12.50", 2, "25.00")),
+			"{\"id\":",
+			order("d215b5f8-0249-4dc5-89a3-51fd148cfb44", "30.00", "APPROVED", "[]", "2021-01-20T10:00:00Z",
+				item("12.50", 2, "25.00")),
+			order("d215b5f8-0249-4dc5-89a3-51fd148cfb45", "25.00", "PAID", "[\"Payment failed\"]",
+				"2021-01-20T10:00:00Z", item("12.50", 2, "25.00")),
+			order(PENDING_ORDER_ID, "100.00", "PENDING", "[]", "2021-03-01T00:00:00Z", item("100.00", 1, "100.00"))));
+
+		OrderImportResult orderImportResult = orderImporter.importOrders(file);
+
+		Assertions.assertEquals(3, orderImportResult.getImported());
+		Assertions.assertEquals(3, orderImportResult.getRejected());
+		Assertions.assertEquals(Map.of("price", "1234.50", "order_status", "APPROVED", "failure_messages", ""),
+			jdbcTemplate.queryForMap("select price::text as price, order_status::text as order_status, " +
+				"failure_messages from orders where id = ?::uuid", APPROVED_ORDER_ID));
+		Assertions.assertEquals(OffsetDateTime.parse("2021-01-15T10:15:30.123456+02:00").toInstant(),
+			jdbcTemplate.queryForObject("select created_at from orders where id = ?::uuid", OffsetDateTime.class,
+				APPROVED_ORDER_ID).toInstant());
+		Assertions.assertEquals(List.of("1 0.05 10 0.50", "2 1234.00 1 1234.00"), jdbcTemplate.queryForList(
+			"select concat_ws(' ', id, price, quantity, subtotal) from order_items where order_id = ?::uuid order by id",
+			String.class, APPROVED_ORDER_ID));
+		Assertions.assertEquals("Payment failed,No credit", jdbcTemplate.queryForObject(
+			"select failure_messages from orders where id = ?::uuid", String.class, CANCELLED_ORDER_ID));
+		Assertions.assertEquals("street 1000AB Amsterdam", jdbcTemplate.queryForObject("select concat_ws(' ', " +
+			"street, postal_code, city) from order_address where order_id = ?::uuid", String.class, PENDING_ORDER_ID));
+		// the cancelled order was created in February in UTC
+		Assertions.assertEquals(List.of("orders_p2021_01", "orders_p2021_02", "orders_p2021_03"),
+			jdbcTemplate.queryForList("select distinct tableoid::regclass::text from orders order by 1", String.class));
+		Assertions.assertEquals(indexesAndForeignKeys,
+			jdbcTemplate.queryForList(ORDER_INDEXES_AND_FOREIGN_KEYS, String.class));
+		Assertions.assertTrue(jdbcTemplate.queryForObject("select count(*) from pg_indexes " +
+			"where tablename = 'orders_p2021_01' and indexname like '%tracking_id%'", Integer.class) > 0);
+	}
+
+	@Test
+	void restoreIndexesAndForeignKeys_whenChunkFailsToCopy() throws IOException {
+		orderImportConfigData.setChunkSize(1);
+		List<String> indexesAndForeignKeys = jdbcTemplate.queryForList(ORDER_INDEXES_AND_FOREIGN_KEYS, String.class);
+		String order = order(APPROVED_ORDER_ID, "25.00", "APPROVED", "[]", "2021-01-15T10:15:30Z",
+			item("12.50", 2, "25.00"));
+		Path file = Files.write(directory.resolve("orders.ndjson"), List.of(order, order));
+
+		Assertions.assertThrows(DataAccessException.class, () -> orderImporter.importOrders(file));
+
+		Assertions.assertEquals(1, jdbcTemplate.queryForObject("select count(*) from orders", Integer.class));
+		Assertions.assertEquals(indexesAndForeignKeys,
+			jdbcTemplate.queryForList(ORDER_INDEXES_AND_FOREIGN_KEYS, String.class));
+	}
+
+	private String order(String id, String price, String orderStatus, String failureMessages, String createdAt,
+						 String items) {
+		return "{\"id\":\"" + id + "\",\"customerId\":\"d215b5f8-0249-4dc5-89a3-51fd148cfb51\"," +
+			"\"restaurantId\":\"d215b5f8-0249-4dc5-89a3-51fd148cfb52\"," +
+			"\"trackingId\":\"" + id.replace("d215b5f8", "e215b5f8") + "\",\"price\":" + price + "," +
+			"\"orderStatus\":\"" + orderStatus + "\",\"failureMessages\":" + failureMessages + "," +
+			"\"deliveryAddress\":{\"street\":\"street\",\"postalCode\":\"1000AB\",\"city\":\"Amsterdam\"}," +
+			"\"items\":[" + items + "],\"createdAt\":\"" + createdAt + "\"}";
+	}
+
+	private String item(String price, int quantity, String subTotal) {
+		return "{\"productId\":\"d215b5f8-0249-4dc5-89a3-51fd148cfb53\",\"price\":" + price + "," +
+			"\"quantity\":" + quantity + ",\"subTotal\":" + subTotal + "}";
+	}
+}
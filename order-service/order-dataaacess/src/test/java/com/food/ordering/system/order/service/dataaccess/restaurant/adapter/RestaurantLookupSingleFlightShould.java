@@ -0,0 +1,154 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+
+class RestaurantLookupSingleFlightShould {
+
+	private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+	private static final UUID PRODUCT_1 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47");
+	private static final UUID PRODUCT_2 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+	private static final UUID PRODUCT_3 = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb49");
+
+	private final CountDownLatch firstQueryStarted = new CountDownLatch(1);
+	private final CountDownLatch releaseFirstQuery = new CountDownLatch(1);
+	private final AtomicInteger queries = new AtomicInteger();
+	private final Semaphore parkedLookups = new Semaphore(0);
+	private final ExecutorService executorService = Executors.newCachedThreadPool();
+	private RestaurantJpaRepository restaurantJpaRepository;
+	private RestaurantLookupSingleFlight restaurantLookupSingleFlight;
+
+	@BeforeEach
+	void init() {
+		restaurantJpaRepository = Mockito.mock(RestaurantJpaRepository.class);
+		restaurantLookupSingleFlight = new RestaurantLookupSingleFlight(restaurantJpaRepository) {
+			@Override
+			void waiting(UUID restaurantId) {
+				parkedLookups.release();
+			}
+		};
+	}
+
+	@AfterEach
+	void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	void shareQueries_whenSameRestaurantIsLookedUpConcurrently() throws Exception {
+		Mockito.when(restaurantJpaRepository.findByRestaurantIdAndProductIdIn(eq(RESTAURANT_ID), anyList()))
+			.thenAnswer(blockingFirstQuery(invocation -> rows(invocation.getArgument(1))));
+
+		Future<List<RestaurantEntity>> first = lookup(PRODUCT_1);
+		Assertions.assertTrue(firstQueryStarted.await(5, TimeUnit.SECONDS));
+		Future<List<RestaurantEntity>> sameProducts = lookup(PRODUCT_1);
+		Future<List<RestaurantEntity>> otherProduct = lookup(PRODUCT_2);
+		Future<List<RestaurantEntity>> otherProducts = lookup(PRODUCT_2, PRODUCT_3);
+		awaitParkedLookups(3);
+		releaseFirstQuery.countDown();
+
+		Assertions.assertEquals(Set.of(PRODUCT_1), productIds(first.get(5, TimeUnit.SECONDS)));
+		Assertions.assertEquals(Set.of(PRODUCT_1), productIds(sameProducts.get(5, TimeUnit.SECONDS)));
+		Assertions.assertEquals(Set.of(PRODUCT_2), productIds(otherProduct.get(5, TimeUnit.SECONDS)));
+		Assertions.assertEquals(Set.of(PRODUCT_2, PRODUCT_3), productIds(otherProducts.get(5, TimeUnit.SECONDS)));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<UUID>> productIds = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(restaurantJpaRepository, Mockito.times(2))
+			.findByRestaurantIdAndProductIdIn(eq(RESTAURANT_ID), productIds.capture());
+		Assertions.assertEquals(Set.of(PRODUCT_1), Set.copyOf(productIds.getAllValues().get(0)));
+		Assertions.assertEquals(Set.of(PRODUCT_2, PRODUCT_3), Set.copyOf(productIds.getAllValues().get(1)));
+	}
+
+	@Test
+	void throwException_whenSharedQueryFails() throws Exception {
+		Mockito.when(restaurantJpaRepository.findByRestaurantIdAndProductIdIn(eq(RESTAURANT_ID), anyList()))
+			.thenAnswer(blockingFirstQuery(invocation -> {
+				throw new IllegalStateException("Materialized view is not available");
+			}));
+
+		Future<List<RestaurantEntity>> first = lookup(PRODUCT_1);
+		Assertions.assertTrue(firstQueryStarted.await(5, TimeUnit.SECONDS));
+		Future<List<RestaurantEntity>> joined = lookup(PRODUCT_1);
+		awaitParkedLookups(1);
+		releaseFirstQuery.countDown();
+
+		for (Future<List<RestaurantEntity>> lookup : List.of(first, joined)) {
+			Exception exception = Assertions.assertThrows(Exception.class, () -> lookup.get(5, TimeUnit.SECONDS));
+			Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+		}
+		Mockito.verify(restaurantJpaRepository, Mockito.times(1)).findByRestaurantIdAndProductIdIn(any(), anyList());
+	}
+
+	@Test
+	void queryAgain_whenPreviousLookupCompleted() {
+		Mockito.when(restaurantJpaRepository.findByRestaurantIdAndProductIdIn(eq(RESTAURANT_ID), anyList()))
+			.thenAnswer(invocation -> rows(invocation.getArgument(1)));
+
+		restaurantLookupSingleFlight.findByRestaurantIdAndProductIdIn(RESTAURANT_ID, List.of(PRODUCT_1));
+		restaurantLookupSingleFlight.findByRestaurantIdAndProductIdIn(RESTAURANT_ID, List.of(PRODUCT_1));
+
+		Mockito.verify(restaurantJpaRepository, Mockito.times(2)).findByRestaurantIdAndProductIdIn(any(), anyList());
+	}
+
+	private Answer<Optional<List<RestaurantEntity>>> blockingFirstQuery(Answer<Optional<List<RestaurantEntity>>> answer) {
+		return invocation -> {
+			if (queries.getAndIncrement() == 0) {
+				firstQueryStarted.countDown();
+				releaseFirstQuery.await(5, TimeUnit.SECONDS);
+			}
+			return answer.answer(invocation);
+		};
+	}
+
+	private Future<List<RestaurantEntity>> lookup(UUID... productIds) {
+		return executorService.submit(() ->
+			restaurantLookupSingleFlight.findByRestaurantIdAndProductIdIn(RESTAURANT_ID, List.of(productIds)));
+	}
+
+	// lookups bound to wait for a query in flight, the first query is blocked in the repository meanwhile
+	private void awaitParkedLookups(int expected) throws InterruptedException {
+		Assertions.assertTrue(parkedLookups.tryAcquire(expected, 5, TimeUnit.SECONDS));
+	}
+
+	private Optional<List<RestaurantEntity>> rows(List<UUID> productIds) {
+		return Optional.of(productIds.stream()
+			.map(productId -> RestaurantEntity.builder()
+				.restaurantId(RESTAURANT_ID)
+				.productId(productId)
+				.restaurantName("restaurant")
+				.restaurantActive(true)
+				.productName("product")
+				.productPrice(new BigDecimal("50.00"))
+				.build())
+			.toList());
+	}
+
+	private Set<UUID> productIds(List<RestaurantEntity> rows) {
+		return Set.copyOf(rows.stream().map(RestaurantEntity::getProductId).toList());
+	}
+}
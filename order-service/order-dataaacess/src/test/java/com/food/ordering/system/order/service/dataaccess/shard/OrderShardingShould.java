@@ -0,0 +1,302 @@
+package com.food.ordering.system.order.service.dataaccess.shard;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.Money;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.domain.entity.valueobject.ProductId;
+import com.food.ordering.system.domain.entity.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.config.OrderCacheConfigData;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.customer.adapter.CustomerRepositoryImpl;
+import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderIdentityGeneratorImpl;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderRepositoryImpl;
+import com.food.ordering.system.order.service.dataaccess.order.adapter.OrderTrackingRepositoryImpl;
+import com.food.ordering.system.order.service.dataaccess.order.cache.OrderCache;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// three databases of one embedded postgres as order shards, the ring having grown from the first two
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.flyway.schemas=order",
+	"spring.jpa.hibernate.ddl-auto=none",
+	"order-sharding.enabled=true",
+	"order-sharding.virtual-nodes-per-shard=" + OrderShardingShould.VIRTUAL_NODES_PER_SHARD,
+	"order-sharding.rebalance-batch-size=7"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderShardingConfigData.class, OrderShardDataSourceConfig.class, OrderShardRouter.class,
+	OrderShardRebalancer.class, OrderRepositoryImpl.class, OrderTrackingRepositoryImpl.class,
+	CustomerRepositoryImpl.class, OrderIdentityGeneratorImpl.class, OrderDataAccessMapper.class,
+	CustomerDataAccessMapper.class, OrderCache.class, OrderCacheConfigData.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderShardingShould {
+
+	static final int VIRTUAL_NODES_PER_SHARD = 64;
+	private static final List<String> SHARDS = List.of("a", "b", "c");
+	private static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+	private static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb47");
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	private OrderRepositoryImpl orderRepository;
+
+	@Autowired
+	private OrderTrackingRepositoryImpl orderTrackingRepository;
+
+	@Autowired
+	private CustomerRepositoryImpl customerRepository;
+
+	@Autowired
+	private OrderIdentityGeneratorImpl orderIdentityGenerator;
+
+	@Autowired
+	private OrderShardRouter orderShardRouter;
+
+	@Autowired
+	private OrderShardRebalancer orderShardRebalancer;
+
+	@Autowired
+	private OrderShardRoutingDataSource orderShardRoutingDataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@DynamicPropertySource
+	static void shardProperties(DynamicPropertyRegistry registry) throws IOException {
+		postgres = EmbeddedPostgres.start();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+		for (int shard = 0; shard < SHARDS.size(); shard++) {
+			String database = "shard_" + SHARDS.get(shard);
+			jdbcTemplate.execute("create database " + database);
+			registry.add("order-sharding.shards[" + shard + "].name", () -> database.substring("shard_".length()));
+			registry.add("order-sharding.shards[" + shard + "].url", () -> postgres.getJdbcUrl("postgres", database) +
+				"&currentSchema=order&stringtype=unspecified");
+			registry.add("order-sharding.shards[" + shard + "].username", () -> "postgres");
+		}
+	}
+
+	@AfterAll
+	static void stopPostgres() throws IOException {
+		postgres.close();
+	}
+
+	@BeforeEach
+	void deleteOrders() {
+		SHARDS.forEach(shard -> shardJdbcTemplate(shard).execute("truncate orders, order_items, order_address, " +
+			"order_idempotency_keys"));
+	}
+
+	@Test
+	void storeOrderOnShardOfItsCustomer_andFindItByItsIdsAlone() {
+		List<Order> orders = new ArrayList<>();
+		for (int customer = 0; customer < 30; customer++) {
+			Order order = newOrder(customerId(customer));
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> orderRepository.save(order));
+			orders.add(order);
+		}
+
+		for (Order order : orders) {
+			String shard = orderShardRouter.shardOfCustomer(order.getCustomerId().getValue());
+			Assertions.assertEquals(List.of(shard), shardsHoldingOrder(order.getId().getValue()));
+			Assertions.assertEquals(order.getCustomerId(),
+				readOnly(() -> orderRepository.findByTrackingId(order.getTrackingId())).orElseThrow().getCustomerId());
+			Assertions.assertEquals(order.getTrackingId(),
+				readOnly(() -> orderRepository.findById(order.getId())).orElseThrow().getTrackingId());
+			Assertions.assertEquals(OrderStatus.PENDING,
+				orderTrackingRepository.findTrackOrderResponse(order.getTrackingId()).orElseThrow().getOrderStatus());
+		}
+		Assertions.assertEquals(SHARDS.size(), orders.stream()
+			.map(order -> orderShardRouter.shardOfCustomer(order.getCustomerId().getValue()))
+			.distinct()
+			.count());
+	}
+
+	@Test
+	void findOrderOnAnyShard_whenItsIdsWereGeneratedBeforeSharding() {
+		UUID orderId = UUID.randomUUID();
+		UUID trackingId = UUID.randomUUID();
+		insertOrder("b", orderId, customerOnShard("b"), trackingId);
+
+		Assertions.assertEquals(orderId,
+			readOnly(() -> orderRepository.findByTrackingId(new TrackingId(trackingId))).orElseThrow().getId().getValue());
+		Assertions.assertTrue(readOnly(() -> orderRepository.findById(new OrderId(orderId))).isPresent());
+		Assertions.assertTrue(readOnly(() -> orderRepository.findById(new OrderId(UUID.randomUUID()))).isEmpty());
+	}
+
+	@Test
+	void updateOrder_whenItsIdsWereGeneratedBeforeShardingAndItIsSavedAfterBeingFound() {
+		UUID orderId = UUID.randomUUID();
+		insertOrder("b", orderId, customerOnShard("b"), UUID.randomUUID());
+
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			Order order = orderRepository.findById(new OrderId(orderId)).orElseThrow();
+			order.pay();
+			orderRepository.save(order);
+		});
+
+		Assertions.assertEquals(List.of("b"), shardsHoldingOrder(orderId));
+		Assertions.assertEquals(Map.of("order_status", "PAID", "version", 1L), shardJdbcTemplate("b").queryForMap(
+			"select order_status::text, version from orders where id = ?", orderId));
+	}
+
+	@Test
+	void throwException_whenTransactionUsesSecondShard() {
+		UUID firstCustomerId = customerOnShard("a");
+		UUID secondCustomerId = customerOnShard("c");
+
+		IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () ->
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				customerRepository.findCustomer(firstCustomerId);
+				customerRepository.findCustomer(secondCustomerId);
+			}));
+
+		Assertions.assertEquals("Cannot use order shard c while order shard a is in use", exception.getMessage());
+	}
+
+	@Test
+	void moveOnlyOrdersOfCustomersTakenOverByAddedShard_whenRebalanced() {
+		// stored while there were only the first two shards
+		OrderShardRing twoShardRing = new OrderShardRing(SHARDS.subList(0, 2), VIRTUAL_NODES_PER_SHARD);
+		Map<UUID, List<UUID>> trackingIdsByCustomer = new HashMap<>();
+		for (int customer = 0; customer < 60; customer++) {
+			UUID customerId = customerId(customer);
+			int slot = OrderShardSlots.slotOfCustomer(customerId);
+			for (int order = 0; order < 2; order++) {
+				UUID trackingId = OrderShardSlots.newIdOnSlot(slot);
+				insertOrder(twoShardRing.ownerOf(slot), OrderShardSlots.newIdOnSlot(slot), customerId, trackingId);
+				trackingIdsByCustomer.computeIfAbsent(customerId, id -> new ArrayList<>()).add(trackingId);
+			}
+		}
+		List<UUID> takenOver = trackingIdsByCustomer.keySet().stream()
+			.filter(customerId -> !orderShardRouter.shardOfCustomer(customerId)
+				.equals(twoShardRing.ownerOf(OrderShardSlots.slotOfCustomer(customerId))))
+			.toList();
+
+		long moved = orderShardRebalancer.rebalance();
+
+		Assertions.assertFalse(takenOver.isEmpty());
+		Assertions.assertEquals(takenOver.size() * 2L, moved);
+		takenOver.forEach(customerId -> Assertions.assertEquals("c", orderShardRouter.shardOfCustomer(customerId)));
+		for (Map.Entry<UUID, List<UUID>> customer : trackingIdsByCustomer.entrySet()) {
+			String shard = orderShardRouter.shardOfCustomer(customer.getKey());
+			for (String otherShard : SHARDS) {
+				long expected = otherShard.equals(shard) ? 2 : 0;
+				JdbcTemplate jdbcTemplate = shardJdbcTemplate(otherShard);
+				Assertions.assertEquals(expected, jdbcTemplate.queryForObject("select count(*) from orders o " +
+					"join order_address a on a.order_id = o.id join order_items i on i.order_id = o.id " +
+					"where o.customer_id = ?", Long.class, customer.getKey()));
+				Assertions.assertEquals(expected, jdbcTemplate.queryForObject("select count(*) from " +
+					"order_idempotency_keys where order_tracking_id = any(cast(? as uuid[]))", Long.class,
+					customer.getValue().stream().map(UUID::toString).collect(Collectors.joining(",", "{", "}"))));
+			}
+			for (UUID trackingId : customer.getValue()) {
+				Assertions.assertTrue(readOnly(() -> orderRepository.findByTrackingId(new TrackingId(trackingId))).isPresent());
+			}
+		}
+		Assertions.assertEquals(0, orderShardRebalancer.rebalance());
+	}
+
+	// the orders are mapped with their items, which like in the sagas needs the session of a transaction
+	private <T> T readOnly(Supplier<T> lookup) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate.execute(status -> lookup.get());
+	}
+
+	private Order newOrder(UUID customerId) {
+		Money price = new Money(new BigDecimal("50.00"));
+		return Order.Builder.builder()
+			.orderId(orderIdentityGenerator.nextOrderId(new CustomerId(customerId)))
+			.trackingId(orderIdentityGenerator.nextTrackingId(new CustomerId(customerId)))
+			.customerId(new CustomerId(customerId))
+			.restaurantId(new RestaurantId(RESTAURANT_ID))
+			.deliveryAddress(new StreetAddress(UUID.randomUUID(), "street", "1000AB", "Amsterdam"))
+			.price(price)
+			.items(List.of(OrderItem.Builder.builder()
+				.orderItemId(new OrderItemId(1L))
+				.product(new Product(new ProductId(PRODUCT_ID)))
+				.price(price)
+				.quantity(1)
+				.subTotal(price)
+				.build()))
+			.orderStatus(OrderStatus.PENDING)
+			.createdAt(ZonedDateTime.now())
+			.build();
+	}
+
+	private void insertOrder(String shard, UUID orderId, UUID customerId, UUID trackingId) {
+		JdbcTemplate jdbcTemplate = shardJdbcTemplate(shard);
+		jdbcTemplate.update("insert into orders (id, customer_id, restaurant_id, tracking_id, price, order_status, " +
+			"failure_messages, created_at) values (?, ?, ?, ?, 50.00, 'PENDING', '', now())", orderId, customerId,
+			RESTAURANT_ID, trackingId);
+		jdbcTemplate.update("insert into order_address (id, order_id, street, postal_code, city, created_at) " +
+			"select gen_random_uuid(), id, 'street', '1000AB', 'Amsterdam', created_at from orders where id = ?", orderId);
+		jdbcTemplate.update("insert into order_items (id, order_id, product_id, price, quantity, subtotal, created_at) " +
+			"select 1, id, ?, 50.00, 1, 50.00, created_at from orders where id = ?", PRODUCT_ID, orderId);
+		jdbcTemplate.update("insert into order_idempotency_keys (idempotency_key, order_tracking_id, order_status, " +
+			"message, created_at) values (?, ?, 'PENDING', 'Order created successfully', now())",
+			trackingId.toString(), trackingId);
+	}
+
+	private List<String> shardsHoldingOrder(UUID orderId) {
+		return SHARDS.stream()
+			.filter(shard -> shardJdbcTemplate(shard).queryForObject("select count(*) from orders where id = ?",
+				Long.class, orderId) > 0)
+			.toList();
+	}
+
+	private UUID customerOnShard(String shard) {
+		for (int customer = 0; ; customer++) {
+			if (orderShardRouter.shardOfCustomer(customerId(customer)).equals(shard)) {
+				return customerId(customer);
+			}
+		}
+	}
+
+	private UUID customerId(int customer) {
+		return UUID.nameUUIDFromBytes(("customer-" + customer).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private JdbcTemplate shardJdbcTemplate(String shard) {
+		return new JdbcTemplate(orderShardRoutingDataSource.getShardDataSources().get(shard));
+	}
+}
@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.dataaccess.status.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.config.OrderStatusStoreConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+class OrderStatusStoreImplShould {
+
+	private static final UUID TRACKING_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+
+	@TempDir
+	private Path directory;
+
+	private OrderStatusStoreImpl orderStatusStore;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		OrderStatusStoreConfigData orderStatusStoreConfigData = new OrderStatusStoreConfigData();
+		orderStatusStoreConfigData.setDirectory(directory.toString());
+		orderStatusStoreConfigData.setCacheSizeMb(1);
+		orderStatusStore = new OrderStatusStoreImpl(orderStatusStoreConfigData);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		orderStatusStore.destroy();
+	}
+
+	@Test
+	void returnLatestStatus_whenStatusChanged() {
+		orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.PAID, List.of()), 1);
+		orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.CANCELLING,
+			List.of("Restaurant closed", "Product unavailable")), 2);
+
+		TrackOrderResponse trackOrderResponse = orderStatusStore.findByTrackingId(new TrackingId(TRACKING_ID)).orElseThrow();
+
+		Assertions.assertEquals(TRACKING_ID, trackOrderResponse.getOrderTrackingId());
+		Assertions.assertEquals(OrderStatus.CANCELLING, trackOrderResponse.getOrderStatus());
+		Assertions.assertEquals(List.of("Restaurant closed", "Product unavailable"), trackOrderResponse.getFailureMessages());
+	}
+
+	@Test
+	void keepLatestStatus_whenStatusesArriveOutOfOrder() {
+		Assertions.assertTrue(orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.APPROVED, List.of()), 2));
+		Assertions.assertFalse(orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.PENDING, List.of()), 0));
+		Assertions.assertFalse(orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.PAID, List.of()), 1));
+		Assertions.assertFalse(orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.PAID, List.of()), 2));
+
+		TrackOrderResponse trackOrderResponse = orderStatusStore.findByTrackingId(new TrackingId(TRACKING_ID)).orElseThrow();
+
+		Assertions.assertEquals(OrderStatus.APPROVED, trackOrderResponse.getOrderStatus());
+		Assertions.assertEquals(List.of(), trackOrderResponse.getFailureMessages());
+	}
+
+	@Test
+	void returnEmpty_whenStatusNotStored() {
+		Assertions.assertTrue(orderStatusStore.findByTrackingId(new TrackingId(TRACKING_ID)).isEmpty());
+	}
+
+	@Test
+	void deleteStoreFiles_whenDestroyed() throws IOException {
+		orderStatusStore.save(new TrackOrderResponse(TRACKING_ID, OrderStatus.PENDING, List.of()), 0);
+
+		orderStatusStore.destroy();
+
+		try (var files = Files.list(directory)) {
+			Assertions.assertEquals(0, files.count());
+		}
+	}
+}
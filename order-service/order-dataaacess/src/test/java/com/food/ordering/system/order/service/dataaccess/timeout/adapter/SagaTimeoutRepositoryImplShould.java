@@ -0,0 +1,135 @@
+package com.food.ordering.system.order.service.dataaccess.timeout.adapter;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.dataaccess.config.OrderShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.shard.OrderShardRouter;
+import com.food.ordering.system.order.service.dataaccess.timeout.mapper.SagaTimeoutDataAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.timeout.SagaTimeout;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// row locks and skip locked only behave as they do in production on a real postgres
+@DataJpaTest(properties = {
+	"spring.flyway.enabled=true",
+	"spring.flyway.schemas=order",
+	"spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SagaTimeoutRepositoryImpl.class, SagaTimeoutDataAccessMapper.class, OrderShardRouter.class,
+	OrderShardingConfigData.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SagaTimeoutRepositoryImplShould {
+
+	private static final UUID OVERDUE_ORDER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb51");
+	private static final UUID LATE_ORDER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb52");
+	private static final UUID WAITING_ORDER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb53");
+
+	private static EmbeddedPostgres postgres;
+
+	@Autowired
+	private SagaTimeoutRepositoryImpl sagaTimeoutRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private ZonedDateTime now;
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) throws IOException {
+		postgres = EmbeddedPostgres.start();
+		registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres") +
+			"&currentSchema=order&stringtype=unspecified");
+		registry.add("spring.datasource.username", () -> "postgres");
+		registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+	}
+
+	@AfterAll
+	static void stopPostgres() throws IOException {
+		postgres.close();
+	}
+
+	@BeforeEach
+	void insertTimeouts() {
+		now = ZonedDateTime.now(ZoneId.of("UTC")).truncatedTo(ChronoUnit.MILLIS);
+		jdbcTemplate.execute("truncate saga_timeouts");
+		insertTimeout(OVERDUE_ORDER_ID, now.minusMinutes(10));
+		insertTimeout(LATE_ORDER_ID, now.minusSeconds(10));
+		insertTimeout(WAITING_ORDER_ID, now.plusMinutes(5));
+	}
+
+	@Test
+	void claimOverdueTimeoutOnce_whenItIsPastTheGracePeriod() {
+		List<SagaTimeout> claimed = claimOverdue();
+
+		Assertions.assertEquals(List.of(new OrderId(OVERDUE_ORDER_ID)), claimed.stream().map(SagaTimeout::getOrderId).toList());
+		Assertions.assertTrue(now.isEqual(claimed.get(0).getDeadline()));
+		Assertions.assertTrue(now.toOffsetDateTime().isEqual(jdbcTemplate.queryForObject(
+			"select deadline from saga_timeouts where order_id = ?", OffsetDateTime.class, OVERDUE_ORDER_ID)));
+		Assertions.assertTrue(claimOverdue().isEmpty());
+	}
+
+	@Test
+	void passOverTimeout_whenAnotherInstanceIsClaimingIt() throws Exception {
+		CountDownLatch claimedByOther = new CountDownLatch(1);
+		CountDownLatch claimChecked = new CountDownLatch(1);
+		// the other claim holds its row locks until this one is done, a claim waiting on them would time the other out
+		CompletableFuture<Boolean> otherClaim = CompletableFuture.supplyAsync(() ->
+			new TransactionTemplate(transactionManager).execute(status -> {
+				Assertions.assertEquals(1, sagaTimeoutRepository.claimOverdue(now.minusMinutes(2), now, 10).size());
+				claimedByOther.countDown();
+				try {
+					return claimChecked.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}));
+		Assertions.assertTrue(claimedByOther.await(5, TimeUnit.SECONDS));
+
+		List<SagaTimeout> claimed = claimOverdue();
+		claimChecked.countDown();
+
+		Assertions.assertTrue(claimed.isEmpty());
+		Assertions.assertTrue(otherClaim.get(10, TimeUnit.SECONDS));
+	}
+
+	private List<SagaTimeout> claimOverdue() {
+		return new TransactionTemplate(transactionManager).execute(status ->
+			sagaTimeoutRepository.claimOverdue(now.minusMinutes(2), now, 10));
+	}
+
+	private void insertTimeout(UUID orderId, ZonedDateTime deadline) {
+		jdbcTemplate.update("insert into saga_timeouts (order_id, order_status, deadline) values (?, 'PENDING', ?)",
+			orderId, deadline.toOffsetDateTime());
+	}
+}
@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryQuery;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryResponse;
+import com.food.ordering.system.order.service.domain.dto.history.OrderHistoryPosition;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummaryPage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerOrderHistoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+public class CustomerOrderHistoryQueryHandler {
+
+	private final CustomerOrderHistoryRepository customerOrderHistoryRepository;
+
+	public CustomerOrderHistoryQueryHandler(CustomerOrderHistoryRepository customerOrderHistoryRepository) {
+		this.customerOrderHistoryRepository = customerOrderHistoryRepository;
+	}
+
+	@Transactional(readOnly = true)
+	CustomerOrderHistoryResponse findCustomerOrders(CustomerOrderHistoryQuery customerOrderHistoryQuery) {
+		OrderHistoryPosition after = customerOrderHistoryQuery.getContinuationToken() == null ? null :
+			OrderHistoryContinuationToken.decode(customerOrderHistoryQuery.getContinuationToken());
+		OrderSummaryPage orderSummaryPage = customerOrderHistoryRepository.findOrderSummaries(
+			new CustomerId(customerOrderHistoryQuery.getCustomerId()), after, customerOrderHistoryQuery.getPageSize());
+		return CustomerOrderHistoryResponse.builder()
+			.orders(orderSummaryPage.getOrderSummaries())
+			.continuationToken(orderSummaryPage.getNextPosition() == null ? null :
+				OrderHistoryContinuationToken.encode(orderSummaryPage.getNextPosition()))
+			.build();
+	}
+}
@@ -2,6 +2,10 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryQuery;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
@@ -9,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.function.Consumer;
+
 @Slf4j
 @Validated
 @Service
@@ -16,10 +22,21 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
 
 	private final OrderCreateCommandHandler orderCreateCommandHandler;
 	private final OrderTrackCommandHandler orderTrackCommandHandler;
+	private final OrderIdempotencyHandler orderIdempotencyHandler;
+	private final OrderExportQueryHandler orderExportQueryHandler;
+	private final CustomerOrderHistoryQueryHandler customerOrderHistoryQueryHandler;
+	private final OrderIngestionPipeline orderIngestionPipeline;
 
-	public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler, OrderTrackCommandHandler orderTrackCommandHandler) {
+	public OrderApplicationServiceImpl(OrderCreateCommandHandler orderCreateCommandHandler, OrderTrackCommandHandler orderTrackCommandHandler,
+									   OrderIdempotencyHandler orderIdempotencyHandler, OrderExportQueryHandler orderExportQueryHandler,
+									   CustomerOrderHistoryQueryHandler customerOrderHistoryQueryHandler,
+									   OrderIngestionPipeline orderIngestionPipeline) {
 		this.orderCreateCommandHandler = orderCreateCommandHandler;
 		this.orderTrackCommandHandler = orderTrackCommandHandler;
+		this.orderIdempotencyHandler = orderIdempotencyHandler;
+		this.orderExportQueryHandler = orderExportQueryHandler;
+		this.customerOrderHistoryQueryHandler = customerOrderHistoryQueryHandler;
+		this.orderIngestionPipeline = orderIngestionPipeline;
 	}
 
 	@Override
@@ -27,8 +44,31 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
 		return orderCreateCommandHandler.createOrder(createOrderCommand);
 	}
 
+	@Override
+	public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+		if (idempotencyKey == null) {
+			return orderCreateCommandHandler.createOrder(createOrderCommand);
+		}
+		return orderIdempotencyHandler.createOrder(createOrderCommand, idempotencyKey);
+	}
+
+	@Override
+	public CreateOrderResponse acceptOrder(CreateOrderCommand createOrderCommand) {
+		return orderIngestionPipeline.acceptOrder(createOrderCommand);
+	}
+
 	@Override
 	public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
 		return orderTrackCommandHandler.trackOrder(trackOrderQuery);
 	}
+
+	@Override
+	public long exportOrders(OrderExportQuery orderExportQuery, Consumer<OrderExportRow> orderExportRowConsumer) {
+		return orderExportQueryHandler.exportOrders(orderExportQuery, orderExportRowConsumer);
+	}
+
+	@Override
+	public CustomerOrderHistoryResponse findCustomerOrders(CustomerOrderHistoryQuery customerOrderHistoryQuery) {
+		return customerOrderHistoryQueryHandler.findCustomerOrders(customerOrderHistoryQuery);
+	}
 }
@@ -3,7 +3,9 @@ package com.food.ordering.system.order.service.domain;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.jfr.OrderCreationStageEvent;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderCreateMetrics;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -12,23 +14,54 @@ import org.springframework.stereotype.Component;
 @Component
 public class OrderCreateCommandHandler {
 
+	static final String ORDER_CREATED_MESSAGE = "Order created successfully";
+
 	private final OrderCreateHelper orderCreateHelper;
 
+	private final OrderGroupCommitter orderGroupCommitter;
+
 	private final OrderDataMapper orderDataMapper;
 
 	private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
 
-	public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper, OrderDataMapper orderDataMapper, OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher) {
+	private final OrderCreateMetrics orderCreateMetrics;
+
+	public OrderCreateCommandHandler(OrderCreateHelper orderCreateHelper, OrderGroupCommitter orderGroupCommitter,
+									 OrderDataMapper orderDataMapper,
+									 OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+									 OrderCreateMetrics orderCreateMetrics) {
 		this.orderCreateHelper = orderCreateHelper;
+		this.orderGroupCommitter = orderGroupCommitter;
 		this.orderDataMapper = orderDataMapper;
 		this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+		this.orderCreateMetrics = orderCreateMetrics;
 	}
 
 	public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-		OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
-		log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-		orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
-		return orderDataMapper.orderToCreatedOrderResponse(orderCreatedEvent.getOrder(), "Order created successfully");
+		return createOrder(createOrderCommand, null, null);
+	}
+
+	public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey,
+										   String requestHash) {
+		long start = System.nanoTime();
+		OrderCreationStageEvent stageEvent = OrderCreationStageEvent.start("createOrder",
+			createOrderCommand.getCustomerId(), createOrderCommand.getItems().size());
+		OrderCreatedEvent orderCreatedEvent = null;
+		try {
+			orderCreatedEvent = orderCreateHelper.prepareOrder(createOrderCommand);
+			orderGroupCommitter.persist(orderCreatedEvent.getOrder(), idempotencyKey, requestHash);
+			log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
+			orderCreatedPaymentRequestMessagePublisher.publish(orderCreatedEvent);
+			CreateOrderResponse createOrderResponse =
+				orderDataMapper.orderToCreatedOrderResponse(orderCreatedEvent.getOrder(), ORDER_CREATED_MESSAGE);
+			orderCreateMetrics.getCreateOrder().success(start);
+			stageEvent.finish(orderCreatedEvent.getOrder().getId(), true);
+			return createOrderResponse;
+		} catch (RuntimeException e) {
+			orderCreateMetrics.getCreateOrder().failure(start);
+			stageEvent.finish(orderCreatedEvent != null ? orderCreatedEvent.getOrder().getId() : null, false);
+			throw e;
+		}
 	}
 
 }
@@ -1,19 +1,25 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.jfr.OrderCreationStageEvent;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.metrics.OrderCreateMetrics;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdentityGenerator;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,54 +35,153 @@ public class OrderCreateHelper {
 
 	private final RestaurantRepository restaurantRepository;
 
+	private final OrderIdempotencyRepository orderIdempotencyRepository;
+
+	private final OrderIdentityGenerator orderIdentityGenerator;
+
 	private final OrderDataMapper orderDataMapper;
 
+	private final OrderCreateMetrics orderCreateMetrics;
+
+	private final OrderSagaTimeoutScheduler orderSagaTimeoutScheduler;
+
+	private final OrderStatusHelper orderStatusHelper;
+
 	public OrderCreateHelper(OrderDomainService orderDomainService, OrderRepository orderRepository,
 							 CustomerRepository customerRepository, RestaurantRepository restaurantRepository,
-							 OrderDataMapper orderDataMapper) {
+							 OrderIdempotencyRepository orderIdempotencyRepository,
+							 OrderIdentityGenerator orderIdentityGenerator, OrderDataMapper orderDataMapper,
+							 OrderCreateMetrics orderCreateMetrics, OrderSagaTimeoutScheduler orderSagaTimeoutScheduler,
+							 OrderStatusHelper orderStatusHelper) {
 		this.orderDomainService = orderDomainService;
 		this.orderRepository = orderRepository;
 		this.customerRepository = customerRepository;
 		this.restaurantRepository = restaurantRepository;
+		this.orderIdempotencyRepository = orderIdempotencyRepository;
+		this.orderIdentityGenerator = orderIdentityGenerator;
 		this.orderDataMapper = orderDataMapper;
+		this.orderCreateMetrics = orderCreateMetrics;
+		this.orderSagaTimeoutScheduler = orderSagaTimeoutScheduler;
+		this.orderStatusHelper = orderStatusHelper;
 	}
 
-	@Transactional
-	public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
-		checkCustomer(createOrderCommand.getCustomerId());
+	/**
+	 * Checks the customer and the restaurant and validates the order, outside of any transaction, so that
+	 * an order failing here never reaches the transaction writing it together with other orders.
+	 */
+	public OrderCreatedEvent prepareOrder(CreateOrderCommand createOrderCommand) {
+		checkCustomer(createOrderCommand);
 		Restaurant restaurant = checkRestaurant(createOrderCommand);
 		Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-		OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-		saveOrder(order);
-		log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
-		return orderCreatedEvent;
+		return validateAndInitiateOrder(order, restaurant);
+	}
+
+	/**
+	 * Writes the orders in one transaction. The idempotency keys are claimed first, each of them flushed on its
+	 * own so that a concurrent request holding the same key rolls back this transaction instead of creating a
+	 * second order, and the orders follow, inserted together when the transaction commits.
+	 */
+	@Transactional
+	void persistOrders(List<OrderWrite> orderWrites) {
+		for (OrderWrite orderWrite : orderWrites) {
+			if (orderWrite.getIdempotencyKey() != null) {
+				orderIdempotencyRepository.save(orderWrite.getIdempotencyKey(), orderWrite.getRequestHash(),
+					orderDataMapper.orderToCreatedOrderResponse(orderWrite.getOrder(), OrderCreateCommandHandler.ORDER_CREATED_MESSAGE));
+			}
+		}
+		for (OrderWrite orderWrite : orderWrites) {
+			Order order = orderWrite.getOrder();
+			saveOrder(order);
+			orderStatusHelper.statusChanged(order);
+			orderSagaTimeoutScheduler.schedule(order);
+		}
 	}
 
-	private void checkCustomer(UUID customerId) {
-		Optional<Customer> customer = customerRepository.findCustomer(customerId);
+	private void checkCustomer(CreateOrderCommand createOrderCommand) {
+		UUID customerId = createOrderCommand.getCustomerId();
+		long start = System.nanoTime();
+		OrderCreationStageEvent stageEvent = OrderCreationStageEvent.start("checkCustomer", customerId,
+			createOrderCommand.getItems().size());
+		Optional<Customer> customer;
+		try {
+			customer = customerRepository.findCustomer(customerId);
+		} catch (RuntimeException e) {
+			orderCreateMetrics.getCheckCustomer().failure(start);
+			stageEvent.finish(null, false);
+			throw e;
+		}
 		if (customer.isEmpty()){
+			orderCreateMetrics.getCheckCustomer().failure(start);
+			stageEvent.finish(null, false);
 			log.warn("Could not find customer with costumer id: {}", customerId);
 			throw new OrderDomainException("Could not find customer with costumer id: " + customerId);
 		}
+		orderCreateMetrics.getCheckCustomer().success(start);
+		stageEvent.finish(null, true);
 	}
 
 	private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
+		long start = System.nanoTime();
+		OrderCreationStageEvent stageEvent = OrderCreationStageEvent.start("checkRestaurant",
+			createOrderCommand.getCustomerId(), createOrderCommand.getItems().size());
 		Restaurant restaurant = orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
-		Optional<Restaurant> restaurantInformation = restaurantRepository.findRestaurantInformation(restaurant);
+		Optional<Restaurant> restaurantInformation;
+		try {
+			restaurantInformation = restaurantRepository.findRestaurantInformation(restaurant);
+		} catch (RuntimeException e) {
+			orderCreateMetrics.getCheckRestaurant().failure(start);
+			stageEvent.finish(null, false);
+			throw e;
+		}
 		if (restaurantInformation.isEmpty()){
+			orderCreateMetrics.getCheckRestaurant().failure(start);
+			stageEvent.finish(null, false);
 			log.warn("Could not find restaurant with restaurant id: {}", createOrderCommand.getRestaurantId());
 			throw new OrderDomainException("Could not find restaurant with restaurant id: " + createOrderCommand.getRestaurantId());
 		}
-
+		orderCreateMetrics.getCheckRestaurant().success(start);
+		stageEvent.finish(null, true);
 		return restaurantInformation.get();
 	}
 
+	private OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+		long start = System.nanoTime();
+		OrderCreationStageEvent stageEvent = OrderCreationStageEvent.start("validateAndInitiateOrder",
+			order.getCustomerId().getValue(), order.getItems().size());
+		try {
+			CustomerId customerId = order.getCustomerId();
+			OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant,
+				orderIdentityGenerator.nextOrderId(customerId), orderIdentityGenerator.nextTrackingId(customerId));
+			orderCreateMetrics.getValidateAndInitiateOrder().success(start);
+			stageEvent.finish(order.getId(), true);
+			return orderCreatedEvent;
+		} catch (RuntimeException e) {
+			orderCreateMetrics.getValidateAndInitiateOrder().failure(start);
+			stageEvent.finish(order.getId(), false);
+			throw e;
+		}
+	}
+
 	private Order saveOrder(Order order) {
-		Order createdOrder = orderRepository.save(order);
-		if (order == null) {
+		long start = System.nanoTime();
+		OrderCreationStageEvent stageEvent = OrderCreationStageEvent.start("saveOrder", order.getCustomerId().getValue(),
+			order.getItems().size());
+		Order createdOrder;
+		try {
+			createdOrder = orderRepository.save(order);
+		} catch (RuntimeException e) {
+			orderCreateMetrics.getSaveOrder().failure(start);
+			stageEvent.finish(order.getId(), false);
+			throw e;
+		}
+		if (createdOrder == null) {
+			orderCreateMetrics.getSaveOrder().failure(start);
+			stageEvent.finish(order.getId(), false);
 			log.error("Could not save order!");
 			throw new OrderDomainException("Could not save order!");
 		}
+		orderCreateMetrics.getSaveOrder().success(start);
+		stageEvent.finish(order.getId(), true);
 
 		log.info("Order is saved with id: {}", createdOrder.getId().getValue());
 		return createdOrder;
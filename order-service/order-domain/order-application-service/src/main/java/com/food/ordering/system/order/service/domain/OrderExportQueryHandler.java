@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class OrderExportQueryHandler {
+
+	private final OrderExportRepository orderExportRepository;
+
+	public OrderExportQueryHandler(OrderExportRepository orderExportRepository) {
+		this.orderExportRepository = orderExportRepository;
+	}
+
+	@Transactional(readOnly = true)
+	long exportOrders(OrderExportQuery orderExportQuery, Consumer<OrderExportRow> orderExportRowConsumer) {
+		if (!orderExportQuery.getCreatedFrom().isBefore(orderExportQuery.getCreatedTo())) {
+			throw new OrderDomainException("Export range start: " + orderExportQuery.getCreatedFrom() +
+				" must be before its end: " + orderExportQuery.getCreatedTo());
+		}
+		long exported = orderExportRepository.exportOrders(orderExportQuery, orderExportRowConsumer);
+		log.info("Exported {} orders created from {} until {}", exported, orderExportQuery.getCreatedFrom(),
+			orderExportQuery.getCreatedTo());
+		return exported;
+	}
+}
@@ -0,0 +1,189 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderGroupCommitConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.metrics.OutcomeTimer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes orders created concurrently in shared transactions, so that they pay for one commit between them. A
+ * committer takes the first order waiting and collects the ones arriving in the window after it, up to the
+ * batch size, then writes every write group among them in one transaction. When that transaction fails its
+ * orders are written again one by one, so only the order at fault fails. Each caller waits for its own order
+ * alone.
+ */
+@Slf4j
+@Component
+public class OrderGroupCommitter implements SmartLifecycle {
+
+	private static final long POLL_MILLIS = 100;
+
+	private final OrderCreateHelper orderCreateHelper;
+	private final OrderRepository orderRepository;
+	private final OrderGroupCommitConfigData orderGroupCommitConfigData;
+	// holds at most one order per caller waiting for it
+	private final BlockingQueue<OrderWrite> orderWrites = new LinkedBlockingQueue<>();
+	// one committer collects a group at a time while the others write theirs, so concurrent orders end up together
+	private final ReentrantLock collectLock = new ReentrantLock();
+	private final Thread[] committers;
+	private final DistributionSummary groupSize;
+	private final OutcomeTimer groupCommit;
+	private volatile boolean running;
+
+	public OrderGroupCommitter(OrderCreateHelper orderCreateHelper, OrderRepository orderRepository,
+							   OrderGroupCommitConfigData orderGroupCommitConfigData, MeterRegistry meterRegistry) {
+		this.orderCreateHelper = orderCreateHelper;
+		this.orderRepository = orderRepository;
+		this.orderGroupCommitConfigData = orderGroupCommitConfigData;
+		this.committers = new Thread[orderGroupCommitConfigData.getCommitters()];
+		for (int i = 0; i < committers.length; i++) {
+			committers[i] = new Thread(this::commit, "order-group-commit-" + i);
+			committers[i].setDaemon(true);
+		}
+		this.groupSize = DistributionSummary.builder("order.group.commit.size")
+			.description("Orders written in one transaction")
+			.register(meterRegistry);
+		this.groupCommit = new OutcomeTimer(meterRegistry, "order.group.commit",
+			"Time to write a group of orders in one transaction", Tags.empty());
+	}
+
+	/**
+	 * Returns once the transaction writing the order committed, called outside of any transaction.
+	 */
+	void persist(Order order, String idempotencyKey, String requestHash) {
+		try {
+			submit(order, idempotencyKey, requestHash).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	CompletableFuture<Void> submit(Order order, String idempotencyKey, String requestHash) {
+		OrderWrite orderWrite = new OrderWrite(order, idempotencyKey, requestHash);
+		if (!Boolean.TRUE.equals(orderGroupCommitConfigData.getEnabled()) || !running) {
+			write(List.of(orderWrite));
+			return orderWrite.getWritten();
+		}
+		orderWrites.add(orderWrite);
+		// the committers may have exited before the order was queued
+		if (!running && orderWrites.remove(orderWrite)) {
+			write(List.of(orderWrite));
+		}
+		return orderWrite.getWritten();
+	}
+
+	@Override
+	public void start() {
+		running = true;
+		if (Boolean.TRUE.equals(orderGroupCommitConfigData.getEnabled())) {
+			for (Thread committer : committers) {
+				committer.start();
+			}
+		}
+	}
+
+	// the committers write the orders already waiting before they exit, new ones are written by their callers
+	@Override
+	public void stop() {
+		running = false;
+		for (Thread committer : committers) {
+			try {
+				committer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("Interrupted while stopping order group commit");
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void commit() {
+		List<OrderWrite> batch = new ArrayList<>(orderGroupCommitConfigData.getMaxBatchSize());
+		while (running || !orderWrites.isEmpty()) {
+			try {
+				collectLock.lockInterruptibly();
+				try {
+					OrderWrite first = orderWrites.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						continue;
+					}
+					batch.add(first);
+					collect(batch);
+				} finally {
+					collectLock.unlock();
+				}
+				Map<String, List<OrderWrite>> writeGroups = new LinkedHashMap<>();
+				for (OrderWrite orderWrite : batch) {
+					writeGroups.computeIfAbsent(orderRepository.writeGroupOf(orderWrite.getOrder().getCustomerId()),
+						writeGroup -> new ArrayList<>()).add(orderWrite);
+				}
+				writeGroups.values().forEach(this::write);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				batch.forEach(orderWrite -> orderWrite.getWritten().completeExceptionally(e));
+				return;
+			} catch (RuntimeException e) {
+				log.error("Could not write a group of {} orders", batch.size(), e);
+				batch.forEach(orderWrite -> orderWrite.getWritten().completeExceptionally(e));
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void collect(List<OrderWrite> batch) throws InterruptedException {
+		int maxBatchSize = orderGroupCommitConfigData.getMaxBatchSize();
+		long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(orderGroupCommitConfigData.getWindowMicros());
+		while (batch.size() < maxBatchSize) {
+			OrderWrite next = orderWrites.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+			orderWrites.drainTo(batch, maxBatchSize - batch.size());
+		}
+	}
+
+	private void write(List<OrderWrite> writeGroup) {
+		long start = System.nanoTime();
+		try {
+			orderCreateHelper.persistOrders(writeGroup);
+			groupCommit.success(start);
+			groupSize.record(writeGroup.size());
+			writeGroup.forEach(orderWrite -> orderWrite.getWritten().complete(null));
+		} catch (RuntimeException e) {
+			groupCommit.failure(start);
+			if (writeGroup.size() == 1) {
+				writeGroup.get(0).getWritten().completeExceptionally(e);
+				return;
+			}
+			log.warn("Could not write a group of {} orders in one transaction, writing them one by one", writeGroup.size(), e);
+			writeGroup.forEach(orderWrite -> write(List.of(orderWrite)));
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.history.OrderHistoryPosition;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+/**
+ * Encodes an order history position as an opaque url safe token, so clients cannot depend on what
+ * the next page is seeked by. The leading version byte leaves room to change the encoding.
+ */
+final class OrderHistoryContinuationToken {
+
+	private static final byte VERSION = 1;
+	private static final int LENGTH = Byte.BYTES + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+	private OrderHistoryContinuationToken() {
+	}
+
+	static String encode(OrderHistoryPosition orderHistoryPosition) {
+		Instant createdAt = orderHistoryPosition.getCreatedAt().toInstant();
+		UUID orderId = orderHistoryPosition.getOrderId();
+		ByteBuffer token = ByteBuffer.allocate(LENGTH)
+			.put(VERSION)
+			.putLong(createdAt.getEpochSecond())
+			.putInt(createdAt.getNano())
+			.putLong(orderId.getMostSignificantBits())
+			.putLong(orderId.getLeastSignificantBits());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(token.array());
+	}
+
+	static OrderHistoryPosition decode(String continuationToken) {
+		try {
+			ByteBuffer token = ByteBuffer.wrap(Base64.getUrlDecoder().decode(continuationToken));
+			if (token.remaining() != LENGTH || token.get() != VERSION) {
+				throw new OrderDomainException("Invalid continuation token: " + continuationToken);
+			}
+			Instant createdAt = Instant.ofEpochSecond(token.getLong(), token.getInt());
+			return OrderHistoryPosition.builder()
+				.createdAt(ZonedDateTime.ofInstant(createdAt, ZoneId.of(UTC)))
+				.orderId(new UUID(token.getLong(), token.getLong()))
+				.build();
+		} catch (IllegalArgumentException | BufferUnderflowException | DateTimeException e) {
+			throw new OrderDomainException("Invalid continuation token: " + continuationToken, e);
+		}
+	}
+}
@@ -0,0 +1,186 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.config.OrderIdempotencyConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.IdempotentCreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIdempotencyKeyReusedException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Creates an order at most once per idempotency key. A repeated key is answered from a bounded
+ * cache of recent responses, or from the store once it fell out of the cache, and a duplicate
+ * arriving while the first request is still running waits for its response instead of running
+ * the create itself. Requests racing on another instance are caught by the key claim in
+ * {@link OrderCreateHelper#persistOrders}. The key is stored with a hash of the request that claimed it,
+ * and a repeated key sent with a different request is rejected instead of answered.
+ */
+@Slf4j
+@Component
+public class OrderIdempotencyHandler {
+
+	static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+	private final OrderCreateCommandHandler orderCreateCommandHandler;
+	private final OrderIdempotencyRepository orderIdempotencyRepository;
+	private final Map<String, CompletableFuture<IdempotentCreateOrderResponse>> inFlight = new ConcurrentHashMap<>();
+	private final Map<String, IdempotentCreateOrderResponse> recentResponses;
+	private final ReentrantLock recentResponsesLock = new ReentrantLock();
+
+	public OrderIdempotencyHandler(OrderCreateCommandHandler orderCreateCommandHandler,
+								   OrderIdempotencyRepository orderIdempotencyRepository,
+								   OrderIdempotencyConfigData orderIdempotencyConfigData) {
+		this.orderCreateCommandHandler = orderCreateCommandHandler;
+		this.orderIdempotencyRepository = orderIdempotencyRepository;
+		int cacheSize = orderIdempotencyConfigData.getCacheSize();
+		this.recentResponses = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, IdempotentCreateOrderResponse> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand, String idempotencyKey) {
+		validateIdempotencyKey(idempotencyKey);
+		String requestHash = requestHash(createOrderCommand);
+		IdempotentCreateOrderResponse recentResponse = recentResponse(idempotencyKey);
+		if (recentResponse != null) {
+			log.info("Returning cached response for idempotency key: {}", idempotencyKey);
+			return checkRequest(idempotencyKey, requestHash, recentResponse);
+		}
+
+		CompletableFuture<IdempotentCreateOrderResponse> response = new CompletableFuture<>();
+		CompletableFuture<IdempotentCreateOrderResponse> running = inFlight.putIfAbsent(idempotencyKey, response);
+		if (running != null) {
+			log.info("Waiting for in flight request with idempotency key: {}", idempotencyKey);
+			return checkRequest(idempotencyKey, requestHash, join(running));
+		}
+		try {
+			IdempotentCreateOrderResponse createOrderResponse =
+				createOrderOnce(createOrderCommand, idempotencyKey, requestHash);
+			rememberResponse(idempotencyKey, createOrderResponse);
+			response.complete(createOrderResponse);
+			return checkRequest(idempotencyKey, requestHash, createOrderResponse);
+		} catch (RuntimeException e) {
+			response.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(idempotencyKey, response);
+		}
+	}
+
+	private IdempotentCreateOrderResponse createOrderOnce(CreateOrderCommand createOrderCommand, String idempotencyKey,
+														  String requestHash) {
+		CustomerId customerId = new CustomerId(createOrderCommand.getCustomerId());
+		Optional<IdempotentCreateOrderResponse> storedResponse =
+			orderIdempotencyRepository.findCreateOrderResponse(customerId, idempotencyKey);
+		if (storedResponse.isPresent()) {
+			log.info("Returning stored response for idempotency key: {}", idempotencyKey);
+			return storedResponse.get();
+		}
+		try {
+			return IdempotentCreateOrderResponse.builder()
+				.requestHash(requestHash)
+				.createOrderResponse(orderCreateCommandHandler.createOrder(createOrderCommand, idempotencyKey, requestHash))
+				.build();
+		} catch (DataIntegrityViolationException e) {
+			log.info("Idempotency key: {} was claimed concurrently, returning the stored response", idempotencyKey);
+			return orderIdempotencyRepository.findCreateOrderResponse(customerId, idempotencyKey).orElseThrow(() -> e);
+		}
+	}
+
+	private CreateOrderResponse checkRequest(String idempotencyKey, String requestHash,
+											 IdempotentCreateOrderResponse response) {
+		if (response.getRequestHash() != null && !response.getRequestHash().equals(requestHash)) {
+			log.warn("Idempotency key: {} was sent again with a different request", idempotencyKey);
+			throw new OrderIdempotencyKeyReusedException("Idempotency key " + idempotencyKey +
+				" was already used for a different request!");
+		}
+		return response.getCreateOrderResponse();
+	}
+
+	private IdempotentCreateOrderResponse join(CompletableFuture<IdempotentCreateOrderResponse> running) {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private IdempotentCreateOrderResponse recentResponse(String idempotencyKey) {
+		recentResponsesLock.lock();
+		try {
+			return recentResponses.get(idempotencyKey);
+		} finally {
+			recentResponsesLock.unlock();
+		}
+	}
+
+	private void rememberResponse(String idempotencyKey, IdempotentCreateOrderResponse createOrderResponse) {
+		recentResponsesLock.lock();
+		try {
+			recentResponses.put(idempotencyKey, createOrderResponse);
+		} finally {
+			recentResponsesLock.unlock();
+		}
+	}
+
+	private void validateIdempotencyKey(String idempotencyKey) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+			throw new OrderDomainException("Idempotency key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH +
+				" characters, but was: " + idempotencyKey.length());
+		}
+	}
+
+	/**
+	 * SHA-256 of the fields of the request, prices compared by value so that 10.0 and 10.00 hash the same.
+	 */
+	private static String requestHash(CreateOrderCommand createOrderCommand) {
+		StringBuilder request = new StringBuilder()
+			.append(createOrderCommand.getCustomerId()).append('|')
+			.append(createOrderCommand.getRestaurantId()).append('|')
+			.append(amount(createOrderCommand.getPrice()));
+		for (OrderItem item : createOrderCommand.getItems()) {
+			request.append('|').append(item.getProductId())
+				.append(',').append(item.getQuantity())
+				.append(',').append(amount(item.getPrice()))
+				.append(',').append(amount(item.getSubTotal()));
+		}
+		request.append('|').append(createOrderCommand.getAddress().getStreet())
+			.append(',').append(createOrderCommand.getAddress().getPostalCode())
+			.append(',').append(createOrderCommand.getAddress().getCity());
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+				.digest(request.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available!", e);
+		}
+	}
+
+	private static String amount(BigDecimal amount) {
+		return amount == null ? null : amount.stripTrailingZeros().toPlainString();
+	}
+}
@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderIdempotencyConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+public class OrderIdempotencyKeyCleaner {
+
+	private final OrderIdempotencyRepository orderIdempotencyRepository;
+	private final OrderIdempotencyConfigData orderIdempotencyConfigData;
+
+	public OrderIdempotencyKeyCleaner(OrderIdempotencyRepository orderIdempotencyRepository,
+									  OrderIdempotencyConfigData orderIdempotencyConfigData) {
+		this.orderIdempotencyRepository = orderIdempotencyRepository;
+		this.orderIdempotencyConfigData = orderIdempotencyConfigData;
+	}
+
+	@Transactional
+	@Scheduled(fixedDelayString = "${order-idempotency.cleanup-interval-ms}",
+		initialDelayString = "${order-idempotency.cleanup-interval-ms}")
+	public void deleteExpiredKeys() {
+		ZonedDateTime createdBefore = ZonedDateTime.now(ZoneId.of(UTC)).minusHours(orderIdempotencyConfigData.getKeyTtlHours());
+		int deleted = orderIdempotencyRepository.deleteCreatedBefore(createdBefore);
+		if (deleted > 0) {
+			log.info("Deleted {} idempotency keys created before {}", deleted, createdBefore);
+		}
+	}
+}
@@ -0,0 +1,303 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.domain.entity.valueobject.ProductId;
+import com.food.ordering.system.domain.entity.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.config.OrderIngestionConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIngestionRejectedException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdentityGenerator;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Takes in orders without waiting for them to be created: the tracking id is handed out as soon as the
+ * order is queued, and the order then goes through lookup, validate, persist and publish, each a
+ * {@link OrderIngestionStage} of its own, so a batch of orders shares one lookup of every customer and
+ * restaurant in it. Orders are refused up front once the first queue is full, the later queues hold back
+ * the step before them. An order failing on the way, or left in a batch a step failed on, is tracked as
+ * cancelled, with the reason as its failure message.
+ */
+@Slf4j
+@Component
+public class OrderIngestionPipeline implements SmartLifecycle {
+
+	static final String ORDER_ACCEPTED_MESSAGE = "Order accepted";
+	private static final String ORDER_NOT_CREATED_MESSAGE = "Could not create order!";
+
+	private final OrderGroupCommitter orderGroupCommitter;
+	private final OrderStatusHelper orderStatusHelper;
+	private final OrderDomainService orderDomainService;
+	private final CustomerRepository customerRepository;
+	private final RestaurantRepository restaurantRepository;
+	private final OrderIdentityGenerator orderIdentityGenerator;
+	private final OrderDataMapper orderDataMapper;
+	private final OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+	private final OrderIngestionConfigData orderIngestionConfigData;
+	private final OrderIngestionStage<IngestedOrder> lookup;
+	private final OrderIngestionStage<IngestedOrder> validate;
+	private final OrderIngestionStage<IngestedOrder> persist;
+	private final OrderIngestionStage<IngestedOrder> publish;
+	private final Counter rejected;
+	private final MeterRegistry meterRegistry;
+	private volatile boolean running;
+
+	public OrderIngestionPipeline(OrderGroupCommitter orderGroupCommitter, OrderStatusHelper orderStatusHelper,
+								  OrderDomainService orderDomainService, CustomerRepository customerRepository,
+								  RestaurantRepository restaurantRepository, OrderIdentityGenerator orderIdentityGenerator,
+								  OrderDataMapper orderDataMapper,
+								  OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher,
+								  OrderIngestionConfigData orderIngestionConfigData, MeterRegistry meterRegistry) {
+		this.orderGroupCommitter = orderGroupCommitter;
+		this.orderStatusHelper = orderStatusHelper;
+		this.orderDomainService = orderDomainService;
+		this.customerRepository = customerRepository;
+		this.restaurantRepository = restaurantRepository;
+		this.orderIdentityGenerator = orderIdentityGenerator;
+		this.orderDataMapper = orderDataMapper;
+		this.orderCreatedPaymentRequestMessagePublisher = orderCreatedPaymentRequestMessagePublisher;
+		this.orderIngestionConfigData = orderIngestionConfigData;
+		this.meterRegistry = meterRegistry;
+		this.lookup = stage("lookup", orderIngestionConfigData.getLookupWorkers(), this::lookup);
+		this.validate = stage("validate", orderIngestionConfigData.getValidateWorkers(), this::validate);
+		this.persist = stage("persist", orderIngestionConfigData.getPersistWorkers(), this::persist);
+		// the orders are saved by now, the ones left unpublished are cancelled by their saga timeout
+		this.publish = new OrderIngestionStage<>("publish", orderIngestionConfigData.getQueueCapacity(),
+			orderIngestionConfigData.getPublishWorkers(), orderIngestionConfigData.getBatchSize(), this::publish,
+			batch -> meterRegistry.counter("order.ingestion.failed", "stage", "publish").increment(batch.size()),
+			meterRegistry);
+		this.rejected = Counter.builder("order.ingestion.rejected")
+			.description("Orders refused because the order ingestion pipeline was full")
+			.register(meterRegistry);
+	}
+
+	public CreateOrderResponse acceptOrder(CreateOrderCommand createOrderCommand) {
+		TrackingId trackingId = orderIdentityGenerator.nextTrackingId(new CustomerId(createOrderCommand.getCustomerId()));
+		IngestedOrder ingestedOrder = new IngestedOrder(createOrderCommand, trackingId);
+		ingestedOrder.stage = lookup.name();
+		if (!running || !lookup.offer(ingestedOrder)) {
+			rejected.increment();
+			throw new OrderIngestionRejectedException("Order ingestion is full, could not accept order for customer: " +
+				createOrderCommand.getCustomerId(), orderIngestionConfigData.getRetryAfterSeconds());
+		}
+		log.info("Order is accepted with tracking id: {}", trackingId.getValue());
+		return CreateOrderResponse.builder()
+			.orderTrackingId(trackingId.getValue())
+			.orderStatus(OrderStatus.PENDING)
+			.message(ORDER_ACCEPTED_MESSAGE)
+			.build();
+	}
+
+	@Override
+	public void start() {
+		publish.start();
+		persist.start();
+		validate.start();
+		lookup.start();
+		running = true;
+		log.info("Order ingestion pipeline started");
+	}
+
+	// upstream first, so every step has handed its last orders on before the next one is stopped
+	@Override
+	public void stop() {
+		running = false;
+		try {
+			for (OrderIngestionStage<IngestedOrder> stage : List.of(lookup, validate, persist, publish)) {
+				stage.stop(orderIngestionConfigData.getShutdownTimeoutMs());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Interrupted while stopping order ingestion pipeline");
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void lookup(List<IngestedOrder> batch) throws InterruptedException {
+		Map<UUID, Boolean> customers = new HashMap<>();
+		Map<UUID, Set<UUID>> restaurantProducts = new LinkedHashMap<>();
+		for (IngestedOrder ingestedOrder : batch) {
+			CreateOrderCommand createOrderCommand = ingestedOrder.createOrderCommand;
+			customers.put(createOrderCommand.getCustomerId(), Boolean.FALSE);
+			Set<UUID> products = restaurantProducts.computeIfAbsent(createOrderCommand.getRestaurantId(),
+				restaurantId -> new LinkedHashSet<>());
+			createOrderCommand.getItems().forEach(orderItem -> products.add(orderItem.getProductId()));
+		}
+		customers.replaceAll((customerId, found) -> findCustomer(customerId));
+		Map<UUID, Optional<Restaurant>> restaurants = new HashMap<>();
+		restaurantProducts.forEach((restaurantId, products) ->
+			restaurants.put(restaurantId, findRestaurant(restaurantId, products)));
+
+		for (IngestedOrder ingestedOrder : batch) {
+			CreateOrderCommand createOrderCommand = ingestedOrder.createOrderCommand;
+			try {
+				Optional<Restaurant> restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+				if (!customers.get(createOrderCommand.getCustomerId())) {
+					fail(ingestedOrder, "lookup", "Could not find customer with costumer id: " + createOrderCommand.getCustomerId());
+				} else if (restaurant.isEmpty()) {
+					fail(ingestedOrder, "lookup", "Could not find restaurant with restaurant id: " + createOrderCommand.getRestaurantId());
+				} else {
+					ingestedOrder.restaurant = restaurant.get();
+					handOn(ingestedOrder, validate);
+				}
+			} catch (RuntimeException e) {
+				log.error("Could not look up order with tracking id: {}", ingestedOrder.trackingId.getValue(), e);
+				fail(ingestedOrder, "lookup", ORDER_NOT_CREATED_MESSAGE);
+			}
+		}
+	}
+
+	// only an empty result means not found, a failing lookup throws out of the stage and fails the whole batch
+	private boolean findCustomer(UUID customerId) {
+		return customerRepository.findCustomer(customerId).isPresent();
+	}
+
+	// one lookup for all the products ordered from the restaurant in the batch
+	private Optional<Restaurant> findRestaurant(UUID restaurantId, Set<UUID> products) {
+		return restaurantRepository.findRestaurantInformation(Restaurant.Builder.builder()
+			.restaurantId(new RestaurantId(restaurantId))
+			.products(products.stream().map(productId -> new Product(new ProductId(productId))).toList())
+			.build());
+	}
+
+	private void validate(List<IngestedOrder> batch) throws InterruptedException {
+		for (IngestedOrder ingestedOrder : batch) {
+			try {
+				Order order = orderDataMapper.createOrderCommandToOrder(ingestedOrder.createOrderCommand);
+				ingestedOrder.orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, ingestedOrder.restaurant,
+					orderIdentityGenerator.nextOrderId(order.getCustomerId()), ingestedOrder.trackingId);
+			} catch (OrderDomainException e) {
+				fail(ingestedOrder, "validate", e.getMessage());
+				continue;
+			} catch (RuntimeException e) {
+				log.error("Could not validate order with tracking id: {}", ingestedOrder.trackingId.getValue(), e);
+				fail(ingestedOrder, "validate", ORDER_NOT_CREATED_MESSAGE);
+				continue;
+			}
+			handOn(ingestedOrder, persist);
+		}
+	}
+
+	// the whole batch is handed to the group commit at once, so it can share transactions
+	private void persist(List<IngestedOrder> batch) throws InterruptedException {
+		List<CompletableFuture<Void>> written = new ArrayList<>(batch.size());
+		for (IngestedOrder ingestedOrder : batch) {
+			try {
+				written.add(orderGroupCommitter.submit(ingestedOrder.orderCreatedEvent.getOrder(), null, null));
+			} catch (RuntimeException e) {
+				written.add(CompletableFuture.failedFuture(e));
+			}
+		}
+		for (int i = 0; i < batch.size(); i++) {
+			IngestedOrder ingestedOrder = batch.get(i);
+			try {
+				written.get(i).get();
+			} catch (ExecutionException e) {
+				log.error("Could not save order with tracking id: {}", ingestedOrder.trackingId.getValue(), e.getCause());
+				fail(ingestedOrder, "persist", "Could not save order!");
+				continue;
+			}
+			log.info("Order is created with id: {}", ingestedOrder.orderCreatedEvent.getOrder().getId().getValue());
+			handOn(ingestedOrder, publish);
+		}
+	}
+
+	// the order is saved by now, one whose payment request is lost is cancelled by its saga timeout
+	private void publish(List<IngestedOrder> batch) {
+		for (IngestedOrder ingestedOrder : batch) {
+			try {
+				orderCreatedPaymentRequestMessagePublisher.publish(ingestedOrder.orderCreatedEvent);
+			} catch (RuntimeException e) {
+				meterRegistry.counter("order.ingestion.failed", "stage", "publish").increment();
+				log.error("Could not publish payment request of order with tracking id: {}",
+					ingestedOrder.trackingId.getValue(), e);
+			}
+		}
+	}
+
+	private void handOn(IngestedOrder ingestedOrder, OrderIngestionStage<IngestedOrder> next) throws InterruptedException {
+		ingestedOrder.stage = next.name();
+		next.put(ingestedOrder);
+	}
+
+	// the orders of the batch still marked with the stage were neither handed on nor failed before it threw
+	private void failBatch(String stage, List<IngestedOrder> batch) {
+		for (IngestedOrder ingestedOrder : batch) {
+			if (stage.equals(ingestedOrder.stage)) {
+				fail(ingestedOrder, stage, ORDER_NOT_CREATED_MESSAGE);
+			}
+		}
+	}
+
+	// the order was never saved, only its tracking id tells the client it was cancelled, so the status is built
+	// without taking the order through its transitions, which would record them for an order that never existed
+	private void fail(IngestedOrder ingestedOrder, String stage, String failureMessage) {
+		ingestedOrder.stage = null;
+		meterRegistry.counter("order.ingestion.failed", "stage", stage).increment();
+		log.warn("Order with tracking id: {} failed in order ingestion stage {}: {}", ingestedOrder.trackingId.getValue(),
+			stage, failureMessage);
+		try {
+			orderStatusHelper.statusChanged(Order.Builder.builder()
+				.orderId(orderIdentityGenerator.nextOrderId(new CustomerId(ingestedOrder.createOrderCommand.getCustomerId())))
+				.trackingId(ingestedOrder.trackingId)
+				.orderStatus(OrderStatus.CANCELLED)
+				.failureMessages(List.of(failureMessage))
+				.build());
+		} catch (RuntimeException e) {
+			log.error("Could not publish cancelled status of order with tracking id: {}",
+				ingestedOrder.trackingId.getValue(), e);
+		}
+	}
+
+	private OrderIngestionStage<IngestedOrder> stage(String name, int workers,
+													 OrderIngestionStage.BatchHandler<IngestedOrder> handler) {
+		return new OrderIngestionStage<>(name, orderIngestionConfigData.getQueueCapacity(), workers,
+			orderIngestionConfigData.getBatchSize(), handler, batch -> failBatch(name, batch), meterRegistry);
+	}
+
+	private static final class IngestedOrder {
+
+		private final CreateOrderCommand createOrderCommand;
+		private final TrackingId trackingId;
+		private Restaurant restaurant;
+		private OrderCreatedEvent orderCreatedEvent;
+		// the stage the order was last queued for, read by that stage after the next one may have taken the order
+		private volatile String stage;
+
+		private IngestedOrder(CreateOrderCommand createOrderCommand, TrackingId trackingId) {
+			this.createOrderCommand = createOrderCommand;
+			this.trackingId = trackingId;
+		}
+	}
+}
@@ -0,0 +1,134 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.jfr.OrderIngestionBatchEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One step of the order ingestion pipeline: a bounded queue drained by its own pool of workers, each of them
+ * taking whatever is waiting, up to a batch, and handing it to the step in one call. A batch the step throws
+ * on is given to the failure handler, which settles the orders of the batch that were not handed on.
+ */
+@Slf4j
+class OrderIngestionStage<T> {
+
+	private static final long POLL_MILLIS = 100;
+
+	private final String name;
+	private final BlockingQueue<T> queue;
+	private final int batchSize;
+	private final BatchHandler<T> handler;
+	private final FailureHandler<T> failureHandler;
+	private final Thread[] workers;
+	private volatile boolean running;
+
+	OrderIngestionStage(String name, int capacity, int workerCount, int batchSize, BatchHandler<T> handler,
+						FailureHandler<T> failureHandler, MeterRegistry meterRegistry) {
+		this.name = name;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.batchSize = batchSize;
+		this.handler = handler;
+		this.failureHandler = failureHandler;
+		this.workers = new Thread[workerCount];
+		for (int i = 0; i < workerCount; i++) {
+			workers[i] = new Thread(this::work, "order-ingestion-" + name + "-" + i);
+			workers[i].setDaemon(true);
+		}
+		Gauge.builder("order.ingestion.queue.depth", queue, BlockingQueue::size)
+			.description("Orders waiting for one step of the order ingestion pipeline")
+			.tag("stage", name)
+			.register(meterRegistry);
+	}
+
+	String name() {
+		return name;
+	}
+
+	boolean offer(T item) {
+		return queue.offer(item);
+	}
+
+	// used between the steps, a full queue holds back the step before it instead of dropping accepted orders
+	void put(T item) throws InterruptedException {
+		queue.put(item);
+	}
+
+	int size() {
+		return queue.size();
+	}
+
+	void start() {
+		running = true;
+		for (Thread worker : workers) {
+			worker.start();
+		}
+	}
+
+	/**
+	 * Lets the workers empty the queue before they exit, the ones still busy after the timeout are interrupted.
+	 */
+	void stop(long timeoutMillis) throws InterruptedException {
+		running = false;
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		for (Thread worker : workers) {
+			worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+			if (worker.isAlive()) {
+				worker.interrupt();
+			}
+		}
+		if (!queue.isEmpty()) {
+			log.warn("Order ingestion stage {} stopped with {} orders left in its queue", name, queue.size());
+		}
+	}
+
+	private void work() {
+		List<T> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				T first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				OrderIngestionBatchEvent batchEvent = OrderIngestionBatchEvent.start(name, batch.size());
+				handler.handle(batch);
+				batchEvent.commit();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("Order ingestion stage {} interrupted with {} orders in hand", name, batch.size());
+				return;
+			} catch (RuntimeException e) {
+				log.error("Error while handling a batch of {} orders in order ingestion stage {}", batch.size(), name, e);
+				fail(batch);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void fail(List<T> batch) {
+		try {
+			failureHandler.failed(batch);
+		} catch (RuntimeException e) {
+			log.error("Could not fail the batch of {} orders in order ingestion stage {}", batch.size(), name, e);
+		}
+	}
+
+	interface BatchHandler<T> {
+
+		void handle(List<T> batch) throws InterruptedException;
+	}
+
+	interface FailureHandler<T> {
+
+		void failed(List<T> batch);
+	}
+}
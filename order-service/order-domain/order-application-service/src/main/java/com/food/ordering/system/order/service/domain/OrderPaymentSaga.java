@@ -0,0 +1,48 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.saga.EmptyEvent;
+import com.food.ordering.system.saga.SagaStep;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+public class OrderPaymentSaga implements SagaStep<PaymentResponse, OrderPaidEvent, EmptyEvent> {
+
+	private final OrderDomainService orderDomainService;
+	private final OrderSagaHelper orderSagaHelper;
+	private final OrderSagaTimeoutScheduler orderSagaTimeoutScheduler;
+
+	public OrderPaymentSaga(OrderDomainService orderDomainService, OrderSagaHelper orderSagaHelper,
+							OrderSagaTimeoutScheduler orderSagaTimeoutScheduler) {
+		this.orderDomainService = orderDomainService;
+		this.orderSagaHelper = orderSagaHelper;
+		this.orderSagaTimeoutScheduler = orderSagaTimeoutScheduler;
+	}
+
+	@Override
+	@Transactional
+	public OrderPaidEvent process(PaymentResponse paymentResponse) {
+		log.info("Completing payment for order with id: {}", paymentResponse.getOrderId());
+		Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
+		OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
+		orderSagaHelper.saveOrder(order);
+		orderSagaTimeoutScheduler.schedule(order);
+		return orderPaidEvent;
+	}
+
+	@Override
+	@Transactional
+	public EmptyEvent rollback(PaymentResponse paymentResponse) {
+		log.info("Cancelling order with id: {}", paymentResponse.getOrderId());
+		Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
+		orderDomainService.cancelOrder(order, paymentResponse.getFailureMessages());
+		orderSagaHelper.saveOrder(order);
+		orderSagaTimeoutScheduler.clear(order);
+		return EmptyEvent.INSTANCE;
+	}
+}
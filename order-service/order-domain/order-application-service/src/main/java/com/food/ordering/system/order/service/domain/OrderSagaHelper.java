@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class OrderSagaHelper {
+
+	private final OrderRepository orderRepository;
+	private final OrderStatusHelper orderStatusHelper;
+
+	public OrderSagaHelper(OrderRepository orderRepository, OrderStatusHelper orderStatusHelper) {
+		this.orderRepository = orderRepository;
+		this.orderStatusHelper = orderStatusHelper;
+	}
+
+	Order findOrder(String orderId) {
+		Optional<Order> orderResponse = orderRepository.findById(new OrderId(UUID.fromString(orderId)));
+		if (orderResponse.isEmpty()) {
+			log.error("Order with id: {} could not be found!", orderId);
+			throw new OrderNotFoundException("Order with id " + orderId + " could not be found!");
+		}
+		return orderResponse.get();
+	}
+
+	void saveOrder(Order order) {
+		orderRepository.save(order);
+		orderStatusHelper.statusChanged(order);
+	}
+
+	/**
+	 * Runs a transactional saga step once more when the order changed between reading and saving it, the
+	 * repository then reads it again from the store. A copy of the order cached by this instance can also be
+	 * behind a step another instance took, so that the order does not even seem to be in a state for this
+	 * step. Such a copy is dropped and the step runs again on the stored order, which alone tells whether the
+	 * response really came in the wrong state.
+	 */
+	<T> T retryOnStaleOrder(String orderId, Supplier<T> sagaStep) {
+		try {
+			return sagaStep.get();
+		} catch (OptimisticLockingFailureException e) {
+			log.warn("Order with id: {} changed while it was processed, processing it again", orderId);
+			return sagaStep.get();
+		} catch (OrderDomainException e) {
+			if (!orderRepository.evictCached(new OrderId(UUID.fromString(orderId)))) {
+				throw e;
+			}
+			log.warn("Cached order with id: {} is not in a valid state, processing it again from the store: {}",
+				orderId, e.getMessage());
+			return sagaStep.get();
+		}
+	}
+}
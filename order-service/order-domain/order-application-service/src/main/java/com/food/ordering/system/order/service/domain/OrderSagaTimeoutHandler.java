@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.timeout.SagaTimeout;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaTimeoutRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+@Slf4j
+@Component
+public class OrderSagaTimeoutHandler {
+
+	static final String PAYMENT_TIMEOUT_MESSAGE = "Payment was not completed in time";
+	static final String APPROVAL_TIMEOUT_MESSAGE = "Restaurant approval was not received in time";
+
+	private final OrderDomainService orderDomainService;
+	private final OrderSagaHelper orderSagaHelper;
+	private final SagaTimeoutRepository sagaTimeoutRepository;
+
+	public OrderSagaTimeoutHandler(OrderDomainService orderDomainService, OrderSagaHelper orderSagaHelper,
+								   SagaTimeoutRepository sagaTimeoutRepository) {
+		this.orderDomainService = orderDomainService;
+		this.orderSagaHelper = orderSagaHelper;
+		this.sagaTimeoutRepository = sagaTimeoutRepository;
+	}
+
+	/**
+	 * Cancels a pending order, or starts the compensation of a paid one and returns the event asking the
+	 * payment service to refund it. Does nothing when the saga moved on or another instance rescheduled it.
+	 */
+	@Transactional
+	public Optional<OrderCancelledEvent> expire(OrderId orderId) {
+		Optional<SagaTimeout> sagaTimeout = sagaTimeoutRepository.findByOrderId(orderId);
+		if (sagaTimeout.isEmpty() || sagaTimeout.get().getDeadline().isAfter(ZonedDateTime.now(ZoneId.of(UTC)))) {
+			return Optional.empty();
+		}
+		Order order = orderSagaHelper.findOrder(orderId.getValue().toString());
+		sagaTimeoutRepository.delete(orderId);
+		if (order.getOrderStatus() != sagaTimeout.get().getOrderStatus()) {
+			return Optional.empty();
+		}
+		if (order.getOrderStatus() == OrderStatus.PENDING) {
+			log.info("Cancelling order with id: {} as its payment timed out", orderId.getValue());
+			orderDomainService.cancelOrder(order, List.of(PAYMENT_TIMEOUT_MESSAGE));
+			orderSagaHelper.saveOrder(order);
+			return Optional.empty();
+		}
+		log.info("Cancelling payment of order with id: {} as its approval timed out", orderId.getValue());
+		OrderCancelledEvent orderCancelledEvent = orderDomainService.cancelOrderPayment(order,
+			List.of(APPROVAL_TIMEOUT_MESSAGE));
+		orderSagaHelper.saveOrder(order);
+		return Optional.of(orderCancelledEvent);
+	}
+}
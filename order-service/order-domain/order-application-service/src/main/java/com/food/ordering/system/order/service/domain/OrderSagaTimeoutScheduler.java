@@ -0,0 +1,132 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderSagaTimeoutConfigData;
+import com.food.ordering.system.order.service.domain.dto.timeout.SagaTimeout;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaTimeoutRepository;
+import com.food.ordering.system.saga.timeout.HashedTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static com.food.ordering.system.order.service.domain.OrderDomainServiceImpl.UTC;
+
+/**
+ * Keeps the deadline of every order waiting for the payment or the restaurant in a timing wheel, backed by
+ * the saga timeouts table so that the deadlines outlive restarts, and hands the orders past their deadline
+ * to {@link OrderSagaTimeoutHandler} a batch at a time. The wheel of an instance only holds the deadlines it
+ * scheduled or loaded when it started, the ones an instance that went away leaves behind are claimed from
+ * the table by the others once they are long overdue.
+ */
+@Slf4j
+@Component
+public class OrderSagaTimeoutScheduler {
+
+	private final SagaTimeoutRepository sagaTimeoutRepository;
+	private final OrderSagaTimeoutHandler orderSagaTimeoutHandler;
+	private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+	private final OrderSagaTimeoutConfigData orderSagaTimeoutConfigData;
+	private final HashedTimingWheel<OrderId> timingWheel;
+
+	public OrderSagaTimeoutScheduler(SagaTimeoutRepository sagaTimeoutRepository,
+									 OrderSagaTimeoutHandler orderSagaTimeoutHandler,
+									 OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher,
+									 OrderSagaTimeoutConfigData orderSagaTimeoutConfigData) {
+		this.sagaTimeoutRepository = sagaTimeoutRepository;
+		this.orderSagaTimeoutHandler = orderSagaTimeoutHandler;
+		this.orderCancelledPaymentRequestMessagePublisher = orderCancelledPaymentRequestMessagePublisher;
+		this.orderSagaTimeoutConfigData = orderSagaTimeoutConfigData;
+		this.timingWheel = new HashedTimingWheel<>(orderSagaTimeoutConfigData.getTickMs(),
+			orderSagaTimeoutConfigData.getWheelSize(), System.currentTimeMillis());
+	}
+
+	// called in the transaction that leaves the order pending or paid, the wheel follows once it commits
+	void schedule(Order order) {
+		long timeoutMs = order.getOrderStatus() == OrderStatus.PENDING ?
+			orderSagaTimeoutConfigData.getPaymentTimeoutMs() : orderSagaTimeoutConfigData.getApprovalTimeoutMs();
+		ZonedDateTime deadline = ZonedDateTime.now(ZoneId.of(UTC)).plusNanos(timeoutMs * 1_000_000);
+		sagaTimeoutRepository.save(new SagaTimeout(order.getId(), order.getOrderStatus(), deadline));
+		afterCommit(() -> timingWheel.schedule(order.getId(), deadline.toInstant().toEpochMilli()));
+	}
+
+	void clear(Order order) {
+		sagaTimeoutRepository.delete(order.getId());
+		afterCommit(() -> timingWheel.cancel(order.getId()));
+	}
+
+	@Transactional(readOnly = true)
+	@EventListener(ContextRefreshedEvent.class)
+	public void loadTimeouts() {
+		sagaTimeoutRepository.forEach(sagaTimeout ->
+			timingWheel.schedule(sagaTimeout.getOrderId(), sagaTimeout.getDeadline().toInstant().toEpochMilli()));
+		log.info("Loaded {} saga timeouts", timingWheel.size());
+	}
+
+	/**
+	 * A claim moves the deadline to now, so that the other instances pass over the timeout for another grace
+	 * period, and locks the row until the claim commits, so that instances scanning at once never claim the
+	 * same timeout. The claimed timeouts expire on the next tick.
+	 */
+	@Transactional
+	@Scheduled(fixedDelayString = "${order-saga-timeout.overdue-scan-ms}",
+		initialDelayString = "${order-saga-timeout.overdue-scan-ms}")
+	public void claimOverdueTimeouts() {
+		ZonedDateTime now = ZonedDateTime.now(ZoneId.of(UTC));
+		List<SagaTimeout> claimed = sagaTimeoutRepository.claimOverdue(
+			now.minusNanos(orderSagaTimeoutConfigData.getOverdueGraceMs() * 1_000_000), now,
+			orderSagaTimeoutConfigData.getBatchSize());
+		if (!claimed.isEmpty()) {
+			log.warn("Claimed {} saga timeouts overdue by more than {} ms", claimed.size(),
+				orderSagaTimeoutConfigData.getOverdueGraceMs());
+			afterCommit(() -> claimed.forEach(sagaTimeout ->
+				timingWheel.schedule(sagaTimeout.getOrderId(), sagaTimeout.getDeadline().toInstant().toEpochMilli())));
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${order-saga-timeout.tick-ms}", initialDelayString = "${order-saga-timeout.tick-ms}")
+	public void expireTimeouts() {
+		List<OrderId> expired;
+		do {
+			expired = timingWheel.expire(System.currentTimeMillis(), orderSagaTimeoutConfigData.getBatchSize());
+			expired.forEach(this::expire);
+		} while (expired.size() == orderSagaTimeoutConfigData.getBatchSize());
+	}
+
+	private void expire(OrderId orderId) {
+		try {
+			orderSagaTimeoutHandler.expire(orderId).ifPresent(orderCancelledEvent -> {
+				log.info("Publishing order cancelled event for timed out order id: {}", orderId.getValue());
+				orderCancelledPaymentRequestMessagePublisher.publish(orderCancelledEvent);
+			});
+		} catch (RuntimeException e) {
+			log.error("Could not expire saga timeout of order id: {}, retrying in {} ms", orderId.getValue(),
+				orderSagaTimeoutConfigData.getRetryDelayMs(), e);
+			timingWheel.schedule(orderId, System.currentTimeMillis() + orderSagaTimeoutConfigData.getRetryDelayMs());
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderStatusMessagePublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class OrderStatusHelper {
+
+	private final OrderStatusMessagePublisher orderStatusMessagePublisher;
+
+	public OrderStatusHelper(OrderStatusMessagePublisher orderStatusMessagePublisher) {
+		this.orderStatusMessagePublisher = orderStatusMessagePublisher;
+	}
+
+	// called in the transaction saving the order, the status is only published once it commits
+	void statusChanged(Order order) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			orderStatusMessagePublisher.publish(order);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				orderStatusMessagePublisher.publish(order);
+			}
+		});
+	}
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderStatusMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+@Slf4j
+@Validated
+@Service
+public class OrderStatusMessageListenerImpl implements OrderStatusMessageListener {
+
+	private final OrderStatusStore orderStatusStore;
+
+	public OrderStatusMessageListenerImpl(OrderStatusStore orderStatusStore) {
+		this.orderStatusStore = orderStatusStore;
+	}
+
+	@Override
+	public void orderStatusChanged(TrackOrderResponse trackOrderResponse, long version) {
+		if (orderStatusStore.save(trackOrderResponse, version)) {
+			log.debug("Order with tracking id: {} is now {}", trackOrderResponse.getOrderTrackingId(),
+				trackOrderResponse.getOrderStatus());
+		} else {
+			log.debug("Ignored status {} of version {} for order with tracking id: {}, a later one is stored",
+				trackOrderResponse.getOrderStatus(), version, trackOrderResponse.getOrderTrackingId());
+		}
+	}
+}
@@ -2,14 +2,12 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusStore;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -17,23 +15,27 @@ import java.util.Optional;
 @Component
 public class OrderTrackCommandHandler {
 
-	private final OrderDataMapper orderDataMapper;
+	private final OrderStatusStore orderStatusStore;
+	private final OrderTrackingRepository orderTrackingRepository;
 
-	private final OrderRepository orderRepository;
-
-	public OrderTrackCommandHandler(OrderDataMapper orderDataMapper, OrderRepository orderRepository) {
-		this.orderDataMapper = orderDataMapper;
-		this.orderRepository = orderRepository;
+	public OrderTrackCommandHandler(OrderStatusStore orderStatusStore, OrderTrackingRepository orderTrackingRepository) {
+		this.orderStatusStore = orderStatusStore;
+		this.orderTrackingRepository = orderTrackingRepository;
 	}
 
-	@Transactional(readOnly = true)
+	// not transactional, an order found in the local status store is tracked without touching the database
 	TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-		Optional<Order> orderResult = orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getOrderTrackingId()));
-		if(orderResult.isEmpty()) {
+		TrackingId trackingId = new TrackingId(trackOrderQuery.getOrderTrackingId());
+		Optional<TrackOrderResponse> trackOrderResponse = orderStatusStore.findByTrackingId(trackingId);
+		if (trackOrderResponse.isPresent()) {
+			return trackOrderResponse.get();
+		}
+		trackOrderResponse = orderTrackingRepository.findTrackOrderResponse(trackingId);
+		if(trackOrderResponse.isEmpty()) {
 			log.warn("Could not find order with tracking id: {}", trackOrderQuery.getOrderTrackingId());
 			throw new OrderNotFoundException("Could not find order with tracking id: " + trackOrderQuery.getOrderTrackingId());
 		}
 
-		return orderDataMapper.orderToTrackOrderResponse(orderResult.get());
+		return trackOrderResponse.get();
 	}
 }
@@ -0,0 +1,38 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A validated order waiting to be written by {@link OrderGroupCommitter}, completed once its transaction committed.
+ */
+class OrderWrite {
+
+	private final Order order;
+	private final String idempotencyKey;
+	private final String requestHash;
+	private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+	OrderWrite(Order order, String idempotencyKey, String requestHash) {
+		this.order = order;
+		this.idempotencyKey = idempotencyKey;
+		this.requestHash = requestHash;
+	}
+
+	Order getOrder() {
+		return order;
+	}
+
+	String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	String getRequestHash() {
+		return requestHash;
+	}
+
+	CompletableFuture<Void> getWritten() {
+		return written;
+	}
+}
@@ -1,22 +1,45 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import static com.food.ordering.system.logging.LazyArg.lazy;
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
 @Slf4j
 @Validated
 @Service
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
+
+	private final OrderPaymentSaga orderPaymentSaga;
+	private final OrderSagaHelper orderSagaHelper;
+	private final OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher;
+
+	public PaymentResponseMessageListenerImpl(OrderPaymentSaga orderPaymentSaga, OrderSagaHelper orderSagaHelper,
+											  OrderPaidRestaurantRequestMessagePublisher orderPaidRestaurantRequestMessagePublisher) {
+		this.orderPaymentSaga = orderPaymentSaga;
+		this.orderSagaHelper = orderSagaHelper;
+		this.orderPaidRestaurantRequestMessagePublisher = orderPaidRestaurantRequestMessagePublisher;
+	}
+
 	@Override
 	public void paymentCompleted(PaymentResponse paymentResponse) {
-
+		OrderPaidEvent orderPaidEvent = orderSagaHelper.retryOnStaleOrder(paymentResponse.getOrderId(),
+			() -> orderPaymentSaga.process(paymentResponse));
+		log.info("Publishing OrderPaidEvent for order id: {}", paymentResponse.getOrderId());
+		orderPaidRestaurantRequestMessagePublisher.publish(orderPaidEvent);
 	}
 
 	@Override
 	public void paymentCancelled(PaymentResponse paymentResponse) {
-
+		orderSagaHelper.retryOnStaleOrder(paymentResponse.getOrderId(), () -> orderPaymentSaga.rollback(paymentResponse));
+		log.info("Order is roll backed for order id: {} with failure messages: {}",
+			paymentResponse.getOrderId(),
+			lazy(() -> String.join(FAILURE_MESSAGE_DELIMITER, paymentResponse.getFailureMessages())));
 	}
 }
@@ -1,22 +1,46 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import static com.food.ordering.system.logging.LazyArg.lazy;
+import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
+
 @Slf4j
 @Validated
 @Service
 public class RestaurantApprovalResponseMessageListenerImpl implements RestaurantApprovalResponseMessageListener {
+
+	private final OrderApprovalSaga orderApprovalSaga;
+	private final OrderSagaHelper orderSagaHelper;
+	private final OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher;
+
+	public RestaurantApprovalResponseMessageListenerImpl(OrderApprovalSaga orderApprovalSaga, OrderSagaHelper orderSagaHelper,
+														 OrderCancelledPaymentRequestMessagePublisher orderCancelledPaymentRequestMessagePublisher) {
+		this.orderApprovalSaga = orderApprovalSaga;
+		this.orderSagaHelper = orderSagaHelper;
+		this.orderCancelledPaymentRequestMessagePublisher = orderCancelledPaymentRequestMessagePublisher;
+	}
+
 	@Override
 	public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+		orderSagaHelper.retryOnStaleOrder(restaurantApprovalResponse.getOrderId(),
+			() -> orderApprovalSaga.process(restaurantApprovalResponse));
+		log.info("Order is approved for order id: {}", restaurantApprovalResponse.getOrderId());
 	}
 
 	@Override
 	public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
-
+		OrderCancelledEvent orderCancelledEvent = orderSagaHelper.retryOnStaleOrder(
+			restaurantApprovalResponse.getOrderId(), () -> orderApprovalSaga.rollback(restaurantApprovalResponse));
+		log.info("Publishing order cancelled event for order id: {} with failure messages: {}",
+			restaurantApprovalResponse.getOrderId(),
+			lazy(() -> String.join(FAILURE_MESSAGE_DELIMITER, restaurantApprovalResponse.getFailureMessages())));
+		orderCancelledPaymentRequestMessagePublisher.publish(orderCancelledEvent);
 	}
 }
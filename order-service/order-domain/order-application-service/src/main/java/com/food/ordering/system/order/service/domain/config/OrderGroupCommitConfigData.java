@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-group-commit")
+public class OrderGroupCommitConfigData {
+	private Boolean enabled;
+	private Long windowMicros;
+	private Integer maxBatchSize;
+	private Integer committers;
+}
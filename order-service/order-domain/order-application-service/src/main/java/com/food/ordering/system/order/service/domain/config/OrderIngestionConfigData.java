@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-ingestion")
+public class OrderIngestionConfigData {
+	private Integer queueCapacity;
+	private Integer batchSize;
+	private Integer lookupWorkers;
+	private Integer validateWorkers;
+	private Integer persistWorkers;
+	private Integer publishWorkers;
+	private Long retryAfterSeconds;
+	private Long shutdownTimeoutMs;
+}
@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "order-saga-timeout")
+public class OrderSagaTimeoutConfigData {
+	private Long paymentTimeoutMs;
+	private Long approvalTimeoutMs;
+	private Long tickMs;
+	private Integer wheelSize;
+	private Integer batchSize;
+	private Long retryDelayMs;
+	private Long overdueScanMs;
+	private Long overdueGraceMs;
+}
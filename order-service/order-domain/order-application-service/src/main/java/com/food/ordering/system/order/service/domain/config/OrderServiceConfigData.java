@@ -12,4 +12,6 @@ public class OrderServiceConfigData {
 	private String paymentResponseTopicName;
 	private String restaurantApprovalRequestTopicName;
 	private String restaurantApprovalResponseTopicName;
+	private String orderStatusTopicName;
+	private String instanceId;
 }
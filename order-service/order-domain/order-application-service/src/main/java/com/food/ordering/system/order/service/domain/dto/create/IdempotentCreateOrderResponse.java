@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The response stored with an idempotency key, together with the hash of the request that claimed the key.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class IdempotentCreateOrderResponse {
+
+	// null for keys stored before the request hashes were
+	private final String requestHash;
+
+	private final CreateOrderResponse createOrderResponse;
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderExportQuery {
+	@NotNull
+	private final ZonedDateTime createdFrom;
+	@NotNull
+	private final ZonedDateTime createdTo;
+}
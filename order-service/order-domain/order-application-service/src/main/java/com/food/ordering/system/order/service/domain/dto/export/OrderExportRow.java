@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain.dto.export;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderExportRow {
+	private final UUID orderId;
+	private final UUID trackingId;
+	private final UUID customerId;
+	private final UUID restaurantId;
+	private final BigDecimal price;
+	private final OrderStatus orderStatus;
+	private final List<String> failureMessages;
+	private final String street;
+	private final String postalCode;
+	private final String city;
+	private final ZonedDateTime createdAt;
+}
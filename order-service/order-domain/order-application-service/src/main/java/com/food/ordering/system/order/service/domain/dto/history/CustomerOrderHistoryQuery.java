@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.dto.history;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomerOrderHistoryQuery {
+	@NotNull
+	private final UUID customerId;
+	@NotNull
+	@Min(1)
+	@Max(100)
+	private final Integer pageSize;
+	private final String continuationToken;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.dto.history;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CustomerOrderHistoryResponse {
+
+	@NotNull
+	private final List<OrderSummary> orders;
+
+	// absent on the last page
+	private final String continuationToken;
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.domain.dto.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+// the creation time and id of the last order on a page, the next page starts right after it
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderHistoryPosition {
+	private final ZonedDateTime createdAt;
+	private final UUID orderId;
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.dto.history;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSummary {
+	private final UUID orderTrackingId;
+	private final UUID restaurantId;
+	private final BigDecimal price;
+	private final OrderStatus orderStatus;
+	private final ZonedDateTime createdAt;
+}
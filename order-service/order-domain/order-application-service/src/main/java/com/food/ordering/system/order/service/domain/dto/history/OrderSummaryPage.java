@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.dto.history;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class OrderSummaryPage {
+	private final List<OrderSummary> orderSummaries;
+	// null when no order follows the page
+	private final OrderHistoryPosition nextPosition;
+}
@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.dto.timeout;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+
+// the order waits in the given status for a response of the saga until the deadline
+@Getter
+@Builder
+@AllArgsConstructor
+public class SagaTimeout {
+
+	private final OrderId orderId;
+	private final OrderStatus orderStatus;
+	private final ZonedDateTime deadline;
+}
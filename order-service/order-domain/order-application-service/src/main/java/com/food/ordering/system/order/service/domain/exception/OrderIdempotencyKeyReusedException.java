@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+public class OrderIdempotencyKeyReusedException extends RuntimeException {
+
+	public OrderIdempotencyKeyReusedException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.exception;
+
+public class OrderIngestionRejectedException extends RuntimeException {
+
+	private final long retryAfterSeconds;
+
+	public OrderIngestionRejectedException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+}
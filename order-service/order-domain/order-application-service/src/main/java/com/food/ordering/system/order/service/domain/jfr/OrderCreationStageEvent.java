@@ -0,0 +1,66 @@
+package com.food.ordering.system.order.service.domain.jfr;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.metrics.OrderCreateMetrics;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.UUID;
+
+/**
+ * Flight recorder event of one stage of creating an order, under the stage names of {@link OrderCreateMetrics},
+ * and of the whole creation as the createOrder stage. The ids are turned into strings only for an event that is
+ * committed, so with the event disabled a stage costs the event allocation and two checks.
+ */
+@Name(OrderCreationStageEvent.NAME)
+@Label("Order Creation Stage")
+@Category({"Food Ordering", "Order"})
+@Description("One stage of creating an order, the order id is known from validateAndInitiateOrder on")
+@StackTrace(false)
+public class OrderCreationStageEvent extends Event {
+
+	public static final String NAME = "com.food.ordering.system.OrderCreationStage";
+
+	@Label("Stage")
+	String stage;
+
+	@Label("Order Id")
+	String orderId;
+
+	@Label("Customer Id")
+	String customerId;
+
+	@Label("Item Count")
+	int itemCount;
+
+	@Label("Succeeded")
+	boolean succeeded;
+
+	private transient UUID customerUuid;
+
+	public static OrderCreationStageEvent start(String stage, UUID customerId, int itemCount) {
+		OrderCreationStageEvent event = new OrderCreationStageEvent();
+		event.stage = stage;
+		event.customerUuid = customerId;
+		event.itemCount = itemCount;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * @param orderId null while the order has none
+	 */
+	public void finish(OrderId orderId, boolean succeeded) {
+		end();
+		if (shouldCommit()) {
+			this.orderId = orderId != null ? orderId.getValue().toString() : null;
+			this.customerId = String.valueOf(customerUuid);
+			this.succeeded = succeeded;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.food.ordering.system.order.service.domain.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a batch handled by one step of the order ingestion pipeline, timed from the step
+ * taking the batch until it handed it on. The orders themselves show in the transition and repository events
+ * recorded within that time.
+ */
+@Name(OrderIngestionBatchEvent.NAME)
+@Label("Order Ingestion Batch")
+@Category({"Food Ordering", "Order"})
+@Description("A batch of accepted orders handled by one step of the order ingestion pipeline")
+@StackTrace(false)
+public class OrderIngestionBatchEvent extends Event {
+
+	public static final String NAME = "com.food.ordering.system.OrderIngestionBatch";
+
+	@Label("Step")
+	String step;
+
+	@Label("Order Count")
+	int orderCount;
+
+	public static OrderIngestionBatchEvent start(String step, int orderCount) {
+		OrderIngestionBatchEvent event = new OrderIngestionBatchEvent();
+		event.step = step;
+		event.orderCount = orderCount;
+		event.begin();
+		return event;
+	}
+}
@@ -7,7 +7,6 @@ import com.food.ordering.system.domain.entity.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OderAddress;
-import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -50,14 +49,6 @@ public class OrderDataMapper {
 			.build();
 	}
 
-	public TrackOrderResponse orderToTrackOrderResponse(Order order) {
-		return TrackOrderResponse.builder()
-			.orderTrackingId(order.getTrackingId().getValue())
-			.orderStatus(order.getOrderStatus())
-			.failureMessages(order.getFailureMessages())
-			.build();
-	}
-
 	private StreetAddress orderAddressToStreetAddress(OderAddress address) {
 		return new StreetAddress(
 			UUID.randomUUID(),
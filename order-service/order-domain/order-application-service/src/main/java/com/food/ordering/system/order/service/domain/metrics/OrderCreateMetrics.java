@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Component
+public class OrderCreateMetrics {
+
+	private static final String ORDER_CREATE = "order.create";
+	private static final String ORDER_CREATE_STAGE = "order.create.stage";
+
+	private final OutcomeTimer createOrder;
+	private final OutcomeTimer checkCustomer;
+	private final OutcomeTimer checkRestaurant;
+	private final OutcomeTimer validateAndInitiateOrder;
+	private final OutcomeTimer saveOrder;
+
+	public OrderCreateMetrics(MeterRegistry meterRegistry) {
+		this.createOrder = new OutcomeTimer(meterRegistry, ORDER_CREATE,
+			"Time to create an order and hand its payment request to the publisher", Tags.empty());
+		this.checkCustomer = stage(meterRegistry, "checkCustomer");
+		this.checkRestaurant = stage(meterRegistry, "checkRestaurant");
+		this.validateAndInitiateOrder = stage(meterRegistry, "validateAndInitiateOrder");
+		this.saveOrder = stage(meterRegistry, "saveOrder");
+	}
+
+	private static OutcomeTimer stage(MeterRegistry meterRegistry, String stage) {
+		return new OutcomeTimer(meterRegistry, ORDER_CREATE_STAGE, "Time spent in one stage of order creation",
+			Tags.of("stage", stage));
+	}
+}
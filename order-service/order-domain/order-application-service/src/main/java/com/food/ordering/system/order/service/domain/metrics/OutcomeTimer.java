@@ -0,0 +1,45 @@
+package com.food.ordering.system.order.service.domain.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A success and a failure timer registered up front, so recording on the hot path is a
+ * {@link System#nanoTime()} read and a timer update, with no tag lookup or allocation.
+ */
+public class OutcomeTimer {
+
+	private final Timer success;
+	private final Timer failure;
+
+	public OutcomeTimer(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+		this.success = register(meterRegistry, name, description, tags.and("outcome", "success"));
+		this.failure = register(meterRegistry, name, description, tags.and("outcome", "failure"));
+	}
+
+	public void success(long startNanos) {
+		success.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void failure(long startNanos) {
+		failure.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void success(long duration, TimeUnit unit) {
+		success.record(duration, unit);
+	}
+
+	public void failure(long duration, TimeUnit unit) {
+		failure.record(duration, unit);
+	}
+
+	private static Timer register(MeterRegistry meterRegistry, String name, String description, Tags tags) {
+		return Timer.builder(name)
+			.description(description)
+			.tags(tags)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,10 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+
+public interface OrderStatusMessageListener {
+	/**
+	 * @param version version of the stored order the status was read from, statuses can arrive out of order
+	 */
+	void orderStatusChanged(TrackOrderResponse trackOrderResponse, long version);
+}
@@ -2,12 +2,22 @@ package com.food.ordering.system.order.service.domain.ports.input.service;
 
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryQuery;
+import com.food.ordering.system.order.service.domain.dto.history.CustomerOrderHistoryResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import jakarta.validation.Valid;
 
+import java.util.function.Consumer;
+
 public interface OrderApplicationService {
 
 	CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
+	CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand, String idempotencyKey);
+	CreateOrderResponse acceptOrder(@Valid CreateOrderCommand createOrderCommand);
 	TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+	long exportOrders(@Valid OrderExportQuery orderExportQuery, Consumer<OrderExportRow> orderExportRowConsumer);
+	CustomerOrderHistoryResponse findCustomerOrders(@Valid CustomerOrderHistoryQuery customerOrderHistoryQuery);
 }
@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+
+public interface OrderStatusMessagePublisher {
+
+	/**
+	 * Publishes the status of the order keyed by its tracking id, later statuses of an order replace earlier ones.
+	 */
+	void publish(Order order);
+}
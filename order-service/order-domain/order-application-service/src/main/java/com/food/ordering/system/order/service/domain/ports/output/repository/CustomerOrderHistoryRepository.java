@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.dto.history.OrderHistoryPosition;
+import com.food.ordering.system.order.service.domain.dto.history.OrderSummaryPage;
+
+public interface CustomerOrderHistoryRepository {
+
+	/**
+	 * Returns up to pageSize orders of the customer, newest first, starting right after the given
+	 * position or with the newest order when it is null. Seeks to the position instead of skipping
+	 * the orders before it, so every page costs the same.
+	 */
+	OrderSummaryPage findOrderSummaries(CustomerId customerId, OrderHistoryPosition after, int pageSize);
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportQuery;
+import com.food.ordering.system.order.service.domain.dto.export.OrderExportRow;
+
+import java.util.function.Consumer;
+
+public interface OrderExportRepository {
+
+	/**
+	 * Hands the orders created in the queried range to the consumer one at a time, as they are read,
+	 * without holding on to the ones already passed. Needs a surrounding transaction to keep the cursor
+	 * open, and returns the number of orders exported.
+	 */
+	long exportOrders(OrderExportQuery orderExportQuery, Consumer<OrderExportRow> orderExportRowConsumer);
+}
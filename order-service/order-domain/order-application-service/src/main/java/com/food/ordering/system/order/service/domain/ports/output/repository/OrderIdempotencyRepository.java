@@ -0,0 +1,24 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.dto.create.IdempotentCreateOrderResponse;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyRepository {
+
+	/**
+	 * Keys are looked up where the orders of the customer sending them are stored.
+	 */
+	Optional<IdempotentCreateOrderResponse> findCreateOrderResponse(CustomerId customerId, String idempotencyKey);
+
+	/**
+	 * Claims the key within the current transaction and fails immediately if another request
+	 * already holds it, so the transaction is rolled back before the order is written.
+	 */
+	void save(String idempotencyKey, String requestHash, CreateOrderResponse createOrderResponse);
+
+	int deleteCreatedBefore(ZonedDateTime createdBefore);
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+/**
+ * Ids of new orders come from the storage, which may encode in them where the order of the
+ * customer is stored, so an order can be found again by either of its ids alone.
+ */
+public interface OrderIdentityGenerator {
+
+	OrderId nextOrderId(CustomerId customerId);
+
+	TrackingId nextTrackingId(CustomerId customerId);
+}
@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
@@ -9,5 +11,19 @@ public interface OrderRepository {
 
 	Order save(Order order);
 
+	Optional<Order> findById(OrderId orderId);
+
+	/**
+	 * Drops the copy of the order the repository may serve reads from, so that the next read goes to the store.
+	 *
+	 * @return whether a copy was dropped
+	 */
+	boolean evictCached(OrderId orderId);
+
 	Optional<Order> findByTrackingId(TrackingId trackingId);
+
+	/**
+	 * New orders of customers in the same write group can be saved in one transaction.
+	 */
+	String writeGroupOf(CustomerId customerId);
 }
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Optional;
+
+/**
+ * Status of the orders kept local to the instance, filled from the order status messages of every instance.
+ */
+public interface OrderStatusStore {
+
+	Optional<TrackOrderResponse> findByTrackingId(TrackingId trackingId);
+
+	/**
+	 * Keeps the status unless the store already holds the status of the same or a later version of the order.
+	 *
+	 * @return whether the status was kept
+	 */
+	boolean save(TrackOrderResponse trackOrderResponse, long version);
+}
@@ -0,0 +1,14 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.util.Optional;
+
+public interface OrderTrackingRepository {
+
+	/**
+	 * Reads only the status and failure messages of the order, without loading its items and address.
+	 */
+	Optional<TrackOrderResponse> findTrackOrderResponse(TrackingId trackingId);
+}
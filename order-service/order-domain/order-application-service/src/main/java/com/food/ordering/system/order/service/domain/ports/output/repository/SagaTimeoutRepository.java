@@ -0,0 +1,26 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.dto.timeout.SagaTimeout;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface SagaTimeoutRepository {
+
+	void save(SagaTimeout sagaTimeout);
+
+	Optional<SagaTimeout> findByOrderId(OrderId orderId);
+
+	void delete(OrderId orderId);
+
+	void forEach(Consumer<SagaTimeout> sagaTimeoutConsumer);
+
+	/**
+	 * Moves the deadline of at most limit timeouts due before overdueBefore to claimedAt and returns them, with
+	 * the deadline they are claimed at. Timeouts another transaction is claiming at the same time are passed over.
+	 */
+	List<SagaTimeout> claimOverdue(ZonedDateTime overdueBefore, ZonedDateTime claimedAt, int limit);
+}
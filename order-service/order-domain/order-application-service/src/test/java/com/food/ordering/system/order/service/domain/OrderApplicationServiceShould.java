@@ -5,29 +5,59 @@ import com.food.ordering.system.order.service.domain.dto.create.CreateOrderComma
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OderAddress;
 import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderIdempotencyKeyReusedException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderStatusMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusStore;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -40,6 +70,15 @@ public class OrderApplicationServiceShould {
 	@Autowired
 	private OrderDataMapper orderDataMapper;
 
+	@SpyBean
+	private OrderCreateHelper orderCreateHelper;
+
+	@Autowired
+	private OrderGroupCommitter orderGroupCommitter;
+
+	@Autowired
+	private RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+
 	@Autowired
 	private OrderRepository orderRepository;
 
@@ -49,6 +88,21 @@ public class OrderApplicationServiceShould {
 	@Autowired
 	private RestaurantRepository restaurantRepository;
 
+	@Autowired
+	private OrderIdempotencyRepository orderIdempotencyRepository;
+
+	@Autowired
+	private OrderCreatedPaymentRequestMessagePublisher orderCreatedPaymentRequestMessagePublisher;
+
+	@Autowired
+	private OrderStatusMessagePublisher orderStatusMessagePublisher;
+
+	@Autowired
+	private OrderStatusStore orderStatusStore;
+
+	@Autowired
+	private OrderTrackingRepository orderTrackingRepository;
+
 	private CreateOrderCommand createOrderCommand;
 	private CreateOrderCommand createOrderCommandWrongPrice;
 	private CreateOrderCommand createOrderCommandWrongProductPrice;
@@ -91,6 +145,183 @@ public class OrderApplicationServiceShould {
 		assertNotNull(createOrderResponse.getOrderTrackingId());
 	}
 
+	@Test
+	public void returnSameResponse_whenIdempotencyKeyIsRepeated() {
+		String idempotencyKey = "c9a1f0d2-5f0e-4c8b-9d3e-2f4a6b8c0d1e";
+		clearInvocations(orderRepository, orderIdempotencyRepository, orderCreatedPaymentRequestMessagePublisher);
+
+		CreateOrderResponse createOrderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+		CreateOrderResponse repeatedCreateOrderResponse = orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+
+		assertSame(createOrderResponse, repeatedCreateOrderResponse);
+		verify(orderIdempotencyRepository, times(1)).save(eq(idempotencyKey), anyString(), any(CreateOrderResponse.class));
+		verify(orderRepository, times(1)).save(any(Order.class));
+		verify(orderCreatedPaymentRequestMessagePublisher, times(1)).publish(any());
+	}
+
+	@Test
+	public void rejectRequest_whenIdempotencyKeyIsRepeatedWithDifferentRequest() {
+		String idempotencyKey = "5d0c7a3e-8b1f-4e2a-a6c9-0f3b7d1e9a42";
+		CreateOrderCommand otherAddressCommand = CreateOrderCommand.builder()
+			.customerId(createOrderCommand.getCustomerId())
+			.restaurantId(createOrderCommand.getRestaurantId())
+			.address(OderAddress.builder()
+				.street("street_2")
+				.postalCode("100AB")
+				.city("Paris")
+				.build())
+			.price(createOrderCommand.getPrice())
+			.items(createOrderCommand.getItems())
+			.build();
+		clearInvocations(orderRepository, orderIdempotencyRepository, orderCreatedPaymentRequestMessagePublisher);
+
+		orderApplicationService.createOrder(createOrderCommand, idempotencyKey);
+		OrderIdempotencyKeyReusedException orderIdempotencyKeyReusedException = assertThrows(
+			OrderIdempotencyKeyReusedException.class,
+			() -> orderApplicationService.createOrder(otherAddressCommand, idempotencyKey));
+
+		assertEquals("Idempotency key " + idempotencyKey + " was already used for a different request!",
+			orderIdempotencyKeyReusedException.getMessage());
+		verify(orderRepository, times(1)).save(any(Order.class));
+		verify(orderCreatedPaymentRequestMessagePublisher, times(1)).publish(any());
+	}
+
+	@Test
+	public void writeOtherOrdersOfGroup_whenOneOrderFailsToSave() {
+		Order firstOrder = orderCreateHelper.prepareOrder(createOrderCommand).getOrder();
+		Order failingOrder = orderCreateHelper.prepareOrder(createOrderCommand).getOrder();
+		Order lastOrder = orderCreateHelper.prepareOrder(createOrderCommand).getOrder();
+		when(orderRepository.save(failingOrder)).thenThrow(new DataIntegrityViolationException("Duplicate order id"));
+		clearInvocations(orderCreateHelper);
+
+		CompletableFuture<Void> firstOrderWritten = orderGroupCommitter.submit(firstOrder, null, null);
+		CompletableFuture<Void> failingOrderWritten = orderGroupCommitter.submit(failingOrder, null, null);
+		CompletableFuture<Void> lastOrderWritten = orderGroupCommitter.submit(lastOrder, null, null);
+
+		assertDoesNotThrow(() -> firstOrderWritten.get(5, TimeUnit.SECONDS));
+		assertDoesNotThrow(() -> lastOrderWritten.get(5, TimeUnit.SECONDS));
+		ExecutionException executionException = assertThrows(ExecutionException.class,
+			() -> failingOrderWritten.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(DataIntegrityViolationException.class, executionException.getCause());
+		// the orders submitted within the window are written in one transaction first
+		verify(orderCreateHelper).persistOrders(argThat(orderWrites ->
+			ordersOf(orderWrites).equals(List.of(firstOrder, failingOrder, lastOrder))));
+	}
+
+	@Test
+	public void writeOrdersOneByOne_whenTransactionOfGroupFails() {
+		Order firstOrder = orderCreateHelper.prepareOrder(createOrderCommand).getOrder();
+		Order failingOrder = orderCreateHelper.prepareOrder(createOrderCommand).getOrder();
+		Order lastOrder = orderCreateHelper.prepareOrder(createOrderCommand).getOrder();
+		when(orderRepository.save(failingOrder)).thenThrow(new DataIntegrityViolationException("Duplicate order id"));
+		clearInvocations(orderCreateHelper, orderRepository);
+
+		CompletableFuture<Void> written = CompletableFuture.allOf(orderGroupCommitter.submit(firstOrder, null, null),
+			orderGroupCommitter.submit(failingOrder, null, null), orderGroupCommitter.submit(lastOrder, null, null));
+		assertDoesNotThrow(() -> written.handle((result, e) -> null).get(5, TimeUnit.SECONDS));
+
+		InOrder inOrder = inOrder(orderCreateHelper);
+		inOrder.verify(orderCreateHelper).persistOrders(argThat(orderWrites -> orderWrites.size() == 3));
+		for (Order order : List.of(firstOrder, failingOrder, lastOrder)) {
+			inOrder.verify(orderCreateHelper).persistOrders(argThat(orderWrites ->
+				ordersOf(orderWrites).equals(List.of(order))));
+		}
+		verify(orderCreateHelper, times(4)).persistOrders(any());
+		verify(orderRepository, times(2)).save(firstOrder);
+		verify(orderRepository, times(1)).save(lastOrder);
+	}
+
+	@Test
+	public void createOrderAfterResponse_whenOrderIsAccepted() {
+		clearInvocations(orderRepository, orderCreatedPaymentRequestMessagePublisher);
+
+		CreateOrderResponse createOrderResponse = orderApplicationService.acceptOrder(createOrderCommand);
+
+		assertEquals(OrderStatus.PENDING, createOrderResponse.getOrderStatus());
+		assertEquals("Order accepted", createOrderResponse.getMessage());
+		verify(orderCreatedPaymentRequestMessagePublisher, timeout(5000)).publish(argThat(orderCreatedEvent ->
+			orderCreatedEvent.getOrder().getTrackingId().getValue().equals(createOrderResponse.getOrderTrackingId())));
+		verify(orderRepository, times(1)).save(any(Order.class));
+	}
+
+	@Test
+	public void publishCancelledStatus_whenAcceptedOrderHasUnknownCustomer() {
+		clearInvocations(orderRepository, orderStatusMessagePublisher);
+		CreateOrderCommand unknownCustomerCommand = CreateOrderCommand.builder()
+			.customerId(UUID.fromString("5e2c7a14-0b3d-4f6e-9a81-c4d7e2f0b935"))
+			.restaurantId(RESTAURANT_ID)
+			.address(createOrderCommand.getAddress())
+			.price(PRICE)
+			.items(createOrderCommand.getItems())
+			.build();
+
+		CreateOrderResponse createOrderResponse = orderApplicationService.acceptOrder(unknownCustomerCommand);
+
+		verify(orderStatusMessagePublisher, timeout(5000)).publish(argThat(order ->
+			order.getTrackingId().getValue().equals(createOrderResponse.getOrderTrackingId()) &&
+				order.getOrderStatus() == OrderStatus.CANCELLED));
+		verify(orderRepository, never()).save(any(Order.class));
+	}
+
+	@Test
+	public void publishNotCreatedStatus_whenCustomerLookupFails() {
+		UUID customerId = UUID.fromString("9a4d1c72-6e8b-4f30-a5d2-7b1e3c9f0a64");
+		when(customerRepository.findCustomer(customerId)).thenThrow(new QueryTimeoutException("Lookup timed out"));
+		clearInvocations(orderRepository, orderStatusMessagePublisher);
+		CreateOrderCommand customerLookupFailingCommand = CreateOrderCommand.builder()
+			.customerId(customerId)
+			.restaurantId(RESTAURANT_ID)
+			.address(createOrderCommand.getAddress())
+			.price(PRICE)
+			.items(createOrderCommand.getItems())
+			.build();
+
+		CreateOrderResponse createOrderResponse = orderApplicationService.acceptOrder(customerLookupFailingCommand);
+
+		verify(orderStatusMessagePublisher, timeout(5000)).publish(argThat(order ->
+			order.getTrackingId().getValue().equals(createOrderResponse.getOrderTrackingId()) &&
+				order.getOrderStatus() == OrderStatus.CANCELLED &&
+				order.getFailureMessages().equals(List.of("Could not create order!"))));
+		verify(orderRepository, never()).save(any(Order.class));
+	}
+
+	@Test
+	public void approveStoredOrder_whenCachedOrderIsBehindIt() {
+		UUID orderId = UUID.fromString("6b2e9c41-3d7a-4f05-b8e1-9a0c2d4f6e17");
+		Order cachedOrder = givenAnInitializedOrder(orderId);
+		Order storedOrder = givenAnInitializedOrder(orderId);
+		storedOrder.pay();
+		when(orderRepository.findById(new OrderId(orderId))).thenReturn(Optional.of(cachedOrder), Optional.of(storedOrder));
+		when(orderRepository.evictCached(new OrderId(orderId))).thenReturn(true);
+		clearInvocations(orderRepository);
+
+		restaurantApprovalResponseMessageListener.orderApproved(RestaurantApprovalResponse.builder()
+			.id(UUID.randomUUID().toString())
+			.sagaId("")
+			.orderId(orderId.toString())
+			.restaurantId(RESTAURANT_ID.toString())
+			.createdAt(Instant.now())
+			.orderApprovalStatus(OrderApprovalStatus.APPROVED)
+			.failureMessages(List.of())
+			.build());
+
+		verify(orderRepository, times(1)).evictCached(new OrderId(orderId));
+		verify(orderRepository, times(1)).save(argThat(order ->
+			order.getId().getValue().equals(orderId) && order.getOrderStatus() == OrderStatus.APPROVED));
+	}
+
+	@Test
+	public void trackOrderWithoutDatabase_whenStatusIsInStatusStore() {
+		UUID trackingId = UUID.fromString("3f1a8e2c-7b4d-4e9a-8c6f-1d2e3f4a5b6c");
+		when(orderStatusStore.findByTrackingId(new TrackingId(trackingId))).thenReturn(Optional.of(
+			new TrackOrderResponse(trackingId, OrderStatus.PAID, List.of())));
+
+		TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(new TrackOrderQuery(trackingId));
+
+		assertEquals(OrderStatus.PAID, trackOrderResponse.getOrderStatus());
+		verify(orderTrackingRepository, never()).findTrackOrderResponse(any());
+	}
+
 	@Test
 	public void throwException_whenCreateOrderWrongTotalPrice() {
 		givenACreateOrderCommandWithWrongTotalPrice();
@@ -134,6 +365,16 @@ public class OrderApplicationServiceShould {
 			orderDomainException.getMessage());
 	}
 
+	private List<Order> ordersOf(List<OrderWrite> orderWrites) {
+		return orderWrites.stream().map(OrderWrite::getOrder).toList();
+	}
+
+	private Order givenAnInitializedOrder(UUID orderId) {
+		Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+		order.initializeOrder(new OrderId(orderId), new TrackingId(UUID.randomUUID()), ZonedDateTime.now(ZoneId.of("UTC")));
+		return order;
+	}
+
 	private void givenAValidCreateOrderCommand() {
 		createOrderCommand = CreateOrderCommand.builder()
 			.customerId(CUSTOMER_ID)
@@ -1,15 +1,30 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.entity.valueobject.CustomerId;
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderStatusMessagePublisher;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerOrderHistoryRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderExportRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdempotencyRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderIdentityGenerator;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderStatusStore;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderTrackingRepository;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.SagaTimeoutRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import java.util.UUID;
+
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
 public class OrderTestConfiguration {
 
@@ -28,6 +43,11 @@ public class OrderTestConfiguration {
 		return Mockito.mock(OrderPaidRestaurantRequestMessagePublisher.class);
 	}
 
+	@Bean
+	public OrderStatusMessagePublisher orderStatusMessagePublisher() {
+		return Mockito.mock(OrderStatusMessagePublisher.class);
+	}
+
 	@Bean
 	public OrderRepository orderRepository() {
 		return Mockito.mock(OrderRepository.class);
@@ -43,8 +63,58 @@ public class OrderTestConfiguration {
 		return Mockito.mock(RestaurantRepository.class);
 	}
 
+	@Bean
+	public OrderIdempotencyRepository orderIdempotencyRepository() {
+		return Mockito.mock(OrderIdempotencyRepository.class);
+	}
+
+	@Bean
+	public OrderExportRepository orderExportRepository() {
+		return Mockito.mock(OrderExportRepository.class);
+	}
+
+	@Bean
+	public CustomerOrderHistoryRepository customerOrderHistoryRepository() {
+		return Mockito.mock(CustomerOrderHistoryRepository.class);
+	}
+
+	@Bean
+	public OrderTrackingRepository orderTrackingRepository() {
+		return Mockito.mock(OrderTrackingRepository.class);
+	}
+
+	@Bean
+	public OrderStatusStore orderStatusStore() {
+		return Mockito.mock(OrderStatusStore.class);
+	}
+
+	@Bean
+	public SagaTimeoutRepository sagaTimeoutRepository() {
+		return Mockito.mock(SagaTimeoutRepository.class);
+	}
+
+	@Bean
+	public OrderIdentityGenerator orderIdentityGenerator() {
+		return new OrderIdentityGenerator() {
+			@Override
+			public OrderId nextOrderId(CustomerId customerId) {
+				return new OrderId(UUID.randomUUID());
+			}
+
+			@Override
+			public TrackingId nextTrackingId(CustomerId customerId) {
+				return new TrackingId(UUID.randomUUID());
+			}
+		};
+	}
+
 	@Bean
 	public OrderDomainService orderDomainService() {
 		return new OrderDomainServiceImpl();
 	}
+
+	@Bean
+	public MeterRegistry meterRegistry() {
+		return new SimpleMeterRegistry();
+	}
 }
@@ -1,15 +1,18 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
 import java.util.List;
 
 public interface OrderDomainService {
 	OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant);
+	OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant, OrderId orderId, TrackingId trackingId);
 	OrderPaidEvent payOrder(Order order);
 	void approveOrder(Order order);
 	OrderCancelledEvent cancelOrderPayment(Order order, List<String> failureMessages);
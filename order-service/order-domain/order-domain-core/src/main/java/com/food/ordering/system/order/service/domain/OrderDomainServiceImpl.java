@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
@@ -7,11 +8,13 @@ import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Slf4j
 public class OrderDomainServiceImpl implements OrderDomainService {
@@ -20,12 +23,18 @@ public class OrderDomainServiceImpl implements OrderDomainService {
 
 	@Override
 	public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant) {
+		return validateAndInitiateOrder(order, restaurant, new OrderId(UUID.randomUUID()), new TrackingId(UUID.randomUUID()));
+	}
+
+	@Override
+	public OrderCreatedEvent validateAndInitiateOrder(Order order, Restaurant restaurant, OrderId orderId,
+													 TrackingId trackingId) {
 		validateRestaurant(restaurant);
 		setOrderProductInformation(order, restaurant);
 		order.validateOrder();
-		order.initializeOrder();
+		order.initializeOrder(orderId, trackingId, ZonedDateTime.now(ZoneId.of(UTC)));
 		log.info("Order with id: {} is initiated", order.getId().getValue());
-		return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+		return new OrderCreatedEvent(order, order.getCreatedAt());
 	}
 
 	private void validateRestaurant(Restaurant restaurant) {
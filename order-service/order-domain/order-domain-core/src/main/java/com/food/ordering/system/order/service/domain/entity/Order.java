@@ -3,10 +3,12 @@ package com.food.ordering.system.order.service.domain.entity;
 import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.entity.valueobject.*;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.jfr.OrderTransitionEvent;
 import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -21,14 +23,23 @@ public class Order extends AggregateRoot<OrderId> {
     private TrackingId trackingId;
     private OrderStatus orderStatus;
     private List<String> failureMessages;
+    private ZonedDateTime createdAt;
+    // version of the stored order, set by the repository when it reads or saves the order
+    private long version;
 
     public static final String  FAILURE_MESSAGE_DELIMITER = ",";
 
-    public void initializeOrder() {
-        setId(new OrderId(UUID.randomUUID()));
-        trackingId = new TrackingId(UUID.randomUUID());
+    public void initializeOrder(ZonedDateTime createdAt) {
+        initializeOrder(new OrderId(UUID.randomUUID()), new TrackingId(UUID.randomUUID()), createdAt);
+    }
+
+    public void initializeOrder(OrderId orderId, TrackingId trackingId, ZonedDateTime createdAt) {
+        setId(orderId);
+        this.trackingId = trackingId;
         orderStatus = OrderStatus.PENDING;
+        this.createdAt = createdAt;
         initializeOrderItems();
+        OrderTransitionEvent.emit(this, null);
     }
 
     public void validateOrder() {
@@ -43,6 +54,7 @@ public class Order extends AggregateRoot<OrderId> {
         }
 
         orderStatus = OrderStatus.PAID;
+        OrderTransitionEvent.emit(this, OrderStatus.PENDING);
     }
 
     public void approve() {
@@ -51,6 +63,7 @@ public class Order extends AggregateRoot<OrderId> {
         }
 
         orderStatus = OrderStatus.APPROVED;
+        OrderTransitionEvent.emit(this, OrderStatus.PAID);
     }
 
     public void initCancel(List<String> failureMessages) {
@@ -60,6 +73,7 @@ public class Order extends AggregateRoot<OrderId> {
 
         orderStatus = OrderStatus.CANCELLING;
         updateFailureMessages(failureMessages);
+        OrderTransitionEvent.emit(this, OrderStatus.PAID);
     }
 
     public void cancel(List<String> failureMessages) {
@@ -67,8 +81,10 @@ public class Order extends AggregateRoot<OrderId> {
             throw new OrderDomainException("Order is not in correct state for cancel operation!");
         }
 
+        OrderStatus fromStatus = orderStatus;
         orderStatus = OrderStatus.CANCELLED;
         updateFailureMessages(failureMessages);
+        OrderTransitionEvent.emit(this, fromStatus);
     }
 
     private void updateFailureMessages(List<String> failureMessages) {
@@ -128,6 +144,8 @@ public class Order extends AggregateRoot<OrderId> {
         trackingId = builder.trackingId;
         orderStatus = builder.orderStatus;
         failureMessages = builder.failureMessages;
+        createdAt = builder.createdAt;
+        version = builder.version;
     }
 
 
@@ -163,6 +181,18 @@ public class Order extends AggregateRoot<OrderId> {
         return failureMessages;
     }
 
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public static final class Builder {
         private OrderId orderId;
         private CustomerId customerId;
@@ -173,6 +203,8 @@ public class Order extends AggregateRoot<OrderId> {
         private TrackingId trackingId;
         private OrderStatus orderStatus;
         private List<String> failureMessages;
+        private ZonedDateTime createdAt;
+        private long version;
 
         private Builder() {
         }
@@ -226,6 +258,16 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
+        public Builder createdAt(ZonedDateTime val) {
+            createdAt = val;
+            return this;
+        }
+
+        public Builder version(long val) {
+            version = val;
+            return this;
+        }
+
         public Order build() {
             return new Order(this);
         }
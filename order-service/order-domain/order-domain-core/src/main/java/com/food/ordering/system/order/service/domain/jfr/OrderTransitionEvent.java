@@ -0,0 +1,48 @@
+package com.food.ordering.system.order.service.domain.jfr;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of an order changing status, committed at the moment of the change. When the event
+ * is not enabled in the recording, or there is no recording, the order pays a check of the event type and
+ * nothing else, the event not escaping the method.
+ */
+@Name(OrderTransitionEvent.NAME)
+@Label("Order Transition")
+@Category({"Food Ordering", "Order"})
+@Description("An order moved from one status to another")
+@StackTrace(false)
+public class OrderTransitionEvent extends Event {
+
+	public static final String NAME = "com.food.ordering.system.OrderTransition";
+
+	@Label("Order Id")
+	String orderId;
+
+	@Label("From")
+	String fromStatus;
+
+	@Label("To")
+	String toStatus;
+
+	@Label("Item Count")
+	int itemCount;
+
+	public static void emit(Order order, OrderStatus fromStatus) {
+		OrderTransitionEvent event = new OrderTransitionEvent();
+		if (event.shouldCommit()) {
+			event.orderId = order.getId().getValue().toString();
+			event.fromStatus = fromStatus != null ? fromStatus.name() : null;
+			event.toStatus = order.getOrderStatus().name();
+			event.itemCount = order.getItems().size();
+			event.commit();
+		}
+	}
+}
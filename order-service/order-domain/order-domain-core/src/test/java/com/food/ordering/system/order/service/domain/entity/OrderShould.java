@@ -5,6 +5,7 @@ import com.food.ordering.system.domain.entity.valueobject.OrderId;
 import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
 import com.food.ordering.system.domain.entity.valueobject.ProductId;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -50,15 +52,34 @@ class OrderShould {
 				))
 		);
 
-		order.initializeOrder();
+		ZonedDateTime createdAt = ZonedDateTime.parse("2023-01-01T10:00:00Z");
+		order.initializeOrder(createdAt);
 
 		Assertions.assertEquals(order.getId().getValue().toString(), "e246a687-661d-408c-9a70-72370bc439b8");
 		Assertions.assertEquals(order.getTrackingId().getValue().toString(), "662768d4-5f94-4833-b524-55edf721e9b8");
 		Assertions.assertEquals(order.getOrderStatus(), PENDING);
+		Assertions.assertEquals(order.getCreatedAt(), createdAt);
 		Assertions.assertEquals(order.getItems().get(0).getId().getValue(), 1);
 		Assertions.assertEquals(order.getItems().get(1).getId().getValue(), 2);
 	}
 
+	@Test
+	void keepGivenIds_onInitializeOrder_withOrderIdAndTrackingId() {
+		Order order = new Order(
+			Order.Builder.builder()
+				.items(List.of(new OrderItem(OrderItem.Builder.builder())))
+		);
+		OrderId orderId = new OrderId(uuid);
+		TrackingId trackingId = new TrackingId(uuid);
+
+		order.initializeOrder(orderId, trackingId, ZonedDateTime.parse("2023-01-01T10:00:00Z"));
+
+		Assertions.assertSame(orderId, order.getId());
+		Assertions.assertSame(trackingId, order.getTrackingId());
+		Assertions.assertSame(orderId, order.getItems().get(0).getOrderId());
+		Assertions.assertEquals(PENDING, order.getOrderStatus());
+	}
+
 	@Test
 	void throwException_onValidateOrderValidateInitialOrder_withOrderId() {
 		Order order = new Order(
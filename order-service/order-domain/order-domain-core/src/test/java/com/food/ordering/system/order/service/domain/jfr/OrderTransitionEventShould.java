@@ -0,0 +1,55 @@
+package com.food.ordering.system.order.service.domain.jfr;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderId;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class OrderTransitionEventShould {
+
+	private static final String ORDER_ID = "e246a687-661d-408c-9a70-72370bc439b8";
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	void recordEveryTransitionOfOrder_whenEventIsEnabled() throws IOException {
+		Path file = directory.resolve("order.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(OrderTransitionEvent.NAME);
+			recording.start();
+
+			Order order = new Order(Order.Builder.builder()
+				.items(List.of(new OrderItem(OrderItem.Builder.builder()), new OrderItem(OrderItem.Builder.builder()))));
+			order.initializeOrder(new OrderId(UUID.fromString(ORDER_ID)), new TrackingId(UUID.randomUUID()),
+				ZonedDateTime.parse("2023-01-01T10:00:00Z"));
+			order.pay();
+			order.initCancel(new ArrayList<>(List.of("Restaurant is closed")));
+			order.cancel(List.of());
+
+			recording.stop();
+			recording.dump(file);
+		}
+
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		Assertions.assertEquals(List.of("null>PENDING", "PENDING>PAID", "PAID>CANCELLING", "CANCELLING>CANCELLED"),
+			events.stream().map(event -> event.getString("fromStatus") + ">" + event.getString("toStatus")).toList());
+		events.forEach(event -> {
+			Assertions.assertEquals(ORDER_ID, event.getString("orderId"));
+			Assertions.assertEquals(2, event.getInt("itemCount"));
+		});
+	}
+}
@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.messaging.inmemory.bus;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * One ring buffer drained by one dedicated thread, so messages routed to the same partition
+ * are delivered strictly in publish order.
+ */
+@Slf4j
+class BusPartition implements Runnable {
+
+	private static final int SPINS_BEFORE_PARK = 100;
+	private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private final int id;
+	private final MessageRingBuffer<Runnable> ringBuffer;
+	private final Thread worker;
+	private volatile boolean running = true;
+	private volatile boolean parked;
+
+	BusPartition(int id, int capacity, String threadNamePrefix) {
+		this.id = id;
+		this.ringBuffer = new MessageRingBuffer<>(capacity);
+		this.worker = new Thread(this, threadNamePrefix + id);
+		this.worker.setDaemon(true);
+	}
+
+	void start() {
+		worker.start();
+	}
+
+	boolean offer(Runnable delivery) {
+		if (!ringBuffer.offer(delivery)) {
+			return false;
+		}
+		if (parked) {
+			LockSupport.unpark(worker);
+		}
+		return true;
+	}
+
+	int size() {
+		return ringBuffer.size();
+	}
+
+	void stop(long timeoutMillis) throws InterruptedException {
+		running = false;
+		LockSupport.unpark(worker);
+		worker.join(timeoutMillis);
+	}
+
+	@Override
+	public void run() {
+		int idleSpins = 0;
+		while (running || !ringBuffer.isEmpty()) {
+			Runnable delivery = ringBuffer.poll();
+			if (delivery != null) {
+				idleSpins = 0;
+				deliver(delivery);
+			} else if (idleSpins < SPINS_BEFORE_PARK) {
+				idleSpins++;
+				Thread.onSpinWait();
+			} else {
+				parked = true;
+				if (ringBuffer.isEmpty() && running) {
+					LockSupport.parkNanos(this, MAX_PARK_NANOS);
+				}
+				parked = false;
+			}
+		}
+		log.info("In-memory bus partition {} stopped", id);
+	}
+
+	private void deliver(Runnable delivery) {
+		try {
+			delivery.run();
+		} catch (Exception e) {
+			log.error("Error while delivering in-memory message on partition {}", id, e);
+		}
+	}
+}
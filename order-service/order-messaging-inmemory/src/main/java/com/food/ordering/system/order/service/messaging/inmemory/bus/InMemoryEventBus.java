@@ -0,0 +1,99 @@
+package com.food.ordering.system.order.service.messaging.inmemory.bus;
+
+import com.food.ordering.system.order.service.messaging.inmemory.config.InMemoryMessagingConfigData;
+import com.food.ordering.system.order.service.messaging.inmemory.exception.InMemoryEventBusException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Routes each message to a partition by its key, so all messages of one order are handled
+ * in order by the same worker while different orders proceed in parallel.
+ */
+@Slf4j
+@Component
+@Profile("in-memory-messaging")
+public class InMemoryEventBus implements SmartLifecycle {
+
+	private static final long FULL_BUFFER_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private final InMemoryMessagingConfigData inMemoryMessagingConfigData;
+	private final BusPartition[] partitions;
+	private final int partitionMask;
+	private volatile boolean running;
+
+	public InMemoryEventBus(InMemoryMessagingConfigData inMemoryMessagingConfigData) {
+		this.inMemoryMessagingConfigData = inMemoryMessagingConfigData;
+		int partitionCount = inMemoryMessagingConfigData.getPartitions();
+		if (partitionCount < 1 || Integer.bitCount(partitionCount) != 1) {
+			throw new IllegalArgumentException("In-memory bus partitions must be a power of two, but was: " + partitionCount);
+		}
+		this.partitions = new BusPartition[partitionCount];
+		this.partitionMask = partitionCount - 1;
+		for (int i = 0; i < partitionCount; i++) {
+			partitions[i] = new BusPartition(i, inMemoryMessagingConfigData.getRingBufferCapacity(), "in-memory-bus-");
+		}
+	}
+
+	public void publish(String key, Runnable delivery) {
+		if (!running) {
+			throw new InMemoryEventBusException("In-memory bus is not running, could not publish message with key: " + key);
+		}
+		BusPartition partition = partitions[partitionFor(key)];
+		if (partition.offer(delivery)) {
+			return;
+		}
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(inMemoryMessagingConfigData.getPublishTimeoutMs());
+		while (!partition.offer(delivery)) {
+			if (System.nanoTime() - deadline > 0) {
+				throw new InMemoryEventBusException("In-memory bus partition is full, could not publish message with key: " + key);
+			}
+			LockSupport.parkNanos(FULL_BUFFER_BACKOFF_NANOS);
+		}
+	}
+
+	public int pendingMessages() {
+		int pending = 0;
+		for (BusPartition partition : partitions) {
+			pending += partition.size();
+		}
+		return pending;
+	}
+
+	@Override
+	public void start() {
+		for (BusPartition partition : partitions) {
+			partition.start();
+		}
+		running = true;
+		log.info("In-memory bus started with {} partitions", partitions.length);
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		for (BusPartition partition : partitions) {
+			try {
+				partition.stop(inMemoryMessagingConfigData.getPublishTimeoutMs());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("Interrupted while stopping in-memory bus");
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private int partitionFor(String key) {
+		int hash = key.hashCode();
+		return (hash ^ (hash >>> 16)) & partitionMask;
+	}
+}
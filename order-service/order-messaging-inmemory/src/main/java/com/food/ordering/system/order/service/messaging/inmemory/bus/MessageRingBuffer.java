@@ -0,0 +1,84 @@
+package com.food.ordering.system.order.service.messaging.inmemory.bus;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer ring buffer.
+ * Each slot carries a sequence number so producers claim slots with a single CAS on the tail
+ * and the consumer never contends with them.
+ */
+public class MessageRingBuffer<E> {
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> slots;
+	private final AtomicLongArray sequences;
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong head = new AtomicLong();
+
+	public MessageRingBuffer(int capacity) {
+		if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Ring buffer capacity must be a power of two, but was: " + capacity);
+		}
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.sequences = new AtomicLongArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			sequences.set(i, i);
+		}
+	}
+
+	public boolean offer(E element) {
+		if (element == null) {
+			throw new NullPointerException("Ring buffer does not accept null elements");
+		}
+		while (true) {
+			long position = tail.get();
+			int index = (int) (position & mask);
+			long difference = sequences.get(index) - position;
+			if (difference == 0) {
+				if (tail.compareAndSet(position, position + 1)) {
+					slots.lazySet(index, element);
+					sequences.set(index, position + 1);
+					return true;
+				}
+			} else if (difference < 0) {
+				return false;
+			} else {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	/**
+	 * Must only be called from the single consumer thread.
+	 */
+	public E poll() {
+		long position = head.get();
+		int index = (int) (position & mask);
+		if (sequences.get(index) != position + 1) {
+			return null;
+		}
+		E element = slots.get(index);
+		slots.lazySet(index, null);
+		sequences.set(index, position + capacity);
+		head.lazySet(position + 1);
+		return element;
+	}
+
+	public int size() {
+		long size = tail.get() - head.get();
+		return (int) Math.max(0, Math.min(size, capacity));
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+}
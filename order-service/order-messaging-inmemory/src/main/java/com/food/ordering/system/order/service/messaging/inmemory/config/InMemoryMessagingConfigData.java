@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.messaging.inmemory.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Data
+@Configuration
+@Profile("in-memory-messaging")
+@ConfigurationProperties(prefix = "in-memory-messaging")
+public class InMemoryMessagingConfigData {
+	private Integer partitions;
+	private Integer ringBufferCapacity;
+	private Long publishTimeoutMs;
+}
@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.messaging.inmemory.exception;
+
+public class InMemoryEventBusException extends RuntimeException {
+
+	public InMemoryEventBusException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.messaging.inmemory.mapper;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.entity.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.event.OrderEvent;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Profile("in-memory-messaging")
+public class InMemoryMessagingDataMapper {
+
+	public PaymentResponse orderEventToPaymentResponse(OrderEvent orderEvent, PaymentStatus paymentStatus) {
+		Order order = orderEvent.getOrder();
+		return PaymentResponse.builder()
+			.id(UUID.randomUUID().toString())
+			.sagaId(order.getId().getValue().toString())
+			.paymentId(UUID.randomUUID().toString())
+			.customerId(order.getCustomerId().getValue().toString())
+			.orderId(order.getId().getValue().toString())
+			.price(order.getPrice().getAmount())
+			.createdAt(orderEvent.getCreatedAt().toInstant())
+			.paymentStatus(paymentStatus)
+			.failureMessages(Collections.emptyList())
+			.build();
+	}
+
+	public RestaurantApprovalResponse orderPaidEventToRestaurantApprovalResponse(OrderPaidEvent orderPaidEvent) {
+		Order order = orderPaidEvent.getOrder();
+		return RestaurantApprovalResponse.builder()
+			.id(UUID.randomUUID().toString())
+			.sagaId(order.getId().getValue().toString())
+			.restaurantId(order.getRestaurantId().getValue().toString())
+			.orderId(order.getId().getValue().toString())
+			.createdAt(orderPaidEvent.getCreatedAt().toInstant())
+			.orderApprovalStatus(OrderApprovalStatus.APPROVED)
+			.failureMessages(Collections.emptyList())
+			.build();
+	}
+
+	public TrackOrderResponse orderToTrackOrderResponse(Order order) {
+		return TrackOrderResponse.builder()
+			.orderTrackingId(order.getTrackingId().getValue())
+			.orderStatus(order.getOrderStatus())
+			.failureMessages(order.getFailureMessages() != null ? List.copyOf(order.getFailureMessages()) : List.of())
+			.build();
+	}
+}
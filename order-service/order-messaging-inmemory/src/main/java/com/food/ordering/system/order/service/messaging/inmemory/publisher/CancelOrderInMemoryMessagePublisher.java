@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.messaging.inmemory.publisher;
+
+import com.food.ordering.system.domain.entity.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCancelledPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.inmemory.bus.InMemoryEventBus;
+import com.food.ordering.system.order.service.messaging.inmemory.mapper.InMemoryMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("in-memory-messaging")
+public class CancelOrderInMemoryMessagePublisher implements OrderCancelledPaymentRequestMessagePublisher {
+
+	private final InMemoryEventBus inMemoryEventBus;
+	private final InMemoryMessagingDataMapper inMemoryMessagingDataMapper;
+	private final PaymentResponseMessageListener paymentResponseMessageListener;
+
+	public CancelOrderInMemoryMessagePublisher(InMemoryEventBus inMemoryEventBus,
+											   InMemoryMessagingDataMapper inMemoryMessagingDataMapper,
+											   @Lazy PaymentResponseMessageListener paymentResponseMessageListener) {
+		this.inMemoryEventBus = inMemoryEventBus;
+		this.inMemoryMessagingDataMapper = inMemoryMessagingDataMapper;
+		this.paymentResponseMessageListener = paymentResponseMessageListener;
+	}
+
+	@Override
+	public void publish(OrderCancelledEvent domainEvent) {
+		String orderId = domainEvent.getOrder().getId().getValue().toString();
+		log.info("Received OrderCancelledEvent for order id: {}", orderId);
+		PaymentResponse paymentResponse =
+			inMemoryMessagingDataMapper.orderEventToPaymentResponse(domainEvent, PaymentStatus.CANCELLED);
+		inMemoryEventBus.publish(orderId, () -> paymentResponseMessageListener.paymentCancelled(paymentResponse));
+	}
+}
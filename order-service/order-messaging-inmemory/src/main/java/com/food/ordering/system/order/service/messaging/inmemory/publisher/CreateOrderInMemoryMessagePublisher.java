@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.messaging.inmemory.publisher;
+
+import com.food.ordering.system.domain.entity.valueobject.PaymentStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.inmemory.bus.InMemoryEventBus;
+import com.food.ordering.system.order.service.messaging.inmemory.mapper.InMemoryMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("in-memory-messaging")
+public class CreateOrderInMemoryMessagePublisher implements OrderCreatedPaymentRequestMessagePublisher {
+
+	private final InMemoryEventBus inMemoryEventBus;
+	private final InMemoryMessagingDataMapper inMemoryMessagingDataMapper;
+	private final PaymentResponseMessageListener paymentResponseMessageListener;
+
+	public CreateOrderInMemoryMessagePublisher(InMemoryEventBus inMemoryEventBus,
+											   InMemoryMessagingDataMapper inMemoryMessagingDataMapper,
+											   @Lazy PaymentResponseMessageListener paymentResponseMessageListener) {
+		this.inMemoryEventBus = inMemoryEventBus;
+		this.inMemoryMessagingDataMapper = inMemoryMessagingDataMapper;
+		this.paymentResponseMessageListener = paymentResponseMessageListener;
+	}
+
+	@Override
+	public void publish(OrderCreatedEvent domainEvent) {
+		String orderId = domainEvent.getOrder().getId().getValue().toString();
+		log.info("Received OrderCreatedEvent for order id: {}", orderId);
+		PaymentResponse paymentResponse =
+			inMemoryMessagingDataMapper.orderEventToPaymentResponse(domainEvent, PaymentStatus.COMPLETED);
+		inMemoryEventBus.publish(orderId, () -> paymentResponseMessageListener.paymentCompleted(paymentResponse));
+	}
+}
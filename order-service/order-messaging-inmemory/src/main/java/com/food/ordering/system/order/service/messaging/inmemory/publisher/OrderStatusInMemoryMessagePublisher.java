@@ -0,0 +1,40 @@
+package com.food.ordering.system.order.service.messaging.inmemory.publisher;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderStatusMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderStatusMessagePublisher;
+import com.food.ordering.system.order.service.messaging.inmemory.bus.InMemoryEventBus;
+import com.food.ordering.system.order.service.messaging.inmemory.mapper.InMemoryMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("in-memory-messaging")
+public class OrderStatusInMemoryMessagePublisher implements OrderStatusMessagePublisher {
+
+	private final InMemoryEventBus inMemoryEventBus;
+	private final InMemoryMessagingDataMapper inMemoryMessagingDataMapper;
+	private final OrderStatusMessageListener orderStatusMessageListener;
+
+	public OrderStatusInMemoryMessagePublisher(InMemoryEventBus inMemoryEventBus,
+											   InMemoryMessagingDataMapper inMemoryMessagingDataMapper,
+											   @Lazy OrderStatusMessageListener orderStatusMessageListener) {
+		this.inMemoryEventBus = inMemoryEventBus;
+		this.inMemoryMessagingDataMapper = inMemoryMessagingDataMapper;
+		this.orderStatusMessageListener = orderStatusMessageListener;
+	}
+
+	// keyed by tracking id like the topic, the statuses of an order reach the store in the order they were published
+	@Override
+	public void publish(Order order) {
+		log.debug("Received status {} for order id: {}", order.getOrderStatus(), order.getId().getValue());
+		TrackOrderResponse trackOrderResponse = inMemoryMessagingDataMapper.orderToTrackOrderResponse(order);
+		long version = order.getVersion();
+		inMemoryEventBus.publish(trackOrderResponse.getOrderTrackingId().toString(),
+			() -> orderStatusMessageListener.orderStatusChanged(trackOrderResponse, version));
+	}
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.messaging.inmemory.publisher;
+
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
+import com.food.ordering.system.order.service.messaging.inmemory.bus.InMemoryEventBus;
+import com.food.ordering.system.order.service.messaging.inmemory.mapper.InMemoryMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Profile("in-memory-messaging")
+public class PayOrderInMemoryMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher {
+
+	private final InMemoryEventBus inMemoryEventBus;
+	private final InMemoryMessagingDataMapper inMemoryMessagingDataMapper;
+	private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
+
+	public PayOrderInMemoryMessagePublisher(InMemoryEventBus inMemoryEventBus,
+											InMemoryMessagingDataMapper inMemoryMessagingDataMapper,
+											@Lazy RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener) {
+		this.inMemoryEventBus = inMemoryEventBus;
+		this.inMemoryMessagingDataMapper = inMemoryMessagingDataMapper;
+		this.restaurantApprovalResponseMessageListener = restaurantApprovalResponseMessageListener;
+	}
+
+	@Override
+	public void publish(OrderPaidEvent domainEvent) {
+		String orderId = domainEvent.getOrder().getId().getValue().toString();
+		log.info("Received OrderPaidEvent for order id: {}", orderId);
+		RestaurantApprovalResponse restaurantApprovalResponse =
+			inMemoryMessagingDataMapper.orderPaidEventToRestaurantApprovalResponse(domainEvent);
+		inMemoryEventBus.publish(orderId, () -> restaurantApprovalResponseMessageListener.orderApproved(restaurantApprovalResponse));
+	}
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.messaging.inmemory.bus;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class MessageRingBufferShould {
+
+	@Test
+	void returnElementsInOfferOrder() {
+		MessageRingBuffer<Integer> ringBuffer = new MessageRingBuffer<>(4);
+
+		ringBuffer.offer(1);
+		ringBuffer.offer(2);
+		ringBuffer.offer(3);
+
+		Assertions.assertEquals(1, ringBuffer.poll());
+		Assertions.assertEquals(2, ringBuffer.poll());
+		Assertions.assertEquals(3, ringBuffer.poll());
+		Assertions.assertNull(ringBuffer.poll());
+	}
+
+	@Test
+	void rejectOffer_whenFull() {
+		MessageRingBuffer<Integer> ringBuffer = new MessageRingBuffer<>(2);
+
+		Assertions.assertTrue(ringBuffer.offer(1));
+		Assertions.assertTrue(ringBuffer.offer(2));
+		Assertions.assertFalse(ringBuffer.offer(3));
+
+		ringBuffer.poll();
+
+		Assertions.assertTrue(ringBuffer.offer(3));
+		Assertions.assertEquals(2, ringBuffer.size());
+	}
+
+	@Test
+	void throwException_whenCapacityIsNotPowerOfTwo() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new MessageRingBuffer<Integer>(6));
+	}
+
+	@Test
+	void keepPerProducerOrder_whenOfferedConcurrently() throws InterruptedException {
+		int producers = 4;
+		int messagesPerProducer = 50_000;
+		MessageRingBuffer<long[]> ringBuffer = new MessageRingBuffer<>(1024);
+		ExecutorService executorService = Executors.newFixedThreadPool(producers);
+		CountDownLatch start = new CountDownLatch(1);
+
+		for (int producer = 0; producer < producers; producer++) {
+			long producerId = producer;
+			executorService.submit(() -> {
+				start.await();
+				for (long sequence = 0; sequence < messagesPerProducer; sequence++) {
+					long[] message = {producerId, sequence};
+					while (!ringBuffer.offer(message)) {
+						Thread.onSpinWait();
+					}
+				}
+				return null;
+			});
+		}
+
+		start.countDown();
+		List<Long> lastSequences = new ArrayList<>(List.of(-1L, -1L, -1L, -1L));
+		int received = 0;
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (received < producers * messagesPerProducer && System.nanoTime() < deadline) {
+			long[] message = ringBuffer.poll();
+			if (message == null) {
+				continue;
+			}
+			int producerId = (int) message[0];
+			Assertions.assertEquals(lastSequences.get(producerId) + 1, message[1]);
+			lastSequences.set(producerId, message[1]);
+			received++;
+		}
+		executorService.shutdownNow();
+
+		Assertions.assertEquals(producers * messagesPerProducer, received);
+		Assertions.assertTrue(ringBuffer.isEmpty());
+	}
+}
@@ -0,0 +1,81 @@
+package com.food.ordering.system.order.service.messaging.listener.kafka;
+
+import com.food.ordering.system.kafka.consumer.KafkaConsumer;
+import com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel;
+import com.food.ordering.system.logging.SampledLogger;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.tracking.OrderStatusMessageListener;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.event.Level;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Every instance reads the whole order status topic into its own status store, so each one joins with a group
+ * of its own, named after the instance id. The store is rebuilt on every start, so the assigned partitions are
+ * read again from the beginning of the compacted topic instead of from the committed offsets of the group.
+ */
+@Slf4j
+@Component
+@Profile("!in-memory-messaging")
+public class OrderStatusKafkaListener extends AbstractConsumerSeekAware implements KafkaConsumer<OrderStatusAvroModel> {
+
+	// a restarting instance reads the whole topic in batches as fast as it can
+	private static final SampledLogger RECEIVED_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.level(Level.DEBUG)
+		.maxPerSecond(10)
+		.build();
+
+	private final OrderStatusMessageListener orderStatusMessageListener;
+	private final OrderMessagingDataMapper orderMessagingDataMapper;
+	private final Set<TopicPartition> readSinceStart = ConcurrentHashMap.newKeySet();
+
+	public OrderStatusKafkaListener(OrderStatusMessageListener orderStatusMessageListener,
+									OrderMessagingDataMapper orderMessagingDataMapper) {
+		this.orderStatusMessageListener = orderStatusMessageListener;
+		this.orderMessagingDataMapper = orderMessagingDataMapper;
+	}
+
+	@Override
+	@KafkaListener(id = "${kafka-consumer-config.order-status-consumer-group-id}",
+		groupId = "${kafka-consumer-config.order-status-consumer-group-id}-${order-service.instance-id}",
+		idIsGroup = false,
+		topics = "${order-service.order-status-topic-name}")
+	public void receive(@Payload List<OrderStatusAvroModel> messages,
+						@Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
+						@Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
+						@Header(KafkaHeaders.OFFSET) List<Long> offsets) {
+		RECEIVED_LOG.log("{} number of order statuses received with partitions: {} and offsets: {}",
+			messages.size(),
+			partitions,
+			offsets);
+
+		messages.forEach(it -> orderStatusMessageListener.orderStatusChanged(
+			orderMessagingDataMapper.orderStatusAvroModelToTrackOrderResponse(it), it.getVersion()));
+	}
+
+	// a partition moved between the consumers of the instance goes on from the committed offset of the group
+	@Override
+	public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+		super.onPartitionsAssigned(assignments, callback);
+		List<TopicPartition> unread = assignments.keySet().stream()
+			.filter(readSinceStart::add)
+			.collect(Collectors.toList());
+		if (!unread.isEmpty()) {
+			callback.seekToBeginning(unread);
+		}
+	}
+}
@@ -3,9 +3,13 @@ package com.food.ordering.system.order.service.messaging.listener.kafka;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -16,8 +20,20 @@ import java.util.List;
 
 @Slf4j
 @Component
+@Profile("!in-memory-messaging")
 public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentResponseAvroModel> {
 
+	private static final SampledLogger RECEIVED_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.maxPerSecond(10)
+		.build();
+
+	// one line per order of every batch, the unsuccessful ones are all logged
+	private static final SampledLogger COMPLETED_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.maxPerSecond(10)
+		.build();
+
 	private final PaymentResponseMessageListener paymentResponseMessageListener;
 	private final OrderMessagingDataMapper orderMessagingDataMapper;
 
@@ -32,19 +48,26 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
 						@Header(KafkaHeaders.RECEIVED_MESSAGE_KEY) List<String> keys,
 						@Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
 						@Header(KafkaHeaders.OFFSET) List<Long> offsets) {
-		log.info("{} number of payment responses received with keys: {}, partitions: {} and offsets: {}",
+		RECEIVED_LOG.log("{} number of payment responses received with keys: {}, partitions: {} and offsets: {}",
 			messages.size(),
-			keys.toString(),
-			partitions.toString(),
-			offsets.toString());
+			keys,
+			partitions,
+			offsets);
 
 		messages.forEach(it -> {
-			if (PaymentStatus.COMPLETED == it.getPaymentStatus()) {
-				log.info("Processing successful payment for order id: {}", it.getOrderId());
-				paymentResponseMessageListener.paymentCompleted(orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(it));
-			} else if (PaymentStatus.CANCELLED == it.getPaymentStatus() || PaymentStatus.FAILED == it.getPaymentStatus()) {
-				log.info("Processing unsuccessful payment for order id: {}", it.getOrderId());
-				paymentResponseMessageListener.paymentCancelled(orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(it));
+			try {
+				if (PaymentStatus.COMPLETED == it.getPaymentStatus()) {
+					COMPLETED_LOG.log("Processing successful payment for order id: {}", it.getOrderId());
+					paymentResponseMessageListener.paymentCompleted(orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(it));
+				} else if (PaymentStatus.CANCELLED == it.getPaymentStatus() || PaymentStatus.FAILED == it.getPaymentStatus()) {
+					log.info("Processing unsuccessful payment for order id: {}", it.getOrderId());
+					paymentResponseMessageListener.paymentCancelled(orderMessagingDataMapper.paymentResponseAvroModelToPaymentResponse(it));
+				}
+			} catch (OrderNotFoundException e) {
+				log.error("No order found for order id: {}", it.getOrderId());
+			} catch (OrderDomainException e) {
+				log.warn("Ignoring response for order id: {}, order is not in a valid state: {}", it.getOrderId(),
+					e.getMessage());
 			}
 		});
 	}
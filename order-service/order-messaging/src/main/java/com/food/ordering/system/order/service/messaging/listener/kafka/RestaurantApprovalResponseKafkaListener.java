@@ -3,9 +3,13 @@ package com.food.ordering.system.order.service.messaging.listener.kafka;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.logging.SampledLogger;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
@@ -16,8 +20,20 @@ import java.util.List;
 
 @Slf4j
 @Component
+@Profile("!in-memory-messaging")
 public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<RestaurantApprovalResponseAvroModel> {
 
+	private static final SampledLogger RECEIVED_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.maxPerSecond(10)
+		.build();
+
+	// one line per order of every batch, the unsuccessful ones are all logged
+	private static final SampledLogger APPROVED_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.maxPerSecond(10)
+		.build();
+
 	private final RestaurantApprovalResponseMessageListener restaurantApprovalResponseMessageListener;
 	private final OrderMessagingDataMapper orderMessagingDataMapper;
 
@@ -35,21 +51,28 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
 						@Header(KafkaHeaders.RECEIVED_PARTITION_ID) List<Integer> partitions,
 						@Header(KafkaHeaders.OFFSET) List<Long> offsets) {
 
-		log.info("{} number of payment responses received with keys: {}, partitions: {} and offsets: {}",
+		RECEIVED_LOG.log("{} number of restaurant approval responses received with keys: {}, partitions: {} and offsets: {}",
 			messages.size(),
-			keys.toString(),
-			partitions.toString(),
-			offsets.toString());
+			keys,
+			partitions,
+			offsets);
 
 		messages.forEach(it -> {
-			if (OrderApprovalStatus.APPROVED == it.getOrderApprovalStatus()) {
-				log.info("Processing approved order for order id: {}", it.getOrderId());
-				restaurantApprovalResponseMessageListener.orderApproved(orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(it));
-			} else if (OrderApprovalStatus.REJECTED == it.getOrderApprovalStatus()) {
-				log.info("Processing rejected order for order id: {}, with failure messages: {}",
-					it.getOrderId(),
-					it.getFailureMessages());
-				restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(it));
+			try {
+				if (OrderApprovalStatus.APPROVED == it.getOrderApprovalStatus()) {
+					APPROVED_LOG.log("Processing approved order for order id: {}", it.getOrderId());
+					restaurantApprovalResponseMessageListener.orderApproved(orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(it));
+				} else if (OrderApprovalStatus.REJECTED == it.getOrderApprovalStatus()) {
+					log.info("Processing rejected order for order id: {}, with failure messages: {}",
+						it.getOrderId(),
+						it.getFailureMessages());
+					restaurantApprovalResponseMessageListener.orderRejected(orderMessagingDataMapper.approvalResponseAvroModelToApprovalResponse(it));
+				}
+			} catch (OrderNotFoundException e) {
+				log.error("No order found for order id: {}", it.getOrderId());
+			} catch (OrderDomainException e) {
+				log.warn("Ignoring response for order id: {}, order is not in a valid state: {}", it.getOrderId(),
+					e.getMessage());
 			}
 		});
 	}
@@ -4,24 +4,63 @@ import com.food.ordering.system.domain.entity.valueobject.PaymentStatus;
 import com.food.ordering.system.kafka.order.avro.model.*;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.metrics.OutcomeTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import org.springframework.stereotype.Component;
 import com.food.ordering.system.domain.entity.valueobject.OrderApprovalStatus;
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 public class OrderMessagingDataMapper {
 
+	private static final String ORDER_MESSAGING_MAPPING = "order.messaging.mapping";
+
+	private final OutcomeTimer orderCreatedPaymentRequestMapping;
+	private final OutcomeTimer orderCancelledPaymentRequestMapping;
+	private final OutcomeTimer orderPaidRestaurantApprovalRequestMapping;
+	private final OutcomeTimer paymentResponseMapping;
+	private final OutcomeTimer restaurantApprovalResponseMapping;
+	private final OutcomeTimer orderStatusMapping;
+	private final OutcomeTimer orderStatusResponseMapping;
+
+	public OrderMessagingDataMapper(MeterRegistry meterRegistry) {
+		this.orderCreatedPaymentRequestMapping = mapping(meterRegistry, "orderCreatedPaymentRequest");
+		this.orderCancelledPaymentRequestMapping = mapping(meterRegistry, "orderCancelledPaymentRequest");
+		this.orderPaidRestaurantApprovalRequestMapping = mapping(meterRegistry, "orderPaidRestaurantApprovalRequest");
+		this.paymentResponseMapping = mapping(meterRegistry, "paymentResponse");
+		this.restaurantApprovalResponseMapping = mapping(meterRegistry, "restaurantApprovalResponse");
+		this.orderStatusMapping = mapping(meterRegistry, "orderStatus");
+		this.orderStatusResponseMapping = mapping(meterRegistry, "orderStatusResponse");
+	}
+
 	public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(OrderCreatedEvent orderCreatedEvent) {
+		long start = System.nanoTime();
+		try {
+			PaymentRequestAvroModel mapped = toOrderCreatedPaymentRequest(orderCreatedEvent);
+			orderCreatedPaymentRequestMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			orderCreatedPaymentRequestMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private PaymentRequestAvroModel toOrderCreatedPaymentRequest(OrderCreatedEvent orderCreatedEvent) {
 		Order order = orderCreatedEvent.getOrder();
 		return PaymentRequestAvroModel.newBuilder()
 			.setId(UUID.randomUUID().toString())
-			.setSagaId("")
+			.setSagaId(order.getId().getValue().toString())
 			.setCustomerId(order.getCustomerId().getValue().toString())
 			.setOrderId(order.getId().getValue().toString())
 			.setPrice(order.getPrice().getAmount())
@@ -31,10 +70,22 @@ public class OrderMessagingDataMapper {
 	}
 
 	public PaymentRequestAvroModel orderCreatedEventToPaymentRequestAvroModel(OrderCancelledEvent orderCancelledEvent) {
+		long start = System.nanoTime();
+		try {
+			PaymentRequestAvroModel mapped = toOrderCancelledPaymentRequest(orderCancelledEvent);
+			orderCancelledPaymentRequestMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			orderCancelledPaymentRequestMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private PaymentRequestAvroModel toOrderCancelledPaymentRequest(OrderCancelledEvent orderCancelledEvent) {
 		Order order = orderCancelledEvent.getOrder();
 		return PaymentRequestAvroModel.newBuilder()
 			.setId(UUID.randomUUID().toString())
-			.setSagaId("")
+			.setSagaId(order.getId().getValue().toString())
 			.setCustomerId(order.getCustomerId().getValue().toString())
 			.setOrderId(order.getId().getValue().toString())
 			.setPrice(order.getPrice().getAmount())
@@ -44,10 +95,22 @@ public class OrderMessagingDataMapper {
 	}
 
 	public RestaurantApprovalRequestAvroModel orderPaidEventToRestaurantApprovalRequestAvroModel(OrderPaidEvent orderPaidEvent) {
+		long start = System.nanoTime();
+		try {
+			RestaurantApprovalRequestAvroModel mapped = toOrderPaidRestaurantApprovalRequest(orderPaidEvent);
+			orderPaidRestaurantApprovalRequestMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			orderPaidRestaurantApprovalRequestMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private RestaurantApprovalRequestAvroModel toOrderPaidRestaurantApprovalRequest(OrderPaidEvent orderPaidEvent) {
 		Order order = orderPaidEvent.getOrder();
 		return RestaurantApprovalRequestAvroModel.newBuilder()
 			.setId(UUID.randomUUID().toString())
-			.setSagaId("")
+			.setSagaId(order.getId().getValue().toString())
 			.setOrderId(order.getId().getValue().toString())
 			.setRestaurantId(order.getRestaurantId().getValue().toString())
 			.setOrderId(order.getId().getValue().toString())
@@ -65,6 +128,18 @@ public class OrderMessagingDataMapper {
 	}
 
 	public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
+		long start = System.nanoTime();
+		try {
+			PaymentResponse mapped = toPaymentResponse(paymentResponseAvroModel);
+			paymentResponseMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			paymentResponseMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private PaymentResponse toPaymentResponse(PaymentResponseAvroModel paymentResponseAvroModel) {
 		return PaymentResponse.builder()
 			.id(paymentResponseAvroModel.getId())
 			.sagaId(paymentResponseAvroModel.getSagaId())
@@ -79,6 +154,18 @@ public class OrderMessagingDataMapper {
 	}
 
 	public RestaurantApprovalResponse approvalResponseAvroModelToApprovalResponse(RestaurantApprovalResponseAvroModel approvalResponseAvroModel) {
+		long start = System.nanoTime();
+		try {
+			RestaurantApprovalResponse mapped = toRestaurantApprovalResponse(approvalResponseAvroModel);
+			restaurantApprovalResponseMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			restaurantApprovalResponseMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private RestaurantApprovalResponse toRestaurantApprovalResponse(RestaurantApprovalResponseAvroModel approvalResponseAvroModel) {
 		return RestaurantApprovalResponse.builder()
 			.id(approvalResponseAvroModel.getId())
 			.sagaId(approvalResponseAvroModel.getSagaId())
@@ -90,4 +177,52 @@ public class OrderMessagingDataMapper {
 			.failureMessages(approvalResponseAvroModel.getFailureMessages())
 			.build();
 	}
+
+	public OrderStatusAvroModel orderToOrderStatusAvroModel(Order order) {
+		long start = System.nanoTime();
+		try {
+			OrderStatusAvroModel mapped = toOrderStatus(order);
+			orderStatusMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			orderStatusMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private OrderStatusAvroModel toOrderStatus(Order order) {
+		return OrderStatusAvroModel.newBuilder()
+			.setTrackingId(order.getTrackingId().getValue().toString())
+			.setOrderId(order.getId().getValue().toString())
+			.setOrderStatus(TrackingOrderStatus.valueOf(order.getOrderStatus().name()))
+			.setFailureMessages(order.getFailureMessages() != null ? order.getFailureMessages() : List.of())
+			.setCreatedAt(Instant.now())
+			.setVersion(order.getVersion())
+			.build();
+	}
+
+	public TrackOrderResponse orderStatusAvroModelToTrackOrderResponse(OrderStatusAvroModel orderStatusAvroModel) {
+		long start = System.nanoTime();
+		try {
+			TrackOrderResponse mapped = toTrackOrderResponse(orderStatusAvroModel);
+			orderStatusResponseMapping.success(start);
+			return mapped;
+		} catch (RuntimeException e) {
+			orderStatusResponseMapping.failure(start);
+			throw e;
+		}
+	}
+
+	private TrackOrderResponse toTrackOrderResponse(OrderStatusAvroModel orderStatusAvroModel) {
+		return TrackOrderResponse.builder()
+			.orderTrackingId(UUID.fromString(orderStatusAvroModel.getTrackingId()))
+			.orderStatus(OrderStatus.valueOf(orderStatusAvroModel.getOrderStatus().name()))
+			.failureMessages(orderStatusAvroModel.getFailureMessages())
+			.build();
+	}
+
+	private static OutcomeTimer mapping(MeterRegistry meterRegistry, String mapping) {
+		return new OutcomeTimer(meterRegistry, ORDER_MESSAGING_MAPPING,
+			"Time to map between domain events and Avro models", Tags.of("mapping", mapping));
+	}
 }
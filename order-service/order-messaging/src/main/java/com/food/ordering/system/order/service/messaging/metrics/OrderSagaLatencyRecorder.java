@@ -0,0 +1,62 @@
+package com.food.ordering.system.order.service.messaging.metrics;
+
+import com.food.ordering.system.kafka.consumer.interceptor.SagaStageLatencyRecorder;
+import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.order.service.domain.metrics.OutcomeTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each saga step took, from the origin stamped on the request until its
+ * response was polled: order created to paid, paid to approved, and cancelling to payment
+ * cancelled.
+ */
+@Component
+@Profile("!in-memory-messaging")
+public class OrderSagaLatencyRecorder implements SagaStageLatencyRecorder {
+
+	private static final String ORDER_SAGA_STAGE_LATENCY = "order.saga.stage.latency";
+
+	private final OutcomeTimer createdToPaid;
+	private final OutcomeTimer paidToApproved;
+	private final OutcomeTimer cancellingToCancelled;
+
+	public OrderSagaLatencyRecorder(MeterRegistry meterRegistry) {
+		this.createdToPaid = stage(meterRegistry, "created-to-paid");
+		this.paidToApproved = stage(meterRegistry, "paid-to-approved");
+		this.cancellingToCancelled = stage(meterRegistry, "cancelling-to-cancelled");
+	}
+
+	@Override
+	public void record(ConsumerRecord<?, ?> record, String sagaId, long latencyMillis) {
+		if (record.value() instanceof PaymentResponseAvroModel paymentResponse) {
+			PaymentStatus paymentStatus = paymentResponse.getPaymentStatus();
+			if (paymentStatus == PaymentStatus.COMPLETED) {
+				createdToPaid.success(latencyMillis, TimeUnit.MILLISECONDS);
+			} else if (paymentStatus == PaymentStatus.FAILED) {
+				createdToPaid.failure(latencyMillis, TimeUnit.MILLISECONDS);
+			} else {
+				cancellingToCancelled.success(latencyMillis, TimeUnit.MILLISECONDS);
+			}
+		} else if (record.value() instanceof RestaurantApprovalResponseAvroModel approvalResponse) {
+			if (approvalResponse.getOrderApprovalStatus() == OrderApprovalStatus.APPROVED) {
+				paidToApproved.success(latencyMillis, TimeUnit.MILLISECONDS);
+			} else {
+				paidToApproved.failure(latencyMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	private static OutcomeTimer stage(MeterRegistry meterRegistry, String stage) {
+		return new OutcomeTimer(meterRegistry, ORDER_SAGA_STAGE_LATENCY,
+			"Time from the origin of a saga step until its response arrived", Tags.of("stage", stage));
+	}
+}
@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
+import com.food.ordering.system.logging.SampledLogger;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.springframework.kafka.support.SendResult;
@@ -10,6 +11,11 @@ import org.springframework.util.concurrent.ListenableFutureCallback;
 @Component
 public class OrderKafkaMessageHelper {
 
+	private static final SampledLogger SENT_LOG = SampledLogger.Builder.builder()
+		.logger(log)
+		.maxPerSecond(10)
+		.build();
+
 	public <T> ListenableFutureCallback<SendResult<String, T>> getKafkaCallback(
 		String responseTopicName, T requestAvroModel, String orderId, String requestAvroModelName) {
 
@@ -17,13 +23,13 @@ public class OrderKafkaMessageHelper {
 			@Override
 			public void onFailure(Throwable ex) {
 				log.error("Error while sending {} " +
-					"message {} to topic {}", requestAvroModelName, requestAvroModel.toString(), responseTopicName, ex);
+					"message {} to topic {}", requestAvroModelName, requestAvroModel, responseTopicName, ex);
 			}
 
 			@Override
 			public void onSuccess(SendResult<String, T> result) {
 				RecordMetadata recordMetadata = result.getRecordMetadata();
-				log.info("Received successful response from Kafka for order id: {} " +
+				SENT_LOG.log("Received successful response from Kafka for order id: {} " +
 						"Topic: {} Partition: {} Offset: {} Timestamp: {}",
 					orderId,
 					recordMetadata.topic(),
@@ -0,0 +1,59 @@
+package com.food.ordering.system.order.service.messaging.publisher.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.OrderStatusAvroModel;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KafkaProducerProfiles;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.tracking.OrderStatusMessagePublisher;
+import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+// keyed by tracking id on a compacted topic, so the topic keeps the latest status of every order
+@Slf4j
+@Component
+@Profile("!in-memory-messaging")
+public class OrderStatusKafkaMessagePublisher implements OrderStatusMessagePublisher {
+
+	private final OrderMessagingDataMapper orderMessagingDataMapper;
+	private final OrderServiceConfigData orderServiceConfigData;
+	private final KafkaProducer<String, OrderStatusAvroModel> kafkaProducer;
+	private final OrderKafkaMessageHelper orderKafkaMessageHelper;
+
+	public OrderStatusKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
+											OrderServiceConfigData orderServiceConfigData,
+											KafkaProducerProfiles kafkaProducerProfiles,
+											OrderKafkaMessageHelper orderKafkaMessageHelper) {
+		this.orderMessagingDataMapper = orderMessagingDataMapper;
+		this.orderServiceConfigData = orderServiceConfigData;
+		this.kafkaProducer = kafkaProducerProfiles.forProfile(orderServiceConfigData.getOrderStatusTopicName());
+		this.orderKafkaMessageHelper = orderKafkaMessageHelper;
+	}
+
+	@Override
+	public void publish(Order order) {
+		String orderId = order.getId().getValue().toString();
+
+		try {
+			OrderStatusAvroModel orderStatusAvroModel = orderMessagingDataMapper.orderToOrderStatusAvroModel(order);
+
+			kafkaProducer.send(orderServiceConfigData.getOrderStatusTopicName(),
+				orderStatusAvroModel.getTrackingId(),
+				orderStatusAvroModel,
+				orderKafkaMessageHelper.getKafkaCallback(
+					orderServiceConfigData.getOrderStatusTopicName(),
+					orderStatusAvroModel,
+					orderId,
+					"OrderStatusAvroModel"
+				));
+
+			log.info("OrderStatusAvroModel sent to kafka for order id: {} with status: {}", orderId,
+				order.getOrderStatus());
+		} catch (Exception e) {
+			log.error("Error while sending OrderStatusAvroModel message to Kafka with order id: {}, error: {}",
+				orderId, e.getMessage());
+		}
+	}
+}
@@ -2,15 +2,18 @@ package com.food.ordering.system.order.service.messaging.publisher.kafka;
 
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.kafka.producer.service.KafkaProducerProfiles;
 import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.OrderPaidRestaurantRequestMessagePublisher;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@Profile("!in-memory-messaging")
 public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequestMessagePublisher {
 
 	private final OrderMessagingDataMapper orderMessagingDataMapper;
@@ -20,11 +23,11 @@ public class PayOrderKafkaMessagePublisher implements OrderPaidRestaurantRequest
 
 	public PayOrderKafkaMessagePublisher(OrderMessagingDataMapper orderMessagingDataMapper,
 										 OrderServiceConfigData orderServiceConfigData,
-										 KafkaProducer<String, RestaurantApprovalRequestAvroModel> kafkaProducer,
+										 KafkaProducerProfiles kafkaProducerProfiles,
 										 OrderKafkaMessageHelper orderKafkaMessageHelper) {
 		this.orderMessagingDataMapper = orderMessagingDataMapper;
 		this.orderServiceConfigData = orderServiceConfigData;
-		this.kafkaProducer = kafkaProducer;
+		this.kafkaProducer = kafkaProducerProfiles.forProfile(orderServiceConfigData.getRestaurantApprovalRequestTopicName());
 		this.orderKafkaMessageHelper = orderKafkaMessageHelper;
 	}
 
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.benchmark.saga;
+
+import com.food.ordering.system.order.service.benchmark.saga.driver.GroupCommitCurveDriver;
+import com.food.ordering.system.order.service.domain.OrderServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts order-container on the in-memory bus and draws the latency of the create order call against its
+ * throughput, at each of the concurrency levels configured, to tune the window and the size of the group commit.
+ * <p>
+ * The in-memory H2 database never syncs a commit to disk, which is the cost the group commit shares, so point it
+ * at PostgreSQL for numbers that hold in production: {@code mvn -pl order-service/order-saga-benchmark exec:java
+ * -Dsaga-benchmark.main-class=com.food.ordering.system.order.service.benchmark.saga.GroupCommitBenchmarkApplication
+ * -Dspring.datasource.url=jdbc:postgresql://localhost:5432/postgres?reWriteBatchedInserts=true
+ * -Dspring.datasource.driver-class-name=org.postgresql.Driver -Dspring.datasource.password=admin}, once as it is
+ * and once more with {@code -Dorder-group-commit.enabled=false} to compare.
+ */
+@Slf4j
+public class GroupCommitBenchmarkApplication {
+
+	public static void main(String[] args) throws InterruptedException {
+		SpringApplicationBuilder applicationBuilder = new SpringApplicationBuilder(OrderServiceApplication.class)
+			.profiles("saga-benchmark", "in-memory-messaging", "group-commit-benchmark");
+
+		try (ConfigurableApplicationContext context = applicationBuilder.run(args)) {
+			log.info("{}", context.getBean(GroupCommitCurveDriver.class).run());
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.food.ordering.system.order.service.benchmark.saga;
+
+import com.food.ordering.system.order.service.benchmark.saga.driver.HttpLoadBenchmarkReport;
+import com.food.ordering.system.order.service.benchmark.saga.driver.HttpLoadDriver;
+import com.food.ordering.system.order.service.domain.OrderServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts order-container with its web server on the in-memory bus and an in-memory H2 database
+ * and drives {@code POST /orders} with thousands of concurrent HTTP clients, to compare the
+ * platform thread pool of Tomcat with the {@code virtual-threads} profile.
+ * <p>
+ * Run each mode in its own JVM so the memory figures do not mix:
+ * {@code mvn -pl order-service/order-saga-benchmark exec:java
+ * -Dsaga-benchmark.main-class=com.food.ordering.system.order.service.benchmark.saga.HttpLoadBenchmarkApplication
+ * -Dhttp-load-benchmark.threads=virtual}, and again with {@code -Dhttp-load-benchmark.threads=platform}.
+ * Add {@code -Djdk.tracePinnedThreads=short} to list the monitors that pin carrier threads.
+ */
+@Slf4j
+public class HttpLoadBenchmarkApplication {
+
+	public static void main(String[] args) throws Exception {
+		boolean virtualThreads = "virtual".equals(System.getProperty("http-load-benchmark.threads", "platform"));
+		SpringApplicationBuilder applicationBuilder = new SpringApplicationBuilder(OrderServiceApplication.class)
+			.profiles("saga-benchmark", "in-memory-messaging", "http-load-benchmark");
+		if (virtualThreads) {
+			applicationBuilder.profiles("virtual-threads");
+		}
+
+		try (ConfigurableApplicationContext context = applicationBuilder.run(args)) {
+			int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+			HttpLoadBenchmarkReport httpLoadBenchmarkReport =
+				context.getBean(HttpLoadDriver.class).run(port, virtualThreads ? "virtual" : "platform");
+			log.info("{}", httpLoadBenchmarkReport);
+		}
+	}
+}
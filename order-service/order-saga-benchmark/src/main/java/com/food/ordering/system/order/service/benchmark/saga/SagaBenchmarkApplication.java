@@ -0,0 +1,64 @@
+package com.food.ordering.system.order.service.benchmark.saga;
+
+import com.food.ordering.system.order.service.benchmark.saga.driver.SagaBenchmarkRunner;
+import com.food.ordering.system.order.service.benchmark.saga.recorder.SagaBenchmarkReport;
+import com.food.ordering.system.order.service.domain.OrderServiceApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs order-container end to end against an embedded Kafka broker, a mock schema registry and
+ * an in-memory H2 database, with stand-in payment and restaurant services answering the requests.
+ * <p>
+ * Start with {@code mvn -pl order-service/order-saga-benchmark exec:java}. Pass
+ * {@code -Dsaga-benchmark.transport=in-memory} to replace Kafka with the in-memory bus and
+ * measure the ceiling of the domain and persistence layers alone.
+ */
+@Slf4j
+public class SagaBenchmarkApplication {
+
+	private static final String[] TOPICS = {
+		"payment-request", "payment-response", "restaurant-approval-request", "restaurant-approval-response"
+	};
+
+	public static void main(String[] args) throws InterruptedException {
+		boolean inMemory = "in-memory".equals(System.getProperty("saga-benchmark.transport", "kafka"));
+		EmbeddedKafkaBroker embeddedKafkaBroker = null;
+		SpringApplicationBuilder applicationBuilder = new SpringApplicationBuilder(OrderServiceApplication.class);
+		if (inMemory) {
+			applicationBuilder.profiles("saga-benchmark", "in-memory-messaging");
+		} else {
+			embeddedKafkaBroker = new EmbeddedKafkaBroker(1, true, 3, TOPICS);
+			embeddedKafkaBroker.afterPropertiesSet();
+			applicationBuilder.profiles("saga-benchmark")
+				.properties("kafka-config.bootstrap-servers=" + embeddedKafkaBroker.getBrokersAsString());
+		}
+
+		try (ConfigurableApplicationContext context = applicationBuilder.run(args)) {
+			SagaBenchmarkReport sagaBenchmarkReport = context.getBean(SagaBenchmarkRunner.class).run();
+			log.info("{}", sagaBenchmarkReport);
+			logSagaStageLatencies(context.getBean(MeterRegistry.class));
+		} finally {
+			if (embeddedKafkaBroker != null) {
+				embeddedKafkaBroker.destroy();
+			}
+		}
+	}
+
+	private static void logSagaStageLatencies(MeterRegistry meterRegistry) {
+		for (Timer timer : meterRegistry.find("order.saga.stage.latency").timers()) {
+			if (timer.count() > 0) {
+				log.info("saga stage {} ({}): count {}, mean {} ms, max {} ms", timer.getId().getTag("stage"),
+					timer.getId().getTag("outcome"), timer.count(),
+					String.format("%.2f", timer.mean(TimeUnit.MILLISECONDS)),
+					String.format("%.2f", timer.max(TimeUnit.MILLISECONDS)));
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.benchmark.saga.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+@Data
+@Configuration
+@Profile("group-commit-benchmark")
+@ConfigurationProperties(prefix = "group-commit-benchmark")
+public class GroupCommitBenchmarkConfigData {
+	private List<Integer> concurrencyLevels;
+	private Integer ordersPerLevel;
+	private Integer warmupOrders;
+}
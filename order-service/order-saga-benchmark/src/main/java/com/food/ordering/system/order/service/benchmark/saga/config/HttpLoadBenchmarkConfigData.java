@@ -0,0 +1,19 @@
+package com.food.ordering.system.order.service.benchmark.saga.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Data
+@Configuration
+@Profile("http-load-benchmark")
+@ConfigurationProperties(prefix = "http-load-benchmark")
+public class HttpLoadBenchmarkConfigData {
+	private Integer clients;
+	private Integer warmupSeconds;
+	private Integer durationSeconds;
+	private Long requestTimeoutMs;
+	private Long rejectedBackoffMs;
+	private Long memorySampleIntervalMs;
+}
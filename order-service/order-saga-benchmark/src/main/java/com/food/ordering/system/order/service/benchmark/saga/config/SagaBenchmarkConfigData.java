@@ -0,0 +1,27 @@
+package com.food.ordering.system.order.service.benchmark.saga.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Data
+@Configuration
+@Profile("saga-benchmark")
+@ConfigurationProperties(prefix = "saga-benchmark")
+public class SagaBenchmarkConfigData {
+	private Integer orders;
+	private Integer warmupOrders;
+	private Integer concurrency;
+	private Integer targetOrdersPerSecond;
+	private Integer customers;
+	private Integer completionTimeoutSeconds;
+	private String paymentResponderGroupId;
+	private String restaurantResponderGroupId;
+	private Integer responderThreads;
+	private Long paymentLatencyMs;
+	private Long restaurantLatencyMs;
+	private Long latencyJitterMs;
+	private Double paymentFailureRate;
+	private Double restaurantRejectionRate;
+}
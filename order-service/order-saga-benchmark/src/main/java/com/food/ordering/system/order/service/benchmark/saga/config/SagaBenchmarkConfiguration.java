@@ -0,0 +1,18 @@
+package com.food.ordering.system.order.service.benchmark.saga.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+@Profile("saga-benchmark")
+public class SagaBenchmarkConfiguration {
+
+	@Bean(destroyMethod = "shutdownNow")
+	public ScheduledExecutorService standInResponderScheduler(SagaBenchmarkConfigData sagaBenchmarkConfigData) {
+		return Executors.newScheduledThreadPool(sagaBenchmarkConfigData.getResponderThreads());
+	}
+}
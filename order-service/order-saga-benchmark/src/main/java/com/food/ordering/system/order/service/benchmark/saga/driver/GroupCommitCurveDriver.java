@@ -0,0 +1,96 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import com.food.ordering.system.order.service.benchmark.saga.config.GroupCommitBenchmarkConfigData;
+import com.food.ordering.system.order.service.domain.config.OrderGroupCommitConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Creates orders with an increasing number of concurrent clients and times every create order call, which
+ * returns once the order is committed, to draw the latency against the throughput of the group commit.
+ */
+@Slf4j
+@Component
+@Profile("group-commit-benchmark")
+public class GroupCommitCurveDriver {
+
+	private final GroupCommitBenchmarkConfigData groupCommitBenchmarkConfigData;
+	private final OrderGroupCommitConfigData orderGroupCommitConfigData;
+	private final SagaBenchmarkDataSeeder sagaBenchmarkDataSeeder;
+	private final OrderApplicationService orderApplicationService;
+
+	public GroupCommitCurveDriver(GroupCommitBenchmarkConfigData groupCommitBenchmarkConfigData,
+								  OrderGroupCommitConfigData orderGroupCommitConfigData,
+								  SagaBenchmarkDataSeeder sagaBenchmarkDataSeeder,
+								  OrderApplicationService orderApplicationService) {
+		this.groupCommitBenchmarkConfigData = groupCommitBenchmarkConfigData;
+		this.orderGroupCommitConfigData = orderGroupCommitConfigData;
+		this.sagaBenchmarkDataSeeder = sagaBenchmarkDataSeeder;
+		this.orderApplicationService = orderApplicationService;
+	}
+
+	public GroupCommitCurveReport run() throws InterruptedException {
+		List<UUID> customerIds = sagaBenchmarkDataSeeder.seed();
+		GroupCommitCurveReport groupCommitCurveReport = new GroupCommitCurveReport(
+			Boolean.TRUE.equals(orderGroupCommitConfigData.getEnabled()) ?
+				"window " + orderGroupCommitConfigData.getWindowMicros() + " us, up to " +
+					orderGroupCommitConfigData.getMaxBatchSize() + " orders" : "disabled");
+
+		log.info("Warming up with {} orders", groupCommitBenchmarkConfigData.getWarmupOrders());
+		drive(customerIds, groupCommitBenchmarkConfigData.getConcurrencyLevels().get(0),
+			groupCommitBenchmarkConfigData.getWarmupOrders(), null);
+
+		for (int concurrency : groupCommitBenchmarkConfigData.getConcurrencyLevels()) {
+			log.info("Measuring {} orders with {} concurrent clients", groupCommitBenchmarkConfigData.getOrdersPerLevel(),
+				concurrency);
+			drive(customerIds, concurrency, groupCommitBenchmarkConfigData.getOrdersPerLevel(), groupCommitCurveReport);
+		}
+		return groupCommitCurveReport;
+	}
+
+	private void drive(List<UUID> customerIds, int concurrency, int orders, GroupCommitCurveReport groupCommitCurveReport)
+		throws InterruptedException {
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		AtomicLongArray latencies = new AtomicLongArray(orders);
+		ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+		long start = System.nanoTime();
+		for (int i = 0; i < concurrency; i++) {
+			clients.submit(() -> {
+				int sequence;
+				while ((sequence = next.getAndIncrement()) < orders) {
+					UUID customerId = customerIds.get(ThreadLocalRandom.current().nextInt(customerIds.size()));
+					long requestStart = System.nanoTime();
+					try {
+						orderApplicationService.createOrder(SagaBenchmarkRunner.createOrderCommand(customerId));
+					} catch (Exception e) {
+						failed.incrementAndGet();
+						log.error("Could not create benchmark order for customer id: {}", customerId, e);
+					}
+					latencies.set(sequence, System.nanoTime() - requestStart);
+				}
+			});
+		}
+		clients.shutdown();
+		clients.awaitTermination(1, TimeUnit.HOURS);
+		long elapsedNanos = System.nanoTime() - start;
+		if (groupCommitCurveReport != null) {
+			long[] levelLatencies = new long[orders];
+			for (int i = 0; i < orders; i++) {
+				levelLatencies[i] = latencies.get(i);
+			}
+			groupCommitCurveReport.addLevel(concurrency, orders, failed.get(), elapsedNanos, levelLatencies);
+		}
+	}
+}
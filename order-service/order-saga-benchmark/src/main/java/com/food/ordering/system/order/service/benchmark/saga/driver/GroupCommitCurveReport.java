@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency of the create order call at every concurrency level measured, one row per level.
+ */
+public class GroupCommitCurveReport {
+
+	private final String groupCommit;
+	private final List<String> rows = new ArrayList<>();
+
+	GroupCommitCurveReport(String groupCommit) {
+		this.groupCommit = groupCommit;
+	}
+
+	void addLevel(int concurrency, int orders, int failedOrders, long elapsedNanos, long[] latencies) {
+		Arrays.sort(latencies);
+		rows.add(String.format(Locale.ROOT, "%11d  %10.1f  %8.2f  %8.2f  %8.2f  %8.2f  %6d%n",
+			concurrency,
+			orders / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1)),
+			percentileMillis(latencies, 50),
+			percentileMillis(latencies, 90),
+			percentileMillis(latencies, 99),
+			percentileMillis(latencies, 100),
+			failedOrders));
+	}
+
+	private static double percentileMillis(long[] sortedLatencies, double percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+			"%n==== Group commit curve (%s) ====%n" +
+				"concurrency  orders/s    p50 ms    p90 ms    p99 ms    max ms  failed%n", groupCommit));
+		rows.forEach(report::append);
+		return report.toString();
+	}
+}
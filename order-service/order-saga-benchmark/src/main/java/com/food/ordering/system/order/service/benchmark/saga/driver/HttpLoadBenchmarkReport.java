@@ -0,0 +1,77 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public class HttpLoadBenchmarkReport {
+
+	private static final double MIB = 1024 * 1024;
+
+	private final String threadMode;
+	private final int clients;
+	private final long acceptedRequests;
+	private final long rejectedRequests;
+	private final long failedRequests;
+	private final long elapsedNanos;
+	private final long[] sortedLatencies;
+	private final long peakHeapUsedBytes;
+	private final long peakResidentSetBytes;
+	private final int peakPlatformThreads;
+
+	HttpLoadBenchmarkReport(String threadMode, int clients, long acceptedRequests, long rejectedRequests,
+							long failedRequests, long elapsedNanos, long[] latencies, ProcessMemorySampler memorySampler) {
+		this.threadMode = threadMode;
+		this.clients = clients;
+		this.acceptedRequests = acceptedRequests;
+		this.rejectedRequests = rejectedRequests;
+		this.failedRequests = failedRequests;
+		this.elapsedNanos = elapsedNanos;
+		this.sortedLatencies = latencies;
+		this.peakHeapUsedBytes = memorySampler.getPeakHeapUsedBytes();
+		this.peakResidentSetBytes = memorySampler.getPeakResidentSetBytes();
+		this.peakPlatformThreads = memorySampler.getPeakPlatformThreads();
+		Arrays.sort(this.sortedLatencies);
+	}
+
+	public double throughputPerSecond() {
+		return acceptedRequests / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+	}
+
+	public double percentileMillis(double percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT,
+			"%n==== HTTP load benchmark (%s threads) ====%n" +
+				"clients          : %d%n" +
+				"requests         : %d (accepted: %d, rejected: %d, failed: %d)%n" +
+				"elapsed          : %.2f s%n" +
+				"throughput       : %.1f orders/s%n" +
+				"latency p50      : %.2f ms%n" +
+				"latency p90      : %.2f ms%n" +
+				"latency p99      : %.2f ms%n" +
+				"latency max      : %.2f ms%n" +
+				"peak heap used   : %.1f MiB%n" +
+				"peak rss         : %s%n" +
+				"peak os threads  : %d%n",
+			threadMode,
+			clients,
+			acceptedRequests + rejectedRequests + failedRequests, acceptedRequests, rejectedRequests, failedRequests,
+			elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+			throughputPerSecond(),
+			percentileMillis(50),
+			percentileMillis(90),
+			percentileMillis(99),
+			percentileMillis(100),
+			peakHeapUsedBytes / MIB,
+			peakResidentSetBytes < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f MiB", peakResidentSetBytes / MIB),
+			peakPlatformThreads);
+	}
+}
@@ -0,0 +1,170 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.order.service.benchmark.saga.config.HttpLoadBenchmarkConfigData;
+import com.food.ordering.system.order.service.benchmark.saga.config.SagaBenchmarkConfigData;
+import com.food.ordering.system.order.service.benchmark.saga.recorder.SagaLatencyRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a fixed number of HTTP clients, each on its own virtual thread, posting orders to the
+ * running order-container in a closed loop, and samples the memory of the process meanwhile.
+ * The clients share the JVM with the server, so the memory figures are only comparable between
+ * runs of this driver, not with a standalone order-container.
+ */
+@Slf4j
+@Component
+@Profile("http-load-benchmark")
+public class HttpLoadDriver {
+
+	private static final String ORDER_MEDIA_TYPE = "application/vnd.api.v1+json";
+	private static final int REQUEST_BODIES = 1024;
+
+	private final HttpLoadBenchmarkConfigData httpLoadBenchmarkConfigData;
+	private final SagaBenchmarkConfigData sagaBenchmarkConfigData;
+	private final SagaBenchmarkDataSeeder sagaBenchmarkDataSeeder;
+	private final SagaLatencyRecorder sagaLatencyRecorder;
+	private final ObjectMapper objectMapper;
+
+	public HttpLoadDriver(HttpLoadBenchmarkConfigData httpLoadBenchmarkConfigData,
+						  SagaBenchmarkConfigData sagaBenchmarkConfigData,
+						  SagaBenchmarkDataSeeder sagaBenchmarkDataSeeder,
+						  SagaLatencyRecorder sagaLatencyRecorder,
+						  ObjectMapper objectMapper) {
+		this.httpLoadBenchmarkConfigData = httpLoadBenchmarkConfigData;
+		this.sagaBenchmarkConfigData = sagaBenchmarkConfigData;
+		this.sagaBenchmarkDataSeeder = sagaBenchmarkDataSeeder;
+		this.sagaLatencyRecorder = sagaLatencyRecorder;
+		this.objectMapper = objectMapper;
+	}
+
+	public HttpLoadBenchmarkReport run(int port, String threadMode) throws InterruptedException, JsonProcessingException {
+		List<String> requestBodies = requestBodies(sagaBenchmarkDataSeeder.seed());
+		URI ordersUri = URI.create("http://localhost:" + port + "/orders");
+
+		try (ExecutorService httpClientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+			 HttpClient httpClient = HttpClient.newBuilder()
+				 .version(HttpClient.Version.HTTP_1_1)
+				 .executor(httpClientExecutor)
+				 .build()) {
+			log.info("Warming up {} clients for {} s", httpLoadBenchmarkConfigData.getClients(),
+				httpLoadBenchmarkConfigData.getWarmupSeconds());
+			drive(httpClient, ordersUri, requestBodies, httpLoadBenchmarkConfigData.getWarmupSeconds());
+
+			log.info("Measuring {} clients for {} s on {} threads", httpLoadBenchmarkConfigData.getClients(),
+				httpLoadBenchmarkConfigData.getDurationSeconds(), threadMode);
+			System.gc();
+			ProcessMemorySampler memorySampler =
+				new ProcessMemorySampler(httpLoadBenchmarkConfigData.getMemorySampleIntervalMs());
+			long start = System.nanoTime();
+			LoadResult loadResult = drive(httpClient, ordersUri, requestBodies, httpLoadBenchmarkConfigData.getDurationSeconds());
+			long elapsedNanos = System.nanoTime() - start;
+			memorySampler.close();
+			awaitSagaCompletion();
+			return new HttpLoadBenchmarkReport(threadMode, httpLoadBenchmarkConfigData.getClients(),
+				loadResult.accepted.sum(), loadResult.rejected.sum(), loadResult.failed.sum(), elapsedNanos,
+				loadResult.latencies(), memorySampler);
+		}
+	}
+
+	private LoadResult drive(HttpClient httpClient, URI ordersUri, List<String> requestBodies, int seconds) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+		LoadResult loadResult = new LoadResult();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < httpLoadBenchmarkConfigData.getClients(); i++) {
+				clients.submit(() -> runClient(httpClient, ordersUri, requestBodies, deadline, loadResult));
+			}
+		}
+		return loadResult;
+	}
+
+	private void runClient(HttpClient httpClient, URI ordersUri, List<String> requestBodies, long deadline,
+						   LoadResult loadResult) {
+		long[] latencies = new long[64];
+		int count = 0;
+		while (System.nanoTime() - deadline < 0) {
+			HttpRequest request = HttpRequest.newBuilder(ordersUri)
+				.timeout(Duration.ofMillis(httpLoadBenchmarkConfigData.getRequestTimeoutMs()))
+				.header("Content-Type", "application/json")
+				.header("Accept", ORDER_MEDIA_TYPE)
+				.POST(HttpRequest.BodyPublishers.ofString(
+					requestBodies.get(ThreadLocalRandom.current().nextInt(requestBodies.size()))))
+				.build();
+			long begin = System.nanoTime();
+			try {
+				int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+				if (status == 200) {
+					if (count == latencies.length) {
+						latencies = Arrays.copyOf(latencies, count * 2);
+					}
+					latencies[count++] = System.nanoTime() - begin;
+					loadResult.accepted.increment();
+				} else if (status == 429) {
+					loadResult.rejected.increment();
+					TimeUnit.MILLISECONDS.sleep(httpLoadBenchmarkConfigData.getRejectedBackoffMs());
+				} else {
+					loadResult.failed.increment();
+				}
+			} catch (IOException e) {
+				log.debug("Benchmark request failed", e);
+				loadResult.failed.increment();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		loadResult.clientLatencies.add(Arrays.copyOf(latencies, count));
+	}
+
+	private void awaitSagaCompletion() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sagaBenchmarkConfigData.getCompletionTimeoutSeconds());
+		while (sagaLatencyRecorder.inFlightOrders() > 0 && System.nanoTime() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+		if (sagaLatencyRecorder.inFlightOrders() > 0) {
+			log.warn("{} orders did not complete within {} seconds", sagaLatencyRecorder.inFlightOrders(),
+				sagaBenchmarkConfigData.getCompletionTimeoutSeconds());
+		}
+	}
+
+	private List<String> requestBodies(List<UUID> customerIds) throws JsonProcessingException {
+		List<String> requestBodies = new ArrayList<>(REQUEST_BODIES);
+		for (int i = 0; i < REQUEST_BODIES; i++) {
+			UUID customerId = customerIds.get(ThreadLocalRandom.current().nextInt(customerIds.size()));
+			requestBodies.add(objectMapper.writeValueAsString(SagaBenchmarkRunner.createOrderCommand(customerId)));
+		}
+		return requestBodies;
+	}
+
+	private static class LoadResult {
+		private final LongAdder accepted = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+		private final LongAdder failed = new LongAdder();
+		private final Queue<long[]> clientLatencies = new ConcurrentLinkedQueue<>();
+
+		long[] latencies() {
+			return clientLatencies.stream().flatMapToLong(Arrays::stream).toArray();
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples heap usage, resident set size and live platform threads of this JVM at a fixed
+ * interval and keeps the peaks. Virtual threads do not show up in the thread count, so it only
+ * counts the threads that own a native stack.
+ */
+@Slf4j
+class ProcessMemorySampler implements AutoCloseable {
+
+	private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+	private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+	private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+	private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "process-memory-sampler");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private long peakHeapUsedBytes;
+	private long peakResidentSetBytes = -1;
+	private int peakPlatformThreads;
+
+	ProcessMemorySampler(long intervalMillis) {
+		sampler.scheduleAtFixedRate(this::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	long getPeakHeapUsedBytes() {
+		return peakHeapUsedBytes;
+	}
+
+	long getPeakResidentSetBytes() {
+		return peakResidentSetBytes;
+	}
+
+	int getPeakPlatformThreads() {
+		return peakPlatformThreads;
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+		sampler.shutdown();
+		sampler.awaitTermination(1, TimeUnit.SECONDS);
+		sample();
+	}
+
+	private void sample() {
+		peakHeapUsedBytes = Math.max(peakHeapUsedBytes, memoryMXBean.getHeapMemoryUsage().getUsed());
+		peakPlatformThreads = Math.max(peakPlatformThreads, threadMXBean.getThreadCount());
+		peakResidentSetBytes = Math.max(peakResidentSetBytes, residentSetBytes());
+	}
+
+	private long residentSetBytes() {
+		if (!Files.isReadable(PROC_STATUS)) {
+			return -1;
+		}
+		try {
+			List<String> lines = Files.readAllLines(PROC_STATUS);
+			for (String line : lines) {
+				if (line.startsWith("VmRSS:")) {
+					return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim()) * 1024;
+				}
+			}
+		} catch (IOException | NumberFormatException e) {
+			log.debug("Could not read resident set size from {}", PROC_STATUS, e);
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import com.food.ordering.system.order.service.benchmark.saga.config.SagaBenchmarkConfigData;
+import com.food.ordering.system.order.service.dataaccess.customer.entity.CustomerEntity;
+import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.order.service.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@Profile("saga-benchmark")
+public class SagaBenchmarkDataSeeder {
+
+	static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+	static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+	static final BigDecimal PRODUCT_PRICE = new BigDecimal("50.00");
+
+	private final SagaBenchmarkConfigData sagaBenchmarkConfigData;
+	private final CustomerJpaRepository customerJpaRepository;
+	private final RestaurantJpaRepository restaurantJpaRepository;
+
+	public SagaBenchmarkDataSeeder(SagaBenchmarkConfigData sagaBenchmarkConfigData,
+								   CustomerJpaRepository customerJpaRepository,
+								   RestaurantJpaRepository restaurantJpaRepository) {
+		this.sagaBenchmarkConfigData = sagaBenchmarkConfigData;
+		this.customerJpaRepository = customerJpaRepository;
+		this.restaurantJpaRepository = restaurantJpaRepository;
+	}
+
+	List<UUID> seed() {
+		List<CustomerEntity> customers = new ArrayList<>();
+		for (int i = 0; i < sagaBenchmarkConfigData.getCustomers(); i++) {
+			customers.add(CustomerEntity.builder().id(UUID.randomUUID()).build());
+		}
+		customerJpaRepository.saveAll(customers);
+
+		restaurantJpaRepository.save(RestaurantEntity.builder()
+			.restaurantId(RESTAURANT_ID)
+			.productId(PRODUCT_ID)
+			.restaurantName("saga-benchmark-restaurant")
+			.restaurantActive(true)
+			.productName("saga-benchmark-product")
+			.productPrice(PRODUCT_PRICE)
+			.build());
+
+		log.info("Seeded {} customers and restaurant with id: {}", customers.size(), RESTAURANT_ID);
+		return customers.stream().map(CustomerEntity::getId).toList();
+	}
+}
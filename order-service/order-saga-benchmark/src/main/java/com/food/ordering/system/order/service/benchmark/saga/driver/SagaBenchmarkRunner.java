@@ -0,0 +1,130 @@
+package com.food.ordering.system.order.service.benchmark.saga.driver;
+
+import com.food.ordering.system.order.service.benchmark.saga.config.SagaBenchmarkConfigData;
+import com.food.ordering.system.order.service.benchmark.saga.recorder.SagaBenchmarkReport;
+import com.food.ordering.system.order.service.benchmark.saga.recorder.SagaLatencyRecorder;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives orders through the whole create -> payment -> approval saga with a fixed number of
+ * concurrent clients, optionally paced to a target arrival rate, and waits until every order
+ * reached a terminal state.
+ */
+@Slf4j
+@Component
+@Profile("saga-benchmark")
+public class SagaBenchmarkRunner {
+
+	private final SagaBenchmarkConfigData sagaBenchmarkConfigData;
+	private final SagaBenchmarkDataSeeder sagaBenchmarkDataSeeder;
+	private final SagaLatencyRecorder sagaLatencyRecorder;
+	private final OrderApplicationService orderApplicationService;
+
+	public SagaBenchmarkRunner(SagaBenchmarkConfigData sagaBenchmarkConfigData,
+							   SagaBenchmarkDataSeeder sagaBenchmarkDataSeeder,
+							   SagaLatencyRecorder sagaLatencyRecorder,
+							   OrderApplicationService orderApplicationService) {
+		this.sagaBenchmarkConfigData = sagaBenchmarkConfigData;
+		this.sagaBenchmarkDataSeeder = sagaBenchmarkDataSeeder;
+		this.sagaLatencyRecorder = sagaLatencyRecorder;
+		this.orderApplicationService = orderApplicationService;
+	}
+
+	public SagaBenchmarkReport run() throws InterruptedException {
+		List<UUID> customerIds = sagaBenchmarkDataSeeder.seed();
+
+		log.info("Warming up with {} orders", sagaBenchmarkConfigData.getWarmupOrders());
+		drive(customerIds, sagaBenchmarkConfigData.getWarmupOrders());
+		sagaLatencyRecorder.reset();
+
+		log.info("Measuring {} orders with {} concurrent clients", sagaBenchmarkConfigData.getOrders(),
+			sagaBenchmarkConfigData.getConcurrency());
+		long start = System.nanoTime();
+		int submitted = drive(customerIds, sagaBenchmarkConfigData.getOrders());
+		return sagaLatencyRecorder.report(submitted, System.nanoTime() - start);
+	}
+
+	private int drive(List<UUID> customerIds, int orders) throws InterruptedException {
+		AtomicInteger next = new AtomicInteger();
+		AtomicInteger submitted = new AtomicInteger();
+		long start = System.nanoTime();
+		long nanosPerOrder = sagaBenchmarkConfigData.getTargetOrdersPerSecond() > 0 ?
+			TimeUnit.SECONDS.toNanos(1) / sagaBenchmarkConfigData.getTargetOrdersPerSecond() : 0;
+		ExecutorService clients = Executors.newFixedThreadPool(sagaBenchmarkConfigData.getConcurrency());
+		for (int i = 0; i < sagaBenchmarkConfigData.getConcurrency(); i++) {
+			clients.submit(() -> {
+				int sequence;
+				while ((sequence = next.getAndIncrement()) < orders) {
+					if (nanosPerOrder > 0) {
+						LockSupport.parkNanos(start + sequence * nanosPerOrder - System.nanoTime());
+					}
+					createOrder(customerIds.get(ThreadLocalRandom.current().nextInt(customerIds.size())));
+					submitted.incrementAndGet();
+				}
+			});
+		}
+		clients.shutdown();
+		clients.awaitTermination(sagaBenchmarkConfigData.getCompletionTimeoutSeconds(), TimeUnit.SECONDS);
+		awaitCompletion(submitted.get());
+		return submitted.get();
+	}
+
+	private void createOrder(UUID customerId) {
+		sagaLatencyRecorder.beginRequest();
+		try {
+			orderApplicationService.createOrder(createOrderCommand(customerId));
+		} catch (Exception e) {
+			log.error("Could not create benchmark order for customer id: {}", customerId, e);
+		} finally {
+			sagaLatencyRecorder.endRequest();
+		}
+	}
+
+	private void awaitCompletion(int submittedOrders) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(sagaBenchmarkConfigData.getCompletionTimeoutSeconds());
+		while (sagaLatencyRecorder.completedOrders() < submittedOrders && System.nanoTime() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(10);
+		}
+		if (sagaLatencyRecorder.completedOrders() < submittedOrders) {
+			log.warn("{} orders did not complete within {} seconds", sagaLatencyRecorder.inFlightOrders(),
+				sagaBenchmarkConfigData.getCompletionTimeoutSeconds());
+		}
+	}
+
+	static CreateOrderCommand createOrderCommand(UUID customerId) {
+		int quantity = ThreadLocalRandom.current().nextInt(1, 4);
+		BigDecimal subTotal = SagaBenchmarkDataSeeder.PRODUCT_PRICE.multiply(BigDecimal.valueOf(quantity));
+		return CreateOrderCommand.builder()
+			.customerId(customerId)
+			.restaurantId(SagaBenchmarkDataSeeder.RESTAURANT_ID)
+			.address(OderAddress.builder()
+				.street("street_1")
+				.postalCode("1000AB")
+				.city("Amsterdam")
+				.build())
+			.price(subTotal)
+			.items(List.of(OrderItem.builder()
+				.productId(SagaBenchmarkDataSeeder.PRODUCT_ID)
+				.quantity(quantity)
+				.price(SagaBenchmarkDataSeeder.PRODUCT_PRICE)
+				.subTotal(subTotal)
+				.build()))
+			.build();
+	}
+}
@@ -0,0 +1,68 @@
+package com.food.ordering.system.order.service.benchmark.saga.recorder;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public class SagaBenchmarkReport {
+
+	private final int submittedOrders;
+	private final int completedOrders;
+	private final int approvedOrders;
+	private final int cancelledOrders;
+	private final long elapsedNanos;
+	private final long[] sortedLatencies;
+
+	SagaBenchmarkReport(int submittedOrders, int completedOrders, int approvedOrders, int cancelledOrders,
+						long elapsedNanos, long[] latencies) {
+		this.submittedOrders = submittedOrders;
+		this.completedOrders = completedOrders;
+		this.approvedOrders = approvedOrders;
+		this.cancelledOrders = cancelledOrders;
+		this.elapsedNanos = elapsedNanos;
+		this.sortedLatencies = latencies;
+		Arrays.sort(this.sortedLatencies);
+	}
+
+	public double throughputPerSecond() {
+		return completedOrders / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+	}
+
+	public double percentileMillis(double percentile) {
+		if (sortedLatencies.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+		return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+	}
+
+	public int getSubmittedOrders() {
+		return submittedOrders;
+	}
+
+	public int getCompletedOrders() {
+		return completedOrders;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT,
+			"%n==== Saga benchmark ====%n" +
+				"submitted orders : %d%n" +
+				"completed orders : %d (approved: %d, cancelled: %d, incomplete: %d)%n" +
+				"elapsed          : %.2f s%n" +
+				"throughput       : %.1f orders/s%n" +
+				"latency p50      : %.2f ms%n" +
+				"latency p90      : %.2f ms%n" +
+				"latency p99      : %.2f ms%n" +
+				"latency max      : %.2f ms%n",
+			submittedOrders,
+			completedOrders, approvedOrders, cancelledOrders, submittedOrders - completedOrders,
+			elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1),
+			throughputPerSecond(),
+			percentileMillis(50),
+			percentileMillis(90),
+			percentileMillis(99),
+			percentileMillis(100));
+	}
+}
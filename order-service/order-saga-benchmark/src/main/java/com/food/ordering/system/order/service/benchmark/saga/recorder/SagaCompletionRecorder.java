@@ -0,0 +1,97 @@
+package com.food.ordering.system.order.service.benchmark.saga.recorder;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
+import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalResponseMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.OrderCreatedPaymentRequestMessagePublisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the saga entry and exit ports so the benchmark sees when each order starts and when it
+ * reaches a terminal state, without touching the production code paths.
+ */
+@Component
+@Profile("saga-benchmark")
+public class SagaCompletionRecorder implements BeanPostProcessor {
+
+	private final ObjectProvider<SagaLatencyRecorder> sagaLatencyRecorder;
+
+	public SagaCompletionRecorder(ObjectProvider<SagaLatencyRecorder> sagaLatencyRecorder) {
+		this.sagaLatencyRecorder = sagaLatencyRecorder;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof OrderCreatedPaymentRequestMessagePublisher publisher) {
+			return new RecordingOrderCreatedPublisher(publisher);
+		}
+		if (bean instanceof PaymentResponseMessageListener listener) {
+			return new RecordingPaymentResponseListener(listener);
+		}
+		if (bean instanceof RestaurantApprovalResponseMessageListener listener) {
+			return new RecordingRestaurantApprovalResponseListener(listener);
+		}
+		return bean;
+	}
+
+	private class RecordingOrderCreatedPublisher implements OrderCreatedPaymentRequestMessagePublisher {
+
+		private final OrderCreatedPaymentRequestMessagePublisher delegate;
+
+		RecordingOrderCreatedPublisher(OrderCreatedPaymentRequestMessagePublisher delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void publish(OrderCreatedEvent domainEvent) {
+			sagaLatencyRecorder.getObject().orderStarted(domainEvent.getOrder().getId().getValue().toString());
+			delegate.publish(domainEvent);
+		}
+	}
+
+	private class RecordingPaymentResponseListener implements PaymentResponseMessageListener {
+
+		private final PaymentResponseMessageListener delegate;
+
+		RecordingPaymentResponseListener(PaymentResponseMessageListener delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void paymentCompleted(PaymentResponse paymentResponse) {
+			delegate.paymentCompleted(paymentResponse);
+		}
+
+		@Override
+		public void paymentCancelled(PaymentResponse paymentResponse) {
+			delegate.paymentCancelled(paymentResponse);
+			sagaLatencyRecorder.getObject().orderCompleted(paymentResponse.getOrderId(), OrderStatus.CANCELLED);
+		}
+	}
+
+	private class RecordingRestaurantApprovalResponseListener implements RestaurantApprovalResponseMessageListener {
+
+		private final RestaurantApprovalResponseMessageListener delegate;
+
+		RecordingRestaurantApprovalResponseListener(RestaurantApprovalResponseMessageListener delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
+			delegate.orderApproved(restaurantApprovalResponse);
+			sagaLatencyRecorder.getObject().orderCompleted(restaurantApprovalResponse.getOrderId(), OrderStatus.APPROVED);
+		}
+
+		@Override
+		public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+			delegate.orderRejected(restaurantApprovalResponse);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.benchmark.saga.recorder;
+
+import com.food.ordering.system.domain.entity.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.benchmark.saga.config.SagaBenchmarkConfigData;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Measures the time from the create order call until the saga reaches APPROVED or CANCELLED.
+ * The driver thread marks the request start; the start is bound to the order id when the created
+ * event is published on that same thread.
+ */
+@Component
+@Profile("saga-benchmark")
+public class SagaLatencyRecorder {
+
+	private final ThreadLocal<Long> requestStart = new ThreadLocal<>();
+	private final Map<String, Long> startedOrders = new ConcurrentHashMap<>();
+	private final AtomicLongArray latencies;
+	private final AtomicInteger completed = new AtomicInteger();
+	private final AtomicInteger approved = new AtomicInteger();
+	private final AtomicInteger cancelled = new AtomicInteger();
+
+	public SagaLatencyRecorder(SagaBenchmarkConfigData sagaBenchmarkConfigData) {
+		this.latencies = new AtomicLongArray(
+			Math.max(sagaBenchmarkConfigData.getOrders(), sagaBenchmarkConfigData.getWarmupOrders()));
+	}
+
+	public void beginRequest() {
+		requestStart.set(System.nanoTime());
+	}
+
+	public void endRequest() {
+		requestStart.remove();
+	}
+
+	void orderStarted(String orderId) {
+		Long start = requestStart.get();
+		if (start != null) {
+			startedOrders.put(orderId, start);
+		}
+	}
+
+	void orderCompleted(String orderId, OrderStatus orderStatus) {
+		Long start = startedOrders.remove(orderId);
+		if (start == null) {
+			return;
+		}
+		int index = completed.getAndIncrement();
+		if (index < latencies.length()) {
+			latencies.set(index, System.nanoTime() - start);
+		}
+		if (orderStatus == OrderStatus.APPROVED) {
+			approved.incrementAndGet();
+		} else {
+			cancelled.incrementAndGet();
+		}
+	}
+
+	public int completedOrders() {
+		return completed.get();
+	}
+
+	public int inFlightOrders() {
+		return startedOrders.size();
+	}
+
+	public SagaBenchmarkReport report(int submittedOrders, long elapsedNanos) {
+		int samples = Math.min(completed.get(), latencies.length());
+		long[] sorted = new long[samples];
+		for (int i = 0; i < samples; i++) {
+			sorted[i] = latencies.get(i);
+		}
+		return new SagaBenchmarkReport(submittedOrders, completed.get(), approved.get(), cancelled.get(),
+			elapsedNanos, sorted);
+	}
+
+	public void reset() {
+		startedOrders.clear();
+		completed.set(0);
+		approved.set(0);
+		cancelled.set(0);
+	}
+}
@@ -0,0 +1,100 @@
+package com.food.ordering.system.order.service.benchmark.saga.responder;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.benchmark.saga.config.SagaBenchmarkConfigData;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays the payment service: completes or fails new payments and confirms cancellations
+ * after the configured latency.
+ */
+@Slf4j
+@Component
+@Profile("saga-benchmark & !in-memory-messaging")
+public class PaymentRequestStandInResponder {
+
+	private final SagaBenchmarkConfigData sagaBenchmarkConfigData;
+	private final OrderServiceConfigData orderServiceConfigData;
+	private final KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer;
+	private final ScheduledExecutorService standInResponderScheduler;
+
+	public PaymentRequestStandInResponder(SagaBenchmarkConfigData sagaBenchmarkConfigData,
+										  OrderServiceConfigData orderServiceConfigData,
+										  KafkaProducer<String, PaymentResponseAvroModel> kafkaProducer,
+										  ScheduledExecutorService standInResponderScheduler) {
+		this.sagaBenchmarkConfigData = sagaBenchmarkConfigData;
+		this.orderServiceConfigData = orderServiceConfigData;
+		this.kafkaProducer = kafkaProducer;
+		this.standInResponderScheduler = standInResponderScheduler;
+	}
+
+	@KafkaListener(id = "${saga-benchmark.payment-responder-group-id}", topics = "${order-service.payment-request-topic-name}")
+	public void receive(List<ConsumerRecord<String, PaymentRequestAvroModel>> records) {
+		records.forEach(record -> {
+			PaymentRequestAvroModel request = record.value();
+			List<Header> headers = StandInResponderHeaders.sagaTracingHeaders(record.headers());
+			standInResponderScheduler.schedule(() -> respond(request, headers),
+				StandInResponderLatency.nextDelayMillis(sagaBenchmarkConfigData.getPaymentLatencyMs(),
+					sagaBenchmarkConfigData.getLatencyJitterMs()),
+				TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private void respond(PaymentRequestAvroModel request, List<Header> headers) {
+		PaymentStatus paymentStatus = paymentStatusFor(request);
+		PaymentResponseAvroModel response = PaymentResponseAvroModel.newBuilder()
+			.setId(UUID.randomUUID().toString())
+			.setSagaId(request.getSagaId())
+			.setPaymentId(UUID.randomUUID().toString())
+			.setCustomerId(request.getCustomerId())
+			.setOrderId(request.getOrderId())
+			.setPrice(request.getPrice())
+			.setCreatedAt(Instant.now())
+			.setPaymentStatus(paymentStatus)
+			.setFailureMessages(paymentStatus == PaymentStatus.COMPLETED ?
+				Collections.emptyList() : List.of("Payment " + paymentStatus + " by stand-in payment service"))
+			.build();
+		kafkaProducer.send(orderServiceConfigData.getPaymentResponseTopicName(), request.getOrderId(), response,
+			headers, sendCallback(request.getOrderId()));
+	}
+
+	private PaymentStatus paymentStatusFor(PaymentRequestAvroModel request) {
+		if (request.getPaymentOrderStatus() == PaymentOrderStatus.CANCELLED) {
+			return PaymentStatus.CANCELLED;
+		}
+		return StandInResponderLatency.fails(sagaBenchmarkConfigData.getPaymentFailureRate()) ?
+			PaymentStatus.FAILED : PaymentStatus.COMPLETED;
+	}
+
+	private ListenableFutureCallback<SendResult<String, PaymentResponseAvroModel>> sendCallback(String orderId) {
+		return new ListenableFutureCallback<>() {
+			@Override
+			public void onFailure(Throwable ex) {
+				log.error("Stand-in payment response could not be sent for order id: {}", orderId, ex);
+			}
+
+			@Override
+			public void onSuccess(SendResult<String, PaymentResponseAvroModel> result) {
+			}
+		};
+	}
+}
@@ -0,0 +1,89 @@
+package com.food.ordering.system.order.service.benchmark.saga.responder;
+
+import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.producer.service.KafkaProducer;
+import com.food.ordering.system.order.service.benchmark.saga.config.SagaBenchmarkConfigData;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFutureCallback;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plays the restaurant service: approves or rejects paid orders after the configured latency.
+ */
+@Slf4j
+@Component
+@Profile("saga-benchmark & !in-memory-messaging")
+public class RestaurantApprovalRequestStandInResponder {
+
+	private final SagaBenchmarkConfigData sagaBenchmarkConfigData;
+	private final OrderServiceConfigData orderServiceConfigData;
+	private final KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer;
+	private final ScheduledExecutorService standInResponderScheduler;
+
+	public RestaurantApprovalRequestStandInResponder(SagaBenchmarkConfigData sagaBenchmarkConfigData,
+													 OrderServiceConfigData orderServiceConfigData,
+													 KafkaProducer<String, RestaurantApprovalResponseAvroModel> kafkaProducer,
+													 ScheduledExecutorService standInResponderScheduler) {
+		this.sagaBenchmarkConfigData = sagaBenchmarkConfigData;
+		this.orderServiceConfigData = orderServiceConfigData;
+		this.kafkaProducer = kafkaProducer;
+		this.standInResponderScheduler = standInResponderScheduler;
+	}
+
+	@KafkaListener(id = "${saga-benchmark.restaurant-responder-group-id}",
+		topics = "${order-service.restaurant-approval-request-topic-name}")
+	public void receive(List<ConsumerRecord<String, RestaurantApprovalRequestAvroModel>> records) {
+		records.forEach(record -> {
+			RestaurantApprovalRequestAvroModel request = record.value();
+			List<Header> headers = StandInResponderHeaders.sagaTracingHeaders(record.headers());
+			standInResponderScheduler.schedule(() -> respond(request, headers),
+				StandInResponderLatency.nextDelayMillis(sagaBenchmarkConfigData.getRestaurantLatencyMs(),
+					sagaBenchmarkConfigData.getLatencyJitterMs()),
+				TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private void respond(RestaurantApprovalRequestAvroModel request, List<Header> headers) {
+		boolean rejected = StandInResponderLatency.fails(sagaBenchmarkConfigData.getRestaurantRejectionRate());
+		RestaurantApprovalResponseAvroModel response = RestaurantApprovalResponseAvroModel.newBuilder()
+			.setId(UUID.randomUUID().toString())
+			.setSagaId(request.getSagaId())
+			.setRestaurantId(request.getRestaurantId())
+			.setOrderId(request.getOrderId())
+			.setCreatedAt(Instant.now())
+			.setOrderApprovalStatus(rejected ? OrderApprovalStatus.REJECTED : OrderApprovalStatus.APPROVED)
+			.setFailureMessages(rejected ?
+				List.of("Order rejected by stand-in restaurant service") : Collections.emptyList())
+			.build();
+		kafkaProducer.send(orderServiceConfigData.getRestaurantApprovalResponseTopicName(), request.getOrderId(),
+			response, headers, sendCallback(request.getOrderId()));
+	}
+
+	private ListenableFutureCallback<SendResult<String, RestaurantApprovalResponseAvroModel>> sendCallback(String orderId) {
+		return new ListenableFutureCallback<>() {
+			@Override
+			public void onFailure(Throwable ex) {
+				log.error("Stand-in restaurant response could not be sent for order id: {}", orderId, ex);
+			}
+
+			@Override
+			public void onSuccess(SendResult<String, RestaurantApprovalResponseAvroModel> result) {
+			}
+		};
+	}
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.order.service.benchmark.saga.responder;
+
+import com.food.ordering.system.kafka.config.tracing.SagaTracingHeaders;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class StandInResponderHeaders {
+
+	private StandInResponderHeaders() {
+	}
+
+	/**
+	 * The saga tracing headers of a request, to be echoed on its response as a real service would.
+	 */
+	static List<Header> sagaTracingHeaders(Headers requestHeaders) {
+		List<Header> headers = new ArrayList<>(2);
+		Header sagaId = requestHeaders.lastHeader(SagaTracingHeaders.SAGA_ID);
+		if (sagaId != null) {
+			headers.add(sagaId);
+		}
+		Header originTimestamp = requestHeaders.lastHeader(SagaTracingHeaders.ORIGIN_TIMESTAMP);
+		if (originTimestamp != null) {
+			headers.add(originTimestamp);
+		}
+		return headers;
+	}
+}
@@ -0,0 +1,17 @@
+package com.food.ordering.system.order.service.benchmark.saga.responder;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class StandInResponderLatency {
+
+	private StandInResponderLatency() {
+	}
+
+	static long nextDelayMillis(long latencyMs, long jitterMs) {
+		return jitterMs > 0 ? latencyMs + ThreadLocalRandom.current().nextLong(jitterMs + 1) : latencyMs;
+	}
+
+	static boolean fails(double rate) {
+		return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+	}
+}